@@ -0,0 +1,54 @@
+/**
+ * @file BenchmarkMain.java
+ * @brief Punto de entrada del JAR de benchmarks
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+/**
+ * @class BenchmarkMain
+ * @brief Ejecuta JMH con el perfilador gc activo
+ *
+ * Acepta las mismas opciones que org.openjdk.jmh.Main. Añade el perfilador gc
+ * si no se pidió ya, para que cada resultado incluya la tasa de asignación
+ * (gc.alloc.rate y gc.alloc.rate.norm). Las opciones de listado y ayuda se
+ * delegan en el Main de JMH.
+ */
+public final class BenchmarkMain {
+
+	private BenchmarkMain() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		CommandLineOptions options = new CommandLineOptions(args);
+		if (options.shouldHelp() || options.shouldList() || options.shouldListWithParams()
+				|| options.shouldListProfilers() || options.shouldListResultFormats()) {
+			org.openjdk.jmh.Main.main(args);
+			return;
+		}
+		ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+		if (!hasGcProfiler(options)) {
+			builder.addProfiler(GCProfiler.class);
+		}
+		new Runner(builder.build()).run();
+	}
+
+	private static boolean hasGcProfiler(CommandLineOptions options) {
+		for (ProfilerConfig profiler : options.getProfilers()) {
+			if (profiler.getKlass().equals(GCProfiler.class.getName()) || profiler.getKlass().equals("gc")) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
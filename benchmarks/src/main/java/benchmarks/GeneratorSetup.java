@@ -0,0 +1,169 @@
+/**
+ * @file GeneratorSetup.java
+ * @brief Configuración estática de los generadores para los benchmarks
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks;
+
+import evolutionary_algorithms.complement.CrossoverType;
+import evolutionary_algorithms.complement.MutationType;
+import evolutionary_algorithms.complement.ReplaceType;
+import evolutionary_algorithms.complement.SelectionType;
+import local_search.complement.StopCondition;
+import local_search.complement.StopExecute;
+import local_search.complement.UpdateParameter;
+import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
+import metaheuristics.generators.DistributionEstimationAlgorithm;
+import metaheuristics.generators.EvolutionStrategies;
+import metaheuristics.generators.GeneratorType;
+import metaheuristics.generators.GeneticAlgorithm;
+import metaheuristics.generators.MultiCaseSimulatedAnnealing;
+import metaheuristics.generators.MultiobjectiveHillClimbingDistance;
+import metaheuristics.generators.MultiobjectiveHillClimbingRestart;
+import metaheuristics.generators.ParticleSwarmOptimization;
+import metaheuristics.generators.SimulatedAnnealing;
+import problem.definition.Problem;
+import problem.definition.State;
+
+/**
+ * @class GeneratorSetup
+ * @brief Deja los parámetros estáticos de BiCIAM en un estado conocido y ejecuta corridas aisladas
+ *
+ * Los generadores poblacionales leen su tamaño de población de campos
+ * estáticos (countRef) y Strategy cambia de generador cuando la iteración
+ * alcanza cualquiera de ellos, así que antes de cada corrida solo se activa el
+ * countRef del generador medido. Como en BiCIAM, esos generadores arrancan como
+ * RANDOM_SEARCH para construir la población inicial y UpdateParameter los pone
+ * en marcha al completarla. Cada corrida usa su propio StrategyContext sembrado
+ * para que las medidas sean reproducibles.
+ */
+public final class GeneratorSetup {
+
+	/** @brief Tamaño de población de los generadores poblacionales */
+	public static final int POPULATION = 20;
+
+	/** @brief Vecinos por iteración de los generadores multiobjetivo */
+	public static final int NEIGHBORS = 5;
+
+	private GeneratorSetup() {
+	}
+
+	/**
+	 * @brief Configura los parámetros estáticos para medir un generador
+	 * @param type Generador que se va a ejecutar
+	 */
+	public static void configure(GeneratorType type) {
+		GeneticAlgorithm.countRef = 0;
+		EvolutionStrategies.countRef = 0;
+		DistributionEstimationAlgorithm.countRef = 0;
+		ParticleSwarmOptimization.countRef = 0;
+		ParticleSwarmOptimization.coutSwarm = 0;
+		ParticleSwarmOptimization.countParticleBySwarm = 0;
+
+		GeneticAlgorithm.selectionType = SelectionType.TRUNCATION_SELECTION;
+		GeneticAlgorithm.crossoverType = CrossoverType.UNIFORM_CROSSOVER;
+		GeneticAlgorithm.mutationType = MutationType.ONE_POINT_MUTATION;
+		GeneticAlgorithm.replaceType = ReplaceType.STEADY_STATE_REPLACE;
+		GeneticAlgorithm.PC = 0.9;
+		GeneticAlgorithm.PM = 0.1;
+		GeneticAlgorithm.truncation = POPULATION / 2;
+		EvolutionStrategies.selectionType = SelectionType.TRUNCATION_SELECTION;
+		EvolutionStrategies.mutationType = MutationType.ONE_POINT_MUTATION;
+		EvolutionStrategies.replaceType = ReplaceType.STEADY_STATE_REPLACE;
+		EvolutionStrategies.PM = 0.1;
+		EvolutionStrategies.truncation = POPULATION / 2;
+		DistributionEstimationAlgorithm.selectionType = SelectionType.TRUNCATION_SELECTION;
+		DistributionEstimationAlgorithm.replaceType = ReplaceType.STEADY_STATE_REPLACE;
+		DistributionEstimationAlgorithm.truncation = POPULATION / 2;
+
+		SimulatedAnnealing.tinitial = 10.0;
+		SimulatedAnnealing.alpha = 0.95;
+		SimulatedAnnealing.tfinal = 0.01;
+		SimulatedAnnealing.countIterationsT = 50;
+		MultiCaseSimulatedAnnealing.tinitial = 10.0;
+		MultiCaseSimulatedAnnealing.alpha = 0.95;
+		MultiCaseSimulatedAnnealing.tfinal = 0.01;
+		MultiCaseSimulatedAnnealing.countIterationsT = 50;
+		MultiobjectiveHillClimbingRestart.sizeNeighbors = NEIGHBORS;
+		MultiobjectiveHillClimbingDistance.sizeNeighbors = NEIGHBORS;
+
+		switch (type) {
+		case GENETIC_ALGORITHM:
+			GeneticAlgorithm.countRef = POPULATION;
+			break;
+		case EVOLUTION_STRATEGIES:
+			EvolutionStrategies.countRef = POPULATION;
+			break;
+		case DISTRIBUTION_ESTIMATION_ALGORITHM:
+			DistributionEstimationAlgorithm.countRef = POPULATION;
+			break;
+		case PARTICLE_SWARM_OPTIMIZATION:
+			ParticleSwarmOptimization.coutSwarm = 2;
+			ParticleSwarmOptimization.countParticleBySwarm = POPULATION / 2;
+			ParticleSwarmOptimization.countRef = POPULATION;
+			break;
+		case MULTI_GENERATOR:
+			// El portafolio construye las poblaciones de GA, ES y EDA al iniciar
+			GeneticAlgorithm.countRef = POPULATION;
+			EvolutionStrategies.countRef = POPULATION;
+			DistributionEstimationAlgorithm.countRef = POPULATION;
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * @brief Tipo con el que se lanza executeStrategy para medir un generador
+	 * @param type Generador que se va a medir
+	 * @return RANDOM_SEARCH para los poblacionales, el propio tipo en otro caso
+	 */
+	public static GeneratorType launchType(GeneratorType type) {
+		switch (type) {
+		case GENETIC_ALGORITHM:
+		case EVOLUTION_STRATEGIES:
+		case DISTRIBUTION_ESTIMATION_ALGORITHM:
+		case PARTICLE_SWARM_OPTIMIZATION:
+			return GeneratorType.RANDOM_SEARCH;
+		default:
+			return type;
+		}
+	}
+
+	/**
+	 * @brief Ejecuta una corrida aislada
+	 * @param problem Problema a resolver (se evalúa desde cero)
+	 * @param type Generador a medir, configurado antes con configure
+	 * @param iterations Máximo de iteraciones
+	 * @param seed Semilla de la corrida
+	 * @param stopCondition Condición de parada adicional, o null
+	 * @return Estrategia al terminar la corrida
+	 * @throws Exception Si la corrida falla
+	 */
+	public static Strategy run(Problem problem, GeneratorType type, int iterations, long seed, StopCondition stopCondition) throws Exception {
+		StrategyContext context = new StrategyContext(problem);
+		context.setSeed(seed);
+		return context.call(() -> {
+			Strategy strategy = Strategy.getStrategy();
+			strategy.setStopexecute(new StopExecute());
+			strategy.setStopCondition(stopCondition);
+			strategy.setUpdateparameter(new UpdateParameter());
+			strategy.executeStrategy(iterations, iterations, 1, launchType(type));
+			return strategy;
+		});
+	}
+
+	/**
+	 * @brief Fitness del mejor estado de una corrida
+	 * @param strategy Estrategia al terminar la corrida
+	 * @return Último componente de la evaluación del mejor estado
+	 */
+	public static double bestFitness(Strategy strategy) {
+		State best = strategy.getBestState();
+		return best.getEvaluation().get(best.getEvaluation().size() - 1);
+	}
+}
@@ -0,0 +1,84 @@
+/**
+ * @file StrategyThroughputBenchmark.java
+ * @brief Iteraciones por segundo de executeStrategy para cada GeneratorType
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmarks.problems.SyntheticProblem;
+import metaheuristics.generators.GeneratorType;
+import problem.definition.Problem;
+
+/**
+ * @class StrategyThroughputBenchmark
+ * @brief Mide iteraciones por segundo de una corrida completa de executeStrategy
+ *
+ * Cada invocación es una corrida de ITERATIONS iteraciones (incluida la
+ * construcción de generadores y, en los poblacionales, de la población
+ * inicial), de modo que el resultado en ops/s son iteraciones por segundo del
+ * bucle de Strategy. Con el perfilador gc (activo por defecto en BenchmarkMain)
+ * gc.alloc.rate.norm da los bytes asignados por iteración.
+ *
+ * Sin valores, el parámetro generator recorre todos los GeneratorType,
+ * MULTI_GENERATOR incluido. Para acotar una ejecución:
+ * -p generator=HILL_CLIMBING,GENETIC_ALGORITHM -p size=100
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StrategyThroughputBenchmark {
+
+	/** @brief Iteraciones de cada corrida */
+	public static final int ITERATIONS = 1000;
+
+	/** @brief Semilla de las instancias con datos aleatorios */
+	public static final long INSTANCE_SEED = 42L;
+
+	@Param
+	public SyntheticProblem problem;
+
+	@Param({"100", "1000", "10000"})
+	public int size;
+
+	@Param
+	public GeneratorType generator;
+
+	private Problem instance;
+
+	private long seed;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		GeneratorSetup.configure(generator);
+		instance = problem.create(size, INSTANCE_SEED);
+		seed = 0;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ITERATIONS)
+	public Object iterations() throws Exception {
+		return GeneratorSetup.run(instance, generator, ITERATIONS, seed++, null).getBestState();
+	}
+}
@@ -0,0 +1,111 @@
+/**
+ * @file TimeToTargetBenchmark.java
+ * @brief Tiempo hasta alcanzar un fitness objetivo para cada GeneratorType
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmarks.problems.SyntheticProblem;
+import local_search.complement.StopCondition;
+import metaheurictics.strategy.Strategy;
+import metaheuristics.generators.GeneratorType;
+import problem.definition.Problem;
+
+/**
+ * @class TimeToTargetBenchmark
+ * @brief Mide el tiempo de una corrida que se detiene al alcanzar el objetivo
+ *
+ * La corrida termina al llegar al fitness SyntheticProblem.target o al agotar
+ * BUDGET evaluaciones, lo que ocurra antes. Cada medida es una corrida
+ * independiente con otra semilla. Los contadores auxiliares reached y
+ * evaluations indican cuántas corridas alcanzaron el objetivo y cuántas
+ * evaluaciones costaron, para no confundir una corrida rápida con una que
+ * agotó el presupuesto.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class TimeToTargetBenchmark {
+
+	/** @brief Máximo de evaluaciones por corrida */
+	public static final long BUDGET = 200_000;
+
+	@Param
+	public SyntheticProblem problem;
+
+	@Param({"100", "1000"})
+	public int size;
+
+	@Param
+	public GeneratorType generator;
+
+	private Problem instance;
+
+	private double target;
+
+	private long seed;
+
+	/**
+	 * @class Outcome
+	 * @brief Contadores auxiliares de cada corrida
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Outcome {
+
+		/** @brief Corridas que alcanzaron el objetivo */
+		public long reached;
+
+		/** @brief Evaluaciones consumidas */
+		public long evaluations;
+
+		@Setup(Level.Iteration)
+		public void clean() {
+			reached = 0;
+			evaluations = 0;
+		}
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		GeneratorSetup.configure(generator);
+		instance = problem.create(size, StrategyThroughputBenchmark.INSTANCE_SEED);
+		target = problem.target(size, StrategyThroughputBenchmark.INSTANCE_SEED);
+		seed = 0;
+	}
+
+	@Benchmark
+	public double timeToTarget(Outcome outcome) throws Exception {
+		StopCondition reachedTarget = StopCondition.targetFitness(target);
+		StopCondition stop = reachedTarget.or(StopCondition.maxEvaluations(BUDGET));
+		long before = instance.getEvaluationCount();
+		Strategy strategy = GeneratorSetup.run(instance, generator, Integer.MAX_VALUE, seed++, stop);
+		outcome.evaluations += instance.getEvaluationCount() - before;
+		if (reachedTarget.isSatisfied(strategy)) {
+			outcome.reached++;
+		}
+		return GeneratorSetup.bestFitness(strategy);
+	}
+}
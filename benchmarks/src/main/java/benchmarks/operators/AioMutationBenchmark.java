@@ -0,0 +1,89 @@
+/**
+ * @file AioMutationBenchmark.java
+ * @brief Micro-benchmark de AIOMutation
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.operators;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import config.tspDynamic.TSPState;
+import evolutionary_algorithms.complement.AIOMutation;
+import metaheurictics.strategy.Strategy;
+import problem.definition.State;
+
+/**
+ * @class AioMutationBenchmark
+ * @brief Tiempo de una mutación AIOM sobre rutas de TSPState
+ *
+ * AIOMutation ordena la ruta por valor insertando en listas, así que su coste
+ * depende del desorden de la entrada: cada invocación recibe una ruta nueva
+ * con valores aleatorios (la preparación no se mide). La ordenación es
+ * cuadrática en comparaciones y cúbica en movimientos, por eso las longitudes
+ * se limitan a 1000: con 10k genes una sola invocación ya tarda minutos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AioMutationBenchmark {
+
+	@Param({"10", "100", "1000"})
+	public int length;
+
+	private AIOMutation operator;
+
+	private SplittableRandom random;
+
+	private State route;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		OperatorFixture.install(length);
+		operator = new AIOMutation();
+		random = new SplittableRandom(OperatorFixture.SEED);
+	}
+
+	@Setup(Level.Invocation)
+	public void newRoute() {
+		ArrayList<Object> code = new ArrayList<Object>(length);
+		for (int i = 0; i < length; i++) {
+			TSPState city = new TSPState();
+			city.setIdCity(i);
+			city.setValue(random.nextInt(length));
+			code.add(city);
+		}
+		route = new State(code);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		operator.getPath().clear();
+		Strategy.destroyExecute();
+	}
+
+	@Benchmark
+	public State mutate() {
+		return operator.mutation(route, 1.0);
+	}
+}
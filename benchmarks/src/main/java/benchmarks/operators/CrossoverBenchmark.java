@@ -0,0 +1,84 @@
+/**
+ * @file CrossoverBenchmark.java
+ * @brief Micro-benchmark de OnePointCrossover y UniformCrossover
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.operators;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmarks.operators.OperatorFixture.Representation;
+import evolutionary_algorithms.complement.Crossover;
+import evolutionary_algorithms.complement.CrossoverType;
+import evolutionary_algorithms.complement.OnePointCrossover;
+import evolutionary_algorithms.complement.UniformCrossover;
+import metaheurictics.strategy.Strategy;
+import problem.definition.State;
+
+/**
+ * @class CrossoverBenchmark
+ * @brief Tiempo de un cruce con cromosomas de 10 a 100k genes
+ *
+ * Se mide con probabilidad de cruce 1 y en las dos representaciones: LIST
+ * recorre el ArrayList de State y VECTOR usa la ruta de VectorState. Los
+ * padres no se modifican, así que se reutilizan en todas las invocaciones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrossoverBenchmark {
+
+	@Param
+	public CrossoverType crossover;
+
+	@Param
+	public Representation representation;
+
+	@Param({"10", "100", "1000", "10000", "100000"})
+	public int length;
+
+	private Crossover operator;
+
+	private State father1;
+
+	private State father2;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		OperatorFixture.install(length);
+		operator = crossover == CrossoverType.ONE_POINT_CROSSOVER ? new OnePointCrossover() : new UniformCrossover();
+		SplittableRandom random = new SplittableRandom(OperatorFixture.SEED);
+		father1 = representation.create(OperatorFixture.genes(random, length));
+		father2 = representation.create(OperatorFixture.genes(random, length));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Strategy.destroyExecute();
+	}
+
+	@Benchmark
+	public State crossover() {
+		return operator.crossover(father1, father2, 1.0);
+	}
+}
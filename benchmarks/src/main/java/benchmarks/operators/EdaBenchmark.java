@@ -0,0 +1,86 @@
+/**
+ * @file EdaBenchmark.java
+ * @brief Micro-benchmark de Univariate y ProbabilisticSampling
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.operators;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmarks.operators.OperatorFixture.Representation;
+import evolutionary_algorithms.complement.ProbabilisticSampling;
+import evolutionary_algorithms.complement.Probability;
+import evolutionary_algorithms.complement.Univariate;
+import metaheurictics.strategy.Strategy;
+import problem.definition.State;
+
+/**
+ * @class EdaBenchmark
+ * @brief Tiempo de estimar la distribución y muestrear una generación completa
+ *
+ * Ambos operadores recorren población por longitud, así que el parámetro shape
+ * fija los dos a la vez como "individuos x genes" en lugar de combinar todos
+ * los tamaños (100k x 100k no cabe en memoria). El muestreo genera tantos
+ * individuos como tiene la población de padres.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EdaBenchmark {
+
+	@Param({"10x10", "100x100", "1000x1000", "100000x10", "10x100000"})
+	public String shape;
+
+	private Univariate distribution;
+
+	private ProbabilisticSampling sampling;
+
+	private List<State> fathers;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		int separator = shape.indexOf('x');
+		int population = Integer.parseInt(shape.substring(0, separator));
+		int length = Integer.parseInt(shape.substring(separator + 1));
+		OperatorFixture.install(length);
+		distribution = new Univariate();
+		sampling = new ProbabilisticSampling();
+		fathers = OperatorFixture.population(new SplittableRandom(OperatorFixture.SEED), population, length, Representation.LIST);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Strategy.destroyExecute();
+	}
+
+	@Benchmark
+	public List<Probability> univariate() {
+		return distribution.distribution(fathers);
+	}
+
+	@Benchmark
+	public List<State> probabilisticSampling() {
+		return sampling.sampling(fathers, fathers.size());
+	}
+}
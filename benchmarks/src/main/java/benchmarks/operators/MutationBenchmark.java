@@ -0,0 +1,82 @@
+/**
+ * @file MutationBenchmark.java
+ * @brief Micro-benchmark de OnePointMutation y TowPointsMutation
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.operators;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmarks.operators.OperatorFixture.Representation;
+import evolutionary_algorithms.complement.Mutation;
+import evolutionary_algorithms.complement.MutationType;
+import factory_method.FactoryMutation;
+import metaheurictics.strategy.Strategy;
+import problem.definition.State;
+
+/**
+ * @class MutationBenchmark
+ * @brief Tiempo de una mutación con cromosomas de 10 a 100k genes
+ *
+ * Se mide con probabilidad de mutación 1. Las mutaciones modifican el
+ * individuo en su sitio y dejan un cromosoma binario válido, así que se
+ * reutiliza el mismo individuo. TowPointsMutation escribe a través de
+ * getCode(), que en VectorState devuelve una copia: en esa representación
+ * mide el coste de la copia. AIOMutation necesita genes TSPState y tiene su
+ * propio benchmark (AioMutationBenchmark).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MutationBenchmark {
+
+	@Param({"ONE_POINT_MUTATION", "TWO_POINTS_MUTATION"})
+	public MutationType mutation;
+
+	@Param
+	public Representation representation;
+
+	@Param({"10", "100", "1000", "10000", "100000"})
+	public int length;
+
+	private Mutation operator;
+
+	private State individual;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		OperatorFixture.install(length);
+		operator = new FactoryMutation().createMutation(mutation);
+		individual = representation.create(OperatorFixture.genes(new SplittableRandom(OperatorFixture.SEED), length));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Strategy.destroyExecute();
+	}
+
+	@Benchmark
+	public State mutate() {
+		return operator.mutation(individual, 1.0);
+	}
+}
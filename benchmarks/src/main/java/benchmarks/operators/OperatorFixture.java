@@ -0,0 +1,122 @@
+/**
+ * @file OperatorFixture.java
+ * @brief Datos de entrada comunes a los micro-benchmarks de operadores evolutivos
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import benchmarks.problems.OneMax;
+import metaheurictics.strategy.Strategy;
+import problem.definition.IntVectorState;
+import problem.definition.Problem;
+import problem.definition.State;
+
+/**
+ * @class OperatorFixture
+ * @brief Construye poblaciones binarias evaluadas y registra el problema en Strategy
+ *
+ * Los operadores de evolutionary_algorithms.complement consultan el problema
+ * (sentido de optimización, codificación, valores posibles) a través de
+ * Strategy.getStrategy(), así que cada benchmark instala un OneMax del tamaño
+ * del cromosoma antes de medir. Los datos se generan con una semilla fija para
+ * que todas las ejecuciones midan las mismas entradas.
+ */
+public final class OperatorFixture {
+
+	/** @brief Semilla de los datos de entrada */
+	public static final long SEED = 2025L;
+
+	private OperatorFixture() {
+	}
+
+	/**
+	 * @enum Representation
+	 * @brief Representación del cromosoma
+	 */
+	public enum Representation {
+
+		/** @brief State genérico con ArrayList de Integer */
+		LIST,
+
+		/** @brief IntVectorState respaldado por int[] */
+		VECTOR;
+
+		/**
+		 * @brief Crea un estado con los genes indicados
+		 * @param genes Valores de los genes
+		 * @return Estado en esta representación
+		 */
+		public State create(int[] genes) {
+			if (this == VECTOR) {
+				return new IntVectorState(genes.clone());
+			}
+			ArrayList<Object> code = new ArrayList<Object>(genes.length);
+			for (int gene : genes) {
+				code.add(gene);
+			}
+			return new State(code);
+		}
+	}
+
+	/**
+	 * @brief Registra un OneMax de la longitud indicada como problema de Strategy
+	 * @param length Longitud del cromosoma
+	 * @return Problema instalado
+	 */
+	public static Problem install(int length) {
+		Strategy.destroyExecute();
+		Problem problem = OneMax.create(length);
+		Strategy.setProblem(problem);
+		return problem;
+	}
+
+	/**
+	 * @brief Genes binarios aleatorios
+	 * @param random Generador de los datos
+	 * @param length Longitud del cromosoma
+	 * @return Arreglo de ceros y unos
+	 */
+	public static int[] genes(SplittableRandom random, int length) {
+		int[] genes = new int[length];
+		for (int i = 0; i < length; i++) {
+			genes[i] = random.nextInt(2);
+		}
+		return genes;
+	}
+
+	/**
+	 * @brief Asigna una evaluación de un solo objetivo
+	 * @param state Estado a evaluar
+	 * @param value Valor de la evaluación
+	 * @return El mismo estado
+	 */
+	public static State evaluated(State state, double value) {
+		ArrayList<Double> evaluation = new ArrayList<Double>(1);
+		evaluation.add(value);
+		state.setEvaluation(evaluation);
+		return state;
+	}
+
+	/**
+	 * @brief Población de individuos binarios con evaluación aleatoria en [0, length]
+	 * @param random Generador de los datos
+	 * @param count Tamaño de la población
+	 * @param length Longitud del cromosoma
+	 * @param representation Representación de los individuos
+	 * @return Población evaluada
+	 */
+	public static List<State> population(SplittableRandom random, int count, int length, Representation representation) {
+		List<State> population = new ArrayList<State>(count);
+		for (int i = 0; i < count; i++) {
+			population.add(evaluated(representation.create(genes(random, length)), random.nextDouble() * length));
+		}
+		return population;
+	}
+}
@@ -0,0 +1,94 @@
+/**
+ * @file ReplaceBenchmark.java
+ * @brief Micro-benchmark de SteadyStateReplace y GenerationalReplace
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.operators;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmarks.operators.OperatorFixture.Representation;
+import evolutionary_algorithms.complement.GenerationalReplace;
+import evolutionary_algorithms.complement.Replace;
+import evolutionary_algorithms.complement.ReplaceType;
+import evolutionary_algorithms.complement.SteadyStateReplace;
+import metaheurictics.strategy.Strategy;
+import problem.definition.State;
+
+/**
+ * @class ReplaceBenchmark
+ * @brief Tiempo de insertar un candidato en poblaciones de 10 a 100k individuos
+ *
+ * La población persiste entre invocaciones, como en un generador poblacional,
+ * y los candidatos se toman de forma cíclica de un conjunto con evaluaciones
+ * aleatorias. Ambos operadores mantienen constante el tamaño de la población.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReplaceBenchmark {
+
+	/** @brief Longitud del cromosoma (el reemplazo no lo recorre) */
+	public static final int LENGTH = 10;
+
+	/** @brief Candidatos distintos que se insertan por turnos (potencia de dos) */
+	public static final int CANDIDATES = 1024;
+
+	@Param
+	public ReplaceType replace;
+
+	@Param({"10", "100", "1000", "10000", "100000"})
+	public int population;
+
+	private Replace operator;
+
+	private List<State> individuals;
+
+	private List<State> candidates;
+
+	private int next;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		OperatorFixture.install(LENGTH);
+		operator = replace == ReplaceType.STEADY_STATE_REPLACE ? new SteadyStateReplace() : new GenerationalReplace();
+		SplittableRandom random = new SplittableRandom(OperatorFixture.SEED);
+		individuals = OperatorFixture.population(random, population, LENGTH, Representation.LIST);
+		candidates = OperatorFixture.population(random, CANDIDATES, LENGTH, Representation.LIST);
+		next = 0;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Strategy.destroyExecute();
+	}
+
+	@Benchmark
+	public List<State> replace() throws Exception {
+		State candidate = candidates.get(next);
+		next = (next + 1) & (CANDIDATES - 1);
+		individuals = operator.replace(candidate, individuals);
+		return individuals;
+	}
+}
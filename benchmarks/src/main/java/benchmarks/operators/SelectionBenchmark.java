@@ -0,0 +1,84 @@
+/**
+ * @file SelectionBenchmark.java
+ * @brief Micro-benchmark de TruncationSelection y RouletteSelection
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.operators;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import benchmarks.operators.OperatorFixture.Representation;
+import evolutionary_algorithms.complement.FatherSelection;
+import evolutionary_algorithms.complement.RouletteSelection;
+import evolutionary_algorithms.complement.SelectionType;
+import evolutionary_algorithms.complement.TruncationSelection;
+import metaheurictics.strategy.Strategy;
+import problem.definition.State;
+
+/**
+ * @class SelectionBenchmark
+ * @brief Tiempo de una selección de padres sobre poblaciones de 10 a 100k individuos
+ *
+ * La truncación conserva la mitad de la población. TruncationSelection ordena
+ * la lista que recibe, así que cada invocación parte de una copia de la
+ * población original (la copia es O(n) y se mide para ambos operadores).
+ * TruncationSelection ordena con un algoritmo cuadrático: con 100k individuos
+ * cada invocación tarda del orden de segundos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.State(Scope.Thread)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelectionBenchmark {
+
+	/** @brief Longitud del cromosoma (la selección no lo recorre) */
+	public static final int LENGTH = 10;
+
+	@Param
+	public SelectionType selection;
+
+	@Param({"10", "100", "1000", "10000", "100000"})
+	public int population;
+
+	private FatherSelection operator;
+
+	private List<State> individuals;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		OperatorFixture.install(LENGTH);
+		operator = selection == SelectionType.TRUNCATION_SELECTION ? new TruncationSelection() : new RouletteSelection();
+		individuals = OperatorFixture.population(new SplittableRandom(OperatorFixture.SEED), population, LENGTH, Representation.LIST);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		Strategy.destroyExecute();
+	}
+
+	@Benchmark
+	public List<State> select() {
+		return operator.selection(new ArrayList<State>(individuals), population / 2);
+	}
+}
@@ -0,0 +1,176 @@
+/**
+ * @file OneMax.java
+ * @brief Problema OneMax: maximizar el número de unos de un vector de bits
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.problems;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import config.RandomEngine;
+import config.RandomService;
+import problem.definition.BitState;
+import problem.definition.Codification;
+import problem.definition.GeneMove;
+import problem.definition.Move;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.Problem;
+import problem.definition.Problem.ProblemType;
+import problem.definition.State;
+
+/**
+ * @class OneMax
+ * @brief Construye un Problem OneMax de tamaño n
+ *
+ * El vecindario cambia un bit al azar por vecino y la función objetivo admite
+ * evaluación incremental, así que los generadores de búsqueda local recorren
+ * el camino de evaluateDelta. El óptimo vale n.
+ */
+public final class OneMax {
+
+	private OneMax() {
+	}
+
+	/**
+	 * @brief Crea el problema
+	 * @param size Número de bits
+	 * @return Problema listo para Strategy
+	 */
+	public static Problem create(int size) {
+		Problem problem = new Problem();
+		problem.setTypeProblem(ProblemType.MAXIMIZAR);
+		ArrayList<ObjetiveFunction> functions = new ArrayList<ObjetiveFunction>();
+		functions.add(new Ones());
+		problem.setFunction(functions);
+		problem.setCodification(new Bits(size));
+		problem.setOperator(new FlipOperator(size));
+		problem.setPossibleValue(2);
+		return problem;
+	}
+
+	/**
+	 * @class Ones
+	 * @brief Número de genes a 1
+	 */
+	static final class Ones extends ObjetiveFunction {
+
+		Ones() {
+			setTypeProblem(ProblemType.MAXIMIZAR);
+		}
+
+		@Override
+		public Double Evaluation(State state) {
+			if (state instanceof BitState) {
+				return (double) ((BitState) state).cardinality();
+			}
+			double ones = 0;
+			for (int i = 0; i < state.codeSize(); i++) {
+				ones += ((Number) state.codeAt(i)).doubleValue() != 0 ? 1 : 0;
+			}
+			return ones;
+		}
+
+		@Override
+		public boolean supportsDelta() {
+			return true;
+		}
+
+		@Override
+		public Double evaluateDelta(State base, Move move) {
+			if (!(move instanceof GeneMove)) {
+				return super.evaluateDelta(base, move);
+			}
+			GeneMove gene = (GeneMove) move;
+			double before = ((Number) base.codeAt(gene.getIndex())).doubleValue() != 0 ? 1 : 0;
+			double after = ((Number) gene.getValue()).doubleValue() != 0 ? 1 : 0;
+			return after - before;
+		}
+	}
+
+	/**
+	 * @class Bits
+	 * @brief Codificación de n variables binarias
+	 */
+	static final class Bits extends Codification {
+
+		private final int size;
+
+		Bits(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public boolean validState(State state) {
+			return state.codeSize() == size;
+		}
+
+		@Override
+		public Object getVariableAleatoryValue(int key) {
+			return RandomService.nextInt(2);
+		}
+
+		@Override
+		public int getAleatoryKey() {
+			return RandomService.nextInt(size);
+		}
+
+		@Override
+		public int getVariableCount() {
+			return size;
+		}
+	}
+
+	/**
+	 * @class FlipOperator
+	 * @brief Vecinos que cambian un bit elegido al azar
+	 */
+	static final class FlipOperator extends Operator {
+
+		private final int size;
+
+		FlipOperator(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+			List<Move> moves = generatedMoves(stateCurrent, operatornumber);
+			List<State> neighbors = new ArrayList<State>(moves.size());
+			for (Move move : moves) {
+				neighbors.add(move.applyTo(stateCurrent));
+			}
+			return neighbors;
+		}
+
+		@Override
+		public List<Move> generatedMoves(State stateCurrent, Integer operatornumber) {
+			RandomEngine random = RandomService.current();
+			List<Move> moves = new ArrayList<Move>(operatornumber);
+			for (int i = 0; i < operatornumber; i++) {
+				int index = random.nextInt(size);
+				int bit = ((Number) stateCurrent.codeAt(index)).intValue();
+				moves.add(new GeneMove(index, 1 - bit));
+			}
+			return moves;
+		}
+
+		@Override
+		public List<State> generateRandomState(Integer operatornumber) {
+			RandomEngine random = RandomService.current();
+			List<State> states = new ArrayList<State>(operatornumber);
+			for (int s = 0; s < operatornumber; s++) {
+				BitState state = new BitState(size);
+				for (int i = 0; i < size; i++) {
+					state.set(i, random.nextBoolean());
+				}
+				states.add(state);
+			}
+			return states;
+		}
+	}
+}
@@ -0,0 +1,212 @@
+/**
+ * @file RandomTsp.java
+ * @brief Viajante de comercio con ciudades aleatorias en el cuadrado unidad
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.problems;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import config.RandomEngine;
+import config.RandomService;
+import problem.definition.Codification;
+import problem.definition.Move;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.PermutationState;
+import problem.definition.Problem;
+import problem.definition.Problem.ProblemType;
+import problem.definition.State;
+import problem.definition.SwapMove;
+
+/**
+ * @class RandomTsp
+ * @brief Construye un Problem de minimización de la longitud de una ruta cerrada
+ *
+ * Las ciudades se generan a partir de una semilla fija, de modo que el mismo
+ * tamaño y semilla dan siempre la misma instancia. Los vecinos intercambian
+ * dos ciudades. La función objetivo no implementa evaluación incremental, así
+ * que este problema mide el camino de evaluación completa.
+ */
+public final class RandomTsp {
+
+	private RandomTsp() {
+	}
+
+	/**
+	 * @brief Crea el problema
+	 * @param size Número de ciudades (al menos 2)
+	 * @param seed Semilla de la instancia
+	 * @return Problema listo para Strategy
+	 */
+	public static Problem create(int size, long seed) {
+		double[][] distances = distances(size, seed);
+		Problem problem = new Problem();
+		problem.setTypeProblem(ProblemType.MINIMIZAR);
+		ArrayList<ObjetiveFunction> functions = new ArrayList<ObjetiveFunction>();
+		functions.add(new TourLength(distances));
+		problem.setFunction(functions);
+		problem.setCodification(new Cities(size));
+		problem.setOperator(new SwapOperator(size));
+		problem.setPossibleValue(size);
+		return problem;
+	}
+
+	/**
+	 * @brief Matriz de distancias euclídeas entre ciudades aleatorias
+	 */
+	static double[][] distances(int size, long seed) {
+		SplittableRandom random = new SplittableRandom(seed);
+		double[] x = new double[size];
+		double[] y = new double[size];
+		for (int i = 0; i < size; i++) {
+			x[i] = random.nextDouble();
+			y[i] = random.nextDouble();
+		}
+		double[][] distances = new double[size][size];
+		for (int i = 0; i < size; i++) {
+			for (int j = i + 1; j < size; j++) {
+				double d = Math.hypot(x[i] - x[j], y[i] - y[j]);
+				distances[i][j] = d;
+				distances[j][i] = d;
+			}
+		}
+		return distances;
+	}
+
+	/**
+	 * @brief Longitud de la ruta identidad 0, 1, ..., n-1
+	 * @param size Número de ciudades
+	 * @param seed Semilla de la instancia
+	 * @return Longitud de la ruta
+	 */
+	public static double identityLength(int size, long seed) {
+		return new TourLength(distances(size, seed)).Evaluation(PermutationState.identity(size));
+	}
+
+	/**
+	 * @class TourLength
+	 * @brief Longitud de la ruta cerrada
+	 */
+	static final class TourLength extends ObjetiveFunction {
+
+		private final double[][] distances;
+
+		TourLength(double[][] distances) {
+			this.distances = distances;
+			setTypeProblem(ProblemType.MINIMIZAR);
+		}
+
+		@Override
+		public Double Evaluation(State state) {
+			int n = state.codeSize();
+			if (n < 2) {
+				return 0.0;
+			}
+			double length = 0;
+			int first = city(state, 0);
+			int previous = first;
+			for (int i = 1; i < n; i++) {
+				int current = city(state, i);
+				length += distances[previous][current];
+				previous = current;
+			}
+			return length + distances[previous][first];
+		}
+
+		private int city(State state, int i) {
+			int city = ((Number) state.codeAt(i)).intValue();
+			return Math.floorMod(city, distances.length);
+		}
+	}
+
+	/**
+	 * @class Cities
+	 * @brief Codificación como permutación de las ciudades
+	 */
+	static final class Cities extends Codification {
+
+		private final int size;
+
+		Cities(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public boolean validState(State state) {
+			return state instanceof PermutationState && ((PermutationState) state).isPermutation();
+		}
+
+		@Override
+		public Object getVariableAleatoryValue(int key) {
+			return RandomService.nextInt(size);
+		}
+
+		@Override
+		public int getAleatoryKey() {
+			return RandomService.nextInt(size);
+		}
+
+		@Override
+		public int getVariableCount() {
+			return size;
+		}
+	}
+
+	/**
+	 * @class SwapOperator
+	 * @brief Vecinos que intercambian dos ciudades elegidas al azar
+	 */
+	static final class SwapOperator extends Operator {
+
+		private final int size;
+
+		SwapOperator(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+			List<Move> moves = generatedMoves(stateCurrent, operatornumber);
+			List<State> neighbors = new ArrayList<State>(moves.size());
+			for (Move move : moves) {
+				neighbors.add(move.applyTo(stateCurrent));
+			}
+			return neighbors;
+		}
+
+		@Override
+		public List<Move> generatedMoves(State stateCurrent, Integer operatornumber) {
+			RandomEngine random = RandomService.current();
+			List<Move> moves = new ArrayList<Move>(operatornumber);
+			for (int i = 0; i < operatornumber; i++) {
+				int first = random.nextInt(size);
+				int second = random.nextInt(size - 1);
+				if (second >= first) {
+					second++;
+				}
+				moves.add(new SwapMove(first, second));
+			}
+			return moves;
+		}
+
+		@Override
+		public List<State> generateRandomState(Integer operatornumber) {
+			RandomEngine random = RandomService.current();
+			List<State> states = new ArrayList<State>(operatornumber);
+			for (int s = 0; s < operatornumber; s++) {
+				PermutationState tour = PermutationState.identity(size);
+				for (int i = size - 1; i > 0; i--) {
+					tour.swap(i, random.nextInt(i + 1));
+				}
+				states.add(tour);
+			}
+			return states;
+		}
+	}
+}
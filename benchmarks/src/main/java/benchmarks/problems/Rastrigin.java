@@ -0,0 +1,198 @@
+/**
+ * @file Rastrigin.java
+ * @brief Función de Rastrigin en [-5.12, 5.12]^n
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.problems;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import config.RandomEngine;
+import config.RandomService;
+import problem.definition.Codification;
+import problem.definition.DoubleVectorState;
+import problem.definition.GeneMove;
+import problem.definition.Move;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.Problem;
+import problem.definition.Problem.ProblemType;
+import problem.definition.State;
+
+/**
+ * @class Rastrigin
+ * @brief Construye un Problem de minimización de la función de Rastrigin
+ *
+ * f(x) = 10n + suma(x_i^2 - 10 cos(2 pi x_i)), con mínimo 0 en el origen.
+ * Los vecinos desplazan una coordenada con un paso uniforme de amplitud STEP
+ * y la función objetivo admite evaluación incremental.
+ */
+public final class Rastrigin {
+
+	/** @brief Límite del dominio en cada coordenada */
+	public static final double BOUND = 5.12;
+
+	/** @brief Amplitud máxima del desplazamiento de un vecino */
+	public static final double STEP = 0.5;
+
+	private Rastrigin() {
+	}
+
+	/**
+	 * @brief Crea el problema
+	 * @param size Dimensión
+	 * @return Problema listo para Strategy
+	 */
+	public static Problem create(int size) {
+		Problem problem = new Problem();
+		problem.setTypeProblem(ProblemType.MINIMIZAR);
+		ArrayList<ObjetiveFunction> functions = new ArrayList<ObjetiveFunction>();
+		functions.add(new Function());
+		problem.setFunction(functions);
+		problem.setCodification(new Reals(size));
+		problem.setOperator(new StepOperator(size));
+		return problem;
+	}
+
+	/**
+	 * @brief Término de una coordenada
+	 */
+	static double term(double x) {
+		return x * x - 10.0 * Math.cos(2.0 * Math.PI * x) + 10.0;
+	}
+
+	static double clamp(double x) {
+		return Math.max(-BOUND, Math.min(BOUND, x));
+	}
+
+	/**
+	 * @class Function
+	 * @brief Función de Rastrigin
+	 */
+	static final class Function extends ObjetiveFunction {
+
+		Function() {
+			setTypeProblem(ProblemType.MINIMIZAR);
+		}
+
+		@Override
+		public Double Evaluation(State state) {
+			double sum = 0;
+			for (int i = 0; i < state.codeSize(); i++) {
+				sum += term(((Number) state.codeAt(i)).doubleValue());
+			}
+			return sum;
+		}
+
+		@Override
+		public boolean supportsDelta() {
+			return true;
+		}
+
+		@Override
+		public Double evaluateDelta(State base, Move move) {
+			if (!(move instanceof GeneMove)) {
+				return super.evaluateDelta(base, move);
+			}
+			GeneMove gene = (GeneMove) move;
+			double before = ((Number) base.codeAt(gene.getIndex())).doubleValue();
+			double after = ((Number) gene.getValue()).doubleValue();
+			return term(after) - term(before);
+		}
+	}
+
+	/**
+	 * @class Reals
+	 * @brief Codificación de n variables reales acotadas
+	 */
+	static final class Reals extends Codification {
+
+		private final int size;
+
+		Reals(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public boolean validState(State state) {
+			if (state.codeSize() != size) {
+				return false;
+			}
+			for (int i = 0; i < size; i++) {
+				double x = ((Number) state.codeAt(i)).doubleValue();
+				if (x < -BOUND || x > BOUND) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public Object getVariableAleatoryValue(int key) {
+			return (RandomService.nextDouble() * 2.0 - 1.0) * BOUND;
+		}
+
+		@Override
+		public int getAleatoryKey() {
+			return RandomService.nextInt(size);
+		}
+
+		@Override
+		public int getVariableCount() {
+			return size;
+		}
+	}
+
+	/**
+	 * @class StepOperator
+	 * @brief Vecinos que desplazan una coordenada elegida al azar
+	 */
+	static final class StepOperator extends Operator {
+
+		private final int size;
+
+		StepOperator(int size) {
+			this.size = size;
+		}
+
+		@Override
+		public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+			List<Move> moves = generatedMoves(stateCurrent, operatornumber);
+			List<State> neighbors = new ArrayList<State>(moves.size());
+			for (Move move : moves) {
+				neighbors.add(move.applyTo(stateCurrent));
+			}
+			return neighbors;
+		}
+
+		@Override
+		public List<Move> generatedMoves(State stateCurrent, Integer operatornumber) {
+			RandomEngine random = RandomService.current();
+			List<Move> moves = new ArrayList<Move>(operatornumber);
+			for (int i = 0; i < operatornumber; i++) {
+				int index = random.nextInt(size);
+				double x = ((Number) stateCurrent.codeAt(index)).doubleValue();
+				moves.add(new GeneMove(index, clamp(x + (random.nextDouble() * 2.0 - 1.0) * STEP)));
+			}
+			return moves;
+		}
+
+		@Override
+		public List<State> generateRandomState(Integer operatornumber) {
+			RandomEngine random = RandomService.current();
+			List<State> states = new ArrayList<State>(operatornumber);
+			for (int s = 0; s < operatornumber; s++) {
+				double[] genes = new double[size];
+				for (int i = 0; i < size; i++) {
+					genes[i] = (random.nextDouble() * 2.0 - 1.0) * BOUND;
+				}
+				states.add(new DoubleVectorState(genes));
+			}
+			return states;
+		}
+	}
+}
@@ -0,0 +1,79 @@
+/**
+ * @file SyntheticProblem.java
+ * @brief Catálogo de problemas sintéticos usados por los benchmarks
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package benchmarks.problems;
+
+import problem.definition.Problem;
+
+/**
+ * @enum SyntheticProblem
+ * @brief Problemas sintéticos parametrizados por tamaño
+ *
+ * Cada valor construye una instancia nueva y define el objetivo que usan los
+ * benchmarks de tiempo hasta objetivo. Los objetivos son alcanzables en pocas
+ * miles de evaluaciones por los generadores de búsqueda local, de modo que la
+ * medida compara configuraciones y no se limita a agotar el presupuesto.
+ */
+public enum SyntheticProblem {
+
+	/** @brief OneMax: objetivo 75% de unos */
+	ONE_MAX {
+		@Override
+		public Problem create(int size, long seed) {
+			return OneMax.create(size);
+		}
+
+		@Override
+		public double target(int size, long seed) {
+			return Math.ceil(size * 0.75);
+		}
+	},
+
+	/** @brief Rastrigin: objetivo 60% del valor esperado de un punto aleatorio */
+	RASTRIGIN {
+		@Override
+		public Problem create(int size, long seed) {
+			return Rastrigin.create(size);
+		}
+
+		@Override
+		public double target(int size, long seed) {
+			// E[x^2 - 10cos(2 pi x) + 10] con x uniforme en [-5.12, 5.12] es ~18.7
+			return size * 18.7 * 0.6;
+		}
+	},
+
+	/** @brief TSP aleatorio: objetivo 80% de la longitud de la ruta identidad */
+	RANDOM_TSP {
+		@Override
+		public Problem create(int size, long seed) {
+			return RandomTsp.create(size, seed);
+		}
+
+		@Override
+		public double target(int size, long seed) {
+			return RandomTsp.identityLength(size, seed) * 0.8;
+		}
+	};
+
+	/**
+	 * @brief Crea una instancia del problema
+	 * @param size Tamaño de la instancia
+	 * @param seed Semilla de la instancia (solo la usan los problemas con datos)
+	 * @return Problema listo para Strategy
+	 */
+	public abstract Problem create(int size, long seed);
+
+	/**
+	 * @brief Valor objetivo para el benchmark de tiempo hasta objetivo
+	 * @param size Tamaño de la instancia
+	 * @param seed Semilla de la instancia
+	 * @return Fitness a alcanzar en el sentido del problema
+	 */
+	public abstract double target(int size, long seed);
+}
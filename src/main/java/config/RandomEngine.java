@@ -0,0 +1,100 @@
+package config;
+
+/**
+ * Motor de números pseudoaleatorios usado por RandomService.
+ * 
+ * Las subclases solo tienen que producir 64 bits por llamada y saber
+ * dividirse en un motor independiente; el resto de distribuciones se
+ * derivan de nextLong(). Una instancia no es segura entre hilos: cada hilo
+ * o corrida usa la suya, obtenida con split().
+ */
+public abstract class RandomEngine {
+
+    /**
+     * Genera 64 bits aleatorios.
+     * 
+     * @return número aleatorio long
+     */
+    public abstract long nextLong();
+
+    /**
+     * Crea un motor independiente a partir de este, de forma determinista.
+     * 
+     * @return nuevo motor
+     */
+    public abstract RandomEngine split();
+
+    /**
+     * Genera un número aleatorio double entre 0.0 (inclusivo) y 1.0 (exclusivo).
+     * 
+     * @return número aleatorio double
+     */
+    public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Genera un número aleatorio float entre 0.0 (inclusivo) y 1.0 (exclusivo).
+     * 
+     * @return número aleatorio float
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    /**
+     * Genera un número aleatorio int entre 0 (inclusivo) y bound (exclusivo),
+     * sin sesgo (método de Lemire).
+     * 
+     * @param bound límite superior (exclusivo), positivo
+     * @return número aleatorio int
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive");
+        }
+        long m = (nextLong() >>> 32) * bound;
+        long low = m & 0xFFFFFFFFL;
+        if (low < bound) {
+            long threshold = (0x100000000L - bound) % bound;
+            while (low < threshold) {
+                m = (nextLong() >>> 32) * bound;
+                low = m & 0xFFFFFFFFL;
+            }
+        }
+        return (int) (m >>> 32);
+    }
+
+    /**
+     * Genera un booleano aleatorio.
+     * 
+     * @return true o false con la misma probabilidad
+     */
+    public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    /**
+     * Rellena el array con números double entre 0.0 (inclusivo) y 1.0 (exclusivo).
+     * Produce la misma secuencia que llamar a nextDouble() una vez por posición.
+     * 
+     * @param values array destino
+     */
+    public void nextDoubles(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = nextDouble();
+        }
+    }
+
+    /**
+     * Mezcla SplitMix64, usada para derivar semillas bien distribuidas.
+     * 
+     * @param z valor de entrada
+     * @return valor mezclado
+     */
+    static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,29 @@
+package config;
+
+/**
+ * Motores disponibles para RandomService.
+ */
+public enum RandomEngineType {
+    /** java.util.SplittableRandom */
+    SPLITTABLE_RANDOM {
+        @Override
+        public RandomEngine create(long seed) {
+            return new SplittableRandomEngine(seed);
+        }
+    },
+    /** xoshiro256** */
+    XOSHIRO256_STAR_STAR {
+        @Override
+        public RandomEngine create(long seed) {
+            return new Xoshiro256StarStarEngine(seed);
+        }
+    };
+
+    /**
+     * Crea un motor de este tipo.
+     * 
+     * @param seed semilla
+     * @return nuevo motor
+     */
+    public abstract RandomEngine create(long seed);
+}
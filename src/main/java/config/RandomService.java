@@ -0,0 +1,171 @@
+package config;
+
+import java.security.SecureRandom;
+
+import metaheurictics.strategy.StrategyContext;
+
+/**
+ * Servicio único de números aleatorios de la biblioteca.
+ * 
+ * Cada corrida con un StrategyContext ligado usa el motor del contexto,
+ * derivado de su semilla (StrategyContext.getSeed()), de modo que una
+ * corrida con la misma semilla repite la misma secuencia aunque haya otras
+ * corridas en paralelo. Sin contexto, cada hilo usa su propio motor,
+ * obtenido dividiendo el motor maestro; setMasterSeed() hace reproducible
+ * la ejecución de un solo hilo.
+ * 
+ * Los métodos estáticos buscan el motor en cada llamada; en bucles con
+ * muchas extracciones conviene obtenerlo una vez con current().
+ */
+public final class RandomService {
+
+    /** Tipo de motor usado para los motores nuevos */
+    private static volatile RandomEngineType engineType = RandomEngineType.SPLITTABLE_RANDOM;
+
+    /** Motor del que se dividen los motores por hilo y por corrida */
+    private static RandomEngine master = engineType.create(new SecureRandom().nextLong());
+
+    /** Se incrementa al cambiar la semilla o el motor para renovar los motores por hilo */
+    private static volatile int generation;
+
+    private static final ThreadLocal<ThreadEngine> LOCAL = new ThreadLocal<ThreadEngine>();
+
+    private RandomService() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Fija la semilla maestra. Los hilos renuevan su motor en la siguiente extracción.
+     * 
+     * @param seed semilla maestra
+     */
+    public static synchronized void setMasterSeed(long seed) {
+        master = engineType.create(seed);
+        generation++;
+    }
+
+    /**
+     * Cambia el tipo de motor. Los hilos renuevan su motor en la siguiente extracción.
+     * 
+     * @param type tipo de motor
+     */
+    public static synchronized void setEngineType(RandomEngineType type) {
+        engineType = type;
+        master = type.create(master.nextLong());
+        generation++;
+    }
+
+    public static RandomEngineType getEngineType() {
+        return engineType;
+    }
+
+    /**
+     * Crea un motor del tipo configurado con una semilla fija.
+     * 
+     * @param seed semilla
+     * @return nuevo motor
+     */
+    public static RandomEngine create(long seed) {
+        return engineType.create(seed);
+    }
+
+    /**
+     * Divide el motor maestro para obtener un motor independiente.
+     * 
+     * @return nuevo motor
+     */
+    public static synchronized RandomEngine split() {
+        return master.split();
+    }
+
+    /**
+     * Motor del hilo actual: el de la corrida ligada o, si no hay, el del hilo.
+     * 
+     * @return motor a usar en este hilo
+     * @throws IllegalStateException si la corrida ligada pertenece a otro hilo
+     *         (ver StrategyContext.getRandom())
+     */
+    public static RandomEngine current() {
+        StrategyContext context = StrategyContext.current();
+        if (context != null) {
+            RandomEngine engine = context.getRandom();
+            if (engine != null) {
+                return engine;
+            }
+        }
+        ThreadEngine local = LOCAL.get();
+        if (local == null || local.generation != generation) {
+            local = new ThreadEngine(split(), generation);
+            LOCAL.set(local);
+        }
+        return local.engine;
+    }
+
+    /**
+     * Genera un número aleatorio double entre 0.0 (inclusivo) y 1.0 (exclusivo).
+     * 
+     * @return número aleatorio double
+     */
+    public static double nextDouble() {
+        return current().nextDouble();
+    }
+
+    /**
+     * Genera un número aleatorio int entre 0 (inclusivo) y bound (exclusivo).
+     * 
+     * @param bound límite superior (exclusivo)
+     * @return número aleatorio int
+     */
+    public static int nextInt(int bound) {
+        return current().nextInt(bound);
+    }
+
+    /**
+     * Genera un número aleatorio float entre 0.0 (inclusivo) y 1.0 (exclusivo).
+     * 
+     * @return número aleatorio float
+     */
+    public static float nextFloat() {
+        return current().nextFloat();
+    }
+
+    /**
+     * Genera un número aleatorio long.
+     * 
+     * @return número aleatorio long
+     */
+    public static long nextLong() {
+        return current().nextLong();
+    }
+
+    /**
+     * Genera un booleano aleatorio.
+     * 
+     * @return true o false con la misma probabilidad
+     */
+    public static boolean nextBoolean() {
+        return current().nextBoolean();
+    }
+
+    /**
+     * Rellena el array con números double entre 0.0 (inclusivo) y 1.0 (exclusivo).
+     * 
+     * @param values array destino
+     */
+    public static void nextDoubles(double[] values) {
+        current().nextDoubles(values);
+    }
+
+    /**
+     * Motor de un hilo junto con la generación en que se creó.
+     */
+    private static final class ThreadEngine {
+        private final RandomEngine engine;
+        private final int generation;
+
+        private ThreadEngine(RandomEngine engine, int generation) {
+            this.engine = engine;
+            this.generation = generation;
+        }
+    }
+}
@@ -1,15 +1,15 @@
 package config;
 
-import java.security.SecureRandom;
-
 /**
- * Generador seguro de números aleatorios usando SecureRandom.
- * Reemplaza los usos inseguros de Math.random() en toda la aplicación.
+ * Acceso estático a números aleatorios, conservado por compatibilidad.
+ * 
+ * Delega en RandomService, que usa un motor rápido y reproducible por hilo
+ * o por corrida; el código nuevo debe usar RandomService directamente.
+ * Ninguno de los dos es adecuado para usos criptográficos.
  */
+@Deprecated
 public final class SecureRandomGenerator {
     
-    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
-    
     // Constructor privado para prevenir instanciación
     private SecureRandomGenerator() {
         throw new UnsupportedOperationException("Utility class");
@@ -21,7 +21,7 @@ public final class SecureRandomGenerator {
      * @return número aleatorio double
      */
     public static double nextDouble() {
-        return SECURE_RANDOM.nextDouble();
+        return RandomService.nextDouble();
     }
     
     /**
@@ -31,7 +31,7 @@ public final class SecureRandomGenerator {
      * @return número aleatorio int
      */
     public static int nextInt(int bound) {
-        return SECURE_RANDOM.nextInt(bound);
+        return RandomService.nextInt(bound);
     }
     
     /**
@@ -40,6 +40,6 @@ public final class SecureRandomGenerator {
      * @return número aleatorio float
      */
     public static float nextFloat() {
-        return SECURE_RANDOM.nextFloat();
+        return RandomService.nextFloat();
     }
 }
@@ -0,0 +1,49 @@
+package config;
+
+import java.util.SplittableRandom;
+
+/**
+ * Motor basado en java.util.SplittableRandom.
+ */
+public final class SplittableRandomEngine extends RandomEngine {
+
+    private final SplittableRandom random;
+
+    /**
+     * Crea el motor con una semilla.
+     * 
+     * @param seed semilla
+     */
+    public SplittableRandomEngine(long seed) {
+        this(new SplittableRandom(seed));
+    }
+
+    private SplittableRandomEngine(SplittableRandom random) {
+        this.random = random;
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public double nextDouble() {
+        return random.nextDouble();
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Override
+    public RandomEngine split() {
+        return new SplittableRandomEngine(random.split());
+    }
+}
@@ -0,0 +1,76 @@
+package config;
+
+/**
+ * Motor xoshiro256** (Blackman y Vigna): 256 bits de estado, periodo 2^256 - 1.
+ * 
+ * El estado inicial se obtiene de la semilla con SplitMix64. split() siembra
+ * el nuevo motor con la salida de este; jump() avanza 2^128 pasos, útil para
+ * repartir subsecuencias que no se solapan.
+ */
+public final class Xoshiro256StarStarEngine extends RandomEngine {
+
+    private static final long[] JUMP = {
+        0x180ec6d33cfd0abaL, 0xd5a61266f0c9392cL, 0xa9582618e03fc9aaL, 0x39abdc4529b1661cL
+    };
+
+    private long s0;
+    private long s1;
+    private long s2;
+    private long s3;
+
+    /**
+     * Crea el motor con una semilla.
+     * 
+     * @param seed semilla
+     */
+    public Xoshiro256StarStarEngine(long seed) {
+        long z = seed;
+        s0 = mix64(z += 0x9E3779B97F4A7C15L);
+        s1 = mix64(z += 0x9E3779B97F4A7C15L);
+        s2 = mix64(z += 0x9E3779B97F4A7C15L);
+        s3 = mix64(z += 0x9E3779B97F4A7C15L);
+    }
+
+    @Override
+    public long nextLong() {
+        long result = Long.rotateLeft(s1 * 5, 7) * 9;
+        long t = s1 << 17;
+        s2 ^= s0;
+        s3 ^= s1;
+        s1 ^= s2;
+        s0 ^= s3;
+        s2 ^= t;
+        s3 = Long.rotateLeft(s3, 45);
+        return result;
+    }
+
+    @Override
+    public RandomEngine split() {
+        return new Xoshiro256StarStarEngine(nextLong());
+    }
+
+    /**
+     * Avanza el estado 2^128 pasos.
+     */
+    public void jump() {
+        long t0 = 0;
+        long t1 = 0;
+        long t2 = 0;
+        long t3 = 0;
+        for (long word : JUMP) {
+            for (int b = 0; b < 64; b++) {
+                if ((word & (1L << b)) != 0) {
+                    t0 ^= s0;
+                    t1 ^= s1;
+                    t2 ^= s2;
+                    t3 ^= s3;
+                }
+                nextLong();
+            }
+        }
+        s0 = t0;
+        s1 = t1;
+        s2 = t2;
+        s3 = t3;
+    }
+}
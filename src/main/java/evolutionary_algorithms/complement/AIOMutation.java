@@ -8,6 +8,7 @@
 package evolutionary_algorithms.complement;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import config.tspDynamic.TSPState;
 
@@ -27,8 +28,19 @@ public class AIOMutation extends Mutation {
 	
 	/**
 	 * @brief Lista que almacena el camino ordenado durante la mutación
+	 *
+	 * Es propia de cada instancia para que dos corridas que mutan a la vez no
+	 * compartan el camino en construcción.
 	 */
-	public static ArrayList<Object> path = new ArrayList<Object>();
+	private final ArrayList<Object> path = new ArrayList<Object>();
+
+	/**
+	 * @brief Camino en construcción de esta instancia
+	 * @return Lista del camino, vacía fuera de una mutación
+	 */
+	public List<Object> getPath() {
+		return path;
+	}
 
 	/**
 	 * @brief Aplica la mutación AIOM al estado dado
@@ -92,7 +104,7 @@ public class AIOMutation extends Mutation {
 	/**
 	 * @brief Inicializa el camino con índices secuenciales
 	 */
-	public static void fillPath() {
+	public void fillPath() {
 		for(int k = 0; k < Strategy.getStrategy().getProblem().getCodification().getVariableCount(); k++){
 			path.add(k);
 		}
@@ -39,6 +39,12 @@ public class GenerationalReplace extends Replace {
 		if (listState == null) {
 			listState = new java.util.ArrayList<State>();
 		}
+		if (listState instanceof Population && !listState.isEmpty()) {
+			Population population = (Population) listState;
+			population.discard(0);
+			population.add(stateCandidate);
+			return population;
+		}
 		if (listState.isEmpty()) {
 			listState.add(stateCandidate);
 		} else {
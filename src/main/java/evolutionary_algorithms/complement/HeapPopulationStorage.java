@@ -0,0 +1,94 @@
+/**
+ * @file HeapPopulationStorage.java
+ * @brief Almacenamiento de población en arreglos del heap
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+package evolutionary_algorithms.complement;
+
+import java.util.Arrays;
+
+/**
+ * @class HeapPopulationStorage
+ * @brief Genes en un double[] por filas y aptitudes en un double[] paralelo
+ */
+public class HeapPopulationStorage extends PopulationStorage {
+
+	/** @brief Genes por filas, capacity * geneCount posiciones */
+	private double[] genes;
+
+	/** @brief Aptitud por fila */
+	private double[] fitness;
+
+	/**
+	 * @brief Crea un almacenamiento vacío
+	 * @param geneCount Genes por fila
+	 * @param capacity Filas disponibles
+	 */
+	public HeapPopulationStorage(int geneCount, int capacity) {
+		super(geneCount);
+		this.genes = new double[capacity * geneCount];
+		this.fitness = new double[capacity];
+	}
+
+	@Override
+	public PopulationStorageType getType() {
+		return PopulationStorageType.HEAP;
+	}
+
+	@Override
+	public int capacity() {
+		return fitness.length;
+	}
+
+	@Override
+	public void ensureCapacity(int rows) {
+		if (rows > fitness.length) {
+			genes = Arrays.copyOf(genes, rows * geneCount);
+			fitness = Arrays.copyOf(fitness, rows);
+		}
+	}
+
+	@Override
+	public double getGene(int row, int gene) {
+		return genes[row * geneCount + gene];
+	}
+
+	@Override
+	public void setGene(int row, int gene, double value) {
+		genes[row * geneCount + gene] = value;
+	}
+
+	@Override
+	public double getFitness(int row) {
+		return fitness[row];
+	}
+
+	@Override
+	public void setFitness(int row, double value) {
+		fitness[row] = value;
+	}
+
+	@Override
+	public void copyRows(int from, int to, int count) {
+		System.arraycopy(genes, from * geneCount, genes, to * geneCount, count * geneCount);
+		System.arraycopy(fitness, from, fitness, to, count);
+	}
+
+	@Override
+	public void copyRow(PopulationStorage source, int sourceRow, int row) {
+		if (source instanceof HeapPopulationStorage) {
+			HeapPopulationStorage heap = (HeapPopulationStorage) source;
+			System.arraycopy(heap.genes, sourceRow * geneCount, genes, row * geneCount, geneCount);
+			fitness[row] = heap.fitness[sourceRow];
+		} else {
+			super.copyRow(source, sourceRow, row);
+		}
+	}
+
+	@Override
+	public void getRow(int row, double[] target) {
+		System.arraycopy(genes, row * geneCount, target, 0, geneCount);
+	}
+}
@@ -0,0 +1,182 @@
+/**
+ * @file OffHeapPopulationStorage.java
+ * @brief Almacenamiento de población fuera del heap, en memoria directa o en archivo
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+package evolutionary_algorithms.complement;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * @class OffHeapPopulationStorage
+ * @brief Filas guardadas en ByteBuffer directos o proyectados desde un archivo
+ *
+ * Cada fila ocupa (genes + 1) doubles: la aptitud seguida de los genes. Las
+ * filas se agrupan en segmentos de hasta 1 GiB que nunca parten una fila, de
+ * modo que la población puede superar los 2 GiB de un solo ByteBuffer. Crecer
+ * solo agrega segmentos: las filas existentes no se copian.
+ *
+ * Sin directorio los segmentos son ByteBuffer.allocateDirect y la memoria se
+ * devuelve cuando el recolector libera los buffers. Con directorio se crea un
+ * archivo temporal y cada segmento es una región proyectada con
+ * FileChannel.map, así que el tamaño queda acotado por el disco y el sistema
+ * operativo decide qué páginas mantener en RAM. close() cierra y borra el
+ * archivo; quien crea el almacenamiento debe cerrarlo, porque no se registra
+ * ningún borrado al salir de la JVM.
+ */
+public class OffHeapPopulationStorage extends PopulationStorage {
+
+	/** @brief Tamaño máximo de un segmento */
+	private static final long MAX_SEGMENT_BYTES = 1L << 30;
+
+	/** @brief Filas mínimas por segmento, para no crear segmentos diminutos */
+	private static final int MIN_SEGMENT_ROWS = 64;
+
+	/** @brief Bytes de una fila: aptitud más genes */
+	private final int rowBytes;
+
+	/** @brief Filas por segmento */
+	private final int rowsPerSegment;
+
+	/** @brief Segmentos reservados */
+	private ByteBuffer[] segments = new ByteBuffer[0];
+
+	/** @brief Archivo proyectado, null para memoria directa */
+	private Path file;
+
+	/** @brief Canal del archivo proyectado */
+	private FileChannel channel;
+
+	/**
+	 * @brief Crea un almacenamiento fuera del heap
+	 * @param geneCount Genes por fila
+	 * @param capacity Filas disponibles desde el inicio
+	 * @param directory Directorio del archivo temporal, o null para memoria directa
+	 * @throws UncheckedIOException Si no se puede crear el archivo
+	 */
+	public OffHeapPopulationStorage(int geneCount, int capacity, Path directory) {
+		super(geneCount);
+		long bytes = (geneCount + 1L) * Double.BYTES;
+		if (bytes > MAX_SEGMENT_BYTES) {
+			throw new IllegalArgumentException("too many genes per row: " + geneCount);
+		}
+		this.rowBytes = (int) bytes;
+		this.rowsPerSegment = (int) Math.min(MAX_SEGMENT_BYTES / rowBytes, Math.max(capacity, MIN_SEGMENT_ROWS));
+		if (directory != null) {
+			try {
+				file = Files.createTempFile(directory, "population", ".bin");
+				channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		ensureCapacity(capacity);
+	}
+
+	@Override
+	public PopulationStorageType getType() {
+		return file == null ? PopulationStorageType.DIRECT : PopulationStorageType.MAPPED;
+	}
+
+	@Override
+	public int capacity() {
+		return (int) Math.min(Integer.MAX_VALUE, (long) segments.length * rowsPerSegment);
+	}
+
+	@Override
+	public void ensureCapacity(int rows) {
+		if (rows <= capacity()) {
+			return;
+		}
+		int count = (int) ((rows + (long) rowsPerSegment - 1) / rowsPerSegment);
+		int index = segments.length;
+		segments = Arrays.copyOf(segments, count);
+		for (; index < count; index++) {
+			segments[index] = allocate(index);
+		}
+	}
+
+	@Override
+	public double getGene(int row, int gene) {
+		return segments[row / rowsPerSegment].getDouble(offset(row) + (gene + 1) * Double.BYTES);
+	}
+
+	@Override
+	public void setGene(int row, int gene, double value) {
+		segments[row / rowsPerSegment].putDouble(offset(row) + (gene + 1) * Double.BYTES, value);
+	}
+
+	@Override
+	public double getFitness(int row) {
+		return segments[row / rowsPerSegment].getDouble(offset(row));
+	}
+
+	@Override
+	public void setFitness(int row, double value) {
+		segments[row / rowsPerSegment].putDouble(offset(row), value);
+	}
+
+	@Override
+	public void copyRow(PopulationStorage source, int sourceRow, int row) {
+		if (source instanceof OffHeapPopulationStorage && ((OffHeapPopulationStorage) source).rowBytes == rowBytes) {
+			OffHeapPopulationStorage offHeap = (OffHeapPopulationStorage) source;
+			ByteBuffer from = offHeap.segments[sourceRow / offHeap.rowsPerSegment].duplicate();
+			from.limit(offHeap.offset(sourceRow) + rowBytes).position(offHeap.offset(sourceRow));
+			ByteBuffer to = segments[row / rowsPerSegment].duplicate();
+			to.position(offset(row));
+			to.put(from);
+		} else {
+			super.copyRow(source, sourceRow, row);
+		}
+	}
+
+	/**
+	 * @brief Libera los segmentos y, si hay archivo, lo cierra y lo borra
+	 * @throws UncheckedIOException Si falla el cierre del archivo
+	 */
+	@Override
+	public void close() {
+		segments = new ByteBuffer[0];
+		if (channel == null) {
+			return;
+		}
+		try {
+			channel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			channel = null;
+		}
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			// Algunos sistemas no borran un archivo aún proyectado; queda en el directorio indicado
+		}
+	}
+
+	private int offset(int row) {
+		return (row % rowsPerSegment) * rowBytes;
+	}
+
+	private ByteBuffer allocate(int index) {
+		int bytes = rowsPerSegment * rowBytes;
+		if (channel == null) {
+			return ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+		}
+		try {
+			return channel.map(FileChannel.MapMode.READ_WRITE, (long) index * bytes, bytes).order(ByteOrder.nativeOrder());
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
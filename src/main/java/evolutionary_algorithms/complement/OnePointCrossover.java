@@ -10,9 +10,10 @@ package evolutionary_algorithms.complement;
 import java.util.ArrayList;
 import java.util.List;
 
-import config.SecureRandomGenerator;
+import config.RandomService;
 import metaheurictics.strategy.Strategy;
 import problem.definition.State;
+import problem.definition.VectorState;
 
 /**
  * @class OnePointCrossover
@@ -31,16 +32,20 @@ public class OnePointCrossover extends Crossover {
 	 */
 	@Override
 	public State crossover(State father1, State father2, double PC) {
+		if (father1 instanceof VectorState && father1.getClass() == father2.getClass()
+				&& ((VectorState) father1).size() == ((VectorState) father2).size()) {
+			return crossoverVector((VectorState) father1, (VectorState) father2, PC);
+		}
 		State newInd = (State) father1.getCopy();
 
 		List<Object> ind1 = new ArrayList<Object>();
 		List<Object> ind2 = new ArrayList<Object>();
 
-		double number = SecureRandomGenerator.nextDouble();
+		double number = RandomService.nextDouble();
 		if (number <= PC) {
 			// seleccionar posición de corte de forma segura y correcta
 			int maxIndex = Strategy.getStrategy().getProblem().getCodification().getVariableCount() - 1;
-			int pos = SecureRandomGenerator.nextInt(Math.max(1, maxIndex + 1));
+			int pos = RandomService.nextInt(Math.max(1, maxIndex + 1));
 
 			for (int i = 0; i < father1.getCode().size(); i++) {
 				if (i <= pos) {
@@ -53,7 +58,7 @@ public class OnePointCrossover extends Crossover {
 			}
 
 			// generar un número aleatorio 0 o 1; si es 0 me quedo con ind1, si es 1 con ind2.
-			int random = SecureRandomGenerator.nextInt(2);
+			int random = RandomService.nextInt(2);
 			if (random == 0) {
 				newInd.setCode((ArrayList<Object>) ind1);
 			} else {
@@ -62,4 +67,28 @@ public class OnePointCrossover extends Crossover {
 		}
 		return newInd;
 	}
+
+	/**
+	 * @brief Cruce de un punto sobre vectores primitivos del mismo tipo
+	 *
+	 * Consume los mismos números aleatorios que el cruce genérico y produce el
+	 * mismo hijo, pero copia los tramos del array sin crear listas intermedias.
+	 */
+	private State crossoverVector(VectorState father1, VectorState father2, double PC) {
+		VectorState newInd = (VectorState) father1.getCopy();
+		double number = RandomService.nextDouble();
+		if (number <= PC) {
+			int maxIndex = Strategy.getStrategy().getProblem().getCodification().getVariableCount() - 1;
+			int pos = RandomService.nextInt(Math.max(1, maxIndex + 1));
+			int random = RandomService.nextInt(2);
+			int size = newInd.size();
+			int cut = Math.min(pos + 1, size);
+			if (random == 0) {
+				newInd.copyRange(father2, cut, size);
+			} else {
+				newInd.copyRange(father2, 0, cut);
+			}
+		}
+		return newInd;
+	}
 }
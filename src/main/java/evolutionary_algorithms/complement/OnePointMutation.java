@@ -7,9 +7,10 @@
  */
 package evolutionary_algorithms.complement;
 
-import config.SecureRandomGenerator;
+import config.RandomService;
 import metaheurictics.strategy.Strategy;
 import problem.definition.State;
+import problem.definition.VectorState;
 
 /**
  * @class OnePointMutation
@@ -27,11 +28,15 @@ public class OnePointMutation extends Mutation {
 	 */
 	@Override
 	public State mutation(State state, double PM) {
-		double probM = SecureRandomGenerator.nextDouble();
+		double probM = RandomService.nextDouble();
 		if (PM >= probM) {
 			Object key = Strategy.getStrategy().getProblem().getCodification().getAleatoryKey();
 			Object value = Strategy.getStrategy().getProblem().getCodification().getVariableAleatoryValue((Integer) key);
-			state.getCode().set((Integer) key, value);
+			if (state instanceof VectorState && value instanceof Number) {
+				((VectorState) state).setValueAt((Integer) key, ((Number) value).doubleValue());
+			} else {
+				state.getCode().set((Integer) key, value);
+			}
 		}
 		return state;
 	}
@@ -0,0 +1,695 @@
+/**
+ * @file Population.java
+ * @brief Población con genes y aptitudes en arreglos primitivos contiguos
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+package evolutionary_algorithms.complement;
+
+import java.io.Closeable;
+import java.io.UncheckedIOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import metaheuristics.generators.GeneratorType;
+import problem.definition.DoubleVectorState;
+import problem.definition.FitnessComparator;
+import problem.definition.IntVectorState;
+import problem.definition.State;
+import problem.definition.VectorState;
+
+/**
+ * @class Population
+ * @brief Población de individuos mono-objetivo guardada como estructura de arreglos
+ *
+ * Los genes de todos los individuos viven en una matriz por filas y la
+ * aptitud del primer objetivo en una columna paralela, en lugar de un State
+ * con su ArrayList de Object por individuo. Los operadores de selección,
+ * reemplazo, muestreo y distribución reconocen esta clase y trabajan
+ * directamente sobre índices; el resto del código la sigue viendo como una
+ * List de State. get() construye un State nuevo en cada llamada con códigos
+ * Integer o Double según la población, por lo que las modificaciones sobre
+ * ese estado no se reflejan en la fila: para escribir se usa set(), store()
+ * o los accesores por gen.
+ *
+ * La matriz y las aptitudes se guardan en un PopulationStorage: arreglos del
+ * heap, memoria directa o un archivo proyectado, según el
+ * PopulationStorageType elegido. Los números de iteración y los generadores
+ * de cada individuo quedan siempre en el heap.
+ *
+ * Quitar el primer individuo es O(1): las filas libres del principio se
+ * reutilizan al compactar cuando hace falta crecer. Una aptitud NaN indica un
+ * individuo sin evaluar.
+ *
+ * GeneticAlgorithm, EvolutionStrategies y DistributionEstimationAlgorithm
+ * guardan su población de referencia en esta forma cuando se activa con
+ * setEnabled(true). Cada generador cierra la población que creó en
+ * Generator.release(), que Strategy llama al reemplazarlo y al terminar la
+ * corrida.
+ */
+public class Population extends AbstractList<State> implements RandomAccess, Closeable {
+
+	/** @brief Capacidad inicial cuando no se indica otra */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** @brief Uso de poblaciones en arreglos en los generadores evolutivos */
+	private static boolean enabled = false;
+
+	/** @brief Almacenamiento de las poblaciones creadas sin indicar uno */
+	private static PopulationStorageType defaultStorage = PopulationStorageType.HEAP;
+
+	/** @brief Almacenamiento que se crea al fijar la forma de la población */
+	private final PopulationStorageType storageType;
+
+	/** @brief Genes por individuo, -1 mientras la población no tiene forma */
+	private int geneCount;
+
+	/** @brief true si los códigos son Integer, false si son Double */
+	private boolean integral = true;
+
+	/** @brief Genes y aptitudes por fila, null mientras la población no tiene forma */
+	private PopulationStorage storage;
+
+	/** @brief Número de iteración de cada fila */
+	private int[] numbers;
+
+	/** @brief Generador que produjo cada fila */
+	private GeneratorType[] types;
+
+	/** @brief Primera fila ocupada */
+	private int head;
+
+	/** @brief Individuos en la población */
+	private int size;
+
+	/** @brief Filas de la población de origen si es una selección, null si es propietaria */
+	private final int[] rows;
+
+	/**
+	 * @brief Crea una población vacía cuyo ancho se fija con el primer individuo
+	 */
+	public Population() {
+		this(-1, DEFAULT_CAPACITY, defaultStorage);
+	}
+
+	/**
+	 * @brief Crea una población vacía con el almacenamiento indicado
+	 * @param storageType Dónde guardar genes y aptitudes
+	 */
+	public Population(PopulationStorageType storageType) {
+		this(-1, DEFAULT_CAPACITY, storageType);
+	}
+
+	/**
+	 * @brief Crea una población vacía con el almacenamiento por defecto
+	 * @param geneCount Genes por individuo, o -1 para tomarlo del primer individuo
+	 * @param capacity Individuos que caben sin crecer
+	 */
+	public Population(int geneCount, int capacity) {
+		this(geneCount, capacity, defaultStorage);
+	}
+
+	/**
+	 * @brief Crea una población vacía
+	 * @param geneCount Genes por individuo, o -1 para tomarlo del primer individuo
+	 * @param capacity Individuos que caben sin crecer
+	 * @param storageType Dónde guardar genes y aptitudes
+	 */
+	public Population(int geneCount, int capacity, PopulationStorageType storageType) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("capacity must be >= 0: " + capacity);
+		}
+		this.storageType = storageType;
+		this.geneCount = -1;
+		this.numbers = new int[capacity];
+		this.types = new GeneratorType[capacity];
+		this.rows = null;
+		if (geneCount >= 0) {
+			shape(geneCount);
+		}
+	}
+
+	/**
+	 * @brief Selección de solo lectura sobre las filas de otra población
+	 */
+	private Population(Population source, int[] rows, int count) {
+		this.storageType = source.storageType;
+		this.geneCount = source.geneCount;
+		this.integral = source.integral;
+		this.storage = source.storage;
+		this.numbers = source.numbers;
+		this.types = source.types;
+		this.rows = rows;
+		this.size = count;
+	}
+
+	/**
+	 * @brief Activa o desactiva las poblaciones en arreglos en GA, ES y EDA.
+	 *
+	 * Solo afecta a los generadores creados después de la llamada.
+	 *
+	 * @param enabled true para que los generadores evolutivos usen Population
+	 */
+	public static void setEnabled(boolean enabled) {
+		Population.enabled = enabled;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * @brief Almacenamiento de las poblaciones creadas sin indicar uno, incluidas las de adopt()
+	 * @param storageType HEAP, DIRECT o MAPPED
+	 */
+	public static void setDefaultStorage(PopulationStorageType storageType) {
+		if (storageType == null) {
+			throw new IllegalArgumentException("storageType must not be null");
+		}
+		defaultStorage = storageType;
+	}
+
+	public static PopulationStorageType getDefaultStorage() {
+		return defaultStorage;
+	}
+
+	/**
+	 * @brief Copia una lista de estados a una población con el almacenamiento por defecto
+	 * @param states Estados con la misma cantidad de genes, todos Integer o todos Double
+	 * @return Nueva población con los mismos individuos en el mismo orden
+	 * @throws IllegalArgumentException Si algún estado no se puede representar
+	 */
+	public static Population of(List<State> states) {
+		return of(states, defaultStorage);
+	}
+
+	/**
+	 * @brief Copia una lista de estados a una población
+	 * @param states Estados con la misma cantidad de genes, todos Integer o todos Double
+	 * @param storageType Dónde guardar genes y aptitudes
+	 * @return Nueva población con los mismos individuos en el mismo orden
+	 * @throws IllegalArgumentException Si algún estado no se puede representar
+	 */
+	public static Population of(List<State> states, PopulationStorageType storageType) {
+		if (states instanceof Population) {
+			return ((Population) states).copy(storageType);
+		}
+		Population population = new Population(-1, Math.max(DEFAULT_CAPACITY, states.size()), storageType);
+		for (int i = 0; i < states.size(); i++) {
+			population.add(states.get(i));
+		}
+		return population;
+	}
+
+	/**
+	 * @brief Convierte la población de un generador si las poblaciones en arreglos están activas
+	 * @param states Lista de referencia del generador
+	 * @return Una Population equivalente, o la misma lista si está desactivado,
+	 *         ya es una Population, algún estado no se puede representar o no
+	 *         se pudo crear el almacenamiento
+	 */
+	public static List<State> adopt(List<State> states) {
+		if (!enabled || states == null || states instanceof Population) {
+			return states;
+		}
+		try {
+			return of(states);
+		} catch (IllegalArgumentException | UncheckedIOException e) {
+			return states;
+		}
+	}
+
+	/**
+	 * @brief Mejor estado de una lista, sin materializar los individuos de una Population
+	 * @param states Lista no vacía
+	 * @param fitness Sentido del objetivo
+	 * @return El mejor estado; en caso de empate el de menor índice
+	 */
+	public static State best(List<State> states, FitnessComparator fitness) {
+		if (states instanceof Population) {
+			Population population = (Population) states;
+			return population.get(population.bestIndex(fitness));
+		}
+		return fitness.best(states);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @brief Genes por individuo
+	 * @return Ancho de la matriz, 0 si la población aún no tiene forma
+	 */
+	public int getGeneCount() {
+		return Math.max(geneCount, 0);
+	}
+
+	/**
+	 * @brief Indica si los genes se materializan como Integer
+	 * @return true para códigos enteros
+	 */
+	public boolean isIntegral() {
+		return integral;
+	}
+
+	/**
+	 * @brief Dónde guarda esta población sus genes y aptitudes
+	 * @return HEAP, DIRECT o MAPPED
+	 */
+	public PopulationStorageType getStorageType() {
+		return storageType;
+	}
+
+	/**
+	 * @brief Indica si la población es una selección de solo lectura de otra
+	 * @return true para los resultados de select()
+	 */
+	public boolean isView() {
+		return rows != null;
+	}
+
+	public double getGene(int index, int gene) {
+		return storage.getGene(row(index), checkGene(gene));
+	}
+
+	public void setGene(int index, int gene, double value) {
+		checkWritable();
+		storage.setGene(row(index), checkGene(gene), integral ? Math.round(value) : value);
+	}
+
+	/**
+	 * @brief Copia los genes de un individuo
+	 * @param index Índice del individuo
+	 * @param target Arreglo de al menos getGeneCount() posiciones
+	 */
+	public void copyGenes(int index, double[] target) {
+		storage.getRow(row(index), target);
+	}
+
+	public double getFitness(int index) {
+		return storage.getFitness(row(index));
+	}
+
+	public void setFitness(int index, double value) {
+		checkWritable();
+		storage.setFitness(row(index), value);
+	}
+
+	/**
+	 * @brief Materializa un individuo como State
+	 * @param index Índice del individuo
+	 * @return Estado nuevo con una copia de los genes y la aptitud
+	 */
+	@Override
+	public State get(int index) {
+		int row = row(index);
+		int width = getGeneCount();
+		ArrayList<Object> code = new ArrayList<Object>(width);
+		for (int g = 0; g < width; g++) {
+			if (integral) {
+				code.add((int) storage.getGene(row, g));
+			} else {
+				code.add(storage.getGene(row, g));
+			}
+		}
+		State state = new State(code);
+		double value = storage.getFitness(row);
+		if (!Double.isNaN(value)) {
+			ArrayList<Double> evaluation = new ArrayList<Double>(1);
+			evaluation.add(value);
+			state.setEvaluation(evaluation);
+		}
+		state.setNumber(numbers[row]);
+		state.setTypeGenerator(types[row]);
+		return state;
+	}
+
+	/**
+	 * @brief Sobrescribe un individuo y devuelve el anterior materializado
+	 */
+	@Override
+	public State set(int index, State state) {
+		State previous = get(index);
+		store(index, state);
+		return previous;
+	}
+
+	/**
+	 * @brief Sobrescribe un individuo sin materializar el anterior
+	 * @param index Índice del individuo
+	 * @param state Estado cuyos genes, aptitud y metadatos se copian
+	 */
+	public void store(int index, State state) {
+		checkWritable();
+		int row = row(index);
+		checkCode(state);
+		write(row, state);
+	}
+
+	@Override
+	public void add(int index, State state) {
+		checkWritable();
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+		}
+		checkCode(state);
+		ensureCapacity(size + 1);
+		int row = head + index;
+		if (index < size) {
+			storage.copyRows(row, row + 1, size - index);
+			System.arraycopy(numbers, row, numbers, row + 1, size - index);
+			System.arraycopy(types, row, types, row + 1, size - index);
+		}
+		write(row, state);
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public State remove(int index) {
+		State previous = get(index);
+		discard(index);
+		return previous;
+	}
+
+	/**
+	 * @brief Quita un individuo sin materializarlo; quitar el primero es O(1)
+	 * @param index Índice del individuo
+	 */
+	public void discard(int index) {
+		checkWritable();
+		int row = row(index);
+		if (index == 0) {
+			types[head] = null;
+			head++;
+		} else {
+			int moved = size - index - 1;
+			storage.copyRows(row + 1, row, moved);
+			System.arraycopy(numbers, row + 1, numbers, row, moved);
+			System.arraycopy(types, row + 1, types, row, moved);
+			types[head + size - 1] = null;
+		}
+		size--;
+		if (size == 0) {
+			head = 0;
+		}
+		modCount++;
+	}
+
+	@Override
+	public void clear() {
+		checkWritable();
+		Arrays.fill(types, null);
+		head = 0;
+		size = 0;
+		modCount++;
+	}
+
+	/**
+	 * @brief Libera el almacenamiento; la población queda vacía y sin forma
+	 *
+	 * Con MAPPED borra el archivo temporal. En una selección no hace nada,
+	 * porque el almacenamiento pertenece a la población de origen.
+	 */
+	@Override
+	public void close() {
+		if (rows != null || storage == null) {
+			return;
+		}
+		storage.close();
+		storage = null;
+		geneCount = -1;
+		clear();
+	}
+
+	/**
+	 * @brief Busca un individuo con los mismos genes y aptitud
+	 *
+	 * Las filas no tienen identidad, así que la búsqueda compara valores en
+	 * lugar de usar equals().
+	 *
+	 * @param o Estado buscado
+	 * @return Índice del primer individuo igual, o -1
+	 */
+	@Override
+	public int indexOf(Object o) {
+		if (!(o instanceof State)) {
+			return -1;
+		}
+		State state = (State) o;
+		int width = getGeneCount();
+		if (state.codeSize() != width) {
+			return -1;
+		}
+		double value = state.evalSize() == 0 ? Double.NaN : state.evalAt(0);
+		for (int i = 0; i < size; i++) {
+			int row = physical(i);
+			if (Double.compare(storage.getFitness(row), value) != 0) {
+				continue;
+			}
+			boolean same = true;
+			for (int g = 0; g < width && same; g++) {
+				same = storage.getGene(row, g) == geneOf(state, g);
+			}
+			if (same) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return indexOf(o) >= 0;
+	}
+
+	/**
+	 * @brief Índice del mejor individuo
+	 * @param fitness Sentido del objetivo
+	 * @return Primer índice con la mejor aptitud
+	 */
+	public int bestIndex(FitnessComparator fitness) {
+		int best = 0;
+		for (int i = 1; i < size; i++) {
+			if (fitness.isBetter(fitnessAt(i), fitnessAt(best))) {
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * @brief Índice del peor individuo
+	 * @param fitness Sentido del objetivo
+	 * @return Primer índice con la peor aptitud
+	 */
+	public int worstIndex(FitnessComparator fitness) {
+		int worst = 0;
+		for (int i = 1; i < size; i++) {
+			if (fitness.isBetter(fitnessAt(worst), fitnessAt(i))) {
+				worst = i;
+			}
+		}
+		return worst;
+	}
+
+	/**
+	 * @brief Índices ordenados del mejor al peor sin modificar la población
+	 *
+	 * El orden es estable: a igual aptitud se conserva el orden de la población.
+	 *
+	 * @param fitness Sentido del objetivo
+	 * @return Permutación de 0..size()-1
+	 */
+	public int[] orderBestFirst(FitnessComparator fitness) {
+		int[] order = new int[size];
+		for (int i = 0; i < size; i++) {
+			order[i] = i;
+		}
+		mergeSort(order, new int[size], 0, size, fitness);
+		return order;
+	}
+
+	/**
+	 * @brief Selección de solo lectura sobre un subconjunto de individuos
+	 *
+	 * No copia genes: la selección comparte el almacenamiento y lee las filas
+	 * de esta población, así que solo es válida hasta la siguiente
+	 * modificación de esta población. Un índice puede repetirse.
+	 *
+	 * @param indices Índices a tomar, en orden; null para tomar los primeros
+	 * @param count Cantidad de índices usados
+	 * @return Población de count individuos que no admite escrituras
+	 */
+	public Population select(int[] indices, int count) {
+		int[] selected = new int[count];
+		for (int i = 0; i < count; i++) {
+			selected[i] = row(indices == null ? i : indices[i]);
+		}
+		return new Population(this, selected, count);
+	}
+
+	/**
+	 * @brief Copia los individuos a una población propietaria nueva
+	 * @param storageType Almacenamiento de la copia
+	 * @return Población independiente con los mismos individuos en el mismo orden
+	 */
+	public Population copy(PopulationStorageType storageType) {
+		Population copy = new Population(geneCount, Math.max(DEFAULT_CAPACITY, size), storageType);
+		copy.integral = integral;
+		for (int i = 0; i < size; i++) {
+			int row = physical(i);
+			copy.storage.copyRow(storage, row, i);
+			copy.numbers[i] = numbers[row];
+			copy.types[i] = types[row];
+		}
+		copy.size = size;
+		return copy;
+	}
+
+	private void mergeSort(int[] order, int[] buffer, int from, int to, FitnessComparator fitness) {
+		if (to - from < 2) {
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		mergeSort(order, buffer, from, middle, fitness);
+		mergeSort(order, buffer, middle, to, fitness);
+		System.arraycopy(order, from, buffer, from, to - from);
+		int left = from;
+		int right = middle;
+		for (int i = from; i < to; i++) {
+			if (right >= to || (left < middle
+					&& !fitness.isBetter(fitnessAt(buffer[right]), fitnessAt(buffer[left])))) {
+				order[i] = buffer[left++];
+			} else {
+				order[i] = buffer[right++];
+			}
+		}
+	}
+
+	private void write(int row, State state) {
+		int width = getGeneCount();
+		for (int g = 0; g < width; g++) {
+			storage.setGene(row, g, geneOf(state, g));
+		}
+		storage.setFitness(row, state.evalSize() == 0 ? Double.NaN : state.evalAt(0));
+		numbers[row] = state.getNumber();
+		types[row] = state.getTypeGenerator();
+	}
+
+	private static double geneOf(State state, int gene) {
+		if (state instanceof VectorState) {
+			return ((VectorState) state).valueAt(gene);
+		}
+		return ((Number) state.codeAt(gene)).doubleValue();
+	}
+
+	/**
+	 * @brief Crea el almacenamiento al conocerse los genes por individuo
+	 */
+	private void shape(int width) {
+		storage = PopulationStorage.create(storageType, width, numbers.length);
+		geneCount = width;
+	}
+
+	/**
+	 * @brief Comprueba que un estado tenga la forma y el tipo de gen de la población
+	 *
+	 * El primer estado agregado a una población vacía fija ambos.
+	 */
+	private void checkCode(State state) {
+		if (state == null) {
+			throw new IllegalArgumentException("state must not be null");
+		}
+		if (state.evalSize() > 1) {
+			throw new IllegalArgumentException("multi-objective states are not supported");
+		}
+		int width = state.codeSize();
+		boolean stateIntegral;
+		if (state instanceof IntVectorState) {
+			stateIntegral = true;
+		} else if (state instanceof DoubleVectorState) {
+			stateIntegral = false;
+		} else {
+			if (width == 0) {
+				stateIntegral = integral;
+			} else {
+				stateIntegral = state.codeAt(0) instanceof Integer;
+			}
+			for (int g = 0; g < width; g++) {
+				Object value = state.codeAt(g);
+				if (!(stateIntegral ? value instanceof Integer : value instanceof Double)) {
+					throw new IllegalArgumentException("gene " + g + " is not " + (stateIntegral ? "an Integer" : "a Double") + ": " + value);
+				}
+			}
+		}
+		if (geneCount < 0 && size == 0) {
+			integral = stateIntegral;
+			shape(width);
+			return;
+		}
+		if (width != getGeneCount() || stateIntegral != integral) {
+			throw new IllegalArgumentException("state does not match the population: " + width + " genes, integral=" + stateIntegral);
+		}
+	}
+
+	/**
+	 * @brief Garantiza espacio para un individuo más al final
+	 *
+	 * Si hay muchas filas libres al principio se compactan antes de crecer.
+	 */
+	private void ensureCapacity(int required) {
+		int capacity = numbers.length;
+		if (head + required <= capacity) {
+			return;
+		}
+		if (head > 0 && (required > capacity || head >= capacity / 4)) {
+			storage.copyRows(head, 0, size);
+			System.arraycopy(numbers, head, numbers, 0, size);
+			System.arraycopy(types, head, types, 0, size);
+			Arrays.fill(types, size, capacity, null);
+			head = 0;
+			if (required <= capacity) {
+				return;
+			}
+		}
+		int grown = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(required, capacity + (capacity >> 1) + 1L));
+		storage.ensureCapacity(grown);
+		numbers = Arrays.copyOf(numbers, grown);
+		types = Arrays.copyOf(types, grown);
+	}
+
+	private double fitnessAt(int index) {
+		return storage.getFitness(physical(index));
+	}
+
+	private int physical(int index) {
+		return rows == null ? head + index : rows[index];
+	}
+
+	private int row(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("index " + index + ", size " + size);
+		}
+		return physical(index);
+	}
+
+	private int checkGene(int gene) {
+		if (gene < 0 || gene >= getGeneCount()) {
+			throw new IndexOutOfBoundsException("gene " + gene + ", genes " + getGeneCount());
+		}
+		return gene;
+	}
+
+	private void checkWritable() {
+		if (rows != null) {
+			throw new UnsupportedOperationException("a selection of a population is read-only");
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/**
+ * @file PopulationStorage.java
+ * @brief Almacenamiento de la matriz de genes y las aptitudes de una Population
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+package evolutionary_algorithms.complement;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * @class PopulationStorage
+ * @brief Filas de genes con su aptitud, accedidas por número de fila
+ *
+ * Population traduce sus índices a filas y delega aquí la lectura y
+ * escritura de genes y aptitudes, de modo que los operadores de selección,
+ * reemplazo, muestreo y distribución no dependen de dónde viven los datos.
+ * La cantidad de genes por fila se fija al crear el almacenamiento.
+ */
+public abstract class PopulationStorage implements Closeable {
+
+	/** @brief Directorio de los archivos de MAPPED, null para el temporal del sistema */
+	private static Path mappedDirectory;
+
+	/** @brief Genes por fila */
+	protected final int geneCount;
+
+	protected PopulationStorage(int geneCount) {
+		if (geneCount < 0) {
+			throw new IllegalArgumentException("geneCount must be >= 0: " + geneCount);
+		}
+		this.geneCount = geneCount;
+	}
+
+	/**
+	 * @brief Crea un almacenamiento del tipo indicado
+	 * @param type Tipo de almacenamiento
+	 * @param geneCount Genes por fila
+	 * @param capacity Filas mínimas disponibles
+	 * @return Almacenamiento vacío con al menos capacity filas
+	 * @throws java.io.UncheckedIOException Si no se puede crear el archivo de MAPPED
+	 */
+	public static PopulationStorage create(PopulationStorageType type, int geneCount, int capacity) {
+		switch (type) {
+		case DIRECT:
+			return new OffHeapPopulationStorage(geneCount, capacity, null);
+		case MAPPED:
+			Path directory = mappedDirectory != null ? mappedDirectory : Paths.get(System.getProperty("java.io.tmpdir"));
+			return new OffHeapPopulationStorage(geneCount, capacity, directory);
+		default:
+			return new HeapPopulationStorage(geneCount, capacity);
+		}
+	}
+
+	/**
+	 * @brief Directorio donde MAPPED crea sus archivos temporales
+	 * @param directory Directorio existente, o null para java.io.tmpdir
+	 */
+	public static void setMappedDirectory(Path directory) {
+		mappedDirectory = directory;
+	}
+
+	public static Path getMappedDirectory() {
+		return mappedDirectory;
+	}
+
+	public int getGeneCount() {
+		return geneCount;
+	}
+
+	/**
+	 * @brief Tipo de almacenamiento
+	 * @return HEAP, DIRECT o MAPPED
+	 */
+	public abstract PopulationStorageType getType();
+
+	/**
+	 * @brief Filas disponibles
+	 * @return Capacidad actual, puede ser mayor que la pedida
+	 */
+	public abstract int capacity();
+
+	/**
+	 * @brief Garantiza al menos rows filas conservando el contenido
+	 * @param rows Filas requeridas
+	 */
+	public abstract void ensureCapacity(int rows);
+
+	public abstract double getGene(int row, int gene);
+
+	public abstract void setGene(int row, int gene, double value);
+
+	public abstract double getFitness(int row);
+
+	public abstract void setFitness(int row, double value);
+
+	/**
+	 * @brief Copia filas dentro del almacenamiento; los rangos pueden solaparse
+	 * @param from Primera fila de origen
+	 * @param to Primera fila de destino
+	 * @param count Cantidad de filas
+	 */
+	public void copyRows(int from, int to, int count) {
+		if (from == to || count == 0) {
+			return;
+		}
+		if (from > to) {
+			for (int i = 0; i < count; i++) {
+				copyRow(this, from + i, to + i);
+			}
+		} else {
+			for (int i = count - 1; i >= 0; i--) {
+				copyRow(this, from + i, to + i);
+			}
+		}
+	}
+
+	/**
+	 * @brief Copia una fila desde otro almacenamiento con los mismos genes por fila
+	 * @param source Almacenamiento de origen
+	 * @param sourceRow Fila de origen
+	 * @param row Fila de destino
+	 */
+	public void copyRow(PopulationStorage source, int sourceRow, int row) {
+		for (int g = 0; g < geneCount; g++) {
+			setGene(row, g, source.getGene(sourceRow, g));
+		}
+		setFitness(row, source.getFitness(sourceRow));
+	}
+
+	/**
+	 * @brief Copia los genes de una fila
+	 * @param row Fila
+	 * @param target Arreglo de al menos getGeneCount() posiciones
+	 */
+	public void getRow(int row, double[] target) {
+		for (int g = 0; g < geneCount; g++) {
+			target[g] = getGene(row, g);
+		}
+	}
+
+	/**
+	 * @brief Libera los recursos externos; el almacenamiento no se usa después
+	 */
+	@Override
+	public void close() {
+	}
+}
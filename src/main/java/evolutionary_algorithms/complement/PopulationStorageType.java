@@ -0,0 +1,21 @@
+/**
+ * @file PopulationStorageType.java
+ * @brief Enumeración de almacenamientos de genes y aptitudes de una Population
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+package evolutionary_algorithms.complement;
+
+/**
+ * @enum PopulationStorageType
+ * @brief Dónde guarda una Population la matriz de genes y las aptitudes
+ */
+public enum PopulationStorageType {
+	/** Arreglos double[] en el heap */
+	HEAP,
+	/** ByteBuffer directos fuera del heap */
+	DIRECT,
+	/** Archivo temporal proyectado en memoria */
+	MAPPED;
+}
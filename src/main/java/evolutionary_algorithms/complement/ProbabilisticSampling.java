@@ -8,9 +8,10 @@
 package evolutionary_algorithms.complement;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-import config.SecureRandomGenerator;
+import config.RandomService;
 import metaheurictics.strategy.Strategy;
 import metaheuristics.generators.GeneratorType;
 import problem.definition.State;
@@ -31,8 +32,11 @@ public class ProbabilisticSampling extends Sampling {
 	 */
 	@Override
 	public List<State> sampling(List<State> fathers, int countInd) {
+		if (fathers instanceof Population) {
+			return sampling((Population) fathers, countInd);
+		}
 		int cantV = fathers.get(0).getCode().size();
-		List<State> staList = listState(countInd);
+		List<ArrayList<Object>> codes = listCode(countInd, cantV);
 		for (int i = 0; i < cantV; i++) {
 			Object[] values = new Object[fathers.size()]; // arreglo de valores de una variable
 			Object[] arrtemp = new Object[Strategy.getStrategy().getProblem().getPossibleValue()];
@@ -63,11 +67,11 @@ public class ProbabilisticSampling extends Sampling {
 			for (int l = 0; l < countInd; l++) {
 				boolean find = false;
 				int p = 0;
-				int random = SecureRandomGenerator.nextInt(Math.max(1, sum)) + 1;
+				int random = RandomService.nextInt(Math.max(1, sum)) + 1;
 				while (p < arrOcc.length && !find) {
 					random = random - arrOcc[p];
 					if (random <= 0) {
-						staList.get(l).getCode().add(arrtemp[p]);
+						codes.get(l).add(arrtemp[p]);
 						find = true;
 					} else {
 						p++;
@@ -75,12 +79,84 @@ public class ProbabilisticSampling extends Sampling {
 				}
 				if (!find) {
 					int bound = Math.max(1, Strategy.getStrategy().getProblem().getCodification().getVariableCount() * 10);
-					int value = SecureRandomGenerator.nextInt(bound);
-					staList.get(l).getCode().add(value);
+					int value = RandomService.nextInt(bound);
+					codes.get(l).add(value);
 				}
 
 			}
 		}
+		return listState(codes);
+	}
+
+	/**
+	 * @brief Muestreo que cuenta las ocurrencias directamente sobre las columnas de genes
+	 *
+	 * Consume los mismos números aleatorios que la versión sobre listas.
+	 *
+	 * @param fathers Población de padres con genes enteros
+	 * @param countInd Número de individuos a generar
+	 * @return Lista de estados generados
+	 */
+	private List<State> sampling(Population fathers, int countInd) {
+		int cantV = fathers.getGeneCount();
+		List<ArrayList<Object>> codes = listCode(countInd, cantV);
+		int[] arrOcc = new int[Strategy.getStrategy().getProblem().getPossibleValue()];
+		for (int i = 0; i < cantV; i++) {
+			Arrays.fill(arrOcc, 0);
+			int sum = 0;
+			for (int j = 0; j < fathers.size(); j++) {
+				double value = fathers.getGene(j, i);
+				if (value >= 0 && value < arrOcc.length) {
+					arrOcc[(int) value]++;
+					sum++;
+				}
+			}
+			for (int l = 0; l < countInd; l++) {
+				int random = RandomService.nextInt(Math.max(1, sum)) + 1;
+				int p = 0;
+				while (p < arrOcc.length && random - arrOcc[p] > 0) {
+					random = random - arrOcc[p];
+					p++;
+				}
+				if (p < arrOcc.length) {
+					codes.get(l).add(p);
+				} else {
+					int bound = Math.max(1, Strategy.getStrategy().getProblem().getCodification().getVariableCount() * 10);
+					codes.get(l).add(RandomService.nextInt(bound));
+				}
+			}
+		}
+		return listState(codes);
+	}
+
+	/**
+	 * @brief Reserva las codificaciones de los individuos a generar
+	 *
+	 * getCode() devuelve una copia, así que los genes se acumulan aquí y se
+	 * asignan a cada estado al terminar el muestreo.
+	 *
+	 * @param countInd Número de individuos
+	 * @param cantV Número de variables por individuo
+	 * @return Lista de codificaciones vacías
+	 */
+	private List<ArrayList<Object>> listCode(int countInd, int cantV) {
+		List<ArrayList<Object>> codes = new ArrayList<ArrayList<Object>>(countInd);
+		for (int i = 0; i < countInd; i++) {
+			codes.add(new ArrayList<Object>(cantV));
+		}
+		return codes;
+	}
+
+	/**
+	 * @brief Crea los individuos muestreados con sus codificaciones
+	 * @param codes Codificación de cada individuo
+	 * @return Lista de estados
+	 */
+	private List<State> listState(List<ArrayList<Object>> codes) {
+		List<State> staList = listState(codes.size());
+		for (int i = 0; i < codes.size(); i++) {
+			staList.get(i).setCode(codes.get(i));
+		}
 		return staList;
 	}
 
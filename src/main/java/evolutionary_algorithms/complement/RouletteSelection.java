@@ -10,6 +10,8 @@ package evolutionary_algorithms.complement;
 import java.util.ArrayList;
 import java.util.List;
 
+import config.RandomService;
+
 import metaheuristics.generators.LimitRoulette;
 
 import problem.definition.State;
@@ -36,7 +38,7 @@ public class RouletteSelection extends FatherSelection {
 		for (int i = 0; i < listState.size(); i++) {
 			total  = total + listState.get(i).getEvaluation().get(0);
 		}
-		double number = (double) Math.random() * (double)(total);
+		double number = (double) RandomService.nextDouble() * (double)(total);
 
 		for (int i = 0; i < listState.size(); i++) {
 		  sum = sum + listState.get(i).getEvaluation().get(0);
@@ -45,13 +47,16 @@ public class RouletteSelection extends FatherSelection {
 		}
 		return fatherList;
 	 */
+		if (listState instanceof Population) {
+			return selection((Population) listState);
+		}
 		float totalWeight = 0;
 		for (int i = 0; i < listState.size(); i++) {
-			totalWeight = (float) (listState.get(i).getEvaluation().get(0) + totalWeight);
+			totalWeight = (float) (listState.get(i).evalAt(0) + totalWeight);
 		}
 		List<Float> listProb = new ArrayList<Float>();
 		for (int i = 0; i < listState.size(); i++) {
-			float probF = (float) (listState.get(i).getEvaluation().get(0) / totalWeight);
+			float probF = (float) (listState.get(i).evalAt(0) / totalWeight);
 			listProb.add(probF);
 		}
 		List<LimitRoulette> listLimit = new ArrayList<LimitRoulette>();
@@ -68,7 +73,7 @@ public class RouletteSelection extends FatherSelection {
 		}
 		List<State> fatherList = new ArrayList<State>();
 		for (int j = 0; j < listState.size(); j++) {
-			float numbAleatory = (float) (Math.random() * (double)(1));
+			float numbAleatory = (float) (RandomService.nextDouble() * (double)(1));
 			boolean find = false;
 			int i = 0;
 			while ((find == false) && (i < listLimit.size())){
@@ -81,4 +86,37 @@ public class RouletteSelection extends FatherSelection {
 		}
 		return fatherList;
 	}
+
+	/**
+	 * @brief Ruleta sobre las aptitudes de una Population, con los mismos límites y sorteos
+	 * @param population Población de origen
+	 * @return Población con los individuos elegidos
+	 */
+	private Population selection(Population population) {
+		int size = population.size();
+		float totalWeight = 0;
+		for (int i = 0; i < size; i++) {
+			totalWeight = (float) (population.getFitness(i) + totalWeight);
+		}
+		float[] limitHigh = new float[size];
+		float high = 0;
+		for (int i = 0; i < size; i++) {
+			high = (float) (population.getFitness(i) / totalWeight) + high;
+			limitHigh[i] = high;
+		}
+		int[] chosen = new int[size];
+		int count = 0;
+		for (int j = 0; j < size; j++) {
+			float numbAleatory = (float) (RandomService.nextDouble() * (double)(1));
+			float low = 0;
+			for (int i = 0; i < size; i++) {
+				if (low <= numbAleatory && numbAleatory <= limitHigh[i]) {
+					chosen[count++] = i;
+					break;
+				}
+				low = limitHigh[i];
+			}
+		}
+		return population.select(chosen, count);
+	}
 }
@@ -10,8 +10,8 @@ package evolutionary_algorithms.complement;
 
 import java.util.List;
 import metaheurictics.strategy.Strategy;
+import problem.definition.FitnessComparator;
 import problem.definition.State;
-import problem.definition.Problem.ProblemType;
 
 
 /**
@@ -30,36 +30,21 @@ public class SteadyStateReplace extends Replace {
 	 */
 	@Override
 	public List<State> replace(State stateCandidate, List<State> listState) {
-		State stateREP = null;
-		if (Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)) {
-			stateREP = MinValue(listState);
-			if(stateCandidate.getEvaluation().get(0) >= stateREP.getEvaluation().get(0)){
-				Boolean find = false;
-		        int count = 0;
-		        while ((find.equals(false)) && (listState.size() > count)){
-		        	if(listState.get(count).equals(stateREP)){
-		        		listState.remove(count);
-						listState.add(count, stateCandidate);
-						find = true;
-					}
-		        	else count ++;
-				}
+		FitnessComparator fitness = FitnessComparator.of(Strategy.getStrategy().getProblem().getTypeProblem());
+		if (listState instanceof Population) {
+			Population population = (Population) listState;
+			int worst = population.worstIndex(fitness);
+			if (fitness.isBetterOrEqual(stateCandidate.evalAt(0), population.getFitness(worst))) {
+				population.store(worst, stateCandidate);
 			}
+			return population;
 		}
-		else{
-			if(Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MINIMIZAR)){
-				stateREP = MaxValue(listState);
-				if(stateCandidate.getEvaluation().get(0) <= stateREP.getEvaluation().get(0)){
-					Boolean find = false;
-			        int count = 0;
-			        while ((find.equals(false)) && (listState.size() > count)){
-			        	if(listState.get(count).equals(stateREP)){
-			        		listState.remove(count);
-							listState.add(count, stateCandidate);
-							find = true;
-						}
-			        	else count ++;
-					}
+		State stateREP = fitness.worst(listState);
+		if (fitness.isBetterOrEqual(stateCandidate.evalAt(0), stateREP.evalAt(0))) {
+			for (int count = 0; count < listState.size(); count++) {
+				if (listState.get(count).equals(stateREP)) {
+					listState.set(count, stateCandidate);
+					break;
 				}
 			}
 		}
@@ -72,15 +57,7 @@ public class SteadyStateReplace extends Replace {
 	 * @return Estado con el valor mínimo de evaluación
 	 */
 	public State MinValue (List<State> listState){
-		State value = listState.get(0);
-		double min = listState.get(0).getEvaluation().get(0);
-		for (int i = 1; i < listState.size(); i++) {
-			if(listState.get(i).getEvaluation().get(0) < min){
-				min = listState.get(i).getEvaluation().get(0);
-				value = listState.get(i);
-			}
-		}
-		return value;
+		return FitnessComparator.MINIMIZE.best(listState);
 	}
 	
 	/**
@@ -89,14 +66,6 @@ public class SteadyStateReplace extends Replace {
 	 * @return Estado con el valor máximo de evaluación
 	 */
 	public State MaxValue (List<State> listState){
-		State value = listState.get(0);
-		double max = listState.get(0).getEvaluation().get(0);
-		for (int i = 1; i < listState.size(); i++) {
-			if(listState.get(i).getEvaluation().get(0) > max){
-				max = listState.get(i).getEvaluation().get(0);
-				value = listState.get(i);
-			}
-		}
-		return value;
+		return FitnessComparator.MAXIMIZE.best(listState);
 	}
 }
@@ -8,6 +8,7 @@
 package evolutionary_algorithms.complement;
 
 
+import config.RandomService;
 import metaheurictics.strategy.Strategy;
 import problem.definition.State;
 
@@ -22,8 +23,8 @@ public class TowPointsMutation extends Mutation {
 	/*@Override
 	public ProblemState mutation(SortedMap<Object, Object> newind, double PM) {
 		
-		int pos1 = (int) (Math.random() * (int)Problem.countvariable);
-		int pos2 = (int) (Math.random() * (int)Problem.countvariable);
+		int pos1 = (int) (RandomService.nextDouble() * (int)Problem.countvariable);
+		int pos2 = (int) (RandomService.nextDouble() * (int)Problem.countvariable);
 		
 		Object value1 = (Integer)(newind.get("x" + pos1));
 		Object value2 = (Integer)(newind.get("x" + pos2));
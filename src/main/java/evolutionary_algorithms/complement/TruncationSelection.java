@@ -13,8 +13,8 @@ import java.util.List;
 
 import metaheurictics.strategy.Strategy;
 
+import problem.definition.FitnessComparator;
 import problem.definition.State;
-import problem.definition.Problem.ProblemType;
 
 /**
  * @class TruncationSelection
@@ -30,17 +30,7 @@ public class TruncationSelection extends FatherSelection {
 	 * @return Lista de estados ordenada descendentemente
 	 */
 	public List<State> OrderBetter (List<State> listState){
-		State var = null;
-		for (int i = 0; i < listState.size()- 1; i++) {
-			for (int j = i+1; j < listState.size(); j++) {
-				if(listState.get(i).getEvaluation().get(0) < listState.get(j).getEvaluation().get(0)){
-					var = listState.get(i);
-					listState.set(i, listState.get(j));
-					listState.set(j,var);
-				}
-			}
-		}
-		return listState;
+		return orderBestFirst(listState, FitnessComparator.MAXIMIZE);
 	}
 	
 	/**
@@ -49,13 +39,25 @@ public class TruncationSelection extends FatherSelection {
 	 * @return Lista de estados ordenada ascendentemente
 	 */
 	public List<State> ascOrderBetter (List<State> listState){
-		State var = null;
+		return orderBestFirst(listState, FitnessComparator.MINIMIZE);
+	}
+
+	/**
+	 * @brief Ordena la lista de estados del mejor al peor según el sentido del objetivo
+	 * @param listState Lista de estados a ordenar, se modifica en el lugar
+	 * @param fitness Sentido del objetivo
+	 * @return La misma lista ordenada
+	 */
+	public static List<State> orderBestFirst(List<State> listState, FitnessComparator fitness){
 		for (int i = 0; i < listState.size()- 1; i++) {
+			double value = listState.get(i).evalAt(0);
 			for (int j = i+1; j < listState.size(); j++) {
-				if(listState.get(i).getEvaluation().get(0) > listState.get(j).getEvaluation().get(0)){
-					var = listState.get(i);
+				double other = listState.get(j).evalAt(0);
+				if(fitness.isBetter(other, value)){
+					State var = listState.get(i);
 					listState.set(i, listState.get(j));
 					listState.set(j,var);
+					value = other;
 				}
 			}
 		}
@@ -64,21 +66,24 @@ public class TruncationSelection extends FatherSelection {
     
 	/**
 	 * @brief Selecciona los mejores individuos por truncamiento
+	 *
+	 * Sobre una Population ordena índices y no modifica la población.
+	 *
 	 * @param listState Lista de estados de la población
 	 * @param truncation Número de individuos a seleccionar
 	 * @return Lista de estados seleccionados
 	 */
 	@Override
 	public List<State> selection(List<State> listState, int truncation) {
-		List<State> AuxList = new ArrayList<State>();
-		if (Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)) {
-			listState = OrderBetter(listState);
-		} else {
-			if(Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MINIMIZAR))
-				listState = ascOrderBetter(listState);
+		FitnessComparator fitness = FitnessComparator.of(Strategy.getStrategy().getProblem().getTypeProblem());
+		int limit = Math.min(truncation, listState.size());
+		if (listState instanceof Population) {
+			Population population = (Population) listState;
+			return population.select(population.orderBestFirst(fitness), limit);
 		}
+		List<State> AuxList = new ArrayList<State>();
+		listState = orderBestFirst(listState, fitness);
 		int i = 0;
-		int limit = Math.min(truncation, listState.size());
 		while(AuxList.size() < limit){
 			AuxList.add(listState.get(i));
 			i++;
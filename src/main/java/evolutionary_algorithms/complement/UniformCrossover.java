@@ -7,9 +7,12 @@
  */
 package evolutionary_algorithms.complement;
 
+import config.RandomEngine;
+import config.RandomService;
 import metaheurictics.strategy.Strategy;
 
 import problem.definition.State;
+import problem.definition.VectorState;
 
 /**
  * @class UniformCrossover
@@ -26,9 +29,9 @@ public class UniformCrossover extends Crossover {
 	 */
 	public int[] mascara(int length){
 		int[] mascara = new int[length];
+		RandomEngine random = RandomService.current();
 		for (int i = 0; i < mascara.length; i++) {
-			int value = (int)(Math.random() * (int)(2));
-			mascara[0] = value;
+			mascara[i] = random.nextInt(2);
 		}
 		return mascara;
 	}	
@@ -42,6 +45,10 @@ public class UniformCrossover extends Crossover {
 	 */
 	@Override
 	public State crossover(State father1, State father2, double PC) {
+		if (father1 instanceof VectorState && father1.getClass() == father2.getClass()
+				&& ((VectorState) father1).size() == ((VectorState) father2).size()) {
+			return crossoverVector((VectorState) father1, (VectorState) father2);
+		}
 		Object value = new Object();
 		State state = (State) father1.getCopy();
 		int[] mascara = mascara(father1.getCode().size());
@@ -59,4 +66,21 @@ public class UniformCrossover extends Crossover {
 		}
 		return state;
 	}
+
+	/**
+	 * @brief Cruce uniforme sobre vectores primitivos del mismo tipo
+	 *
+	 * Los genes con máscara 1 vienen del primer padre y los de máscara 0 del
+	 * segundo, escritos directamente en el array del hijo.
+	 */
+	private State crossoverVector(VectorState father1, VectorState father2) {
+		VectorState state = (VectorState) father1.getCopy();
+		int[] mascara = mascara(state.size());
+		for (int k = 0; k < mascara.length; k++) {
+			if (mascara[k] == 0) {
+				state.setValueAt(k, father2.valueAt(k));
+			}
+		}
+		return state;
+	}
 }
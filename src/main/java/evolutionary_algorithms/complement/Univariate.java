@@ -8,6 +8,7 @@
 package evolutionary_algorithms.complement;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.SortedMap;
 
@@ -30,6 +31,9 @@ public class Univariate extends Distribution {
 	 */
 	@Override
 	public List<Probability> distribution(List<State> fathers) {
+		if (fathers instanceof Population) {
+			return distribution((Population) fathers);
+		}
 
 		List<Probability> ListProbability = new ArrayList<Probability>();
 		int cantV = fathers.get(0).getCode().size();
@@ -66,6 +70,43 @@ public class Univariate extends Distribution {
 		return ListProbability;
 	}
 
+	/**
+	 * @brief Distribución univariada leída directamente de las columnas de genes
+	 *
+	 * Los valores de cada variable aparecen en el orden de su primera ocurrencia,
+	 * igual que en la versión sobre listas.
+	 *
+	 * @param fathers Población de padres con genes enteros
+	 * @return Lista de probabilidades calculadas para cada variable
+	 */
+	private List<Probability> distribution(Population fathers) {
+		List<Probability> ListProbability = new ArrayList<Probability>();
+		int size = fathers.size();
+		boolean[] counted = new boolean[size];
+		for (int i = 0; i < fathers.getGeneCount(); i++) {
+			Arrays.fill(counted, false);
+			for (int k = 0; k < size; k++) {
+				if (counted[k]) {
+					continue;
+				}
+				double temp = fathers.getGene(k, i);
+				float count = 0;
+				for (int l = k; l < size; l++) {
+					if (!counted[l] && fathers.getGene(l, i) == temp) {
+						counted[l] = true;
+						count++;
+					}
+				}
+				Probability probability = new Probability();
+				probability.setKey(i);
+				probability.setValue((int) temp);
+				probability.setProbability(count / size);
+				ListProbability.add(probability);
+			}
+		}
+		return ListProbability;
+	}
+
 	/**
 	 * @brief Extrae las claves de un mapa ordenado
 	 * @param map Mapa ordenado de String a Object
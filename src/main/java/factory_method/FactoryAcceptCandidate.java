@@ -4,7 +4,7 @@
  * 
  * Esta clase implementa el patrón Factory Method para crear instancias
  * de diferentes criterios de aceptación de candidatos en búsqueda local.
- * Utiliza reflexión para instanciar dinámicamente las clases según el tipo.
+ * Cada tipo se asocia una sola vez con el constructor de su clase.
  * 
  * @author BiCIAM
  * @version 1.0
@@ -14,9 +14,20 @@
 package factory_method;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import local_search.acceptation_type.AcceptType;
 import local_search.acceptation_type.AcceptableCandidate;
+import local_search.acceptation_type.AcceptBest;
+import local_search.acceptation_type.AcceptAnyone;
+import local_search.acceptation_type.AcceptNotBadT;
+import local_search.acceptation_type.AcceptNotBadU;
+import local_search.acceptation_type.AcceptNotDominated;
+import local_search.acceptation_type.AcceptNotDominatedTabu;
+import local_search.acceptation_type.AcceptNotBad;
+import local_search.acceptation_type.AcceptMulticase;
 
 
 import factory_interface.IFFactoryAcceptCandidate;
@@ -28,12 +39,26 @@ import factory_interface.IFFactoryAcceptCandidate;
 public class FactoryAcceptCandidate implements IFFactoryAcceptCandidate{
 	/** Instancia del criterio de aceptación creado */
 	private AcceptableCandidate acceptCandidate;
+
+	/** Constructores de cada tipo, calculados una sola vez */
+	private static final Map<AcceptType, Supplier<AcceptableCandidate>> REGISTRY = new EnumMap<AcceptType, Supplier<AcceptableCandidate>>(AcceptType.class);
+
+	static {
+		REGISTRY.put(AcceptType.ACCEPT_BEST, AcceptBest::new);
+		REGISTRY.put(AcceptType.ACCEPT_ANYONE, AcceptAnyone::new);
+		REGISTRY.put(AcceptType.ACCEPT_NOT_BAD_T, AcceptNotBadT::new);
+		REGISTRY.put(AcceptType.ACCEPT_NOT_BAD_U, AcceptNotBadU::new);
+		REGISTRY.put(AcceptType.ACCEPT_NOT_DOMINATED, AcceptNotDominated::new);
+		REGISTRY.put(AcceptType.ACCEPT_NOT_DOMINATED_TABU, AcceptNotDominatedTabu::new);
+		REGISTRY.put(AcceptType.ACCEPT_NOT_BAD, AcceptNotBad::new);
+		REGISTRY.put(AcceptType.ACCEPT_MULTICASE, AcceptMulticase::new);
+	}
 	
 	/**
-	 * @brief Crea una instancia de AcceptableCandidate mediante reflexión.
+	 * @brief Crea una instancia de AcceptableCandidate a partir de su registro de constructores.
 	 * 
-	 * Utiliza el nombre del tipo para construir el nombre de clase completo
-	 * y crear una instancia dinámicamente usando FactoryLoader.
+	 * Busca el constructor asociado al tipo en el registro y lo invoca
+	 * mediante FactoryLoader.create, sin cargar la clase por su nombre.
 	 * 
 	 * @param typeacceptation Tipo de criterio de aceptación a crear
 	 * @return Instancia del criterio de aceptación
@@ -46,8 +71,7 @@ public class FactoryAcceptCandidate implements IFFactoryAcceptCandidate{
 	 * @throws NoSuchMethodException Si no se encuentra el método
 	 */
 	public AcceptableCandidate createAcceptCandidate( AcceptType typeacceptation ) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException{
-		String className = "local_search.acceptation_type." + typeacceptation.toString();
-		acceptCandidate = (AcceptableCandidate) FactoryLoader.getInstance(className);
+		acceptCandidate = FactoryLoader.create(REGISTRY, typeacceptation);
 		return acceptCandidate;
 	}
 }
@@ -14,9 +14,18 @@
 package factory_method;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import local_search.candidate_type.CandidateType;
 import local_search.candidate_type.SearchCandidate;
+import local_search.candidate_type.SmallerCandidate;
+import local_search.candidate_type.GreaterCandidate;
+import local_search.candidate_type.RandomCandidate;
+import local_search.candidate_type.NotDominatedCandidate;
+import local_search.candidate_type.FirstImprovementCandidate;
+import local_search.candidate_type.SampledBestOfKCandidate;
 
 import factory_interface.IFFactoryCandidate;
 
@@ -27,9 +36,39 @@ import factory_interface.IFFactoryCandidate;
 public class FactoryCandidate implements IFFactoryCandidate{
 	/** Instancia de la estrategia de búsqueda creada */
 	private SearchCandidate searchcandidate;
+
+	/** Tamaño de muestra de SAMPLED_BEST_OF_K */
+	private final int sampleSize;
+
+	/** Constructores de cada tipo, calculados una sola vez */
+	private static final Map<CandidateType, Supplier<SearchCandidate>> REGISTRY = new EnumMap<CandidateType, Supplier<SearchCandidate>>(CandidateType.class);
+
+	static {
+		REGISTRY.put(CandidateType.SMALLER_CANDIDATE, SmallerCandidate::new);
+		REGISTRY.put(CandidateType.GREATER_CANDIDATE, GreaterCandidate::new);
+		REGISTRY.put(CandidateType.RANDOM_CANDIDATE, RandomCandidate::new);
+		REGISTRY.put(CandidateType.NOT_DOMINATED_CANDIDATE, NotDominatedCandidate::new);
+		REGISTRY.put(CandidateType.FIRST_IMPROVEMENT, FirstImprovementCandidate::new);
+		REGISTRY.put(CandidateType.SAMPLED_BEST_OF_K, SampledBestOfKCandidate::new);
+	}
+
+	/**
+	 * @brief Crea la fábrica con el tamaño de muestra por defecto
+	 */
+	public FactoryCandidate() {
+		this(SampledBestOfKCandidate.DEFAULT_K);
+	}
+
+	/**
+	 * @brief Crea la fábrica con un tamaño de muestra para SAMPLED_BEST_OF_K
+	 * @param sampleSize Vecinos que compara SampledBestOfKCandidate
+	 */
+	public FactoryCandidate(int sampleSize) {
+		this.sampleSize = sampleSize;
+	}
 	
 	/**
-	 * @brief Crea una instancia de SearchCandidate mediante reflexión.
+	 * @brief Crea una instancia de SearchCandidate a partir de su registro de constructores.
 	 * 
 	 * @param typeCandidate Tipo de estrategia de búsqueda a crear
 	 * @return Instancia de la estrategia de búsqueda
@@ -42,8 +81,11 @@ public class FactoryCandidate implements IFFactoryCandidate{
 	 * @throws NoSuchMethodException Si no se encuentra el método
 	 */
 	public SearchCandidate createSearchCandidate(CandidateType typeCandidate) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		String className = "local_search.candidate_type." + typeCandidate.toString();
-		searchcandidate = (SearchCandidate) FactoryLoader.getInstance(className);
+		if (typeCandidate == CandidateType.SAMPLED_BEST_OF_K) {
+			searchcandidate = new SampledBestOfKCandidate(sampleSize);
+		} else {
+			searchcandidate = FactoryLoader.create(REGISTRY, typeCandidate);
+		}
 		return searchcandidate;
 	}
 }
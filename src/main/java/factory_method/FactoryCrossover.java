@@ -3,7 +3,7 @@
  * @brief Implementación concreta de la fábrica de operadores de cruce.
  * 
  * Esta clase crea instancias de operadores de cruce utilizados en
- * algoritmos evolutivos mediante reflexión.
+ * algoritmos evolutivos a partir de su registro de constructores.
  * 
  * @author BiCIAM
  * @version 1.0
@@ -13,10 +13,15 @@
 package factory_method;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 
 import evolutionary_algorithms.complement.Crossover;
 import evolutionary_algorithms.complement.CrossoverType;
+import evolutionary_algorithms.complement.OnePointCrossover;
+import evolutionary_algorithms.complement.UniformCrossover;
 import factory_interface.IFFactoryCrossover;
 
 /**
@@ -27,8 +32,16 @@ public class FactoryCrossover implements IFFactoryCrossover {
 	/** Instancia del operador de cruce creado */
 	private Crossover crossing;
 
+	/** Constructores de cada tipo, calculados una sola vez */
+	private static final Map<CrossoverType, Supplier<Crossover>> REGISTRY = new EnumMap<CrossoverType, Supplier<Crossover>>(CrossoverType.class);
+
+	static {
+		REGISTRY.put(CrossoverType.ONE_POINT_CROSSOVER, OnePointCrossover::new);
+		REGISTRY.put(CrossoverType.UNIFORM_CROSSOVER, UniformCrossover::new);
+	}
+
 	/**
-	 * @brief Crea un operador de cruce mediante reflexión.
+	 * @brief Crea un operador de cruce a partir de su registro de constructores.
 	 * 
 	 * @param Crossovertype Tipo de operador de cruce a crear
 	 * @return Instancia del operador de cruce
@@ -44,27 +57,7 @@ public class FactoryCrossover implements IFFactoryCrossover {
 		if (Crossovertype == null) {
 			throw new IllegalArgumentException("Crossovertype cannot be null");
 		}
-		String className = "evolutionary_algorithms.complement." + enumToClassName(Crossovertype.toString());
-		crossing = (Crossover) FactoryLoader.getInstance(className);
+		crossing = FactoryLoader.create(REGISTRY, Crossovertype);
 		return crossing;
 	}
-	
-	/**
-	 * @brief Convierte un nombre de enum en UPPER_CASE a nombre de clase CamelCase
-	 * @param enumName Nombre del enum (ej: "ONE_POINT_CROSSOVER")
-	 * @return Nombre de clase (ej: "OnePointCrossover")
-	 */
-	private String enumToClassName(String enumName) {
-		String[] parts = enumName.toLowerCase().split("_");
-		StringBuilder sb = new StringBuilder();
-		for (String part : parts) {
-			if (!part.isEmpty()) {
-				sb.append(Character.toUpperCase(part.charAt(0)));
-				if (part.length() > 1) {
-					sb.append(part.substring(1));
-				}
-			}
-		}
-		return sb.toString();
-	}
 }
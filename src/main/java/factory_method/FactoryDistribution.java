@@ -3,7 +3,7 @@
  * @brief Implementación concreta de la fábrica de distribuciones de probabilidad.
  * 
  * Esta clase crea instancias de distribuciones utilizadas en algoritmos
- * de estimación de distribuciones (EDA) mediante reflexión.
+ * de estimación de distribuciones (EDA) a partir de su registro de constructores.
  * 
  * @author BiCIAM
  * @version 1.0
@@ -13,10 +13,14 @@
 package factory_method;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 
 import evolutionary_algorithms.complement.Distribution;
 import evolutionary_algorithms.complement.DistributionType;
+import evolutionary_algorithms.complement.Univariate;
 import factory_interface.IFFactoryDistribution;
 
 /**
@@ -27,8 +31,15 @@ public class FactoryDistribution implements IFFactoryDistribution {
 	/** Instancia de la distribución creada */
 	private Distribution distribution;
 
+	/** Constructores de cada tipo, calculados una sola vez */
+	private static final Map<DistributionType, Supplier<Distribution>> REGISTRY = new EnumMap<DistributionType, Supplier<Distribution>>(DistributionType.class);
+
+	static {
+		REGISTRY.put(DistributionType.UNIVARIATE, Univariate::new);
+	}
+
 	/**
-	 * @brief Crea una distribución mediante reflexión.
+	 * @brief Crea una distribución a partir de su registro de constructores.
 	 * 
 	 * @param distributiontype Tipo de distribución a crear
 	 * @return Instancia de la distribución
@@ -42,8 +53,7 @@ public class FactoryDistribution implements IFFactoryDistribution {
 	 */
 	public Distribution createDistribution(DistributionType distributiontype) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		
-		String className = "evolutionary_algorithms.complement." + distributiontype.toString();
-		distribution = (Distribution) FactoryLoader.getInstance(className);
+		distribution = FactoryLoader.create(REGISTRY, distributiontype);
 		return distribution;
 	}
 }
@@ -3,7 +3,7 @@
  * @brief Implementación concreta de la fábrica de estrategias de selección de padres.
  * 
  * Esta clase crea instancias de estrategias de selección de padres
- * utilizadas en algoritmos evolutivos mediante reflexión.
+ * utilizadas en algoritmos evolutivos a partir de su registro de constructores.
  * 
  * @author BiCIAM
  * @version 1.0
@@ -13,10 +13,15 @@
 package factory_method;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 
 import evolutionary_algorithms.complement.FatherSelection;
 import evolutionary_algorithms.complement.SelectionType;
+import evolutionary_algorithms.complement.RouletteSelection;
+import evolutionary_algorithms.complement.TruncationSelection;
 import factory_interface.IFFactoryFatherSelection;
 
 /**
@@ -26,9 +31,17 @@ import factory_interface.IFFactoryFatherSelection;
 public class FactoryFatherSelection implements IFFactoryFatherSelection{
 	/** Instancia de la estrategia de selección creada */
 	private FatherSelection selection;
+
+	/** Constructores de cada tipo, calculados una sola vez */
+	private static final Map<SelectionType, Supplier<FatherSelection>> REGISTRY = new EnumMap<SelectionType, Supplier<FatherSelection>>(SelectionType.class);
+
+	static {
+		REGISTRY.put(SelectionType.ROULETTE_SELECTION, RouletteSelection::new);
+		REGISTRY.put(SelectionType.TRUNCATION_SELECTION, TruncationSelection::new);
+	}
 	
 	/**
-	 * @brief Crea una estrategia de selección de padres mediante reflexión.
+	 * @brief Crea una estrategia de selección de padres a partir de su registro de constructores.
 	 * 
 	 * @param selectionType Tipo de estrategia de selección a crear
 	 * @return Instancia de la estrategia de selección
@@ -44,27 +57,7 @@ public class FactoryFatherSelection implements IFFactoryFatherSelection{
 		if (selectionType == null) {
 			throw new IllegalArgumentException("selectionType cannot be null");
 		}
-		String className = "evolutionary_algorithms.complement." + enumToClassName(selectionType.toString());
-		selection = (FatherSelection) FactoryLoader.getInstance(className);
+		selection = FactoryLoader.create(REGISTRY, selectionType);
 		return selection;
 	}
-	
-	/**
-	 * @brief Convierte un nombre de enum en UPPER_CASE a nombre de clase CamelCase
-	 * @param enumName Nombre del enum (ej: "TRUNCATION_SELECTION")
-	 * @return Nombre de clase (ej: "TruncationSelection")
-	 */
-	private String enumToClassName(String enumName) {
-		String[] parts = enumName.toLowerCase().split("_");
-		StringBuilder sb = new StringBuilder();
-		for (String part : parts) {
-			if (!part.isEmpty()) {
-				sb.append(Character.toUpperCase(part.charAt(0)));
-				if (part.length() > 1) {
-					sb.append(part.substring(1));
-				}
-			}
-		}
-		return sb.toString();
-	}
 }
@@ -3,7 +3,7 @@
  * @brief Implementación concreta de la fábrica de generadores metaheurísticos.
  * 
  * Esta clase crea instancias de diferentes algoritmos metaheurísticos
- * mediante reflexión.
+ * a partir de su registro de constructores.
  * 
  * @author BiCIAM
  * @version 1.0
@@ -14,11 +14,30 @@ package factory_method;
 
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import factory_interface.IFFactoryGenerator;
 
+import metaheuristics.generators.DistributionEstimationAlgorithm;
+import metaheuristics.generators.EvolutionStrategies;
 import metaheuristics.generators.Generator;
 import metaheuristics.generators.GeneratorType;
+import metaheuristics.generators.GeneticAlgorithm;
+import metaheuristics.generators.HillClimbing;
+import metaheuristics.generators.HillClimbingRestart;
+import metaheuristics.generators.LimitThreshold;
+import metaheuristics.generators.MultiCaseSimulatedAnnealing;
+import metaheuristics.generators.MultiGenerator;
+import metaheuristics.generators.MultiobjectiveHillClimbingDistance;
+import metaheuristics.generators.MultiobjectiveHillClimbingRestart;
+import metaheuristics.generators.MultiobjectiveStochasticHillClimbing;
+import metaheuristics.generators.MultiobjectiveTabuSearch;
+import metaheuristics.generators.ParticleSwarmOptimization;
+import metaheuristics.generators.RandomSearch;
+import metaheuristics.generators.SimulatedAnnealing;
+import metaheuristics.generators.TabuSearch;
 
 /**
  * @class FactoryGenerator
@@ -28,9 +47,31 @@ public class FactoryGenerator implements IFFactoryGenerator {
 
 	/** Instancia del generador creado */
 	private Generator generator;
+
+	/** Constructores de cada tipo, calculados una sola vez */
+	private static final Map<GeneratorType, Supplier<Generator>> REGISTRY = new EnumMap<GeneratorType, Supplier<Generator>>(GeneratorType.class);
+
+	static {
+		REGISTRY.put(GeneratorType.HILL_CLIMBING, HillClimbing::new);
+		REGISTRY.put(GeneratorType.TABU_SEARCH, TabuSearch::new);
+		REGISTRY.put(GeneratorType.SIMULATED_ANNEALING, SimulatedAnnealing::new);
+		REGISTRY.put(GeneratorType.RANDOM_SEARCH, RandomSearch::new);
+		REGISTRY.put(GeneratorType.LIMIT_THRESHOLD, LimitThreshold::new);
+		REGISTRY.put(GeneratorType.HILL_CLIMBING_RESTART, HillClimbingRestart::new);
+		REGISTRY.put(GeneratorType.GENETIC_ALGORITHM, GeneticAlgorithm::new);
+		REGISTRY.put(GeneratorType.EVOLUTION_STRATEGIES, EvolutionStrategies::new);
+		REGISTRY.put(GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM, DistributionEstimationAlgorithm::new);
+		REGISTRY.put(GeneratorType.PARTICLE_SWARM_OPTIMIZATION, ParticleSwarmOptimization::new);
+		REGISTRY.put(GeneratorType.MULTI_GENERATOR, MultiGenerator::new);
+		REGISTRY.put(GeneratorType.MULTIOBJECTIVE_TABU_SEARCH, MultiobjectiveTabuSearch::new);
+		REGISTRY.put(GeneratorType.MULTIOBJECTIVE_STOCHASTIC_HILL_CLIMBING, MultiobjectiveStochasticHillClimbing::new);
+		REGISTRY.put(GeneratorType.MULTI_CASE_SIMULATED_ANNEALING, MultiCaseSimulatedAnnealing::new);
+		REGISTRY.put(GeneratorType.MULTIOBJECTIVE_HILL_CLIMBING_RESTART, MultiobjectiveHillClimbingRestart::new);
+		REGISTRY.put(GeneratorType.MULTIOBJECTIVE_HILL_CLIMBING_DISTANCE, MultiobjectiveHillClimbingDistance::new);
+	}
 	
 	/**
-	 * @brief Crea un generador metaheurístico mediante reflexión.
+	 * @brief Crea un generador metaheurístico a partir de su registro de constructores.
 	 * 
 	 * @param generatorType Tipo de generador a crear
 	 * @return Instancia del generador
@@ -43,30 +84,7 @@ public class FactoryGenerator implements IFFactoryGenerator {
 	 * @throws NoSuchMethodException Si no se encuentra el método
 	 */
 	public Generator createGenerator(GeneratorType generatorType) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		// Try direct enum name first (legacy behavior)
-		String className = "metaheuristics.generators." + generatorType.toString();
-		Object inst = FactoryLoader.getInstance(className);
-		if (inst != null && inst instanceof Generator) {
-			generator = (Generator) inst;
-			return generator;
-		}
-
-		// Fallback: convert enum name like "GENETIC_ALGORITHM" to CamelCase class name "GeneticAlgorithm"
-		String enumName = generatorType.toString();
-		StringBuilder camel = new StringBuilder();
-		for (String part : enumName.toLowerCase().split("_")) {
-			if (part.length() == 0) continue;
-			camel.append(Character.toUpperCase(part.charAt(0)));
-			if (part.length() > 1) camel.append(part.substring(1));
-		}
-		String altClassName = "metaheuristics.generators." + camel.toString();
-		inst = FactoryLoader.getInstance(altClassName);
-		if (inst != null && inst instanceof Generator) {
-			generator = (Generator) inst;
-			return generator;
-		}
-
-		// If neither works, return null (same behavior as before when class cannot be loaded)
-		return null;
+		generator = FactoryLoader.create(REGISTRY, generatorType);
+		return generator;
 	}
 }
@@ -13,6 +13,8 @@
 
 package factory_method;
 import java.lang.reflect.InvocationTargetException;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * @class FactoryLoader
@@ -53,4 +55,33 @@ public class FactoryLoader {
 			return null;
 		}
 	}
+
+	/**
+	 * @brief Crea una instancia a partir de un registro de constructores por tipo.
+	 * 
+	 * Alternativa sin reflexión a getInstance para las fábricas cuyo conjunto
+	 * de tipos es un enum: el registro se calcula una vez y cada creación es
+	 * una llamada directa al constructor. Conserva el contrato de getInstance
+	 * y retorna null si el tipo no está registrado o el constructor falla.
+	 * 
+	 * @param registry Constructores indexados por tipo
+	 * @param type Tipo a crear
+	 * @return Nueva instancia, o null si no puede crearse
+	 * @throws IllegalArgumentException Si el tipo es null
+	 */
+	public static <K extends Enum<K>, T> T create(Map<K, ? extends Supplier<? extends T>> registry, K type) {
+		if (type == null) {
+			throw new IllegalArgumentException("type cannot be null");
+		}
+		Supplier<? extends T> supplier = registry.get(type);
+		if (supplier == null) {
+			return null;
+		}
+		try {
+			return supplier.get();
+		} catch (RuntimeException e) {
+			// Igual que getInstance cuando el constructor lanza una excepción
+			return null;
+		}
+	}
 }
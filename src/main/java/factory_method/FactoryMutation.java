@@ -3,7 +3,7 @@
  * @brief Implementación concreta de la fábrica de operadores de mutación.
  * 
  * Esta clase crea instancias de operadores de mutación utilizados en
- * algoritmos evolutivos mediante reflexión.
+ * algoritmos evolutivos a partir de su registro de constructores.
  * 
  * @author BiCIAM
  * @version 1.0
@@ -13,10 +13,16 @@
 package factory_method;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 
 import evolutionary_algorithms.complement.Mutation;
 import evolutionary_algorithms.complement.MutationType;
+import evolutionary_algorithms.complement.TowPointsMutation;
+import evolutionary_algorithms.complement.OnePointMutation;
+import evolutionary_algorithms.complement.AIOMutation;
 import factory_interface.IFFactoryMutation;
 
 /**
@@ -27,8 +33,17 @@ public class FactoryMutation implements IFFactoryMutation {
 	/** Instancia del operador de mutación creado */
 	private Mutation mutation;
 
+	/** Constructores de cada tipo, calculados una sola vez */
+	private static final Map<MutationType, Supplier<Mutation>> REGISTRY = new EnumMap<MutationType, Supplier<Mutation>>(MutationType.class);
+
+	static {
+		REGISTRY.put(MutationType.TWO_POINTS_MUTATION, TowPointsMutation::new);
+		REGISTRY.put(MutationType.ONE_POINT_MUTATION, OnePointMutation::new);
+		REGISTRY.put(MutationType.AIOM_MUTATION, AIOMutation::new);
+	}
+
 	/**
-	 * @brief Crea un operador de mutación mediante reflexión.
+	 * @brief Crea un operador de mutación a partir de su registro de constructores.
 	 * 
 	 * @param typeMutation Tipo de operador de mutación a crear
 	 * @return Instancia del operador de mutación
@@ -44,27 +59,7 @@ public class FactoryMutation implements IFFactoryMutation {
 		if (typeMutation == null) {
 			throw new IllegalArgumentException("typeMutation cannot be null");
 		}
-		String className = "evolutionary_algorithms.complement." + enumToClassName(typeMutation.toString());
-		mutation = (Mutation) FactoryLoader.getInstance(className);
+		mutation = FactoryLoader.create(REGISTRY, typeMutation);
 		return mutation;
 	}
-	
-	/**
-	 * @brief Convierte un nombre de enum en UPPER_CASE a nombre de clase CamelCase
-	 * @param enumName Nombre del enum (ej: "ONE_POINT_MUTATION")
-	 * @return Nombre de clase (ej: "OnePointMutation")
-	 */
-	private String enumToClassName(String enumName) {
-		String[] parts = enumName.toLowerCase().split("_");
-		StringBuilder sb = new StringBuilder();
-		for (String part : parts) {
-			if (!part.isEmpty()) {
-				sb.append(Character.toUpperCase(part.charAt(0)));
-				if (part.length() > 1) {
-					sb.append(part.substring(1));
-				}
-			}
-		}
-		return sb.toString();
-	}
 }
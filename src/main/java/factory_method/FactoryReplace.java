@@ -3,7 +3,7 @@
  * @brief Implementación concreta de la fábrica de estrategias de reemplazo.
  * 
  * Esta clase crea instancias de estrategias de reemplazo utilizadas en
- * algoritmos evolutivos mediante reflexión.
+ * algoritmos evolutivos a partir de su registro de constructores.
  * 
  * @author BiCIAM
  * @version 1.0
@@ -13,10 +13,15 @@
 package factory_method;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 
 import evolutionary_algorithms.complement.Replace;
 import evolutionary_algorithms.complement.ReplaceType;
+import evolutionary_algorithms.complement.SteadyStateReplace;
+import evolutionary_algorithms.complement.GenerationalReplace;
 import factory_interface.IFFactoryReplace;
 
 /**
@@ -27,9 +32,17 @@ public class FactoryReplace implements IFFactoryReplace {
 
 	/** Instancia de la estrategia de reemplazo creada */
 	private Replace replace;
+
+	/** Constructores de cada tipo, calculados una sola vez */
+	private static final Map<ReplaceType, Supplier<Replace>> REGISTRY = new EnumMap<ReplaceType, Supplier<Replace>>(ReplaceType.class);
+
+	static {
+		REGISTRY.put(ReplaceType.STEADY_STATE_REPLACE, SteadyStateReplace::new);
+		REGISTRY.put(ReplaceType.GENERATIONAL_REPLACE, GenerationalReplace::new);
+	}
 	
 	/**
-	 * @brief Crea una estrategia de reemplazo mediante reflexión.
+	 * @brief Crea una estrategia de reemplazo a partir de su registro de constructores.
 	 * 
 	 * @param typereplace Tipo de estrategia de reemplazo a crear
 	 * @return Instancia de la estrategia de reemplazo
@@ -45,27 +58,7 @@ public class FactoryReplace implements IFFactoryReplace {
 		if (typereplace == null) {
 			throw new IllegalArgumentException("typereplace cannot be null");
 		}
-		String className = "evolutionary_algorithms.complement." + enumToClassName(typereplace.toString());
-		replace = (Replace) FactoryLoader.getInstance(className);
+		replace = FactoryLoader.create(REGISTRY, typereplace);
 		return replace;
 	}
-	
-	/**
-	 * @brief Convierte un nombre de enum en UPPER_CASE a nombre de clase CamelCase
-	 * @param enumName Nombre del enum (ej: "GENERATIONAL_REPLACE")
-	 * @return Nombre de clase (ej: "GenerationalReplace")
-	 */
-	private String enumToClassName(String enumName) {
-		String[] parts = enumName.toLowerCase().split("_");
-		StringBuilder sb = new StringBuilder();
-		for (String part : parts) {
-			if (!part.isEmpty()) {
-				sb.append(Character.toUpperCase(part.charAt(0)));
-				if (part.length() > 1) {
-					sb.append(part.substring(1));
-				}
-			}
-		}
-		return sb.toString();
-	}
 }
@@ -3,7 +3,7 @@
  * @brief Implementación concreta de la fábrica de estrategias de muestreo.
  * 
  * Esta clase crea instancias de estrategias de muestreo utilizadas en
- * algoritmos de estimación de distribuciones (EDA) mediante reflexión.
+ * algoritmos de estimación de distribuciones (EDA) a partir de su registro de constructores.
  * 
  * @author BiCIAM
  * @version 1.0
@@ -13,10 +13,14 @@
 package factory_method;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 
 import evolutionary_algorithms.complement.Sampling;
 import evolutionary_algorithms.complement.SamplingType;
+import evolutionary_algorithms.complement.ProbabilisticSampling;
 import factory_interface.IFFSampling;
 
 /**
@@ -26,9 +30,16 @@ import factory_interface.IFFSampling;
 public class FactorySampling implements IFFSampling {
 	/** Instancia de la estrategia de muestreo creada */
 	private Sampling sampling;
+
+	/** Constructores de cada tipo, calculados una sola vez */
+	private static final Map<SamplingType, Supplier<Sampling>> REGISTRY = new EnumMap<SamplingType, Supplier<Sampling>>(SamplingType.class);
+
+	static {
+		REGISTRY.put(SamplingType.PROBABILISTIC_SAMPLING, ProbabilisticSampling::new);
+	}
 	
 	/**
-	 * @brief Crea una estrategia de muestreo mediante reflexión.
+	 * @brief Crea una estrategia de muestreo a partir de su registro de constructores.
 	 * 
 	 * @param typesampling Tipo de estrategia de muestreo a crear
 	 * @return Instancia de la estrategia de muestreo
@@ -42,8 +53,7 @@ public class FactorySampling implements IFFSampling {
 	 */
 	public Sampling createSampling(SamplingType typesampling) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		
-		String className = "evolutionary_algorithms.complement." + typesampling.toString();
-		sampling = (Sampling) FactoryLoader.getInstance(className);
+		sampling = FactoryLoader.create(REGISTRY, typesampling);
 		return sampling;
 	}
 }
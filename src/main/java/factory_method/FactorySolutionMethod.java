@@ -3,7 +3,7 @@
  * @brief Implementación concreta de la fábrica de métodos de solución.
  * 
  * Esta clase crea instancias de métodos de solución utilizados para
- * evaluar problemas multi-objetivo mediante reflexión.
+ * evaluar problemas multi-objetivo a partir de su registro de constructores.
  * 
  * @author BiCIAM
  * @version 1.0
@@ -13,9 +13,14 @@
 package factory_method;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
 
 import problem.extension.SolutionMethod;
 import problem.extension.TypeSolutionMethod;
+import problem.extension.FactoresPonderados;
+import problem.extension.MultiObjetivoPuro;
 import factory_interface.IFFactorySolutionMethod;
 
 /**
@@ -26,9 +31,17 @@ public class FactorySolutionMethod implements IFFactorySolutionMethod {
 
 	/** Instancia del método de solución creado */
 	private SolutionMethod solutionMethod;
+
+	/** Constructores de cada tipo, calculados una sola vez */
+	private static final Map<TypeSolutionMethod, Supplier<SolutionMethod>> REGISTRY = new EnumMap<TypeSolutionMethod, Supplier<SolutionMethod>>(TypeSolutionMethod.class);
+
+	static {
+		REGISTRY.put(TypeSolutionMethod.FACTORES_PONDERADOS, FactoresPonderados::new);
+		REGISTRY.put(TypeSolutionMethod.MULTI_OBJETIVO_PURO, MultiObjetivoPuro::new);
+	}
 	
 	/**
-	 * @brief Crea un método de solución mediante reflexión.
+	 * @brief Crea un método de solución a partir de su registro de constructores.
 	 * 
 	 * @param method Tipo de método de solución a crear
 	 * @return Instancia del método de solución
@@ -42,8 +55,7 @@ public class FactorySolutionMethod implements IFFactorySolutionMethod {
 	 */
 	@Override
 	public SolutionMethod createdSolutionMethod(TypeSolutionMethod method) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		String className = "problem.extension." + method.toClassName();
-		solutionMethod = (SolutionMethod) FactoryLoader.getInstance(className);
+		solutionMethod = FactoryLoader.create(REGISTRY, method);
 		return solutionMethod;
 	}
 
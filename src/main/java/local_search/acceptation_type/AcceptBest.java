@@ -11,9 +11,9 @@ package local_search.acceptation_type;
 import java.lang.reflect.InvocationTargetException;
 
 import metaheurictics.strategy.Strategy;
+import problem.definition.FitnessComparator;
 import problem.definition.Problem;
 import problem.definition.State;
-import problem.definition.Problem.ProblemType;
 
 /**
  * @class AcceptBest
@@ -40,21 +40,7 @@ public class AcceptBest extends AcceptableCandidate {
 	 */
 	@Override
 	public Boolean acceptCandidate(State stateCurrent, State stateCandidate) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		Boolean accept = null;
 		Problem problem = Strategy.getStrategy().getProblem();
-		if(problem.getTypeProblem().equals(ProblemType.MAXIMIZAR)) {
-			if (stateCandidate.getEvaluation().get(0) >= stateCurrent.getEvaluation().get(0)) {
-				accept = true;
-			} else {
-				accept = false;
-			}
-		} else {
-			if (stateCandidate.getEvaluation().get(0) <= stateCurrent.getEvaluation().get(0)) {
-				accept = true;
-			} else {
-				accept = false;
-			}
-		}
-		return accept;
+		return FitnessComparator.of(problem.getTypeProblem()).isBetterOrEqual(stateCandidate.evalAt(0), stateCurrent.evalAt(0));
 	}
 }
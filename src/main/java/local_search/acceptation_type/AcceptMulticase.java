@@ -12,7 +12,8 @@ import metaheuristics.generators.*;
 import metaheurictics.strategy.*;
 
 import java.util.List;
-import java.util.Random;
+
+import config.RandomService;
 
 import problem.definition.State;
 
@@ -26,9 +27,6 @@ import problem.definition.State;
  */
 public class AcceptMulticase extends AcceptableCandidate {
 
-	/** @brief Generador de números aleatorios para decisiones probabilísticas */
-	private static final Random RNG = new Random();
-
 	/**
 	 * @brief Acepta candidatos basándose en dominancia de Pareto y criterios de temperatura
 	 * @param stateCurrent Estado actual de la búsqueda
@@ -44,9 +42,8 @@ public class AcceptMulticase extends AcceptableCandidate {
 		if(list.size() == 0){
 			list.add(stateCurrent.getCopy());
 		}
-		Double T = MultiCaseSimulatedAnnealing.tinitial;
+		Double T = MultiCaseSimulatedAnnealing.getTinitial();
 		double pAccept = 0;
-		// Reuse a single Random instance for reliability
 		Dominance dominance= new Dominance();
 		//Verificando si la soluci�n candidata domina a la soluci�n actual
 		//Si la soluci�n candidata domina a la soluci�n actual
@@ -96,7 +93,7 @@ public class AcceptMulticase extends AcceptableCandidate {
 			}
 		}
 		//Generar un n�mero aleatorio
-		if((RNG.nextFloat()) < pAccept){
+		if((RandomService.nextFloat()) < pAccept){
 			stateCurrent = stateCandidate.getCopy();
 			//Verificando que la soluci�n candidata domina a alguna de las soluciones
 			accept = dominance.ListDominance(stateCandidate, list);
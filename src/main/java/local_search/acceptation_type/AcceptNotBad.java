@@ -9,9 +9,9 @@
 package local_search.acceptation_type;
 
 import metaheurictics.strategy.Strategy;
+import problem.definition.FitnessComparator;
 import problem.definition.Problem;
 import problem.definition.State;
-import problem.definition.Problem.ProblemType;
 
 /**
  * @class AcceptNotBad
@@ -33,20 +33,10 @@ public class AcceptNotBad extends AcceptableCandidate{
 	public Boolean acceptCandidate(State stateCurrent, State stateCandidate) {
 		Boolean accept = null;
 		Problem problem = Strategy.getStrategy().getProblem();
-		for (int i = 0; i < problem.getFunction().size(); i++) {
-		if (problem.getTypeProblem().equals(ProblemType.MAXIMIZAR)) {
-			if (stateCandidate.getEvaluation().get(0) >= stateCurrent.getEvaluation().get(0)) {
-				accept = true;
-			} else {
-				accept = false;
-			}
-		} else {
-			if (stateCandidate.getEvaluation().get(0) <= stateCurrent.getEvaluation().get(0)) {
-				accept = true;
-			} else {
-				accept = false;
-			}
-		}}
+		// sin funciones objetivo no hay nada que comparar
+		if (!problem.getFunction().isEmpty()) {
+			accept = FitnessComparator.of(problem.getTypeProblem()).isBetterOrEqual(stateCandidate.evalAt(0), stateCurrent.evalAt(0));
+		}
 		return accept;
 	}
 }
@@ -12,10 +12,10 @@ import java.lang.reflect.InvocationTargetException;
 
 import metaheurictics.strategy.Strategy;
 import metaheuristics.generators.SimulatedAnnealing;
+import problem.definition.FitnessComparator;
 import problem.definition.Problem;
 import problem.definition.State;
-import problem.definition.Problem.ProblemType;
-import config.SecureRandomGenerator;
+import config.RandomService;
 
 /**
  * @class AcceptNotBadT
@@ -42,25 +42,12 @@ public class AcceptNotBadT extends AcceptableCandidate{
 	 */
 	@Override
 	public Boolean acceptCandidate(State stateCurrent, State stateCandidate) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		Boolean accept = null;
 		Problem problem = Strategy.getStrategy().getProblem();
-		if (problem.getTypeProblem().equals(ProblemType.MAXIMIZAR)) {
-			double result = (stateCandidate.getEvaluation().get(0) - stateCurrent.getEvaluation().get(0)) / SimulatedAnnealing.tinitial;
-			double probaleatory = Math.random();
-			double exp = Math.exp(result);
-			if ((stateCandidate.getEvaluation().get(0) >= stateCurrent.getEvaluation().get(0))
-					|| (probaleatory < exp))
- 				accept = true;
-			else
-				accept = false;
-		} else {
-			double result_min = (stateCandidate.getEvaluation().get(0) - stateCurrent.getEvaluation().get(0)) / SimulatedAnnealing.tinitial;
-			if ((stateCandidate.getEvaluation().get(0) <= stateCurrent.getEvaluation().get(0))
-					|| (SecureRandomGenerator.nextDouble() < Math.exp(result_min)))
-				accept = true;
-			else
-				accept = false;
+		double candidate = stateCandidate.evalAt(0);
+		double current = stateCurrent.evalAt(0);
+		if (FitnessComparator.of(problem.getTypeProblem()).isBetterOrEqual(candidate, current)) {
+			return true;
 		}
-		return accept;
+		return RandomService.nextDouble() < Math.exp((candidate - current) / SimulatedAnnealing.getTinitial());
 	}
 }
@@ -11,9 +11,9 @@ package local_search.acceptation_type;
 import java.lang.reflect.InvocationTargetException;
 
 import metaheurictics.strategy.Strategy;
+import problem.definition.FitnessComparator;
 import problem.definition.Problem;
 import problem.definition.State;
-import problem.definition.Problem.ProblemType;
 
 /**
  * @class AcceptNotBadU
@@ -40,26 +40,11 @@ public class AcceptNotBadU extends AcceptableCandidate{
 	 */
 	@Override
 	public Boolean acceptCandidate(State stateCurrent, State stateCandidate) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		Boolean accept = null;
 		Problem problem = Strategy.getStrategy().getProblem();
 		Double threshold = Strategy.getStrategy().getThreshold();
 		double effectiveThreshold = Math.abs(threshold);
 		
-		if (problem.getTypeProblem().equals(ProblemType.MAXIMIZAR)) {
-			// For maximization: accept if candidate > current - abs(threshold)
-			if (stateCandidate.getEvaluation().get(0) > stateCurrent.getEvaluation().get(0) - effectiveThreshold) {
-				accept = true;
-			} else {
-				accept = false;
-			}
-		} else {
-			// For minimization: accept if candidate < current + abs(threshold)
-			if (stateCandidate.getEvaluation().get(0) < stateCurrent.getEvaluation().get(0) + effectiveThreshold) {
-				accept = true;
-			} else {
-				accept = false;
-			}
-		}
-		return accept;
+		// Maximization: candidate > current - abs(threshold); minimization: candidate < current + abs(threshold)
+		return FitnessComparator.of(problem.getTypeProblem()).isWithin(stateCandidate.evalAt(0), stateCurrent.evalAt(0), effectiveThreshold);
 	}
 }
@@ -13,7 +13,7 @@ import java.util.List;
 import metaheurictics.strategy.Strategy;
 import metaheuristics.generators.GeneratorType;
 import metaheuristics.generators.MultiobjectiveHillClimbingDistance;
-import problem.definition.Problem.ProblemType;
+import problem.definition.FitnessComparator;
 import problem.definition.State;
 
 /**
@@ -127,30 +127,23 @@ public class Dominance {
 		boolean dominance = false;
 		int countBest = 0;
 		int countEquals = 0;
+		// Una sola copia de cada evaluación en lugar de varias por objetivo
+		List<Double> evaluationX = solutionX.getEvaluation();
+		List<Double> evaluationY = solutionY.getEvaluation();
 		//Si solutionX domina a solutionY
-		if(Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)) {
-			//Recorriendo las evaluaciones de las funciones objetivo
-			for (int i = 0; i < solutionX.getEvaluation().size(); i++) {
-				if(solutionX.getEvaluation().get(i).floatValue() > solutionY.getEvaluation().get(i).floatValue()){
-					countBest++;
-				}
-				if(solutionX.getEvaluation().get(i).floatValue() == solutionY.getEvaluation().get(i).floatValue()){
-					countEquals++;
-				}	
-			}
-		}
-		else{
-			//Recorriendo las evaluaciones de las funciones objetivo
-			for (int i = 0; i < solutionX.getEvaluation().size(); i++) {
-				if(solutionX.getEvaluation().get(i).floatValue() < solutionY.getEvaluation().get(i).floatValue()){
-					countBest++;
-				}
-				if(solutionX.getEvaluation().get(i).floatValue() == solutionY.getEvaluation().get(i).floatValue()){
-					countEquals++;
-				}	
+		FitnessComparator fitness = FitnessComparator.of(Strategy.getStrategy().getProblem().getTypeProblem());
+		//Recorriendo las evaluaciones de las funciones objetivo
+		for (int i = 0; i < evaluationX.size(); i++) {
+			float x = evaluationX.get(i).floatValue();
+			float y = evaluationY.get(i).floatValue();
+			if(fitness.isBetter(x, y)){
+				countBest++;
 			}
+			if(x == y){
+				countEquals++;
+			}	
 		}
-		if((countBest >= 1) && (countEquals + countBest == solutionX.getEvaluation().size())) {
+		if((countBest >= 1) && (countEquals + countBest == evaluationX.size())) {
 			dominance = true;
 		}
 		return dominance;
@@ -39,5 +39,17 @@ public enum CandidateType{
 		public String toString() {
 			return "NotDominatedCandidate";
 		}
+	},
+	/** @brief Selecciona el primer vecino que mejora al estado actual */
+	FIRST_IMPROVEMENT {
+		public String toString() {
+			return "FirstImprovementCandidate";
+		}
+	},
+	/** @brief Selecciona el mejor de una muestra de k vecinos */
+	SAMPLED_BEST_OF_K {
+		public String toString() {
+			return "SampledBestOfKCandidate";
+		}
 	};
 }
@@ -11,9 +11,15 @@ package local_search.candidate_type;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import problem.definition.Move;
+import problem.definition.Operator;
 import problem.definition.State;
 
+import local_search.complement.MoveNeighborhood;
 import local_search.complement.StrategyType;
 import local_search.complement.TabuSolutions;
 import metaheurictics.strategy.Strategy;
@@ -48,6 +54,12 @@ public class CandidateValue {
 	/** @brief Instancia de búsqueda de candidatos */
 	private SearchCandidate searchcandidate;
 
+	/** @brief Movimiento que produjo el último candidato, si se conoce */
+	private Move lastMove;
+
+	/** @brief Tamaño de muestra para CandidateType.SAMPLED_BEST_OF_K */
+	private int sampleSize = SampledBestOfKCandidate.DEFAULT_K;
+
 	/** @brief Constructor por defecto */
 	public CandidateValue(){}
 
@@ -82,7 +94,7 @@ public class CandidateValue {
 	 * @throws NoSuchMethodException Si no se encuentra un método
 	 */
 	public SearchCandidate newSearchCandidate(CandidateType typecandidate) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		ifFactory = new FactoryCandidate();
+		ifFactory = new FactoryCandidate(sampleSize);
 		searchcandidate = ifFactory.createSearchCandidate(typecandidate);
 		return searchcandidate;
 	}
@@ -104,12 +116,30 @@ public class CandidateValue {
 	 * @throws NoSuchMethodException Si no se encuentra un método
 	 */
 	public State stateCandidate(State stateCurrent, CandidateType typeCandidate, StrategyType strategy, Integer operatornumber, List<State> neighborhood) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException{
+		return stateCandidate(stateCurrent, typeCandidate, strategy, operatornumber, neighborhood, false);
+	}
+
+	/**
+	 * @brief Selecciona un estado candidato de un vecindario ya construido
+	 * 
+	 * Los vecinos del operador son copias del estado base con su evaluación,
+	 * así que los criterios incrementales los reciben sin evaluar. Los
+	 * puntuados con evaluateDelta() (MoveNeighborhood.materialize) conservan
+	 * su evaluación.
+	 * @param stateCurrent Estado actual
+	 * @param typeCandidate Tipo de estrategia de selección
+	 * @param strategy Estrategia de búsqueda (TABU o NORMAL)
+	 * @param operatornumber Número del operador a aplicar
+	 * @param neighborhood Lista de estados vecinos
+	 * @param scored true si cada vecino trae su propia evaluación
+	 * @return State Estado candidato seleccionado
+	 */
+	private State stateCandidate(State stateCurrent, CandidateType typeCandidate, StrategyType strategy, Integer operatornumber, List<State> neighborhood, boolean scored) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException{
 		//Problem problem = ExecuteGenerator.getExecuteGenerator().getProblem();
 		State stateCandidate;
-		List<State> auxList = new ArrayList<State>();
-		for (int i = 0; i < neighborhood.size(); i++) {
-			auxList.add(neighborhood.get(i));
-		}
+		lastMove = null;
+		// Solo el filtro tabú modifica la lista, así que solo entonces se copia
+		List<State> auxList = strategy.equals(StrategyType.TABU) ? new ArrayList<State>(neighborhood) : neighborhood;
 		this.tabusolution = new TabuSolutions();
 		if (strategy.equals(StrategyType.TABU)) {
 			try {
@@ -124,10 +154,133 @@ public class CandidateValue {
 			}
 		}
 		SearchCandidate searchCand = newSearchCandidate(typeCandidate);
+		if (searchCand.isStreaming()) {
+			if (scored) {
+				return searchCand.stateSearch(stateCurrent, auxList.iterator());
+			}
+			// La evaluación copiada del estado base no es la del vecino
+			return searchCand.stateSearch(stateCurrent, auxList.stream().map(CandidateValue::unscored).iterator());
+		}
 		stateCandidate = searchCand.stateSearch(auxList);
 		return stateCandidate;
 	}
 
+	/**
+	 * @brief Selecciona el candidato generando el vecindario de forma perezosa
+	 * 
+	 * Si el operador emite movimientos y la estrategia no es tabú, el vecino
+	 * se elige sobre los movimientos y solo se construye el State elegido
+	 * (ver MoveNeighborhood.select). Con estrategia tabú y memoria de
+	 * atributos (TabuMode.MOVE o POSITION) primero se descartan los
+	 * movimientos tabú y después se elige igual. En otro caso genera el
+	 * vecindario completo y delega en stateCandidate(..., neighborhood),
+	 * salvo para los criterios incrementales (SearchCandidate.isStreaming()),
+	 * que piden los vecinos de uno en uno y solo construyen los que usan.
+	 * Si el operador no emite movimientos pero sí Operator.generatedNeighbors(),
+	 * el vecindario se consume como Stream sin construir la lista.
+	 * El movimiento elegido queda disponible en getLastMove().
+	 * 
+	 * @param stateCurrent Estado actual
+	 * @param typeCandidate Tipo de candidato a seleccionar
+	 * @param strategy Estrategia de búsqueda (TABU o NORMAL)
+	 * @param operatornumber Número de vecinos
+	 * @return State Estado candidato seleccionado
+	 * @throws IllegalArgumentException Si los argumentos son inválidos
+	 * @throws SecurityException Si hay problemas de seguridad
+	 * @throws ClassNotFoundException Si no se encuentra una clase
+	 * @throws InstantiationException Si hay problemas al instanciar
+	 * @throws IllegalAccessException Si hay problemas de acceso
+	 * @throws InvocationTargetException Si hay problemas en la invocación
+	 * @throws NoSuchMethodException Si no se encuentra un método
+	 */
+	public State stateCandidate(State stateCurrent, CandidateType typeCandidate, StrategyType strategy, Integer operatornumber) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		Operator operator = Strategy.getStrategy().getProblem().getOperator();
+		List<Move> moves = operator.generatedMoves(stateCurrent, operatornumber);
+		if (moves == null || moves.isEmpty()) {
+			Spliterator<State> neighbors = operator.generatedNeighbors(stateCurrent, operatornumber);
+			if (neighbors != null && !strategy.equals(StrategyType.TABU)) {
+				State selected = streamCandidate(stateCurrent, typeCandidate, StreamSupport.stream(neighbors, false));
+				if (selected != null) {
+					return selected;
+				}
+			}
+			return stateCandidate(stateCurrent, typeCandidate, strategy, operatornumber, operator.generatedNewState(stateCurrent, operatornumber));
+		}
+		boolean tabu = strategy.equals(StrategyType.TABU);
+		if (tabu && TabuSolutions.isAttributeMode()) {
+			this.tabusolution = new TabuSolutions();
+			moves = this.tabusolution.filterMoves(moves);
+			strategy = StrategyType.NORMAL;
+		} else if (tabu) {
+			boolean scored = MoveNeighborhood.deltaFunction(Strategy.getStrategy().getProblem()) != null && stateCurrent.evalSize() > 0;
+			return stateCandidate(stateCurrent, typeCandidate, strategy, operatornumber, MoveNeighborhood.materialize(stateCurrent, moves), scored);
+		}
+		MoveNeighborhood.Selection selection = MoveNeighborhood.choose(stateCurrent, moves, typeCandidate);
+		if (selection != null) {
+			lastMove = selection.getMove();
+			return selection.getState();
+		}
+		SearchCandidate searchCand = newSearchCandidate(typeCandidate);
+		if (searchCand.isStreaming()) {
+			MoveNeighborhood.LazyNeighbors neighbors = MoveNeighborhood.lazy(stateCurrent, moves);
+			State candidate = searchCand.stateSearch(stateCurrent, neighbors);
+			lastMove = neighbors.moveOf(candidate);
+			return candidate;
+		}
+		List<State> neighborhood = MoveNeighborhood.materialize(stateCurrent, moves);
+		State candidate = stateCandidate(stateCurrent, typeCandidate, strategy, operatornumber, neighborhood);
+		for (int i = 0; i < neighborhood.size(); i++) {
+			if (neighborhood.get(i) == candidate) {
+				lastMove = moves.get(i);
+			}
+		}
+		return candidate;
+	}
+
+	/**
+	 * @brief Elige el candidato de un vecindario que se genera al consumirlo
+	 * @param stateCurrent Estado actual
+	 * @param neighbors Vecinos del operador
+	 * @param typeCandidate Tipo de candidato a seleccionar
+	 * @return State Candidato, o null si el criterio necesita la lista completa
+	 */
+	private State streamCandidate(State stateCurrent, CandidateType typeCandidate, Stream<State> neighbors) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		SearchCandidate searchCand = newSearchCandidate(typeCandidate);
+		if (searchCand.isStreaming()) {
+			return searchCand.stateSearch(stateCurrent, neighbors.map(CandidateValue::unscored).iterator());
+		}
+		return MoveNeighborhood.select(stateCurrent, neighbors, typeCandidate);
+	}
+
+	private static State unscored(State neighbor) {
+		neighbor.setEvaluation(null);
+		return neighbor;
+	}
+
+	/**
+	 * @brief Tamaño de muestra de SAMPLED_BEST_OF_K
+	 * @return Vecinos que compara el criterio
+	 */
+	public int getSampleSize() {
+		return sampleSize;
+	}
+
+	/**
+	 * @brief Asigna el tamaño de muestra de SAMPLED_BEST_OF_K
+	 * @param sampleSize Vecinos que compara el criterio
+	 */
+	public void setSampleSize(int sampleSize) {
+		this.sampleSize = sampleSize;
+	}
+
+	/**
+	 * @brief Obtiene el movimiento que produjo el último candidato
+	 * @return Movimiento elegido, o null si el candidato no salió de un movimiento conocido
+	 */
+	public Move getLastMove() {
+		return lastMove;
+	}
+
 	/**
 	 * @brief Obtiene el gestor de soluciones tabú
 	 * @return TabuSolutions Gestor de soluciones tabú
@@ -0,0 +1,76 @@
+/**
+ * @file FirstImprovementCandidate.java
+ * @brief Implementación de búsqueda del primer vecino que mejora
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.candidate_type;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Iterator;
+import java.util.List;
+
+import problem.definition.FitnessComparator;
+import problem.definition.State;
+
+/**
+ * @class FirstImprovementCandidate
+ * @brief Clase que selecciona el primer vecino mejor que el estado actual
+ * 
+ * Pide los vecinos de uno en uno y se detiene en cuanto encuentra uno que
+ * mejora al estado actual según el tipo de problema, de modo que el resto del
+ * vecindario no se construye ni se evalúa. Si ninguno mejora devuelve el
+ * mejor de los vistos, y el criterio de aceptación del generador decide.
+ */
+public class FirstImprovementCandidate extends SearchCandidate {
+
+	@Override
+	public boolean isStreaming() {
+		return true;
+	}
+
+	/**
+	 * @brief Busca el primer vecino que mejora al estado actual
+	 * @param stateCurrent Estado de referencia; si es null o no está evaluado se devuelve el mejor vecino
+	 * @param neighbors Vecinos generados bajo demanda
+	 * @return State Primer vecino que mejora, o el mejor de los vistos
+	 * @throws IllegalArgumentException Si los argumentos son inválidos
+	 * @throws SecurityException Si hay problemas de seguridad
+	 * @throws ClassNotFoundException Si no se encuentra una clase
+	 * @throws InstantiationException Si hay problemas al instanciar
+	 * @throws IllegalAccessException Si hay problemas de acceso
+	 * @throws InvocationTargetException Si hay problemas en la invocación
+	 * @throws NoSuchMethodException Si no se encuentra un método
+	 */
+	@Override
+	public State stateSearch(State stateCurrent, Iterator<State> neighbors) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		FitnessComparator fitness = fitness();
+		State reference = stateCurrent != null && stateCurrent.evalSize() > 0 ? stateCurrent : null;
+		State best = null;
+		while (neighbors.hasNext()) {
+			State neighbor = evaluated(neighbors.next());
+			if (reference != null && isBetter(neighbor, reference, fitness)) {
+				return neighbor;
+			}
+			if (isBetter(neighbor, best, fitness)) {
+				best = neighbor;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * @brief Sin estado de referencia devuelve el mejor vecino de la lista
+	 * @param listNeighborhood Lista de estados vecinos
+	 * @return State Mejor vecino según el tipo de problema
+	 */
+	@Override
+	public State stateSearch(List<State> listNeighborhood) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		if (listNeighborhood == null || listNeighborhood.isEmpty()) {
+			return null;
+		}
+		return stateSearch(null, listNeighborhood.iterator());
+	}
+}
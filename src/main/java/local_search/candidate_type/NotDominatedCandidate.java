@@ -47,13 +47,13 @@ public class NotDominatedCandidate extends SearchCandidate {
 			state = stateA;
 		}
 		else {
-			Strategy.getStrategy().getProblem().Evaluate(stateA);
+			// solo se comparan los dos primeros vecinos: se evalúan en un único lote
+			Strategy.getStrategy().getProblem().evaluateAll(listNeighborhood.subList(0, 2));
 			State stateB = new State();
 			Dominance dominance = new Dominance();
 			for (int i = 1; i < listNeighborhood.size(); i++) {
 				while(stop == false){
 					stateB = listNeighborhood.get(i);
-					Strategy.getStrategy().getProblem().Evaluate(stateB);
 					if(dominance.dominance(stateB, stateA) == true){
 						stateA = stateB;
 					}else{
@@ -10,6 +10,8 @@ package local_search.candidate_type;
 
 import java.util.List;
 
+import config.RandomService;
+
 import problem.definition.State;
 
 /**
@@ -31,7 +33,7 @@ public class RandomCandidate extends SearchCandidate {
 		if(listNeighborhood == null || listNeighborhood.isEmpty()){
 			return null;
 		}
-		int pos = (int)(Math.random() * (double)(listNeighborhood.size()));
+		int pos = (int)(RandomService.nextDouble() * (double)(listNeighborhood.size()));
 		State stateAleatory = listNeighborhood.get(pos);
 		return stateAleatory;
 	}
@@ -0,0 +1,141 @@
+/**
+ * @file SampledBestOfKCandidate.java
+ * @brief Implementación de búsqueda del mejor de una muestra de vecinos
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.candidate_type;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Iterator;
+import java.util.List;
+
+import config.RandomService;
+
+import problem.definition.FitnessComparator;
+import problem.definition.State;
+
+/**
+ * @class SampledBestOfKCandidate
+ * @brief Clase que selecciona el mejor de k vecinos tomados al azar
+ * 
+ * Con vecinos generados bajo demanda toma los k primeros, que ya son una
+ * muestra aleatoria porque los operadores sortean cada vecino; el resto no
+ * se construye. Con una lista completa elige k posiciones distintas al azar
+ * con el algoritmo de Floyd, que solo guarda las k posiciones elegidas.
+ */
+public class SampledBestOfKCandidate extends SearchCandidate {
+
+	/** @brief Tamaño de muestra por defecto */
+	public static final int DEFAULT_K = 8;
+
+	/** @brief Tamaño de la muestra */
+	private final int k;
+
+	/** @brief Posiciones ya elegidas de la lista, reutilizadas entre llamadas */
+	private final int[] chosen;
+
+	/**
+	 * @brief Crea el criterio con el tamaño de muestra por defecto
+	 */
+	public SampledBestOfKCandidate() {
+		this(DEFAULT_K);
+	}
+
+	/**
+	 * @brief Crea el criterio con un tamaño de muestra dado
+	 * @param k Vecinos a comparar; valores menores que 1 se tratan como 1
+	 */
+	public SampledBestOfKCandidate(int k) {
+		this.k = Math.max(1, k);
+		this.chosen = new int[this.k];
+	}
+
+	/**
+	 * @brief Tamaño de la muestra
+	 * @return Vecinos que se comparan en cada búsqueda
+	 */
+	public int getK() {
+		return k;
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return true;
+	}
+
+	/**
+	 * @brief Busca el mejor de los k primeros vecinos
+	 * @param stateCurrent Estado de referencia (no se usa)
+	 * @param neighbors Vecinos generados bajo demanda
+	 * @return State Mejor vecino de la muestra según el tipo de problema
+	 * @throws IllegalArgumentException Si los argumentos son inválidos
+	 * @throws SecurityException Si hay problemas de seguridad
+	 * @throws ClassNotFoundException Si no se encuentra una clase
+	 * @throws InstantiationException Si hay problemas al instanciar
+	 * @throws IllegalAccessException Si hay problemas de acceso
+	 * @throws InvocationTargetException Si hay problemas en la invocación
+	 * @throws NoSuchMethodException Si no se encuentra un método
+	 */
+	@Override
+	public State stateSearch(State stateCurrent, Iterator<State> neighbors) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		FitnessComparator fitness = fitness();
+		State best = null;
+		for (int i = 0; i < k && neighbors.hasNext(); i++) {
+			State neighbor = evaluated(neighbors.next());
+			if (isBetter(neighbor, best, fitness)) {
+				best = neighbor;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * @brief Busca el mejor de k vecinos elegidos al azar de la lista
+	 * @param listNeighborhood Lista de estados vecinos
+	 * @return State Mejor vecino de la muestra según el tipo de problema
+	 */
+	@Override
+	public State stateSearch(List<State> listNeighborhood) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		if (listNeighborhood == null || listNeighborhood.isEmpty()) {
+			return null;
+		}
+		int size = listNeighborhood.size();
+		FitnessComparator fitness = fitness();
+		State best = null;
+		if (k >= size) {
+			for (State state : listNeighborhood) {
+				State neighbor = evaluated(state);
+				if (isBetter(neighbor, best, fitness)) {
+					best = neighbor;
+				}
+			}
+			return best;
+		}
+		// Floyd: para j en [size-k, size) toma t en [0, j]; si ya salió, toma j
+		int count = 0;
+		for (int j = size - k; j < size; j++) {
+			int pos = (int) (RandomService.nextDouble() * (double) (j + 1));
+			if (isChosen(pos, count)) {
+				pos = j;
+			}
+			chosen[count++] = pos;
+			State neighbor = evaluated(listNeighborhood.get(pos));
+			if (isBetter(neighbor, best, fitness)) {
+				best = neighbor;
+			}
+		}
+		return best;
+	}
+
+	private boolean isChosen(int pos, int count) {
+		for (int i = 0; i < count; i++) {
+			if (chosen[i] == pos) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -9,8 +9,12 @@
 package local_search.candidate_type;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
+import metaheurictics.strategy.Strategy;
+import problem.definition.FitnessComparator;
 import problem.definition.State;
 
 /**
@@ -35,4 +39,75 @@ public abstract class SearchCandidate {
 	 * @throws NoSuchMethodException Si no se encuentra un método
 	 */
 	public abstract State stateSearch(List<State> listNeighborhood) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException ;
+
+	/**
+	 * @brief Indica si la estrategia consume el vecindario de forma incremental
+	 * 
+	 * Si devuelve true, CandidateValue le pasa los vecinos con
+	 * stateSearch(State, Iterator) y solo se construyen y evalúan los que
+	 * llega a pedir.
+	 * @return false por defecto
+	 */
+	public boolean isStreaming() {
+		return false;
+	}
+
+	/**
+	 * @brief Busca un estado pidiendo los vecinos de uno en uno
+	 * 
+	 * Los vecinos sin evaluación (evalSize() == 0) deben evaluarse con
+	 * evaluated() antes de compararlos. La implementación por defecto recoge
+	 * todos los vecinos y llama a stateSearch(List).
+	 * @param stateCurrent Estado de referencia, puede ser null
+	 * @param neighbors Vecinos generados bajo demanda
+	 * @return State Estado seleccionado
+	 * @throws IllegalArgumentException Si los argumentos son inválidos
+	 * @throws SecurityException Si hay problemas de seguridad
+	 * @throws ClassNotFoundException Si no se encuentra una clase
+	 * @throws InstantiationException Si hay problemas al instanciar
+	 * @throws IllegalAccessException Si hay problemas de acceso
+	 * @throws InvocationTargetException Si hay problemas en la invocación
+	 * @throws NoSuchMethodException Si no se encuentra un método
+	 */
+	public State stateSearch(State stateCurrent, Iterator<State> neighbors) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		List<State> listNeighborhood = new ArrayList<State>();
+		while (neighbors.hasNext()) {
+			listNeighborhood.add(neighbors.next());
+		}
+		return stateSearch(listNeighborhood);
+	}
+
+	/**
+	 * @brief Evalúa el vecino si todavía no tiene evaluación
+	 * @param state Vecino
+	 * @return El mismo vecino, evaluado
+	 */
+	protected static State evaluated(State state) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		if (state.evalSize() == 0) {
+			Strategy.getStrategy().getProblem().Evaluate(state);
+		}
+		return state;
+	}
+
+	/**
+	 * @brief Sentido del objetivo del problema actual
+	 * @return Comparador del problema; sin problema se minimiza
+	 */
+	protected static FitnessComparator fitness() {
+		return FitnessComparator.of(Strategy.getStrategy().getProblem());
+	}
+
+	/**
+	 * @brief Compara dos estados evaluados según el tipo de problema
+	 * @param candidate Estado candidato
+	 * @param current Estado evaluado con el que se compara, o null
+	 * @param fitness Sentido del objetivo
+	 * @return true si candidate es estrictamente mejor que current, o si current es null
+	 */
+	protected static boolean isBetter(State candidate, State current, FitnessComparator fitness) {
+		if (current == null) {
+			return true;
+		}
+		return fitness.isBetter(candidate.evalAt(0), current.evalAt(0));
+	}
 }
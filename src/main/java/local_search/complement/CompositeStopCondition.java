@@ -0,0 +1,71 @@
+/**
+ * @file CompositeStopCondition.java
+ * @brief Combinación AND/OR de criterios de parada
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import metaheurictics.strategy.Strategy;
+
+/**
+ * @class CompositeStopCondition
+ * @brief Se cumple cuando se cumplen todos (AND) o alguno (OR) de sus criterios
+ * 
+ * Se consultan todos los criterios en cada comprobación, sin cortocircuito,
+ * para que los que siguen la corrida (como Stagnation) vean todas las iteraciones.
+ */
+public class CompositeStopCondition implements StopCondition {
+
+	/** @brief true para AND, false para OR */
+	private final boolean all;
+
+	/** @brief Criterios combinados */
+	private final List<StopCondition> conditions;
+
+	public CompositeStopCondition(boolean all, StopCondition... conditions) {
+		if (conditions == null || conditions.length == 0) {
+			throw new IllegalArgumentException("At least one stop condition is required");
+		}
+		List<StopCondition> list = new ArrayList<StopCondition>(conditions.length);
+		for (StopCondition condition : conditions) {
+			if (condition == null) {
+				throw new IllegalArgumentException("Stop conditions must not be null");
+			}
+			list.add(condition);
+		}
+		this.all = all;
+		this.conditions = Collections.unmodifiableList(list);
+	}
+
+	@Override
+	public void start(Strategy strategy) {
+		for (int i = 0; i < conditions.size(); i++) {
+			conditions.get(i).start(strategy);
+		}
+	}
+
+	@Override
+	public boolean isSatisfied(Strategy strategy) {
+		boolean result = all;
+		for (int i = 0; i < conditions.size(); i++) {
+			boolean satisfied = conditions.get(i).isSatisfied(strategy);
+			result = all ? result && satisfied : result || satisfied;
+		}
+		return result;
+	}
+
+	public boolean isAll() {
+		return all;
+	}
+
+	public List<StopCondition> getConditions() {
+		return conditions;
+	}
+}
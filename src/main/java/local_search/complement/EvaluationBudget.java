@@ -0,0 +1,61 @@
+/**
+ * @file EvaluationBudget.java
+ * @brief Criterio de parada por número de evaluaciones
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+import metaheurictics.strategy.Strategy;
+import problem.definition.Problem;
+
+/**
+ * @class EvaluationBudget
+ * @brief Se cumple al alcanzar el máximo de evaluaciones de la función objetivo
+ * 
+ * Cuenta las evaluaciones registradas por Problem.Evaluate desde el inicio de
+ * la corrida. Las respuestas de la caché de evaluaciones no cuentan, ni las
+ * evaluaciones incrementales (evaluateDelta) que no pasan por Evaluate.
+ */
+public class EvaluationBudget implements StopCondition {
+
+	/** @brief Máximo de evaluaciones */
+	private final long maxEvaluations;
+
+	/** @brief Evaluaciones del problema al inicio de la corrida */
+	private long baseline;
+
+	public EvaluationBudget(long maxEvaluations) {
+		if (maxEvaluations < 0) {
+			throw new IllegalArgumentException("maxEvaluations must be >= 0");
+		}
+		this.maxEvaluations = maxEvaluations;
+	}
+
+	@Override
+	public void start(Strategy strategy) {
+		Problem problem = strategy.getProblem();
+		baseline = problem == null ? 0 : problem.getEvaluationCount();
+	}
+
+	@Override
+	public boolean isSatisfied(Strategy strategy) {
+		return evaluations(strategy) >= maxEvaluations;
+	}
+
+	/**
+	 * @brief Evaluaciones realizadas desde el último start()
+	 * @param strategy Estrategia en ejecución
+	 * @return Número de evaluaciones
+	 */
+	public long evaluations(Strategy strategy) {
+		Problem problem = strategy.getProblem();
+		return problem == null ? 0 : problem.getEvaluationCount() - baseline;
+	}
+
+	public long getMaxEvaluations() {
+		return maxEvaluations;
+	}
+}
@@ -0,0 +1,39 @@
+/**
+ * @file IterationBudget.java
+ * @brief Criterio de parada por número de iteraciones
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+import metaheurictics.strategy.Strategy;
+
+/**
+ * @class IterationBudget
+ * @brief Se cumple cuando el contador de iteraciones llega al máximo
+ * 
+ * Equivale a StopExecute.stopIterations, pero puede combinarse con otros criterios.
+ */
+public class IterationBudget implements StopCondition {
+
+	/** @brief Máximo de iteraciones */
+	private final int maxIterations;
+
+	public IterationBudget(int maxIterations) {
+		if (maxIterations < 0) {
+			throw new IllegalArgumentException("maxIterations must be >= 0");
+		}
+		this.maxIterations = maxIterations;
+	}
+
+	@Override
+	public boolean isSatisfied(Strategy strategy) {
+		return strategy.getCountCurrent() >= maxIterations;
+	}
+
+	public int getMaxIterations() {
+		return maxIterations;
+	}
+}
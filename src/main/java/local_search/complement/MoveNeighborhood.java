@@ -0,0 +1,371 @@
+/**
+ * @file MoveNeighborhood.java
+ * @brief Generación de vecindarios puntuados con evaluación incremental
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import config.RandomService;
+
+import local_search.candidate_type.CandidateType;
+import metaheurictics.strategy.Strategy;
+import problem.definition.FitnessComparator;
+import problem.definition.Move;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.Problem;
+import problem.definition.State;
+
+/**
+ * @class MoveNeighborhood
+ * @brief Vecindario de los generadores de búsqueda local
+ * 
+ * Si el operador emite movimientos y la función objetivo admite
+ * evaluateDelta(), cada vecino se puntúa como valor del estado base más la
+ * variación del movimiento, sin recalcular el objetivo completo. En otro
+ * caso se usa generatedNewState() como hasta ahora. select() elige el
+ * vecino directamente sobre los movimientos y solo construye el elegido.
+ */
+public final class MoveNeighborhood {
+
+	private MoveNeighborhood() {
+	}
+
+	/**
+	 * @brief Función objetivo que puede puntuar movimientos
+	 * @param problem Problema actual
+	 * @return La función de un problema mono-objetivo con supportsDelta(), o null
+	 */
+	public static ObjetiveFunction deltaFunction(Problem problem) {
+		if (problem == null || problem.getTypeSolutionMethod() != null) {
+			return null;
+		}
+		List<ObjetiveFunction> functions = problem.getFunction();
+		if (functions == null || functions.isEmpty() || functions.get(0) == null) {
+			return null;
+		}
+		return functions.get(0).supportsDelta() ? functions.get(0) : null;
+	}
+
+	/**
+	 * @brief Valor objetivo del vecino obtenido al aplicar un movimiento
+	 * @param function Función con evaluación incremental
+	 * @param base Estado base ya evaluado
+	 * @param move Movimiento a puntuar
+	 * @return Evaluación del estado base más la variación del movimiento
+	 */
+	public static double evaluateMove(ObjetiveFunction function, State base, Move move) {
+		return base.evalAt(0) + function.evaluateDelta(base, move);
+	}
+
+	/**
+	 * @brief Genera el vecindario del estado actual
+	 * @param stateCurrent Estado de referencia del generador
+	 * @param operatornumber Número de vecinos
+	 * @return Vecinos, ya evaluados cuando se usó la evaluación incremental
+	 */
+	public static List<State> generate(State stateCurrent, Integer operatornumber) {
+		Problem problem = Strategy.getStrategy().getProblem();
+		Operator operator = problem.getOperator();
+		if (deltaFunction(problem) != null && stateCurrent != null && stateCurrent.evalSize() > 0) {
+			List<Move> moves = operator.generatedMoves(stateCurrent, operatornumber);
+			if (moves != null) {
+				return materialize(stateCurrent, moves);
+			}
+		}
+		return operator.generatedNewState(stateCurrent, operatornumber);
+	}
+
+	/**
+	 * @brief Construye los estados de una lista de movimientos
+	 * @param stateCurrent Estado base
+	 * @param moves Movimientos del vecindario
+	 * @return Un vecino por movimiento, puntuado con evaluateDelta() si es posible
+	 */
+	public static List<State> materialize(State stateCurrent, List<Move> moves) {
+		ObjetiveFunction function = deltaFunction(Strategy.getStrategy().getProblem());
+		boolean delta = function != null && stateCurrent.evalSize() > 0;
+		List<State> neighborhood = new ArrayList<State>(moves.size());
+		for (Move move : moves) {
+			State neighbor = move.applyTo(stateCurrent);
+			if (delta) {
+				neighbor.setEvaluation(evaluation(evaluateMove(function, stateCurrent, move)));
+			}
+			neighborhood.add(neighbor);
+		}
+		return neighborhood;
+	}
+
+	/**
+	 * @brief Vecindario del estado actual como Stream
+	 * 
+	 * Usa Operator.generatedNeighbors(), que construye cada vecino al
+	 * consumirlo; si el operador no lo admite recorre la lista de
+	 * generatedNewState(). El Stream es secuencial; parallel() solo es seguro
+	 * si el operador lo es.
+	 * @param stateCurrent Estado de referencia
+	 * @param operatornumber Número de vecinos
+	 * @return Vecinos en el orden del operador
+	 */
+	public static Stream<State> stream(State stateCurrent, Integer operatornumber) {
+		Operator operator = Strategy.getStrategy().getProblem().getOperator();
+		Spliterator<State> neighbors = operator.generatedNeighbors(stateCurrent, operatornumber);
+		if (neighbors == null) {
+			List<State> list = operator.generatedNewState(stateCurrent, operatornumber);
+			return list == null ? Stream.<State>empty() : list.stream();
+		}
+		return StreamSupport.stream(neighbors, false);
+	}
+
+	/**
+	 * @brief Estados aleatorios como Stream
+	 * @param operatornumber Número de estados
+	 * @return Estados de Operator.generatedRandomStates(), o de generateRandomState() si no lo admite
+	 */
+	public static Stream<State> randomStates(Integer operatornumber) {
+		Operator operator = Strategy.getStrategy().getProblem().getOperator();
+		Spliterator<State> states = operator.generatedRandomStates(operatornumber);
+		if (states == null) {
+			List<State> list = operator.generateRandomState(operatornumber);
+			return list == null ? Stream.<State>empty() : list.stream();
+		}
+		return StreamSupport.stream(states, false);
+	}
+
+	/**
+	 * @brief Elige un vecino consumiendo el vecindario de uno en uno
+	 * 
+	 * RANDOM_CANDIDATE toma el primer vecino, que ya es aleatorio.
+	 * GREATER_CANDIDATE y SMALLER_CANDIDATE evalúan cada vecino al recibirlo y
+	 * solo conservan el mejor, con los empates a favor del primero.
+	 * @param stateCurrent Estado base
+	 * @param neighbors Vecinos sin evaluar
+	 * @param typeCandidate Criterio de selección
+	 * @return Vecino elegido, o null si no hay vecinos o el criterio necesita la lista completa
+	 */
+	public static State select(State stateCurrent, Stream<State> neighbors, CandidateType typeCandidate) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		if (typeCandidate == CandidateType.RANDOM_CANDIDATE) {
+			return neighbors.findFirst().orElse(null);
+		}
+		if (typeCandidate != CandidateType.GREATER_CANDIDATE && typeCandidate != CandidateType.SMALLER_CANDIDATE) {
+			return null;
+		}
+		FitnessComparator fitness = fitness(typeCandidate);
+		Problem problem = Strategy.getStrategy().getProblem();
+		State best = null;
+		Iterator<State> iterator = neighbors.iterator();
+		while (iterator.hasNext()) {
+			State neighbor = iterator.next();
+			problem.Evaluate(neighbor);
+			if (best == null || fitness.isBetter(neighbor.evalAt(0), best.evalAt(0))) {
+				best = neighbor;
+			}
+		}
+		if (best != null) {
+			Strategy.getStrategy().markEvaluated(best);
+		}
+		return best;
+	}
+
+	/**
+	 * @brief Recorre el vecindario construyendo cada vecino al pedirlo
+	 * 
+	 * Con evaluateDelta() el vecino llega puntuado; en otro caso llega sin
+	 * evaluación (evalSize() == 0) para que quien lo pida decida si evaluarlo.
+	 * @param stateCurrent Estado base
+	 * @param moves Movimientos del vecindario
+	 * @return Iterador perezoso sobre los vecinos
+	 */
+	public static LazyNeighbors lazy(State stateCurrent, List<Move> moves) {
+		ObjetiveFunction function = deltaFunction(Strategy.getStrategy().getProblem());
+		return new LazyNeighbors(stateCurrent, moves, function != null && stateCurrent.evalSize() > 0 ? function : null);
+	}
+
+	/**
+	 * @brief Elige un vecino a partir de los movimientos sin construir el resto
+	 * 
+	 * RANDOM_CANDIDATE construye solo el movimiento sorteado. GREATER_CANDIDATE
+	 * y SMALLER_CANDIDATE puntúan los movimientos con evaluateDelta() y
+	 * construyen solo el ganador; sin evaluación incremental construyen y
+	 * evalúan los vecinos de uno en uno, conservando únicamente el mejor, y
+	 * lo registran con Strategy.markEvaluated() para no evaluarlo otra vez.
+	 * Los empates se resuelven a favor del primero, como en GreaterCandidate y
+	 * SmallerCandidate. Con ParallelMoveSearch activado, los vecindarios
+	 * grandes se puntúan en paralelo con el mismo resultado.
+	 * @param stateCurrent Estado base
+	 * @param moves Movimientos del vecindario, no vacío
+	 * @param typeCandidate Criterio de selección
+	 * @return Vecino elegido, o null si el criterio necesita el vecindario completo
+	 */
+	public static State select(State stateCurrent, List<Move> moves, CandidateType typeCandidate) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		Selection selection = choose(stateCurrent, moves, typeCandidate);
+		return selection != null ? selection.getState() : null;
+	}
+
+	/**
+	 * @brief Igual que select(), pero devuelve también el movimiento elegido
+	 * @param stateCurrent Estado base
+	 * @param moves Movimientos del vecindario, no vacío
+	 * @param typeCandidate Criterio de selección
+	 * @return Movimiento y vecino elegidos, o null si el criterio necesita el vecindario completo
+	 */
+	public static Selection choose(State stateCurrent, List<Move> moves, CandidateType typeCandidate) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		Problem problem = Strategy.getStrategy().getProblem();
+		ObjetiveFunction function = deltaFunction(problem);
+		boolean delta = function != null && stateCurrent.evalSize() > 0;
+		if (typeCandidate == CandidateType.RANDOM_CANDIDATE) {
+			Move move = moves.get((int) (RandomService.nextDouble() * (double) moves.size()));
+			State neighbor = move.applyTo(stateCurrent);
+			if (delta) {
+				neighbor.setEvaluation(evaluation(evaluateMove(function, stateCurrent, move)));
+			}
+			return new Selection(move, neighbor);
+		}
+		if (typeCandidate != CandidateType.GREATER_CANDIDATE && typeCandidate != CandidateType.SMALLER_CANDIDATE) {
+			return null;
+		}
+		FitnessComparator fitness = fitness(typeCandidate);
+		if (ParallelMoveSearch.applies(moves.size())) {
+			return ParallelMoveSearch.best(problem, delta ? function : null, stateCurrent, moves, fitness);
+		}
+		if (delta) {
+			Move best = null;
+			double bestValue = 0;
+			for (Move move : moves) {
+				double value = evaluateMove(function, stateCurrent, move);
+				if (best == null || fitness.isBetter(value, bestValue)) {
+					best = move;
+					bestValue = value;
+				}
+			}
+			State neighbor = best.applyTo(stateCurrent);
+			neighbor.setEvaluation(evaluation(bestValue));
+			return new Selection(best, neighbor);
+		}
+		Move bestMove = null;
+		State best = null;
+		for (Move move : moves) {
+			State neighbor = move.applyTo(stateCurrent);
+			problem.Evaluate(neighbor);
+			if (best == null || fitness.isBetter(neighbor.evalAt(0), best.evalAt(0))) {
+				bestMove = move;
+				best = neighbor;
+			}
+		}
+		Strategy.getStrategy().markEvaluated(best); // el ciclo no vuelve a evaluar al ganador
+		return new Selection(bestMove, best);
+	}
+
+	/**
+	 * @brief Sentido de la comparación de un criterio de selección
+	 * @param typeCandidate GREATER_CANDIDATE o SMALLER_CANDIDATE
+	 * @return MAXIMIZE para GREATER_CANDIDATE, MINIMIZE en otro caso
+	 */
+	private static FitnessComparator fitness(CandidateType typeCandidate) {
+		return typeCandidate == CandidateType.GREATER_CANDIDATE ? FitnessComparator.MAXIMIZE : FitnessComparator.MINIMIZE;
+	}
+
+	static ArrayList<Double> evaluation(double value) {
+		ArrayList<Double> evaluation = new ArrayList<Double>(1);
+		evaluation.add(value);
+		return evaluation;
+	}
+
+	/**
+	 * @class Selection
+	 * @brief Movimiento elegido y vecino construido a partir de él
+	 */
+	public static final class Selection {
+
+		private final Move move;
+
+		private final State state;
+
+		public Selection(Move move, State state) {
+			this.move = move;
+			this.state = state;
+		}
+
+		public Move getMove() {
+			return move;
+		}
+
+		public State getState() {
+			return state;
+		}
+	}
+
+	/**
+	 * @class LazyNeighbors
+	 * @brief Iterador que construye los vecinos de uno en uno
+	 */
+	public static final class LazyNeighbors implements Iterator<State> {
+
+		private final State base;
+
+		private final List<Move> moves;
+
+		private final ObjetiveFunction function;
+
+		/** Cantidad de vecinos construidos; el siguiente usa moves.get(count) */
+		private int count;
+
+		/** Último vecino entregado */
+		private State last;
+
+		private LazyNeighbors(State base, List<Move> moves, ObjetiveFunction function) {
+			this.base = base;
+			this.moves = moves;
+			this.function = function;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return count < moves.size();
+		}
+
+		@Override
+		public State next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			Move move = moves.get(count++);
+			State neighbor = move.applyTo(base);
+			neighbor.setEvaluation(function != null ? evaluation(evaluateMove(function, base, move)) : null);
+			last = neighbor;
+			return neighbor;
+		}
+
+		/**
+		 * @brief Número de vecinos construidos hasta ahora
+		 * @return Vecinos pedidos al iterador
+		 */
+		public int builtCount() {
+			return count;
+		}
+
+		/**
+		 * @brief Movimiento que produjo el último vecino entregado
+		 * 
+		 * Solo se recuerda el último vecino, así que un candidato elegido
+		 * antes de seguir pidiendo vecinos no tiene movimiento conocido.
+		 * @param neighbor Vecino
+		 * @return Su movimiento, o null si no es el último entregado por este iterador
+		 */
+		public Move moveOf(State neighbor) {
+			return neighbor != null && neighbor == last ? moves.get(count - 1) : null;
+		}
+	}
+}
@@ -0,0 +1,300 @@
+/**
+ * @file ParallelMoveSearch.java
+ * @brief Búsqueda paralela del mejor movimiento del vecindario
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
+import problem.definition.FitnessComparator;
+import problem.definition.Move;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Problem;
+import problem.definition.State;
+import problem.extension.BatchEvaluator;
+
+/**
+ * @class ParallelMoveSearch
+ * @brief Reparte la evaluación de los movimientos en tramos sobre un ForkJoinPool
+ * 
+ * Lo usa MoveNeighborhood.choose() con GREATER_CANDIDATE y SMALLER_CANDIDATE
+ * cuando está activado y el vecindario alcanza el umbral. Los movimientos se
+ * generan en el hilo que llama; cada tarea puntúa un tramo contiguo (con
+ * evaluateDelta() o construyendo y evaluando cada vecino) y conserva solo su
+ * mejor vecino. Al combinar dos tramos gana el de la izquierda en caso de
+ * empate, así que el resultado es el mismo que el recorrido secuencial y no
+ * depende del número de hilos ni del reparto del trabajo.
+ * 
+ * Las funciones objetivo deben ser seguras entre hilos, como con
+ * ForkJoinEvaluator. El StrategyContext del hilo que llama se propaga a los
+ * hilos del pool. La configuración (activación, umbral, tramo y pool) es por
+ * corrida: los campos estáticos son los valores que copia cada StrategyContext
+ * al crearse y los que se usan sin contexto ligado.
+ */
+public final class ParallelMoveSearch {
+
+	/** @brief Activa la búsqueda paralela; valor por omisión de cada StrategyContext */
+	public static volatile boolean enabled;
+
+	/** @brief Número mínimo de movimientos para repartir el trabajo; valor por omisión */
+	public static volatile int threshold = 64;
+
+	/** @brief Movimientos que evalúa cada tarea sin volver a dividir; valor por omisión */
+	public static volatile int chunkSize = 16;
+
+	/** @brief Pool donde se ejecutan las tareas; valor por omisión, null para el pool común */
+	public static volatile ForkJoinPool pool;
+
+	private ParallelMoveSearch() {
+	}
+
+	/**
+	 * @brief Indica si un vecindario de este tamaño se evalúa en paralelo
+	 * @param size Número de movimientos
+	 * @return true si está activado y se alcanza el umbral
+	 */
+	public static boolean applies(int size) {
+		return isEnabled() && size >= Math.max(2, getThreshold());
+	}
+
+	/**
+	 * @brief Indica si la búsqueda paralela está activada en la corrida actual
+	 * @return Valor del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static boolean isEnabled() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.isParallelMoves() : enabled;
+	}
+
+	/**
+	 * @brief Activa o desactiva la búsqueda paralela en la corrida actual
+	 * @param value true para activarla
+	 */
+	public static void setEnabled(boolean value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setParallelMoves(value);
+		} else {
+			enabled = value;
+		}
+	}
+
+	/**
+	 * @brief Obtiene el umbral de movimientos de la corrida actual
+	 * @return Valor del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static int getThreshold() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getParallelThreshold() : threshold;
+	}
+
+	/**
+	 * @brief Establece el umbral de movimientos de la corrida actual
+	 * @param value Número mínimo de movimientos para repartir el trabajo
+	 */
+	public static void setThreshold(int value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setParallelThreshold(value);
+		} else {
+			threshold = value;
+		}
+	}
+
+	/**
+	 * @brief Obtiene el tamaño de tramo de la corrida actual
+	 * @return Valor del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static int getChunkSize() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getParallelChunkSize() : chunkSize;
+	}
+
+	/**
+	 * @brief Establece el tamaño de tramo de la corrida actual
+	 * @param value Movimientos que evalúa cada tarea sin volver a dividir
+	 */
+	public static void setChunkSize(int value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setParallelChunkSize(value);
+		} else {
+			chunkSize = value;
+		}
+	}
+
+	/**
+	 * @brief Obtiene el pool de la corrida actual
+	 * @return Pool del StrategyContext ligado o el estático, o el pool común si no hay ninguno
+	 */
+	public static ForkJoinPool getPool() {
+		StrategyContext context = StrategyContext.current();
+		ForkJoinPool current = context != null ? context.getParallelPool() : pool;
+		return current == null ? ForkJoinPool.commonPool() : current;
+	}
+
+	/**
+	 * @brief Establece el pool de la corrida actual
+	 * @param value Pool de las tareas, o null para el pool común
+	 */
+	public static void setPool(ForkJoinPool value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setParallelPool(value);
+		} else {
+			pool = value;
+		}
+	}
+
+	/**
+	 * @brief Busca el movimiento con mejor evaluación
+	 * @param problem Problema, para evaluar vecinos completos cuando function es null
+	 * @param function Función con evaluación incremental, o null
+	 * @param stateCurrent Estado base
+	 * @param moves Movimientos del vecindario, no vacío
+	 * @param fitness Sentido de la comparación
+	 * @return Movimiento ganador y su vecino ya evaluado
+	 */
+	public static MoveNeighborhood.Selection best(Problem problem, ObjetiveFunction function, State stateCurrent, List<Move> moves, FitnessComparator fitness) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		// la configuración se lee en el hilo que llama: los del pool no tienen el contexto ligado al dividir
+		BestTask task = new BestTask(problem, function, stateCurrent, moves, fitness, StrategyContext.current(), Math.max(1, getChunkSize()), 0, moves.size());
+		Best best;
+		try {
+			best = getPool().invoke(task);
+		} catch (SearchFailure e) {
+			Throwable cause = e;
+			while (cause instanceof SearchFailure && cause.getCause() != null) {
+				cause = cause.getCause();
+			}
+			BatchEvaluator.rethrow(cause);
+			throw e;
+		}
+		Move move = moves.get(best.index);
+		State neighbor = best.state;
+		if (neighbor == null) {
+			neighbor = move.applyTo(stateCurrent);
+			neighbor.setEvaluation(MoveNeighborhood.evaluation(best.value));
+		} else {
+			Strategy.getStrategy().markEvaluated(neighbor); // ya pasó por Problem.Evaluate
+		}
+		return new MoveNeighborhood.Selection(move, neighbor);
+	}
+
+	/**
+	 * @brief Mejor movimiento de un tramo
+	 */
+	private static final class Best {
+
+		private final int index;
+
+		private final double value;
+
+		/** Vecino ya construido, o null si se puntuó con evaluateDelta() */
+		private final State state;
+
+		private Best(int index, double value, State state) {
+			this.index = index;
+			this.value = value;
+			this.state = state;
+		}
+	}
+
+	/**
+	 * @brief Tarea que divide el rango de movimientos y combina los mejores
+	 */
+	private static final class BestTask extends RecursiveTask<Best> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Problem problem;
+
+		private final ObjetiveFunction function;
+
+		private final State base;
+
+		private final List<Move> moves;
+
+		private final FitnessComparator fitness;
+
+		private final StrategyContext context;
+
+		private final int chunk;
+
+		private final int from;
+
+		private final int to;
+
+		private BestTask(Problem problem, ObjetiveFunction function, State base, List<Move> moves, FitnessComparator fitness, StrategyContext context, int chunk, int from, int to) {
+			this.problem = problem;
+			this.function = function;
+			this.base = base;
+			this.moves = moves;
+			this.fitness = fitness;
+			this.context = context;
+			this.chunk = chunk;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Best compute() {
+			if (to - from <= chunk) {
+				try {
+					return context == null ? scan() : context.callWorker(this::scan);
+				} catch (Exception e) {
+					throw new SearchFailure(e);
+				}
+			}
+			int middle = (from + to) >>> 1;
+			BestTask right = new BestTask(problem, function, base, moves, fitness, context, chunk, middle, to);
+			right.fork();
+			Best left = new BestTask(problem, function, base, moves, fitness, context, chunk, from, middle).compute();
+			Best other = right.join();
+			return better(other, left) ? other : left;
+		}
+
+		private Best scan() throws Exception {
+			Best best = null;
+			for (int i = from; i < to; i++) {
+				Move move = moves.get(i);
+				Best current;
+				if (function != null) {
+					current = new Best(i, MoveNeighborhood.evaluateMove(function, base, move), null);
+				} else {
+					State neighbor = move.applyTo(base);
+					problem.Evaluate(neighbor);
+					current = new Best(i, neighbor.evalAt(0), neighbor);
+				}
+				if (best == null || better(current, best)) {
+					best = current;
+				}
+			}
+			return best;
+		}
+
+		private boolean better(Best candidate, Best current) {
+			return fitness.isBetter(candidate.value, current.value);
+		}
+	}
+
+	/**
+	 * @brief Transporta las excepciones comprobadas fuera del pool
+	 */
+	private static final class SearchFailure extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private SearchFailure(Throwable cause) {
+			super(cause);
+		}
+	}
+}
@@ -0,0 +1,59 @@
+/**
+ * @file Stagnation.java
+ * @brief Criterio de parada por estancamiento
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+import metaheurictics.strategy.Strategy;
+
+/**
+ * @class Stagnation
+ * @brief Se cumple tras un número de iteraciones sin mejorar el mejor estado
+ * 
+ * Solo cuenta como mejora una evaluación estrictamente mejor según el tipo de
+ * problema; un mejor estado distinto con la misma evaluación no reinicia la cuenta.
+ */
+public class Stagnation implements StopCondition {
+
+	/** @brief Iteraciones sin mejora permitidas */
+	private final int iterations;
+
+	/** @brief Mejor evaluación vista, null antes de la primera comprobación */
+	private Double bestFitness;
+
+	/** @brief Iteración en la que se vio la última mejora */
+	private int lastImprovement;
+
+	public Stagnation(int iterations) {
+		if (iterations < 1) {
+			throw new IllegalArgumentException("iterations must be >= 1");
+		}
+		this.iterations = iterations;
+	}
+
+	@Override
+	public void start(Strategy strategy) {
+		bestFitness = null;
+		lastImprovement = strategy.getCountCurrent();
+	}
+
+	@Override
+	public boolean isSatisfied(Strategy strategy) {
+		int current = strategy.getCountCurrent();
+		Double fitness = TargetFitness.fitnessOf(strategy.getBestState());
+		if (fitness != null && (bestFitness == null || TargetFitness.fitness(strategy).isBetter(fitness, bestFitness))) {
+			bestFitness = fitness;
+			lastImprovement = current;
+			return false;
+		}
+		return current - lastImprovement >= iterations;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+}
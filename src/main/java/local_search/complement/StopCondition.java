@@ -0,0 +1,124 @@
+/**
+ * @file StopCondition.java
+ * @brief Interfaz para criterios de parada combinables
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+import java.util.concurrent.TimeUnit;
+
+import metaheurictics.strategy.Strategy;
+
+/**
+ * @interface StopCondition
+ * @brief Criterio de parada evaluado en cada iteración de Strategy.executeStrategy
+ * 
+ * Complementa a StopExecute: la ejecución termina al alcanzar el máximo de
+ * iteraciones o cuando el criterio se cumple, lo que ocurra antes. Los criterios
+ * se combinan con and() y or(); para ejecutar solo por tiempo o por
+ * evaluaciones basta pasar Integer.MAX_VALUE como máximo de iteraciones.
+ * 
+ * Un mismo criterio guarda el estado de la corrida (instante inicial, mejor
+ * evaluación vista...), por lo que no debe compartirse entre corridas simultáneas.
+ */
+public interface StopCondition {
+
+	/**
+	 * @brief Reinicia el estado del criterio al comenzar una corrida
+	 * @param strategy Estrategia que se va a ejecutar
+	 */
+	default void start(Strategy strategy) {
+	}
+
+	/**
+	 * @brief Indica si la ejecución debe detenerse
+	 * @param strategy Estrategia en ejecución
+	 * @return true si el criterio se cumple
+	 */
+	boolean isSatisfied(Strategy strategy);
+
+	/**
+	 * @brief Criterio que se cumple cuando se cumplen este y el otro
+	 * @param other Otro criterio
+	 * @return Criterio compuesto
+	 */
+	default StopCondition and(StopCondition other) {
+		return allOf(this, other);
+	}
+
+	/**
+	 * @brief Criterio que se cumple cuando se cumple este o el otro
+	 * @param other Otro criterio
+	 * @return Criterio compuesto
+	 */
+	default StopCondition or(StopCondition other) {
+		return anyOf(this, other);
+	}
+
+	/**
+	 * @brief Detiene al alcanzar un número de iteraciones
+	 * @param iterations Máximo de iteraciones
+	 * @return Criterio de parada
+	 */
+	static StopCondition maxIterations(int iterations) {
+		return new IterationBudget(iterations);
+	}
+
+	/**
+	 * @brief Detiene al agotar un tiempo de reloj medido con System.nanoTime()
+	 * @param amount Cantidad de tiempo
+	 * @param unit Unidad de la cantidad
+	 * @return Criterio de parada
+	 */
+	static StopCondition maxTime(long amount, TimeUnit unit) {
+		return new TimeBudget(unit.toNanos(amount));
+	}
+
+	/**
+	 * @brief Detiene al alcanzar un número de evaluaciones de la función objetivo
+	 * @param evaluations Máximo de llamadas a Problem.Evaluate que evalúan
+	 * @return Criterio de parada
+	 */
+	static StopCondition maxEvaluations(long evaluations) {
+		return new EvaluationBudget(evaluations);
+	}
+
+	/**
+	 * @brief Detiene cuando el mejor estado alcanza una evaluación objetivo
+	 * @param target Evaluación a alcanzar según el tipo de problema
+	 * @return Criterio de parada
+	 */
+	static StopCondition targetFitness(double target) {
+		return new TargetFitness(target);
+	}
+
+	/**
+	 * @brief Detiene tras un número de iteraciones sin mejorar el mejor estado
+	 * @param iterations Iteraciones sin mejora permitidas
+	 * @return Criterio de parada
+	 */
+	static StopCondition noImprovement(int iterations) {
+		return new Stagnation(iterations);
+	}
+
+	/**
+	 * @brief Criterio que se cumple cuando se cumplen todos
+	 * @param conditions Criterios a combinar
+	 * @return Criterio compuesto
+	 */
+	static StopCondition allOf(StopCondition... conditions) {
+		return new CompositeStopCondition(true, conditions);
+	}
+
+	/**
+	 * @brief Criterio que se cumple cuando se cumple alguno
+	 * @param conditions Criterios a combinar
+	 * @return Criterio compuesto
+	 */
+	static StopCondition anyOf(StopCondition... conditions) {
+		return new CompositeStopCondition(false, conditions);
+	}
+}
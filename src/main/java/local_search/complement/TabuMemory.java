@@ -0,0 +1,215 @@
+/**
+ * @file TabuMemory.java
+ * @brief Memoria tabú de capacidad acotada con consulta en tiempo constante
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+import problem.definition.State;
+
+/**
+ * @class TabuMemory
+ * @brief Lista tabú sobre un buffer circular con índice hash de huellas
+ * 
+ * Se comporta como una List en orden de inserción, de modo que el código que
+ * recorre la lista tabú sigue funcionando, pero quitar el elemento más
+ * antiguo es O(1) y comprobar si algo es tabú consulta un HashMap de huellas
+ * en lugar de recorrer la lista. Para estados la huella es una copia de la
+ * codificación, tomada al insertar; para atributos (movimientos o
+ * posiciones) es el propio atributo.
+ * 
+ * No es segura para hilos; cada corrida tiene la suya en su StrategyContext.
+ * 
+ * @param <T> Tipo de los elementos guardados
+ */
+public class TabuMemory<T> extends AbstractList<T> implements RandomAccess {
+
+	/** @brief Elementos en el buffer circular */
+	private Object[] elements;
+
+	/** @brief Huella guardada de cada elemento, en la misma posición */
+	private Object[] keys;
+
+	/** @brief Posición del elemento más antiguo */
+	private int head;
+
+	/** @brief Número de elementos */
+	private int size;
+
+	/** @brief Ocurrencias de cada huella */
+	private final HashMap<Object, Integer> counts = new HashMap<Object, Integer>();
+
+	/** @brief Huella que se guarda al insertar */
+	private final Function<? super T, ?> storeKey;
+
+	/** @brief Huella usada en las consultas, igual (equals/hashCode) a storeKey */
+	private final Function<? super T, ?> probeKey;
+
+	/**
+	 * @brief Crea una memoria con las funciones de huella indicadas
+	 * @param storeKey Huella estable que se guarda al insertar
+	 * @param probeKey Huella para consultar, puede evitar copias
+	 */
+	public TabuMemory(Function<? super T, ?> storeKey, Function<? super T, ?> probeKey) {
+		this.storeKey = storeKey;
+		this.probeKey = probeKey;
+		this.elements = new Object[16];
+		this.keys = new Object[16];
+	}
+
+	/**
+	 * @brief Memoria de soluciones identificadas por su codificación
+	 * @return Memoria vacía
+	 */
+	public static TabuMemory<State> forStates() {
+		return new TabuMemory<State>(State::getCode, State::codeView);
+	}
+
+	/**
+	 * @brief Memoria de atributos comparados con equals/hashCode
+	 * @return Memoria vacía
+	 */
+	public static <A> TabuMemory<A> forAttributes() {
+		return new TabuMemory<A>(Function.identity(), Function.identity());
+	}
+
+	/**
+	 * @brief Indica si hay algún elemento con la misma huella
+	 * @param element Elemento a consultar
+	 * @return true si es tabú
+	 */
+	public boolean isTabu(T element) {
+		return counts.containsKey(probeKey.apply(element));
+	}
+
+	/**
+	 * @brief Inserta el elemento respetando la capacidad, como la lista tabú clásica
+	 * 
+	 * Si la memoria está llena se descarta primero el elemento más antiguo;
+	 * después se añade el nuevo solo si no estaba ya.
+	 * @param element Elemento a insertar
+	 * @param maxElements Capacidad máxima
+	 * @return true si se añadió
+	 */
+	public boolean addUnique(T element, int maxElements) {
+		if (size >= maxElements && size > 0) {
+			remove(0);
+		}
+		if (isTabu(element)) {
+			return false;
+		}
+		add(element);
+		return true;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		checkIndex(index, size);
+		return (T) elements[slot(index)];
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public T set(int index, T element) {
+		checkIndex(index, size);
+		T previous = get(index);
+		int slot = slot(index);
+		release(keys[slot]);
+		elements[slot] = element;
+		keys[slot] = retain(element);
+		return previous;
+	}
+
+	@Override
+	public void add(int index, T element) {
+		checkIndex(index, size + 1);
+		if (size == elements.length) {
+			grow();
+		}
+		for (int i = size; i > index; i--) {
+			elements[slot(i)] = elements[slot(i - 1)];
+			keys[slot(i)] = keys[slot(i - 1)];
+		}
+		elements[slot(index)] = element;
+		keys[slot(index)] = retain(element);
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public T remove(int index) {
+		checkIndex(index, size);
+		T previous = get(index);
+		release(keys[slot(index)]);
+		if (index == 0) {
+			elements[head] = null;
+			keys[head] = null;
+			head = (head + 1) % elements.length;
+		} else {
+			for (int i = index; i < size - 1; i++) {
+				elements[slot(i)] = elements[slot(i + 1)];
+				keys[slot(i)] = keys[slot(i + 1)];
+			}
+			elements[slot(size - 1)] = null;
+			keys[slot(size - 1)] = null;
+		}
+		size--;
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		elements = new Object[16];
+		keys = new Object[16];
+		head = 0;
+		size = 0;
+		counts.clear();
+		modCount++;
+	}
+
+	private int slot(int index) {
+		return (head + index) % elements.length;
+	}
+
+	private void grow() {
+		Object[] newElements = new Object[elements.length * 2];
+		Object[] newKeys = new Object[elements.length * 2];
+		for (int i = 0; i < size; i++) {
+			newElements[i] = elements[slot(i)];
+			newKeys[i] = keys[slot(i)];
+		}
+		elements = newElements;
+		keys = newKeys;
+		head = 0;
+	}
+
+	private Object retain(T element) {
+		Object key = storeKey.apply(element);
+		counts.merge(key, 1, Integer::sum);
+		return key;
+	}
+
+	private void release(Object key) {
+		counts.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+	}
+
+	private static void checkIndex(int index, int limit) {
+		if (index < 0 || index >= limit) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + limit);
+		}
+	}
+}
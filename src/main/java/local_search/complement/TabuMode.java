@@ -0,0 +1,26 @@
+/**
+ * @file TabuMode.java
+ * @brief Enumeración de los tipos de memoria tabú
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+/**
+ * @enum TabuMode
+ * @brief Define qué se guarda en la memoria tabú
+ * 
+ * Los modos por atributos necesitan un operador que emita movimientos
+ * (Operator.generatedMoves); si no los emite se usa la memoria de soluciones.
+ */
+public enum TabuMode
+{
+	/** @brief Soluciones completas, identificadas por su codificación */
+	SOLUTION,
+	/** @brief Movimientos aplicados recientemente */
+	MOVE,
+	/** @brief Posiciones de la codificación modificadas recientemente */
+	POSITION;
+}
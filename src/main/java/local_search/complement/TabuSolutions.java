@@ -11,6 +11,8 @@ package local_search.complement;
 import java.util.ArrayList;
 import java.util.List;
 
+import metaheurictics.strategy.StrategyContext;
+import problem.definition.Move;
 import problem.definition.State;
 
 /**
@@ -20,26 +22,181 @@ import problem.definition.State;
  * Esta clase mantiene una lista de soluciones visitadas recientemente que
  * no deben ser revisitadas, implementando el mecanismo de memoria a corto
  * plazo de la búsqueda tabú.
+ * 
+ * Por defecto la lista es una TabuMemory: añadir, expulsar el más antiguo y
+ * consultar si un estado es tabú no recorren la lista. En los modos MOVE y
+ * POSITION se guardan atributos de los movimientos aplicados en lugar de
+ * soluciones completas.
  */
 public class TabuSolutions {
 	
 	/** @brief Lista de soluciones tabú (prohibidas) */
-	public static List<State> listTabu = new ArrayList<State>();
+	public static List<State> listTabu = TabuMemory.forStates();
+
+	/** @brief Memoria de atributos (movimientos o posiciones) tabú */
+	public static TabuMemory<Object> listTabuAttributes = TabuMemory.forAttributes();
+
+	/** @brief Qué se guarda en la memoria tabú */
+	public static TabuMode mode = TabuMode.SOLUTION;
 
 	/** @brief Número máximo de elementos en la lista tabú */
 	public static int maxelements; 
 
+	/**
+	 * @brief Obtiene la lista tabú de la corrida actual
+	 * @return Lista del StrategyContext ligado o la lista estática si no hay contexto
+	 */
+	public static List<State> getListTabu() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getListTabu() : listTabu;
+	}
+
+	/**
+	 * @brief Obtiene la memoria de atributos de la corrida actual
+	 * @return Memoria del StrategyContext ligado o la estática si no hay contexto
+	 */
+	public static TabuMemory<Object> getListTabuAttributes() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getListTabuAttributes() : listTabuAttributes;
+	}
+
+	/**
+	 * @brief Obtiene el modo de la memoria tabú de la corrida actual
+	 * @return Modo del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static TabuMode getMode() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getTabuMode() : mode;
+	}
+
+	/**
+	 * @brief Obtiene el número máximo de elementos tabú de la corrida actual
+	 * @return Máximo del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static int getMaxelements() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getMaxTabuElements() : maxelements;
+	}
+
+	/**
+	 * @brief Indica si la memoria guarda atributos de movimientos
+	 * @return true en los modos MOVE y POSITION
+	 */
+	public static boolean isAttributeMode() {
+		return getMode() != TabuMode.SOLUTION;
+	}
+
+	/**
+	 * @brief Registra como tabú el candidato aceptado
+	 * 
+	 * Si la lista está llena se expulsa el elemento más antiguo y después se
+	 * añade el nuevo si no estaba ya. En modo de atributos se guarda el
+	 * movimiento (MOVE) o sus posiciones (POSITION); si no se conoce el
+	 * movimiento se guarda el estado.
+	 * @param state Estado aceptado
+	 * @param move Movimiento que lo produjo, o null
+	 */
+	@SuppressWarnings("unchecked")
+	public static void addTabu(State state, Move move) {
+		int max = getMaxelements();
+		TabuMode mode = getMode();
+		if (mode != TabuMode.SOLUTION && move != null) {
+			TabuMemory<Object> attributes = getListTabuAttributes();
+			if (mode == TabuMode.MOVE) {
+				attributes.addUnique(move, max);
+			} else {
+				for (int position : move.positions()) {
+					attributes.addUnique(position, max);
+				}
+			}
+			return;
+		}
+		List<State> listTabu = getListTabu();
+		if (listTabu instanceof TabuMemory) {
+			((TabuMemory<State>) listTabu).addUnique(state, max);
+			return;
+		}
+		if (listTabu.size() >= max && !listTabu.isEmpty()) {
+			listTabu.remove(0);
+		}
+		for (State tabu : listTabu) {
+			if (tabu.Comparator(state)) {
+				return;
+			}
+		}
+		listTabu.add(state);
+	}
+
+	/**
+	 * @brief Indica si un movimiento está prohibido por la memoria de atributos
+	 * @param move Movimiento a consultar
+	 * @return true si el movimiento, o alguna de sus posiciones en modo POSITION, es tabú
+	 */
+	public static boolean isTabu(Move move) {
+		TabuMemory<Object> attributes = getListTabuAttributes();
+		if (getMode() == TabuMode.POSITION) {
+			for (int position : move.positions()) {
+				if (attributes.isTabu(position)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return attributes.isTabu(move);
+	}
+
+	/**
+	 * @brief Filtra los movimientos prohibidos por la memoria de atributos
+	 * 
+	 * Si todos los movimientos son tabú se devuelven todos (criterio de
+	 * aspiración por defecto), para no quedarse sin vecindario.
+	 * @param moves Movimientos candidatos
+	 * @return Movimientos permitidos
+	 */
+	public List<Move> filterMoves(List<Move> moves) {
+		if (getListTabuAttributes().isEmpty()) {
+			return moves;
+		}
+		List<Move> listFiltrate = new ArrayList<Move>(moves.size());
+		for (Move move : moves) {
+			if (!isTabu(move)) {
+				listFiltrate.add(move);
+			}
+		}
+		return listFiltrate.isEmpty() ? moves : listFiltrate;
+	}
+
 	/**
 	 * @brief Filtra el vecindario eliminando soluciones tabú
+	 * 
+	 * Con una TabuMemory cada vecino se consulta por su codificación en el
+	 * índice hash; si todos son tabú se devuelve el vecindario completo
+	 * (criterio de aspiración por defecto). Con una lista de otro tipo se
+	 * mantiene el recorrido original.
 	 * @param listNeighborhood Lista de estados vecinos a filtrar
 	 * @return List<State> Lista filtrada sin soluciones tabú
-	 * @throws Exception Si todos los vecinos están en la lista tabú
+	 * @throws Exception Si todos los vecinos están en una lista tabú que no es TabuMemory
 	 */
+	@SuppressWarnings("unchecked")
 	public List<State> filterNeighborhood(List<State> listNeighborhood) throws Exception {
 		List<State> listFiltrate = new ArrayList<State>();
 		//List<ProblemState> auxList = new ArrayList<ProblemState>();
 		//auxList = listNeighborhood;
 		//Problem problem = new Problem();
+		List<State> listTabu = getListTabu();
+		if (listTabu instanceof TabuMemory) {
+			TabuMemory<State> memory = (TabuMemory<State>) listTabu;
+			if (memory.isEmpty()) {
+				return listNeighborhood;
+			}
+			listFiltrate = new ArrayList<State>(listNeighborhood.size());
+			for (State state : listNeighborhood) {
+				if (!memory.isTabu(state)) {
+					listFiltrate.add(state);
+				}
+			}
+			return listFiltrate.isEmpty() ? listNeighborhood : listFiltrate;
+		}
 		if (!listTabu.isEmpty()) {
 			for (int i = listNeighborhood.size() - 1; i >= 0 ; i--) {
 				int count_tabu = 0; 
@@ -59,4 +216,4 @@ public class TabuSolutions {
 		}
 		return listFiltrate;
 	}
-}
\ No newline at end of file
+}
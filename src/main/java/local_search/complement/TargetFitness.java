@@ -0,0 +1,63 @@
+/**
+ * @file TargetFitness.java
+ * @brief Criterio de parada por evaluación objetivo alcanzada
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+import metaheurictics.strategy.Strategy;
+import problem.definition.FitnessComparator;
+import problem.definition.State;
+
+/**
+ * @class TargetFitness
+ * @brief Se cumple cuando el mejor estado alcanza la evaluación objetivo
+ * 
+ * En problemas de maximización la evaluación debe ser mayor o igual que el
+ * objetivo; en minimización, menor o igual. Se usa la misma componente de la
+ * evaluación con la que Strategy compara los mejores estados (la última).
+ */
+public class TargetFitness implements StopCondition {
+
+	/** @brief Evaluación a alcanzar */
+	private final double target;
+
+	public TargetFitness(double target) {
+		this.target = target;
+	}
+
+	@Override
+	public boolean isSatisfied(Strategy strategy) {
+		Double fitness = fitnessOf(strategy.getBestState());
+		if (fitness == null) {
+			return false;
+		}
+		return fitness(strategy).isBetterOrEqual(fitness, target);
+	}
+
+	public double getTarget() {
+		return target;
+	}
+
+	/**
+	 * @brief Evaluación del estado usada para comparar mejores estados
+	 * @param state Estado, puede ser null
+	 * @return Última componente de la evaluación o null si no está evaluado
+	 */
+	static Double fitnessOf(State state) {
+		if (state == null || state.evalSize() == 0) {
+			return null;
+		}
+		return state.evalAt(state.evalSize() - 1);
+	}
+
+	/**
+	 * @brief Sentido del objetivo del problema de la estrategia
+	 */
+	static FitnessComparator fitness(Strategy strategy) {
+		return FitnessComparator.of(strategy.getProblem());
+	}
+}
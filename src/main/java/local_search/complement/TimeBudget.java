@@ -0,0 +1,58 @@
+/**
+ * @file TimeBudget.java
+ * @brief Criterio de parada por tiempo de reloj
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package local_search.complement;
+
+import metaheurictics.strategy.Strategy;
+
+/**
+ * @class TimeBudget
+ * @brief Se cumple cuando ha pasado el tiempo máximo desde el inicio de la corrida
+ * 
+ * El tiempo se mide con System.nanoTime(), que es monótono y no se ve afectado
+ * por cambios en el reloj del sistema. El criterio se comprueba entre
+ * iteraciones, así que la corrida puede excederse en lo que dure la última.
+ */
+public class TimeBudget implements StopCondition {
+
+	/** @brief Tiempo máximo en nanosegundos */
+	private final long budgetNanos;
+
+	/** @brief Instante de inicio de la corrida */
+	private long startNanos;
+
+	public TimeBudget(long budgetNanos) {
+		if (budgetNanos < 0) {
+			throw new IllegalArgumentException("budgetNanos must be >= 0");
+		}
+		this.budgetNanos = budgetNanos;
+		this.startNanos = System.nanoTime();
+	}
+
+	@Override
+	public void start(Strategy strategy) {
+		startNanos = System.nanoTime();
+	}
+
+	@Override
+	public boolean isSatisfied(Strategy strategy) {
+		return elapsedNanos() >= budgetNanos;
+	}
+
+	/**
+	 * @brief Tiempo transcurrido desde el último start()
+	 * @return Nanosegundos transcurridos
+	 */
+	public long elapsedNanos() {
+		return System.nanoTime() - startNanos;
+	}
+
+	public long getBudgetNanos() {
+		return budgetNanos;
+	}
+}
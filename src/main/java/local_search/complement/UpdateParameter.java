@@ -36,7 +36,7 @@ public class UpdateParameter {
 	/**
 	 * @brief Actualiza parámetros y cambia generador según iteración
 	 * @param countIterationsCurrent Número actual de iteraciones
-	 * @return Integer Número de iteraciones incrementado
+	 * @return Número de iteraciones incrementado
 	 * @throws IllegalArgumentException Si los argumentos son inválidos
 	 * @throws SecurityException Si hay problemas de seguridad
 	 * @throws ClassNotFoundException Si no se encuentra una clase
@@ -45,29 +45,47 @@ public class UpdateParameter {
 	 * @throws InvocationTargetException Si hay problemas en la invocación
 	 * @throws NoSuchMethodException Si no se encuentra un método
 	 */
-	public static Integer updateParameter(Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {//HashMap<String, Object> map, 
+	public static int updateParameter(int countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {//HashMap<String, Object> map, 
 		countIterationsCurrent = countIterationsCurrent + 1;
 		//		Here update parameter for update and change generator.
-		if(countIterationsCurrent.equals(GeneticAlgorithm.countRef - 1)){
+		if(countIterationsCurrent == GeneticAlgorithm.countRef - 1){
 			ifFactoryGenerator = new FactoryGenerator();
-			Strategy.getStrategy().generator = ifFactoryGenerator.createGenerator(GeneratorType.GENETIC_ALGORITHM);
+			Strategy.getStrategy().replaceGenerator(ifFactoryGenerator.createGenerator(GeneratorType.GENETIC_ALGORITHM));
 		}
 		else{
-			if(countIterationsCurrent.equals(EvolutionStrategies.countRef - 1)){
+			if(countIterationsCurrent == EvolutionStrategies.countRef - 1){
 				ifFactoryGenerator = new FactoryGenerator();
-				Strategy.getStrategy().generator = ifFactoryGenerator.createGenerator(GeneratorType.EVOLUTION_STRATEGIES);
+				Strategy.getStrategy().replaceGenerator(ifFactoryGenerator.createGenerator(GeneratorType.EVOLUTION_STRATEGIES));
 			}			
-			if(countIterationsCurrent.equals(DistributionEstimationAlgorithm.countRef - 1)){
+			if(countIterationsCurrent == DistributionEstimationAlgorithm.countRef - 1){
 				ifFactoryGenerator = new FactoryGenerator();
-				Strategy.getStrategy().generator = ifFactoryGenerator.createGenerator(GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM);
+				Strategy.getStrategy().replaceGenerator(ifFactoryGenerator.createGenerator(GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM));
 			}
-			if(countIterationsCurrent.equals(ParticleSwarmOptimization.countRef - 1)){
+			if(countIterationsCurrent == ParticleSwarmOptimization.countRef - 1){
 				ifFactoryGenerator = new FactoryGenerator();
-				Strategy.getStrategy().generator = ifFactoryGenerator.createGenerator(GeneratorType.PARTICLE_SWARM_OPTIMIZATION);
+				Strategy.getStrategy().replaceGenerator(ifFactoryGenerator.createGenerator(GeneratorType.PARTICLE_SWARM_OPTIMIZATION));
 			}
 		}
 		return countIterationsCurrent;
 	}
+
+	/**
+	 * @brief Puente para los llamadores de la firma anterior
+	 * @param countIterationsCurrent Número actual de iteraciones
+	 * @return Número de iteraciones incrementado
+	 * @throws IllegalArgumentException Si los argumentos son inválidos
+	 * @throws SecurityException Si hay problemas de seguridad
+	 * @throws ClassNotFoundException Si no se encuentra una clase
+	 * @throws InstantiationException Si hay problemas al instanciar
+	 * @throws IllegalAccessException Si hay problemas de acceso
+	 * @throws InvocationTargetException Si hay problemas en la invocación
+	 * @throws NoSuchMethodException Si no se encuentra un método
+	 * @deprecated Llamar updateParameter(int), que no encajona la iteración
+	 */
+	@Deprecated
+	public static Integer updateParameter(Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		return Integer.valueOf(updateParameter(countIterationsCurrent.intValue()));
+	}
 }
 
 
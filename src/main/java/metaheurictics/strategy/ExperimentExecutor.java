@@ -0,0 +1,167 @@
+/**
+ * @file ExperimentExecutor.java
+ * @brief Ejecución paralela de réplicas independientes de una configuración
+ *
+ * Lanza R réplicas de Strategy.executeStrategy sobre un pool de hilos. Cada
+ * réplica corre en su propio StrategyContext con una semilla determinista
+ * derivada de la semilla maestra, y su resultado se entrega en cuanto termina.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import local_search.complement.StopExecute;
+import local_search.complement.UpdateParameter;
+import metaheuristics.generators.GeneratorType;
+import problem.definition.Problem;
+
+/**
+ * @class ExperimentExecutor
+ * @brief Ejecutor de campañas de réplicas con estadísticas agregadas
+ *
+ * El Problem se crea con una fábrica por réplica porque Strategy modifica su
+ * estado durante la ejecución. Los resultados se entregan al consumidor en el
+ * hilo que llama a run(), en orden de finalización, y se acumulan en un
+ * ExperimentStatistics sin retener las listas de estados de cada Strategy.
+ */
+public class ExperimentExecutor {
+
+	/** @brief Fábrica del problema de cada réplica */
+	private final Supplier<Problem> problemFactory;
+
+	/** @brief Pool donde se ejecutan las réplicas */
+	private final ExecutorService pool;
+
+	/** @brief Indica si el pool lo creó este ejecutor y debe cerrarlo */
+	private final boolean ownsPool;
+
+	/** @brief Configuración adicional aplicada a cada Strategy antes de ejecutar */
+	private Consumer<Strategy> configurer;
+
+	/**
+	 * @brief Crea un ejecutor con un pool fijo propio
+	 * @param problemFactory Fábrica del problema de cada réplica
+	 * @param threads Número de hilos del pool
+	 */
+	public ExperimentExecutor(Supplier<Problem> problemFactory, int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("threads must be positive");
+		}
+		this.problemFactory = problemFactory;
+		this.pool = Executors.newFixedThreadPool(threads);
+		this.ownsPool = true;
+	}
+
+	/**
+	 * @brief Crea un ejecutor sobre un pool externo (por ejemplo un ForkJoinPool)
+	 * @param problemFactory Fábrica del problema de cada réplica
+	 * @param pool Pool externo; no se cierra en shutdown()
+	 */
+	public ExperimentExecutor(Supplier<Problem> problemFactory, ExecutorService pool) {
+		this.problemFactory = problemFactory;
+		this.pool = pool;
+		this.ownsPool = false;
+	}
+
+	public void setConfigurer(Consumer<Strategy> configurer) {
+		this.configurer = configurer;
+	}
+
+	/**
+	 * @brief Deriva la semilla de una réplica a partir de la semilla maestra (SplitMix64)
+	 * @param masterSeed Semilla maestra del experimento
+	 * @param replica Índice de la réplica
+	 * @return Semilla de la réplica, igual en cada ejecución
+	 */
+	public static long seedFor(long masterSeed, int replica) {
+		long z = masterSeed + (replica + 1) * 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * @brief Ejecuta las réplicas y devuelve las estadísticas agregadas
+	 * @param replicas Número de réplicas
+	 * @param masterSeed Semilla maestra
+	 * @param countmaxIterations Iteraciones por réplica
+	 * @param countIterationsChange Iteraciones entre cambios de entorno
+	 * @param operatornumber Número de operadores
+	 * @param generatorType Generador a ejecutar
+	 * @param listener Consumidor de cada resultado, puede ser null
+	 * @return Estadísticas de las mejores evaluaciones
+	 * @throws InterruptedException Si se interrumpe la espera
+	 * @throws ExecutionException Si alguna réplica falla; las pendientes se cancelan
+	 */
+	public ExperimentStatistics run(int replicas, long masterSeed, int countmaxIterations, int countIterationsChange, int operatornumber, GeneratorType generatorType, Consumer<ReplicaResult> listener) throws InterruptedException, ExecutionException {
+		CompletionService<ReplicaResult> completion = new ExecutorCompletionService<ReplicaResult>(pool);
+		List<Future<ReplicaResult>> futures = new ArrayList<Future<ReplicaResult>>(replicas);
+		for (int i = 0; i < replicas; i++) {
+			final int replica = i;
+			final long seed = seedFor(masterSeed, i);
+			futures.add(completion.submit(() -> runReplica(replica, seed, countmaxIterations, countIterationsChange, operatornumber, generatorType)));
+		}
+		ExperimentStatistics statistics = null;
+		try {
+			for (int i = 0; i < replicas; i++) {
+				ReplicaResult result = completion.take().get();
+				if (statistics == null) {
+					statistics = new ExperimentStatistics(result.getTypeProblem());
+				}
+				statistics.add(result);
+				if (listener != null) {
+					listener.accept(result);
+				}
+			}
+		} finally {
+			for (Future<ReplicaResult> future : futures) {
+				future.cancel(true);
+			}
+		}
+		return statistics != null ? statistics : new ExperimentStatistics(null);
+	}
+
+	/**
+	 * @brief Ejecuta una réplica en su propio StrategyContext
+	 */
+	private ReplicaResult runReplica(int replica, long seed, int countmaxIterations, int countIterationsChange, int operatornumber, GeneratorType generatorType) throws Exception {
+		Problem problem = problemFactory.get();
+		StrategyContext context = new StrategyContext(problem);
+		context.setSeed(seed);
+		return context.call(() -> {
+			Strategy strategy = Strategy.getStrategy();
+			strategy.setStopexecute(new StopExecute());
+			strategy.setUpdateparameter(new UpdateParameter());
+			if (configurer != null) {
+				configurer.accept(strategy);
+			}
+			long start = System.nanoTime();
+			strategy.executeStrategy(countmaxIterations, countIterationsChange, operatornumber, generatorType);
+			long elapsed = System.nanoTime() - start;
+			return new ReplicaResult(replica, seed, strategy.getBestState(), strategy.listOfflineError.clone(), elapsed, problem.getTypeProblem());
+		});
+	}
+
+	/**
+	 * @brief Cierra el pool si fue creado por este ejecutor
+	 */
+	public void shutdown() {
+		if (ownsPool) {
+			pool.shutdown();
+		}
+	}
+}
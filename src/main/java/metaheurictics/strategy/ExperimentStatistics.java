@@ -0,0 +1,119 @@
+/**
+ * @file ExperimentStatistics.java
+ * @brief Estadísticas agregadas de las réplicas de un experimento
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import java.util.Arrays;
+
+import problem.definition.FitnessComparator;
+import problem.definition.Problem.ProblemType;
+
+/**
+ * @class ExperimentStatistics
+ * @brief Media, mediana, mejor valor y desviación estándar de las réplicas
+ *
+ * La media y la varianza se acumulan en línea (Welford). Para la mediana solo
+ * se conserva un double por réplica, nunca las listas de estados.
+ */
+public class ExperimentStatistics {
+
+	/** @brief Sentido del objetivo, determina qué valor es el mejor */
+	private final FitnessComparator fitness;
+
+	/** @brief Número de réplicas acumuladas */
+	private int count;
+
+	/** @brief Media acumulada */
+	private double mean;
+
+	/** @brief Suma de cuadrados de las diferencias respecto a la media */
+	private double m2;
+
+	/** @brief Mejor valor observado */
+	private double best = Double.NaN;
+
+	/** @brief Resultado de la mejor réplica */
+	private ReplicaResult bestReplica;
+
+	/** @brief Mejores evaluaciones de cada réplica, para la mediana */
+	private double[] values = new double[16];
+
+	/** @brief Suma de los tiempos de las réplicas en nanosegundos */
+	private long totalNanos;
+
+	public ExperimentStatistics(ProblemType typeProblem) {
+		// sin tipo se considera mejor el valor mayor
+		this.fitness = typeProblem == null ? FitnessComparator.MAXIMIZE : FitnessComparator.of(typeProblem);
+	}
+
+	/**
+	 * @brief Acumula el resultado de una réplica
+	 * @param result Resultado a acumular; se ignora si no tiene evaluación
+	 */
+	public void add(ReplicaResult result) {
+		totalNanos += result.getElapsedNanos();
+		double value = result.getBestEvaluation();
+		if (Double.isNaN(value)) {
+			return;
+		}
+		if (count == values.length) {
+			values = Arrays.copyOf(values, count * 2);
+		}
+		values[count] = value;
+		count++;
+		double delta = value - mean;
+		mean += delta / count;
+		m2 += delta * (value - mean);
+		if (bestReplica == null || fitness.isBetter(value, best)) {
+			best = value;
+			bestReplica = result;
+		}
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public double getMean() {
+		return count == 0 ? Double.NaN : mean;
+	}
+
+	/**
+	 * @brief Desviación estándar muestral de las mejores evaluaciones
+	 * @return Desviación estándar, 0 con una sola réplica, NaN sin réplicas
+	 */
+	public double getStandardDeviation() {
+		if (count == 0) {
+			return Double.NaN;
+		}
+		return count == 1 ? 0.0 : Math.sqrt(m2 / (count - 1));
+	}
+
+	public double getMedian() {
+		if (count == 0) {
+			return Double.NaN;
+		}
+		double[] sorted = Arrays.copyOf(values, count);
+		Arrays.sort(sorted);
+		int middle = count / 2;
+		return (count % 2 == 1) ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+	}
+
+	public double getBest() {
+		return best;
+	}
+
+	public ReplicaResult getBestReplica() {
+		return bestReplica;
+	}
+
+	public long getTotalNanos() {
+		return totalNanos;
+	}
+}
@@ -0,0 +1,33 @@
+/**
+ * @file LoopPhase.java
+ * @brief Fases de una iteración de Strategy.executeStrategy
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+/**
+ * @enum LoopPhase
+ * @brief Fases que StrategyMetrics mide por separado en cada iteración
+ */
+public enum LoopPhase {
+	/** @brief generate() del generador (o del MultiGenerator) */
+	GENERATE,
+
+	/** @brief Problem.Evaluate del candidato */
+	EVALUATE,
+
+	/** @brief updateReference del generador, incluida la aceptación */
+	UPDATE_REFERENCE,
+
+	/** @brief Registro del candidato en listStates y en el frente de Pareto (notDominated) */
+	ARCHIVE,
+
+	/** @brief Actualización del mejor estado, listBest y el rendimiento offline */
+	BOOKKEEPING,
+
+	/** @brief UpdateParameter.updateParameter */
+	UPDATE_PARAMETER;
+}
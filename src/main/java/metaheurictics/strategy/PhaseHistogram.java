@@ -0,0 +1,133 @@
+/**
+ * @file PhaseHistogram.java
+ * @brief Histograma de duraciones en nanosegundos con cubetas logarítmicas
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * @class PhaseHistogram
+ * @brief Cuenta, suma, máximo y distribución de las duraciones de una fase
+ *
+ * La cubeta i cuenta las duraciones d con 2^(i-1) <= d < 2^i (la cubeta 0
+ * cuenta las duraciones nulas), así que registrar es una operación O(1) sin
+ * reservar memoria y los percentiles se estiman con un error máximo de un
+ * factor 2. Admite escrituras concurrentes de varias corridas.
+ */
+public class PhaseHistogram {
+
+	/** @brief Número de cubetas: una por cada bit de un long */
+	public static final int BUCKETS = 64;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final AtomicLong maxNanos = new AtomicLong();
+
+	/**
+	 * @brief Registra una duración
+	 * @param nanos Duración en nanosegundos; los valores negativos cuentan como 0
+	 */
+	public void record(long nanos) {
+		long value = Math.max(0L, nanos);
+		buckets.incrementAndGet(bucketOf(value));
+		count.increment();
+		totalNanos.add(value);
+		long max = maxNanos.get();
+		while (value > max && !maxNanos.compareAndSet(max, value)) {
+			max = maxNanos.get();
+		}
+	}
+
+	/**
+	 * @brief Cubeta de una duración
+	 * @param nanos Duración no negativa
+	 * @return Índice de la cubeta
+	 */
+	static int bucketOf(long nanos) {
+		return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getTotalNanos() {
+		return totalNanos.sum();
+	}
+
+	public long getMaxNanos() {
+		return maxNanos.get();
+	}
+
+	/**
+	 * @brief Duración media
+	 * @return Media en nanosegundos, 0 si no hay registros
+	 */
+	public double getMeanNanos() {
+		long n = getCount();
+		return n == 0 ? 0.0 : (double) getTotalNanos() / n;
+	}
+
+	/**
+	 * @brief Copia de los contadores de cada cubeta
+	 * @return Array de BUCKETS contadores
+	 */
+	public long[] getBuckets() {
+		long[] copy = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			copy[i] = buckets.get(i);
+		}
+		return copy;
+	}
+
+	/**
+	 * @brief Estimación de un percentil por el límite superior de su cubeta
+	 * @param percentile Percentil entre 0 y 100
+	 * @return Cota superior en nanosegundos, 0 si no hay registros
+	 */
+	public long percentileNanos(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("percentile must be in [0, 100]");
+		}
+		long[] copy = getBuckets();
+		long total = 0;
+		for (long c : copy) {
+			total += c;
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long) Math.ceil(total * percentile / 100.0));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += copy[i];
+			if (seen >= rank) {
+				return i == 0 ? 0 : Math.min(getMaxNanos(), (i >= 63 ? Long.MAX_VALUE : (1L << i) - 1));
+			}
+		}
+		return getMaxNanos();
+	}
+
+	/**
+	 * @brief Pone a cero todos los contadores
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets.set(i, 0);
+		}
+		count.reset();
+		totalNanos.reset();
+		maxNanos.set(0);
+	}
+}
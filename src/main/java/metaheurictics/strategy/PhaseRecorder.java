@@ -0,0 +1,68 @@
+/**
+ * @file PhaseRecorder.java
+ * @brief Cronómetro de las fases de una corrida
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+/**
+ * @class PhaseRecorder
+ * @brief Acumula el tiempo de cada fase de una iteración y lo vuelca al terminarla
+ *
+ * Lo crea StrategyMetrics.recorder() al comenzar una corrida y lo usa solo el
+ * hilo de esa corrida. Una fase medida en varios tramos de la misma iteración
+ * se registra como una única muestra con la suma.
+ */
+public final class PhaseRecorder {
+
+	/** @brief Histogramas del tipo de generador de la corrida, indexados por fase */
+	private final PhaseHistogram[] histograms;
+
+	/** @brief Tiempo acumulado de cada fase en la iteración en curso */
+	private final long[] pending = new long[LoopPhase.values().length];
+
+	/** @brief Fases medidas en la iteración en curso, un bit por fase */
+	private int touched;
+
+	/** @brief Instante de la última marca */
+	private long mark;
+
+	PhaseRecorder(PhaseHistogram[] histograms) {
+		this.histograms = histograms;
+	}
+
+	/**
+	 * @brief Marca el comienzo de un tramo medido
+	 */
+	public void begin() {
+		mark = System.nanoTime();
+	}
+
+	/**
+	 * @brief Atribuye a la fase el tiempo desde la última marca y marca de nuevo
+	 * @param phase Fase que acaba de terminar
+	 */
+	public void lap(LoopPhase phase) {
+		long now = System.nanoTime();
+		int index = phase.ordinal();
+		pending[index] += now - mark;
+		touched |= 1 << index;
+		mark = now;
+	}
+
+	/**
+	 * @brief Registra en los histogramas las fases medidas en la iteración
+	 */
+	public void endIteration() {
+		for (int i = 0; i < pending.length; i++) {
+			if ((touched & (1 << i)) != 0) {
+				histograms[i].record(pending[i]);
+				pending[i] = 0;
+			}
+		}
+		touched = 0;
+	}
+}
@@ -0,0 +1,85 @@
+/**
+ * @file ReplicaResult.java
+ * @brief Resultado de una réplica ejecutada por ExperimentExecutor
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import problem.definition.Problem.ProblemType;
+import problem.definition.State;
+
+/**
+ * @class ReplicaResult
+ * @brief Datos que se conservan de cada réplica de un experimento
+ *
+ * Solo guarda el mejor estado, la métrica offline y el tiempo de la réplica;
+ * las listas de estados generados se descartan junto con la Strategy.
+ */
+public class ReplicaResult {
+
+	/** @brief Índice de la réplica dentro del experimento */
+	private final int replica;
+
+	/** @brief Semilla asignada a la réplica */
+	private final long seed;
+
+	/** @brief Mejor estado encontrado */
+	private final State bestState;
+
+	/** @brief Copia de Strategy.listOfflineError al terminar la réplica */
+	private final float[] listOfflineError;
+
+	/** @brief Tiempo de ejecución en nanosegundos */
+	private final long elapsedNanos;
+
+	/** @brief Tipo de problema resuelto (maximizar o minimizar) */
+	private final ProblemType typeProblem;
+
+	public ReplicaResult(int replica, long seed, State bestState, float[] listOfflineError, long elapsedNanos, ProblemType typeProblem) {
+		this.replica = replica;
+		this.seed = seed;
+		this.bestState = bestState;
+		this.listOfflineError = listOfflineError;
+		this.elapsedNanos = elapsedNanos;
+		this.typeProblem = typeProblem;
+	}
+
+	public int getReplica() {
+		return replica;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public State getBestState() {
+		return bestState;
+	}
+
+	public float[] getListOfflineError() {
+		return listOfflineError;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	public ProblemType getTypeProblem() {
+		return typeProblem;
+	}
+
+	/**
+	 * @brief Evaluación del mejor estado (primer objetivo)
+	 * @return Valor de la evaluación o NaN si la réplica no produjo estado evaluado
+	 */
+	public double getBestEvaluation() {
+		if (bestState == null || bestState.getEvaluation() == null || bestState.getEvaluation().isEmpty()) {
+			return Double.NaN;
+		}
+		return bestState.getEvaluation().get(0);
+	}
+}
@@ -0,0 +1,138 @@
+/**
+ * @file RunConfiguration.java
+ * @brief Configuración de una corrida lanzada con StrategyRunner.submit
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import java.util.function.Consumer;
+
+import local_search.complement.StopCondition;
+import metaheuristics.generators.GeneratorType;
+import problem.definition.Problem;
+
+/**
+ * @class RunConfiguration
+ * @brief Parámetros de Strategy.executeStrategy junto con los opcionales de la corrida
+ *
+ * El constructor recibe los mismos argumentos que executeStrategy; la semilla,
+ * el criterio de parada, la configuración adicional de Strategy y el oyente de
+ * progreso se asignan con setters. El Problem pasa a ser de la corrida: no debe
+ * compartirse entre corridas simultáneas porque Strategy modifica su estado.
+ */
+public class RunConfiguration {
+
+	/** @brief Problema a resolver */
+	private final Problem problem;
+
+	/** @brief Generador a ejecutar */
+	private final GeneratorType generatorType;
+
+	/** @brief Máximo de iteraciones */
+	private final int countmaxIterations;
+
+	/** @brief Iteraciones entre cambios de entorno */
+	private final int countIterationsChange;
+
+	/** @brief Número de operadores */
+	private final int operatornumber;
+
+	/** @brief Semilla de la corrida, null para derivarla del RandomService */
+	private Long seed;
+
+	/** @brief Criterio de parada adicional, puede ser null */
+	private StopCondition stopCondition;
+
+	/** @brief Configuración adicional aplicada a la Strategy antes de ejecutar */
+	private Consumer<Strategy> configurer;
+
+	/** @brief Oyente de progreso, puede ser null */
+	private Consumer<RunSnapshot> progressListener;
+
+	/** @brief Iteraciones entre dos avisos al oyente de progreso */
+	private int progressInterval = 1;
+
+	public RunConfiguration(Problem problem, GeneratorType generatorType, int countmaxIterations, int countIterationsChange, int operatornumber) {
+		if (problem == null || generatorType == null) {
+			throw new IllegalArgumentException("problem and generatorType are required");
+		}
+		this.problem = problem;
+		this.generatorType = generatorType;
+		this.countmaxIterations = countmaxIterations;
+		this.countIterationsChange = countIterationsChange;
+		this.operatornumber = operatornumber;
+	}
+
+	public Problem getProblem() {
+		return problem;
+	}
+
+	public GeneratorType getGeneratorType() {
+		return generatorType;
+	}
+
+	public int getCountmaxIterations() {
+		return countmaxIterations;
+	}
+
+	public int getCountIterationsChange() {
+		return countIterationsChange;
+	}
+
+	public int getOperatornumber() {
+		return operatornumber;
+	}
+
+	public Long getSeed() {
+		return seed;
+	}
+
+	public void setSeed(Long seed) {
+		this.seed = seed;
+	}
+
+	public StopCondition getStopCondition() {
+		return stopCondition;
+	}
+
+	public void setStopCondition(StopCondition stopCondition) {
+		this.stopCondition = stopCondition;
+	}
+
+	public Consumer<Strategy> getConfigurer() {
+		return configurer;
+	}
+
+	public void setConfigurer(Consumer<Strategy> configurer) {
+		this.configurer = configurer;
+	}
+
+	public Consumer<RunSnapshot> getProgressListener() {
+		return progressListener;
+	}
+
+	public int getProgressInterval() {
+		return progressInterval;
+	}
+
+	/**
+	 * @brief Registra un oyente que recibe el progreso en el hilo de la corrida
+	 *
+	 * El oyente se llama cada interval iteraciones, entre una iteración y la
+	 * siguiente, así que debe ser rápido; un oyente lento retrasa la corrida.
+	 *
+	 * @param listener Oyente de progreso, o null para quitarlo
+	 * @param interval Iteraciones entre dos avisos (al menos 1)
+	 */
+	public void setProgressListener(Consumer<RunSnapshot> listener, int interval) {
+		if (interval < 1) {
+			throw new IllegalArgumentException("interval must be >= 1");
+		}
+		this.progressListener = listener;
+		this.progressInterval = interval;
+	}
+}
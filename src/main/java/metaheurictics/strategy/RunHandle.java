@@ -0,0 +1,191 @@
+/**
+ * @file RunHandle.java
+ * @brief Control de una corrida asíncrona: resultado, cancelación y progreso
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+import local_search.complement.StopCondition;
+import problem.definition.Problem;
+import problem.definition.State;
+
+/**
+ * @class RunHandle
+ * @brief Devuelto por StrategyRunner.submit para seguir y detener una corrida
+ *
+ * La corrida publica su progreso una vez por iteración. snapshot() lo lee sin
+ * bloqueos con un contador de versión (seqlock): el hilo de la corrida es el
+ * único escritor, lo deja impar mientras escribe y par al terminar, y el
+ * lector repite la lectura si el contador cambió entre medias. La publicación
+ * solo escribe campos volatile, sin crear objetos.
+ *
+ * cancel() es cooperativo: la corrida lo comprueba antes de cada iteración y,
+ * al detenerse, el futuro termina con CancellationException. El último
+ * progreso publicado sigue disponible en snapshot().
+ */
+public class RunHandle {
+
+	/** @brief Resultado final de la corrida */
+	private final CompletableFuture<RunSnapshot> future = new CompletableFuture<RunSnapshot>();
+
+	/** @brief Solicitud de cancelación */
+	private volatile boolean cancelRequested;
+
+	/** @brief Versión del progreso publicado; impar mientras se escribe */
+	private volatile long version;
+
+	private volatile State bestState;
+
+	private volatile int iteration;
+
+	private volatile long evaluations;
+
+	private volatile long elapsedNanos;
+
+	RunHandle() {
+		// cancelar el futuro directamente también detiene la corrida
+		future.whenComplete((result, error) -> {
+			if (future.isCancelled()) {
+				cancelRequested = true;
+			}
+		});
+	}
+
+	/**
+	 * @brief Futuro que se completa con el progreso final de la corrida
+	 * @return Futuro de la corrida
+	 */
+	public CompletableFuture<RunSnapshot> getFuture() {
+		return future;
+	}
+
+	/**
+	 * @brief Pide a la corrida que se detenga antes de su próxima iteración
+	 */
+	public void cancel() {
+		cancelRequested = true;
+	}
+
+	public boolean isCancelRequested() {
+		return cancelRequested;
+	}
+
+	public boolean isDone() {
+		return future.isDone();
+	}
+
+	/**
+	 * @brief Último progreso publicado, leído sin bloqueos
+	 * @return Copia coherente del progreso
+	 */
+	public RunSnapshot snapshot() {
+		while (true) {
+			long before = version;
+			if ((before & 1L) == 0) {
+				RunSnapshot snapshot = new RunSnapshot(bestState, iteration, evaluations, elapsedNanos);
+				if (version == before) {
+					return snapshot;
+				}
+			}
+			Thread.onSpinWait();
+		}
+	}
+
+	/**
+	 * @brief Publica el progreso; solo lo llama el hilo de la corrida
+	 */
+	void publish(State bestState, int iteration, long evaluations, long elapsedNanos) {
+		long current = version;
+		version = current + 1;
+		this.bestState = bestState;
+		this.iteration = iteration;
+		this.evaluations = evaluations;
+		this.elapsedNanos = elapsedNanos;
+		version = current + 2;
+	}
+
+	void complete(RunSnapshot result) {
+		future.complete(result);
+	}
+
+	void fail(Throwable error) {
+		future.completeExceptionally(error);
+	}
+
+	void cancelled() {
+		future.cancel(false);
+	}
+
+	/**
+	 * @class Monitor
+	 * @brief Criterio de parada que publica el progreso y atiende la cancelación
+	 *
+	 * Se instala como StopCondition de la Strategy de la corrida y envuelve el
+	 * criterio configurado, de modo que se ejecuta exactamente una vez por
+	 * iteración sin cambiar el bucle de executeStrategy.
+	 */
+	final class Monitor implements StopCondition {
+
+		private final StopCondition delegate;
+
+		private final Consumer<RunSnapshot> listener;
+
+		private final int interval;
+
+		private long startNanos;
+
+		private long baseline;
+
+		private int lastNotified = -1;
+
+		Monitor(StopCondition delegate, Consumer<RunSnapshot> listener, int interval) {
+			this.delegate = delegate;
+			this.listener = listener;
+			this.interval = interval;
+		}
+
+		@Override
+		public void start(Strategy strategy) {
+			startNanos = System.nanoTime();
+			Problem problem = strategy.getProblem();
+			baseline = problem == null ? 0 : problem.getEvaluationCount();
+			if (delegate != null) {
+				delegate.start(strategy);
+			}
+		}
+
+		@Override
+		public boolean isSatisfied(Strategy strategy) {
+			int current = strategy.getCountCurrent();
+			publish(strategy.getBestState(), current, evaluations(strategy), System.nanoTime() - startNanos);
+			if (listener != null && current != lastNotified && current % interval == 0) {
+				lastNotified = current;
+				listener.accept(snapshot());
+			}
+			if (cancelRequested) {
+				return true;
+			}
+			return delegate != null && delegate.isSatisfied(strategy);
+		}
+
+		/**
+		 * @brief Publica el progreso final y lo devuelve como resultado
+		 */
+		RunSnapshot finish(Strategy strategy) {
+			publish(strategy.getBestState(), strategy.getCountCurrent(), evaluations(strategy), System.nanoTime() - startNanos);
+			return snapshot();
+		}
+
+		private long evaluations(Strategy strategy) {
+			Problem problem = strategy.getProblem();
+			return problem == null ? 0 : problem.getEvaluationCount() - baseline;
+		}
+	}
+}
@@ -0,0 +1,68 @@
+/**
+ * @file RunSnapshot.java
+ * @brief Estado observable de una corrida en un instante dado
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import problem.definition.State;
+
+/**
+ * @class RunSnapshot
+ * @brief Mejor estado, iteración, evaluaciones y tiempo de una corrida
+ *
+ * Es inmutable salvo el State, que se comparte con la corrida; quien necesite
+ * conservarlo mientras la corrida sigue debe usar getCopy().
+ */
+public class RunSnapshot {
+
+	/** @brief Mejor estado encontrado hasta el momento, puede ser null */
+	private final State bestState;
+
+	/** @brief Iteración actual */
+	private final int iteration;
+
+	/** @brief Evaluaciones realizadas desde el inicio de la corrida */
+	private final long evaluations;
+
+	/** @brief Tiempo transcurrido en nanosegundos */
+	private final long elapsedNanos;
+
+	public RunSnapshot(State bestState, int iteration, long evaluations, long elapsedNanos) {
+		this.bestState = bestState;
+		this.iteration = iteration;
+		this.evaluations = evaluations;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	public State getBestState() {
+		return bestState;
+	}
+
+	public int getIteration() {
+		return iteration;
+	}
+
+	public long getEvaluations() {
+		return evaluations;
+	}
+
+	public long getElapsedNanos() {
+		return elapsedNanos;
+	}
+
+	/**
+	 * @brief Evaluación del mejor estado (primer objetivo)
+	 * @return Valor de la evaluación o NaN si todavía no hay estado evaluado
+	 */
+	public double getBestEvaluation() {
+		if (bestState == null || bestState.evalSize() == 0) {
+			return Double.NaN;
+		}
+		return bestState.evalAt(0);
+	}
+}
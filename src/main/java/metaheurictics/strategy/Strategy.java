@@ -16,18 +16,19 @@ package metaheurictics.strategy;
 
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.SortedMap;
-import java.util.TreeMap;
+import java.util.Map;
 
 import factory_interface.IFFactoryGenerator;
 import factory_method.FactoryGenerator;
 
+import problem.definition.FitnessComparator;
 import problem.definition.Problem;
 import problem.definition.State;
-import problem.definition.Problem.ProblemType;
 
 import local_search.acceptation_type.Dominance;
+import local_search.complement.StopCondition;
 import local_search.complement.StopExecute;
 import local_search.complement.UpdateParameter;
 import metaheuristics.generators.DistributionEstimationAlgorithm;
@@ -62,12 +63,18 @@ public class Strategy {
 	
 	/** @brief Problema de optimización que se está resolviendo */
 	private Problem problem;
+
+	/** @brief Candidato que su selector ya evaluó con Problem.Evaluate, o null */
+	private State evaluatedCandidate;
 	
-	/** @brief Mapa que asocia tipos de generadores con sus instancias */
-	public SortedMap<GeneratorType, Generator> mapGenerators;
+	/** @brief Generadores creados bajo demanda, indexados por tipo */
+	public Map<GeneratorType, Generator> mapGenerators;
 	
 	/** @brief Criterio de parada para controlar la finalización de la ejecución */
 	private StopExecute stopexecute;
+
+	/** @brief Criterio de parada adicional al máximo de iteraciones; null si no se usa */
+	private StopCondition stopCondition;
 	
 	/** @brief Gestor de actualización de parámetros durante la ejecución */
 	private UpdateParameter updateparameter;
@@ -136,24 +143,29 @@ public class Strategy {
 	private int periodo;
 
 	/**
-	 * @brief Constructor privado para implementar el patrón Singleton
+	 * @brief Constructor restringido al paquete para implementar el patrón Singleton
 	 * 
-	 * Inicializa la instancia de Strategy. Este constructor es privado para
-	 * prevenir la instanciación directa desde fuera de la clase.
+	 * Inicializa la instancia de Strategy. Solo es accesible desde el paquete para
+	 * que StrategyContext pueda crear instancias aisladas por corrida.
 	 */
-	private Strategy(){
+	Strategy(){
 		super();
 	}
 
 	/**
 	 * @brief Obtiene la instancia única de Strategy (patrón Singleton)
 	 * 
-	 * Implementación lazy del patrón Singleton. Crea la instancia única
-	 * si no existe, o devuelve la existente.
+	 * Si hay un StrategyContext ligado al hilo actual devuelve la instancia de
+	 * ese contexto. En caso contrario usa la implementación lazy del patrón
+	 * Singleton: crea la instancia única si no existe, o devuelve la existente.
 	 * 
-	 * @return La instancia única de Strategy
+	 * @return La instancia de Strategy de la corrida actual
 	 */
 	public static Strategy getStrategy() {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			return context.getStrategy();
+		}
 		if (strategy == null) {
 			strategy = new Strategy();
 		}
@@ -167,6 +179,9 @@ public class Strategy {
 	 * Inicializa el estado, ejecuta el ciclo de optimización, gestiona cambios dinámicos
 	 * del entorno y recopila métricas de rendimiento.
 	 * 
+	 * La ejecución termina al alcanzar countmaxIterations o, si hay un
+	 * StopCondition configurado, en cuanto este se cumpla.
+	 * 
 	 * @param countmaxIterations Número máximo de iteraciones a ejecutar
 	 * @param countIterationsChange Número de iteraciones entre cambios de entorno
 	 * @param operatornumber Número de operadores a utilizar en la generación
@@ -185,6 +200,11 @@ public class Strategy {
 			initialTime = System.currentTimeMillis();
 		}
 		this.countMax = countmaxIterations; // max cantidad de iteraciones
+		countCurrent = 0;
+		evaluatedCandidate = null;
+		if(stopCondition != null){
+			stopCondition.start(this);
+		}
 		//generar estado inicial de la estrategia
 		Generator randomInitial = new RandomSearch();
 		State initialState = randomInitial.generate(operatornumber);
@@ -204,7 +224,8 @@ public class Strategy {
 		if(saveFreneParetoMonoObjetivo == true){
 			notDominated = new Dominance();
 		}
-		// crear el generador a ejecutar
+		// liberar los generadores de la corrida anterior y crear el generador a ejecutar
+		releaseGenerators();
 		generator = newGenerator(generatorType);
 		generator.setInitialReference(initialState);
 		bestState = initialState;
@@ -218,16 +239,19 @@ public class Strategy {
 		if(generatorType.equals(GeneratorType.MULTI_GENERATOR)){
 			initializeGenerators();
 			MultiGenerator.initializeGenerators();
-			MultiGenerator.listGeneratedPP.clear();
+			MultiGenerator.getListGeneratedPP().clear();
 			multiGenerator = ((MultiGenerator)generator).copy();
 		}
 		else initialize(); //crea el mapa de generadores
 		update(countCurrent);
 		
+		PhaseRecorder recorder = StrategyMetrics.recorder(generatorType); // null si las métricas están desactivadas
+		FitnessComparator fitness = FitnessComparator.of(problem.getTypeProblem()); // la dirección del objetivo no cambia durante la corrida
+		Integer operators = operatornumber; // se encapsula una sola vez y no en cada iteración
 		float sumMax = 0; // suma acumulativa para almacenar la evaluacion de la mejor solucion encotrada y calcular el OfflinePerformance
 		int countOff = 0; // variable par contar los OfflinePerformance que se van salvando en el arreglo
 		//ciclio de ejecuci�n del algoritmo
-		while (!stopexecute.stopIterations(countCurrent, countmaxIterations)){
+		while (!stopexecute.stopIterations(countCurrent, countmaxIterations) && !isStopConditionSatisfied()){
 			//si se detecta un cambio
 			if(countCurrent == countChange){
 				//calcular offlinePerformance
@@ -235,6 +259,10 @@ public class Strategy {
 				countOff++;
 				sumMax = 0;
 //				countIterationsChange = countIterationsChange + countPeriodChange; // actualizar la cantidad de iteraciones
+				//las evaluaciones guardadas dejan de ser válidas tras un cambio
+				if(problem.getFitnessCache() != null){
+					problem.getFitnessCache().invalidateAll();
+				}
 				//actualizar la referencia luego de un cambio
 				updateRef(generatorType);
 				countChange = countChange + countPeriodChange;
@@ -245,44 +273,49 @@ public class Strategy {
 						updateCountGender();
 						countPeriodo = countPeriodo + countPeriodChange / 10;
 						periodo = 0;
-						MultiGenerator.activeGenerator.countBetterGender = 0;
+						MultiGenerator.getActiveGenerator().countBetterGender = 0;
 					}
 					updateWeight();//actualizar el peso de los generadores si se reinician cuando ocurre un cambio
 					//generar el estado candidato de la iteración
-					stateCandidate = multiGenerator.generate(operatornumber);
-					problem.Evaluate(stateCandidate);
-					stateCandidate.setEvaluation(stateCandidate.getEvaluation());
+					if(recorder != null) recorder.begin();
+					stateCandidate = multiGenerator.generate(operators);
+					if(recorder != null) recorder.lap(LoopPhase.GENERATE);
+					evaluateCandidate(stateCandidate);
+					if(recorder != null) recorder.lap(LoopPhase.EVALUATE);
 					stateCandidate.setNumber(countCurrent);
 					stateCandidate.setTypeGenerator(generatorType);
 					multiGenerator.updateReference(stateCandidate, countCurrent);
+					if(recorder != null) recorder.lap(LoopPhase.UPDATE_REFERENCE);
 				}
 				else {
-					stateCandidate = generator.generate(operatornumber);
-					problem.Evaluate(stateCandidate);
-					stateCandidate.setEvaluation(stateCandidate.getEvaluation());
+					if(recorder != null) recorder.begin();
+					stateCandidate = generator.generate(operators);
+					if(recorder != null) recorder.lap(LoopPhase.GENERATE);
+					evaluateCandidate(stateCandidate);
+					if(recorder != null) recorder.lap(LoopPhase.EVALUATE);
 					stateCandidate.setNumber(countCurrent);
 					stateCandidate.setTypeGenerator(generatorType);
 					generator.updateReference(stateCandidate, countCurrent);
+					if(recorder != null) recorder.lap(LoopPhase.UPDATE_REFERENCE);
 					if(saveListStates ==  true){
 						listStates.add(stateCandidate);
 					}
 //					listStates.add(stateCandidate);
 				}
+				if(recorder != null) recorder.lap(LoopPhase.ARCHIVE);
 				//actualizar el mejor estado encontrado solo tiene sentido para algoritmos monoobjetivos
 				
 				//actualizar el mejor estado encontrado solo tiene sentido para algoritmos monoobjetivos
-				if ((getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)) && bestState.getEvaluation().get(bestState.getEvaluation().size() - 1) < stateCandidate.getEvaluation().get(bestState.getEvaluation().size() - 1)) {
-					bestState = stateCandidate;
-				}
-				if ((problem.getTypeProblem().equals(ProblemType.MINIMIZAR)) && bestState.getEvaluation().get(bestState.getEvaluation().size() - 1) > stateCandidate.getEvaluation().get(bestState.getEvaluation().size() - 1)) {
-					bestState = stateCandidate;
-				}
+				updateBestState(stateCandidate, fitness);
 				//					System.out.println("Evaluacion: "+ bestState.getEvaluation());
 				if(saveListBestStates == true){
 					listBest.add(bestState);
 				}
-				sumMax = (float) (sumMax + bestState.getEvaluation().get(0));
-
+				sumMax = (float) (sumMax + bestState.evalAt(0));
+				if(recorder != null){
+					recorder.lap(LoopPhase.BOOKKEEPING);
+					recorder.endIteration();
+				}
 			}
 			// no ha ocurrido un cambio
 			else {
@@ -292,23 +325,29 @@ public class Strategy {
 						updateCountGender();
 						countPeriodo = countPeriodo + countPeriodChange / 10;
 						periodo++;
-						MultiGenerator.activeGenerator.countBetterGender = 0;
+						MultiGenerator.getActiveGenerator().countBetterGender = 0;
 					}
-					stateCandidate = multiGenerator.generate(operatornumber);
-					problem.Evaluate(stateCandidate);
-					stateCandidate.setEvaluation(stateCandidate.getEvaluation());
+					if(recorder != null) recorder.begin();
+					stateCandidate = multiGenerator.generate(operators);
+					if(recorder != null) recorder.lap(LoopPhase.GENERATE);
+					evaluateCandidate(stateCandidate);
+					if(recorder != null) recorder.lap(LoopPhase.EVALUATE);
 					stateCandidate.setNumber(countCurrent);
 					stateCandidate.setTypeGenerator(generatorType);
 					multiGenerator.updateReference(stateCandidate, countCurrent);
+					if(recorder != null) recorder.lap(LoopPhase.UPDATE_REFERENCE);
 				}
 				else {
 					//generar estado candidato y evaluar si es aceptado o no 
-					stateCandidate = generator.generate(operatornumber);
-					problem.Evaluate(stateCandidate);
-					stateCandidate.setEvaluation(stateCandidate.getEvaluation());
+					if(recorder != null) recorder.begin();
+					stateCandidate = generator.generate(operators);
+					if(recorder != null) recorder.lap(LoopPhase.GENERATE);
+					evaluateCandidate(stateCandidate);
+					if(recorder != null) recorder.lap(LoopPhase.EVALUATE);
 					stateCandidate.setNumber(countCurrent);
 					stateCandidate.setTypeGenerator(generatorType);
 					generator.updateReference(stateCandidate, countCurrent); // actualizar la referencia del estado
+					if(recorder != null) recorder.lap(LoopPhase.UPDATE_REFERENCE);
 					if(saveListStates ==  true){
 						listStates.add(stateCandidate);
 					}
@@ -316,19 +355,20 @@ public class Strategy {
 						notDominated.ListDominance(stateCandidate, listRefPoblacFinal);
 					}
 				}
+				if(recorder != null) recorder.lap(LoopPhase.ARCHIVE);
 				countCurrent = UpdateParameter.updateParameter(countCurrent);
+				if(recorder != null) recorder.lap(LoopPhase.UPDATE_PARAMETER);
 				//actualizar el mejor estado encontrado solo tiene sentido para algoritmos monoobjetivos
-				if ((getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)) && bestState.getEvaluation().get(bestState.getEvaluation().size() - 1) < stateCandidate.getEvaluation().get(bestState.getEvaluation().size() - 1)) {
-					bestState = stateCandidate;
-				}
-				if ((problem.getTypeProblem().equals(ProblemType.MINIMIZAR)) && bestState.getEvaluation().get(bestState.getEvaluation().size() - 1) > stateCandidate.getEvaluation().get(bestState.getEvaluation().size() - 1)) {
-					bestState = stateCandidate;
-				}
+				updateBestState(stateCandidate, fitness);
 				//					System.out.println("Evaluacion: "+ bestState.getEvaluation());
 				if(saveListBestStates == true){
 					listBest.add(bestState);
 				}
-				sumMax = (float) (sumMax + bestState.getEvaluation().get(0));
+				sumMax = (float) (sumMax + bestState.evalAt(0));
+				if(recorder != null){
+					recorder.lap(LoopPhase.BOOKKEEPING);
+					recorder.endIteration();
+				}
 			}
 //			System.out.println("Iteracion: " + countCurrent);
 		}
@@ -352,6 +392,29 @@ public class Strategy {
 		} 
 	}
 	
+	/**
+	 * @brief Sustituye el mejor estado si el candidato lo mejora
+	 * 
+	 * Compara el último objetivo de ambos estados sin copiar sus evaluaciones.
+	 * 
+	 * @param stateCandidate Estado candidato de la iteración
+	 * @param fitness Sentido del objetivo de la corrida
+	 */
+	private void updateBestState(State stateCandidate, FitnessComparator fitness) {
+		int last = bestState.evalSize() - 1;
+		if (fitness.isBetter(stateCandidate.evalAt(last), bestState.evalAt(last))) {
+			bestState = stateCandidate;
+		}
+	}
+
+	/**
+	 * @brief Consulta el criterio de parada adicional
+	 * @return true si hay un StopCondition configurado y se cumple
+	 */
+	private boolean isStopConditionSatisfied() {
+		return stopCondition != null && stopCondition.isSatisfied(this);
+	}
+
 	/**
 	 * @brief Actualiza los contadores de uso y mejoras de cada generador
 	 * 
@@ -407,19 +470,19 @@ public class Strategy {
 		//		Here update parameter for update and change generator.
 		if(countIterationsCurrent.equals(GeneticAlgorithm.countRef - 1)){
 			ifFactoryGenerator = new FactoryGenerator();
-			Strategy.getStrategy().generator = ifFactoryGenerator.createGenerator(GeneratorType.GENETIC_ALGORITHM);
+			Strategy.getStrategy().replaceGenerator(ifFactoryGenerator.createGenerator(GeneratorType.GENETIC_ALGORITHM));
 		}
 		if(countIterationsCurrent.equals(EvolutionStrategies.countRef - 1)){
 			ifFactoryGenerator = new FactoryGenerator();
-			Strategy.getStrategy().generator = ifFactoryGenerator.createGenerator(GeneratorType.EVOLUTION_STRATEGIES);
+			Strategy.getStrategy().replaceGenerator(ifFactoryGenerator.createGenerator(GeneratorType.EVOLUTION_STRATEGIES));
 		}			
 		if(countIterationsCurrent.equals(DistributionEstimationAlgorithm.countRef - 1)){
 			ifFactoryGenerator = new FactoryGenerator();
-			Strategy.getStrategy().generator = ifFactoryGenerator.createGenerator(GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM);
+			Strategy.getStrategy().replaceGenerator(ifFactoryGenerator.createGenerator(GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM));
 		}
 		if(countIterationsCurrent.equals(ParticleSwarmOptimization.countRef - 1)){
 			ifFactoryGenerator = new FactoryGenerator();
-			Strategy.getStrategy().generator = ifFactoryGenerator.createGenerator(GeneratorType.PARTICLE_SWARM_OPTIMIZATION);
+			Strategy.getStrategy().replaceGenerator(ifFactoryGenerator.createGenerator(GeneratorType.PARTICLE_SWARM_OPTIMIZATION));
 		}
 	}
 
@@ -440,11 +503,21 @@ public class Strategy {
 	 * @throws NoSuchMethodException Si no se encuentra el método requerido
 	 */
 	public Generator newGenerator(GeneratorType Generatortype) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		ifFactoryGenerator = new FactoryGenerator();
+		if (ifFactoryGenerator == null) {
+			ifFactoryGenerator = new FactoryGenerator();
+		}
 		Generator generator = ifFactoryGenerator.createGenerator(Generatortype);
 		return generator;
 	}
 
+	/**
+	 * @brief Sustituye la fábrica usada por newGenerator
+	 * @param factory Fábrica de generadores; null vuelve a la fábrica predeterminada
+	 */
+	public void setFactoryGenerator(IFFactoryGenerator factory) {
+		this.ifFactoryGenerator = factory;
+	}
+
 	/**
 	 * @brief Obtiene el mejor estado encontrado
 	 * @return El mejor estado encontrado durante la ejecución
@@ -493,6 +566,26 @@ public class Strategy {
 		this.stopexecute = stopexecute;
 	}
 
+	/**
+	 * @brief Obtiene el criterio de parada adicional
+	 * @return StopCondition configurado o null
+	 */
+	public StopCondition getStopCondition() {
+		return stopCondition;
+	}
+
+	/**
+	 * @brief Establece un criterio de parada adicional al máximo de iteraciones
+	 * 
+	 * Se comprueba antes de cada iteración junto con StopExecute; la ejecución
+	 * termina con el primero que se cumpla.
+	 * 
+	 * @param stopCondition Criterio de parada, o null para usar solo iteraciones
+	 */
+	public void setStopCondition(StopCondition stopCondition) {
+		this.stopCondition = stopCondition;
+	}
+
 	/**
 	 * @brief Obtiene el gestor de actualización de parámetros
 	 * @return Objeto UpdateParameter
@@ -509,6 +602,30 @@ public class Strategy {
 		this.updateparameter = updateparameter;
 	}
 
+	/**
+	 * @brief Registra que el candidato ya se evaluó con Problem.Evaluate
+	 * 
+	 * Lo usan los selectores que evalúan cada vecino para elegir al mejor
+	 * (MoveNeighborhood) para que executeStrategy no vuelva a evaluar al
+	 * ganador. Solo vale para la siguiente evaluación del ciclo.
+	 * @param state Estado recién evaluado por completo
+	 */
+	public void markEvaluated(State state) {
+		this.evaluatedCandidate = state;
+	}
+
+	/**
+	 * @brief Evalúa el candidato de la iteración salvo que su selector ya lo haya hecho
+	 * @param state Candidato generado en la iteración
+	 */
+	void evaluateCandidate(State state) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		State evaluated = evaluatedCandidate;
+		evaluatedCandidate = null;
+		if (state != evaluated || state.evalSize() == 0) {
+			problem.Evaluate(state);
+		}
+	}
+
 	/**
 	 * @brief Obtiene el problema de optimización
 	 * @return El problema actual
@@ -522,39 +639,81 @@ public class Strategy {
 	 * @param problem Nuevo problema a resolver
 	 */
 	public static void setProblem(Problem problem) {
-		if (strategy == null) {
-			strategy = new Strategy();
-		}
-		strategy.problem = problem;
+		getStrategy().problem = problem;
+	}
+
+	/**
+	 * @brief Establece el problema de optimización en esta instancia concreta
+	 * @param problem Nuevo problema a resolver
+	 */
+	void setProblemInstance(Problem problem) {
+		this.problem = problem;
 	}
 
 	/**
 	 * @brief Obtiene la lista de claves de tipos de generadores disponibles
 	 * 
-	 * Extrae y formatea las claves del mapa de generadores en una lista de cadenas.
+	 * Todos los tipos de GeneratorType están disponibles, pues el registro
+	 * los construye bajo demanda con getGenerator.
 	 * 
 	 * @return Lista de nombres de tipos de generadores
 	 */
 	public ArrayList<String> getListKey(){
 		ArrayList<String> listKeys = new ArrayList<String>();
-		String key = mapGenerators.keySet().toString();
-		String returnString = key.substring(1, key.length() - 1);
-		returnString = returnString + ", ";
-		int countKey = mapGenerators.size();
-		for (int i = 0; i < countKey; i++) {
-			String r = returnString.substring(0, returnString.indexOf(','));
-			returnString = returnString.substring(returnString.indexOf(',') + 2);
-			listKeys.add(r);
+		for (GeneratorType type : GeneratorType.values()) {
+			listKeys.add(type.name());
 		}
 		return listKeys;
 	}
 
 	/**
-	 * @brief Inicializa todos los tipos de generadores disponibles para MultiGenerator
+	 * @brief Busca un generador ya registrado sin construirlo
+	 * @param type Tipo de generador buscado
+	 * @param kind Clase esperada del generador
+	 * @return El generador registrado, o null si no existe o es de otra clase
+	 */
+	public <T extends Generator> T findGenerator(GeneratorType type, Class<T> kind) {
+		if (mapGenerators == null) {
+			return null;
+		}
+		Generator generator = mapGenerators.get(type);
+		return kind.isInstance(generator) ? kind.cast(generator) : null;
+	}
+
+	/**
+	 * @brief Obtiene el generador registrado de un tipo, construyéndolo la primera vez
+	 * @param type Tipo de generador
+	 * @return Instancia registrada para ese tipo
+	 * @throws IllegalArgumentException Si los argumentos no son válidos
+	 * @throws SecurityException Si hay problemas de seguridad en la reflexión
+	 * @throws ClassNotFoundException Si no se encuentra la clase del generador
+	 * @throws InstantiationException Si no se puede instanciar el generador
+	 * @throws IllegalAccessException Si hay problemas de acceso en la reflexión
+	 * @throws InvocationTargetException Si hay errores al invocar métodos
+	 * @throws NoSuchMethodException Si no se encuentra el método requerido
+	 */
+	public Generator getGenerator(GeneratorType type) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		if (mapGenerators == null) {
+			initialize();
+		}
+		Generator generator = mapGenerators.get(type);
+		if (generator == null) {
+			// el constructor no se ve a sí mismo en el registro hasta terminar
+			generator = newGenerator(type);
+			if (generator != null) {
+				mapGenerators.put(type, generator);
+			}
+		}
+		return generator;
+	}
+
+	/**
+	 * @brief Prepara el registro de generadores del portafolio
 	 * 
-	 * Crea instancias de todos los tipos de generadores definidos en GeneratorType
-	 * y los almacena en el mapa de generadores. Utilizado específicamente para
-	 * configurar portafolios de generadores.
+	 * Se conserva por compatibilidad: los generadores ya no se construyen
+	 * todos al inicio, sino al pedirlos con getGenerator. El portafolio de
+	 * MultiGenerator obtiene así sus generadores evolutivos, y los que se
+	 * creen después los encuentran con findGenerator para compartir población.
 	 * 
 	 * @throws IllegalArgumentException Si los argumentos no son válidos
 	 * @throws SecurityException Si hay problemas de seguridad en la reflexión
@@ -565,25 +724,14 @@ public class Strategy {
 	 * @throws NoSuchMethodException Si no se encuentra el método requerido
 	 */
 	public void initializeGenerators()throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		List<GeneratorType>	listType = new ArrayList<GeneratorType>();
-		this.mapGenerators = new TreeMap<GeneratorType, Generator>();
-		GeneratorType type[]= GeneratorType.values();
-		for (GeneratorType generator : type) {
-			listType.add(generator);
-		}
-		for (int i = 0; i < listType.size(); i++) {
-			Generator generator = newGenerator(listType.get(i));
-			mapGenerators.put(listType.get(i), generator);
-			//ExecuteGeneratorParall.getExecuteGeneratorParall().listGenerators.add(generator);
-//			MultiGenerator.getListGenerators()[i] = generator;
-		}
+		initialize();
 	}
 
 	/**
-	 * @brief Inicializa el mapa de generadores
+	 * @brief Inicializa el registro de generadores vacío
 	 * 
-	 * Crea instancias de todos los tipos de generadores y los almacena en el mapa.
-	 * Similar a initializeGenerators pero para uso general.
+	 * Los generadores se crean bajo demanda con getGenerator, de modo que el
+	 * arranque de una ejecución no depende de la cantidad de tipos existentes.
 	 * 
 	 * @throws IllegalArgumentException Si los argumentos no son válidos
 	 * @throws SecurityException Si hay problemas de seguridad en la reflexión
@@ -594,15 +742,52 @@ public class Strategy {
 	 * @throws NoSuchMethodException Si no se encuentra el método requerido
 	 */
 	public void initialize()throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		List<GeneratorType>	listType = new ArrayList<GeneratorType>();
-		this.mapGenerators = new TreeMap<GeneratorType, Generator>();
-		GeneratorType type[]= GeneratorType.values();
-		for (GeneratorType generator : type) {
-			listType.add(generator);
+		if (mapGenerators != null) {
+			for (Generator registered : mapGenerators.values()) {
+				registered.release();
+			}
 		}
-		for (int i = 0; i < listType.size(); i++) {
-			Generator generator = newGenerator(listType.get(i));
-			mapGenerators.put(listType.get(i), generator);
+		this.mapGenerators = new EnumMap<GeneratorType, Generator>(GeneratorType.class);
+	}
+
+	/**
+	 * @brief Cambia el generador en ejecución y libera el anterior
+	 * 
+	 * El anterior no se libera si sigue en el registro de generadores, porque
+	 * otros generadores pueden compartir su población.
+	 * 
+	 * @param next Generador que pasa a ejecutarse
+	 */
+	public void replaceGenerator(Generator next) {
+		Generator previous = generator;
+		generator = next;
+		if (previous != null && previous != next && (mapGenerators == null || !mapGenerators.containsValue(previous))) {
+			previous.release();
+		}
+	}
+
+	/**
+	 * @brief Libera los generadores de esta corrida: el activo, los del registro y los del portafolio
+	 * 
+	 * Cierra las poblaciones que crearon, incluidos los archivos temporales de
+	 * PopulationStorageType.MAPPED.
+	 */
+	void releaseGenerators() {
+		if (generator != null) {
+			generator.release();
+		}
+		if (mapGenerators != null) {
+			for (Generator registered : mapGenerators.values()) {
+				registered.release();
+			}
+		}
+		Generator[] portfolio = MultiGenerator.getListGenerators();
+		if (portfolio != null) {
+			for (Generator member : portfolio) {
+				if (member != null) {
+					member.release();
+				}
+			}
 		}
 	}
 
@@ -626,9 +811,19 @@ public class Strategy {
 	 * @brief Destruye la instancia del Singleton y limpia recursos
 	 * 
 	 * Libera la instancia de Strategy y limpia las referencias de estado
-	 * para permitir una nueva ejecución limpia.
+	 * para permitir una nueva ejecución limpia. Los generadores de la corrida
+	 * cierran sus poblaciones (ver releaseGenerators). Si hay un StrategyContext
+	 * ligado solo se reinicia la instancia de ese contexto.
 	 */
 	public static void destroyExecute() {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.resetStrategy();
+			return;
+		}
+		if (strategy != null) {
+			strategy.releaseGenerators();
+		}
 		strategy = null;
 		// Reset RandomSearch global list to an empty list instead of null to avoid NPEs
 		RandomSearch.listStateReference = new java.util.ArrayList<>();
@@ -677,7 +872,7 @@ public class Strategy {
 //		problem.setRef(ref);
 		if(generatorType.equals(GeneratorType.MULTI_GENERATOR)){
 			updateRefMultiG();
-			bestState = MultiGenerator.listStateReference.get( MultiGenerator.listStateReference.size() - 1);
+			bestState = MultiGenerator.getListStateReference().get( MultiGenerator.getListStateReference().size() - 1);
 		}
 		else{
 			updateRefGenerator(generator);
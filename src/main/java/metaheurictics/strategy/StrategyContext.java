@@ -0,0 +1,765 @@
+/**
+ * @file StrategyContext.java
+ * @brief Contexto de ejecución aislado para una corrida de Strategy
+ *
+ * Agrupa el estado que hasta ahora era global al proceso (instancia de Strategy,
+ * lista tabú, temperatura del recocido simulado, referencias de RandomSearch,
+ * portafolio del MultiGenerator, estado del enjambre PSO y contadores y listas
+ * de trabajo de otros generadores) para que varias
+ * corridas independientes puedan ejecutarse a la vez en una misma JVM.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+import config.RandomEngine;
+import config.RandomService;
+import local_search.complement.ParallelMoveSearch;
+import local_search.complement.TabuMemory;
+import local_search.complement.TabuMode;
+import local_search.complement.TabuSolutions;
+import metaheuristics.generators.Generator;
+import metaheuristics.generators.HillClimbingRestart;
+import metaheuristics.generators.MultiCaseSimulatedAnnealing;
+import metaheuristics.generators.SimulatedAnnealing;
+import problem.definition.Problem;
+import problem.definition.State;
+
+/**
+ * @class StrategyContext
+ * @brief Estado de una corrida ligado explícitamente o al hilo actual
+ *
+ * Mientras un contexto está ligado a un hilo, Strategy.getStrategy() y los
+ * accesores estáticos de TabuSolutions, ParallelMoveSearch, SimulatedAnnealing,
+ * MultiCaseSimulatedAnnealing, HillClimbingRestart, RandomSearch,
+ * MultiGenerator, ParticleSwarmOptimization, DistributionEstimationAlgorithm y
+ * MultiobjectiveHillClimbingDistance resuelven contra este contexto en
+ * lugar de contra los campos estáticos. Sin contexto ligado se mantiene el
+ * comportamiento clásico del singleton.
+ *
+ * Los parámetros de configuración (temperatura inicial, alpha, tamaño de la
+ * lista tabú, período de reinicio, búsqueda paralela de movimientos) se copian de los campos estáticos al crear el contexto, de modo
+ * que se configuran una sola vez y cada corrida evoluciona su propia copia.
+ */
+public class StrategyContext {
+
+	/** @brief Contexto ligado al hilo actual */
+	private static final ThreadLocal<StrategyContext> CURRENT = new ThreadLocal<StrategyContext>();
+
+	/** @brief Instancia de Strategy propia de esta corrida */
+	private Strategy strategy;
+
+	/** @brief Semilla determinista asignada a la corrida */
+	private long seed;
+
+	/** @brief Indica si se asignó una semilla con setSeed */
+	private boolean seeded;
+
+	/** @brief Motor aleatorio de la corrida, creado por el hilo propietario al primer uso */
+	private RandomEngine random;
+
+	/** @brief Hilo de la corrida, el último que ligó el contexto con bind() */
+	private volatile Thread randomOwner;
+
+	/** @brief Lista tabú de la corrida */
+	private List<State> listTabu = TabuMemory.forStates();
+
+	/** @brief Memoria de atributos tabú de la corrida */
+	private TabuMemory<Object> listTabuAttributes = TabuMemory.forAttributes();
+
+	/** @brief Modo de la memoria tabú */
+	private TabuMode tabuMode;
+
+	/** @brief Número máximo de elementos de la lista tabú */
+	private int maxTabuElements;
+
+	/** @brief Activa la búsqueda paralela de movimientos */
+	private boolean parallelMoves;
+
+	/** @brief Número mínimo de movimientos para buscar en paralelo */
+	private int parallelThreshold;
+
+	/** @brief Movimientos por tarea de la búsqueda paralela */
+	private int parallelChunkSize;
+
+	/** @brief Pool de la búsqueda paralela, null para el pool común */
+	private ForkJoinPool parallelPool;
+
+	/** @brief Temperatura actual del recocido simulado */
+	private Double tinitial;
+
+	/** @brief Factor de enfriamiento del recocido simulado */
+	private Double alpha;
+
+	/** @brief Temperatura final del recocido simulado */
+	private Double tfinal;
+
+	/** @brief Próxima iteración de enfriamiento del recocido simulado */
+	private int countIterationsT;
+
+	/** @brief Temperatura actual del recocido simulado multicaso */
+	private Double multicaseTinitial;
+
+	/** @brief Factor de enfriamiento del recocido simulado multicaso */
+	private Double multicaseAlpha;
+
+	/** @brief Próxima iteración de enfriamiento del recocido simulado multicaso */
+	private int multicaseCountIterationsT;
+
+	/** @brief Estados generados por RandomSearch para los algoritmos poblacionales */
+	private List<State> listStateReferenceRS = new ArrayList<State>();
+
+	/** @brief Portafolio de generadores del MultiGenerator */
+	private Generator[] listGenerators;
+
+	/** @brief Generador activo del MultiGenerator */
+	private Generator activeGenerator;
+
+	/** @brief Población inicial generada por el MultiGenerator */
+	private List<State> listGeneratedPP = new ArrayList<State>();
+
+	/** @brief Lista de referencias del MultiGenerator */
+	private List<State> listStateReferenceMG = new ArrayList<State>();
+
+	/** @brief Iteración del próximo reinicio de HillClimbingRestart */
+	private int countRestart;
+
+	/** @brief Iteraciones entre reinicios de HillClimbingRestart */
+	private int countCurrentRestart;
+
+	/** @brief Hijos generados por el algoritmo de estimación de distribución */
+	private List<State> listSonsEDA = new ArrayList<State>();
+
+	/** @brief Distancias del frente de Pareto de MultiobjectiveHillClimbingDistance */
+	private List<Double> distanceSolution = new ArrayList<Double>();
+
+	/** @brief Mejores locales por cúmulo del PSO */
+	private State[] lBest;
+
+	/** @brief Mejor global del PSO */
+	private State gBest;
+
+	/** @brief Partícula actual del PSO */
+	private int countParticle;
+
+	/** @brief Iteración actual del PSO */
+	private int countCurrentIterPSO;
+
+	/**
+	 * @brief Crea un contexto vacío con la configuración estática actual
+	 */
+	public StrategyContext() {
+		this.strategy = new Strategy();
+		this.maxTabuElements = TabuSolutions.maxelements;
+		this.tabuMode = TabuSolutions.mode;
+		this.parallelMoves = ParallelMoveSearch.enabled;
+		this.parallelThreshold = ParallelMoveSearch.threshold;
+		this.parallelChunkSize = ParallelMoveSearch.chunkSize;
+		this.parallelPool = ParallelMoveSearch.pool;
+		this.tinitial = SimulatedAnnealing.tinitial;
+		this.alpha = SimulatedAnnealing.alpha;
+		this.tfinal = SimulatedAnnealing.tfinal;
+		this.countIterationsT = SimulatedAnnealing.countIterationsT;
+		this.multicaseTinitial = MultiCaseSimulatedAnnealing.tinitial;
+		this.multicaseAlpha = MultiCaseSimulatedAnnealing.alpha;
+		this.multicaseCountIterationsT = MultiCaseSimulatedAnnealing.countIterationsT;
+		this.countRestart = HillClimbingRestart.count;
+		this.countCurrentRestart = HillClimbingRestart.countCurrent;
+	}
+
+	/**
+	 * @brief Crea un contexto para resolver el problema indicado
+	 * @param problem Problema de optimización de la corrida
+	 */
+	public StrategyContext(Problem problem) {
+		this();
+		this.strategy.setProblemInstance(problem);
+	}
+
+	/**
+	 * @brief Obtiene el contexto ligado al hilo actual
+	 * @return Contexto actual o null si se usa el singleton global
+	 */
+	public static StrategyContext current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * @brief Liga este contexto al hilo actual
+	 * 
+	 * El hilo pasa a ser el de la corrida y el dueño del motor aleatorio, así
+	 * que un contexto con semilla puede continuar en otro hilo sin perder la
+	 * secuencia. Los hilos de trabajo de la corrida usan callWorker(), que no
+	 * toma el motor.
+	 * @return Contexto que estaba ligado antes, o null
+	 */
+	public StrategyContext bind() {
+		randomOwner = Thread.currentThread();
+		return attach();
+	}
+
+	/**
+	 * @brief Liga el contexto al hilo actual sin cambiar el dueño del motor aleatorio
+	 * @return Contexto que estaba ligado antes, o null
+	 */
+	private StrategyContext attach() {
+		StrategyContext previous = CURRENT.get();
+		CURRENT.set(this);
+		return previous;
+	}
+
+	/**
+	 * @brief Desliga el contexto del hilo actual
+	 */
+	public static void unbind() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * @brief Ejecuta una tarea con este contexto ligado y restaura el anterior al terminar
+	 * @param task Tarea a ejecutar
+	 * @return Resultado de la tarea
+	 * @throws Exception Si la tarea lanza una excepción
+	 */
+	public <T> T call(Callable<T> task) throws Exception {
+		return run(bind(), task);
+	}
+
+	/**
+	 * @brief Ejecuta una tarea de un hilo de trabajo de la corrida
+	 * 
+	 * Como call(), pero sin tomar el motor aleatorio: lo usan los evaluadores
+	 * y búsquedas paralelas para propagar el contexto a sus hilos.
+	 * @param task Tarea a ejecutar
+	 * @return Resultado de la tarea
+	 * @throws Exception Si la tarea lanza una excepción
+	 */
+	public <T> T callWorker(Callable<T> task) throws Exception {
+		return run(attach(), task);
+	}
+
+	private <T> T run(StrategyContext previous, Callable<T> task) throws Exception {
+		try {
+			return task.call();
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * @brief Reinicia la instancia de Strategy de la corrida (equivale a destroyExecute)
+	 */
+	void resetStrategy() {
+		this.strategy.releaseGenerators();
+		this.strategy = new Strategy();
+		this.listStateReferenceRS = new ArrayList<State>();
+	}
+
+	/**
+	 * @brief Obtiene la instancia de Strategy de la corrida
+	 * @return Instancia de Strategy de la corrida
+	 */
+	public Strategy getStrategy() {
+		return strategy;
+	}
+
+	/**
+	 * @brief Obtiene la semilla de la corrida
+	 * @return Semilla de la corrida
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * @brief Establece la semilla de la corrida y descarta el motor ya creado
+	 * @param seed Semilla de la corrida
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+		this.seeded = true;
+		this.random = null;
+	}
+
+	/**
+	 * @brief Motor aleatorio de la corrida
+	 * 
+	 * Se crea al primer uso a partir de la semilla, o dividiendo el motor
+	 * maestro de RandomService si no se asignó ninguna. El motor no es
+	 * seguro entre hilos: pertenece al último hilo que ligó el contexto con
+	 * bind(), que es el único que lo crea y lo usa. Pedirlo desde otro hilo
+	 * (un hilo de trabajo de callWorker() o uno que nunca ligó el contexto)
+	 * es un error, para no cambiar en silencio a un motor sin la semilla.
+	 * @return Motor de la corrida
+	 * @throws IllegalStateException Si el hilo actual no es el dueño del motor
+	 */
+	public RandomEngine getRandom() {
+		if (randomOwner != Thread.currentThread()) {
+			throw new IllegalStateException("the random engine of this run belongs to " + (randomOwner == null ? "no thread; call bind() first" : randomOwner.getName()));
+		}
+		if (random == null) {
+			random = seeded ? RandomService.create(seed) : RandomService.split();
+		}
+		return random;
+	}
+
+	/**
+	 * @brief Obtiene la lista tabú de la corrida
+	 * @return Lista tabú
+	 */
+	public List<State> getListTabu() {
+		return listTabu;
+	}
+
+	/**
+	 * @brief Establece la lista tabú de la corrida
+	 * @param listTabu Lista tabú
+	 */
+	public void setListTabu(List<State> listTabu) {
+		this.listTabu = listTabu;
+	}
+
+	/**
+	 * @brief Obtiene la memoria de atributos tabú de la corrida
+	 * @return Memoria de atributos tabú
+	 */
+	public TabuMemory<Object> getListTabuAttributes() {
+		return listTabuAttributes;
+	}
+
+	/**
+	 * @brief Establece la memoria de atributos tabú de la corrida
+	 * @param listTabuAttributes Memoria de atributos tabú
+	 */
+	public void setListTabuAttributes(TabuMemory<Object> listTabuAttributes) {
+		this.listTabuAttributes = listTabuAttributes;
+	}
+
+	/**
+	 * @brief Obtiene el modo de la memoria tabú
+	 * @return Modo de la memoria tabú
+	 */
+	public TabuMode getTabuMode() {
+		return tabuMode;
+	}
+
+	/**
+	 * @brief Establece el modo de la memoria tabú
+	 * @param tabuMode Modo de la memoria tabú
+	 */
+	public void setTabuMode(TabuMode tabuMode) {
+		this.tabuMode = tabuMode;
+	}
+
+	/**
+	 * @brief Obtiene el número máximo de elementos de la lista tabú
+	 * @return Máximo de elementos tabú
+	 */
+	public int getMaxTabuElements() {
+		return maxTabuElements;
+	}
+
+	/**
+	 * @brief Establece el número máximo de elementos de la lista tabú
+	 * @param maxTabuElements Máximo de elementos tabú
+	 */
+	public void setMaxTabuElements(int maxTabuElements) {
+		this.maxTabuElements = maxTabuElements;
+	}
+
+	/**
+	 * @brief Indica si la búsqueda paralela de movimientos está activada
+	 * @return true si está activada
+	 */
+	public boolean isParallelMoves() {
+		return parallelMoves;
+	}
+
+	/**
+	 * @brief Activa o desactiva la búsqueda paralela de movimientos
+	 * @param parallelMoves true para activarla
+	 */
+	public void setParallelMoves(boolean parallelMoves) {
+		this.parallelMoves = parallelMoves;
+	}
+
+	/**
+	 * @brief Obtiene el umbral de la búsqueda paralela
+	 * @return Número mínimo de movimientos para buscar en paralelo
+	 */
+	public int getParallelThreshold() {
+		return parallelThreshold;
+	}
+
+	/**
+	 * @brief Establece el umbral de la búsqueda paralela
+	 * @param parallelThreshold Número mínimo de movimientos para buscar en paralelo
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * @brief Obtiene el tamaño de tramo de la búsqueda paralela
+	 * @return Movimientos por tarea
+	 */
+	public int getParallelChunkSize() {
+		return parallelChunkSize;
+	}
+
+	/**
+	 * @brief Establece el tamaño de tramo de la búsqueda paralela
+	 * @param parallelChunkSize Movimientos por tarea
+	 */
+	public void setParallelChunkSize(int parallelChunkSize) {
+		this.parallelChunkSize = parallelChunkSize;
+	}
+
+	/**
+	 * @brief Obtiene el pool de la búsqueda paralela
+	 * @return Pool de la corrida, o null para el pool común
+	 */
+	public ForkJoinPool getParallelPool() {
+		return parallelPool;
+	}
+
+	/**
+	 * @brief Establece el pool de la búsqueda paralela
+	 * @param parallelPool Pool de la corrida, o null para el pool común
+	 */
+	public void setParallelPool(ForkJoinPool parallelPool) {
+		this.parallelPool = parallelPool;
+	}
+
+	/**
+	 * @brief Obtiene la temperatura actual del recocido simulado
+	 * @return Temperatura actual
+	 */
+	public Double getTinitial() {
+		return tinitial;
+	}
+
+	/**
+	 * @brief Establece la temperatura actual del recocido simulado
+	 * @param tinitial Temperatura actual
+	 */
+	public void setTinitial(Double tinitial) {
+		this.tinitial = tinitial;
+	}
+
+	/**
+	 * @brief Obtiene el factor de enfriamiento del recocido simulado
+	 * @return Factor de enfriamiento
+	 */
+	public Double getAlpha() {
+		return alpha;
+	}
+
+	/**
+	 * @brief Establece el factor de enfriamiento del recocido simulado
+	 * @param alpha Factor de enfriamiento
+	 */
+	public void setAlpha(Double alpha) {
+		this.alpha = alpha;
+	}
+
+	/**
+	 * @brief Obtiene la temperatura final del recocido simulado
+	 * @return Temperatura final
+	 */
+	public Double getTfinal() {
+		return tfinal;
+	}
+
+	/**
+	 * @brief Establece la temperatura final del recocido simulado
+	 * @param tfinal Temperatura final
+	 */
+	public void setTfinal(Double tfinal) {
+		this.tfinal = tfinal;
+	}
+
+	/**
+	 * @brief Obtiene la próxima iteración de enfriamiento del recocido simulado
+	 * @return Iteración del próximo enfriamiento
+	 */
+	public int getCountIterationsT() {
+		return countIterationsT;
+	}
+
+	/**
+	 * @brief Establece la próxima iteración de enfriamiento del recocido simulado
+	 * @param countIterationsT Iteración del próximo enfriamiento
+	 */
+	public void setCountIterationsT(int countIterationsT) {
+		this.countIterationsT = countIterationsT;
+	}
+
+	/**
+	 * @brief Obtiene la temperatura actual del recocido simulado multicaso
+	 * @return Temperatura actual
+	 */
+	public Double getMulticaseTinitial() {
+		return multicaseTinitial;
+	}
+
+	/**
+	 * @brief Establece la temperatura actual del recocido simulado multicaso
+	 * @param multicaseTinitial Temperatura actual
+	 */
+	public void setMulticaseTinitial(Double multicaseTinitial) {
+		this.multicaseTinitial = multicaseTinitial;
+	}
+
+	/**
+	 * @brief Obtiene el factor de enfriamiento del recocido simulado multicaso
+	 * @return Factor de enfriamiento
+	 */
+	public Double getMulticaseAlpha() {
+		return multicaseAlpha;
+	}
+
+	/**
+	 * @brief Establece el factor de enfriamiento del recocido simulado multicaso
+	 * @param multicaseAlpha Factor de enfriamiento
+	 */
+	public void setMulticaseAlpha(Double multicaseAlpha) {
+		this.multicaseAlpha = multicaseAlpha;
+	}
+
+	/**
+	 * @brief Obtiene la próxima iteración de enfriamiento del recocido simulado multicaso
+	 * @return Iteración del próximo enfriamiento
+	 */
+	public int getMulticaseCountIterationsT() {
+		return multicaseCountIterationsT;
+	}
+
+	/**
+	 * @brief Establece la próxima iteración de enfriamiento del recocido simulado multicaso
+	 * @param multicaseCountIterationsT Iteración del próximo enfriamiento
+	 */
+	public void setMulticaseCountIterationsT(int multicaseCountIterationsT) {
+		this.multicaseCountIterationsT = multicaseCountIterationsT;
+	}
+
+	/**
+	 * @brief Obtiene los estados generados por RandomSearch
+	 * @return Estados de referencia de RandomSearch
+	 */
+	public List<State> getListStateReferenceRS() {
+		return listStateReferenceRS;
+	}
+
+	/**
+	 * @brief Establece los estados generados por RandomSearch
+	 * @param listStateReferenceRS Estados de referencia de RandomSearch
+	 */
+	public void setListStateReferenceRS(List<State> listStateReferenceRS) {
+		this.listStateReferenceRS = listStateReferenceRS;
+	}
+
+	/**
+	 * @brief Obtiene el portafolio de generadores del MultiGenerator
+	 * @return Portafolio de generadores
+	 */
+	public Generator[] getListGenerators() {
+		return listGenerators;
+	}
+
+	/**
+	 * @brief Establece el portafolio de generadores del MultiGenerator
+	 * @param listGenerators Portafolio de generadores
+	 */
+	public void setListGenerators(Generator[] listGenerators) {
+		this.listGenerators = listGenerators;
+	}
+
+	/**
+	 * @brief Obtiene el generador activo del MultiGenerator
+	 * @return Generador activo
+	 */
+	public Generator getActiveGenerator() {
+		return activeGenerator;
+	}
+
+	/**
+	 * @brief Establece el generador activo del MultiGenerator
+	 * @param activeGenerator Generador activo
+	 */
+	public void setActiveGenerator(Generator activeGenerator) {
+		this.activeGenerator = activeGenerator;
+	}
+
+	/**
+	 * @brief Obtiene la población inicial generada por el MultiGenerator
+	 * @return Población inicial
+	 */
+	public List<State> getListGeneratedPP() {
+		return listGeneratedPP;
+	}
+
+	/**
+	 * @brief Establece la población inicial generada por el MultiGenerator
+	 * @param listGeneratedPP Población inicial
+	 */
+	public void setListGeneratedPP(List<State> listGeneratedPP) {
+		this.listGeneratedPP = listGeneratedPP;
+	}
+
+	/**
+	 * @brief Obtiene la lista de referencias del MultiGenerator
+	 * @return Lista de referencias
+	 */
+	public List<State> getListStateReferenceMG() {
+		return listStateReferenceMG;
+	}
+
+	/**
+	 * @brief Establece la lista de referencias del MultiGenerator
+	 * @param listStateReferenceMG Lista de referencias
+	 */
+	public void setListStateReferenceMG(List<State> listStateReferenceMG) {
+		this.listStateReferenceMG = listStateReferenceMG;
+	}
+
+	/**
+	 * @brief Obtiene la iteración del próximo reinicio de HillClimbingRestart
+	 * @return Iteración del próximo reinicio
+	 */
+	public int getCountRestart() {
+		return countRestart;
+	}
+
+	/**
+	 * @brief Establece la iteración del próximo reinicio de HillClimbingRestart
+	 * @param countRestart Iteración del próximo reinicio
+	 */
+	public void setCountRestart(int countRestart) {
+		this.countRestart = countRestart;
+	}
+
+	/**
+	 * @brief Obtiene las iteraciones entre reinicios de HillClimbingRestart
+	 * @return Iteraciones entre reinicios
+	 */
+	public int getCountCurrentRestart() {
+		return countCurrentRestart;
+	}
+
+	/**
+	 * @brief Establece las iteraciones entre reinicios de HillClimbingRestart
+	 * @param countCurrentRestart Iteraciones entre reinicios
+	 */
+	public void setCountCurrentRestart(int countCurrentRestart) {
+		this.countCurrentRestart = countCurrentRestart;
+	}
+
+	/**
+	 * @brief Obtiene los hijos generados por el algoritmo de estimación de distribución
+	 * @return Hijos generados
+	 */
+	public List<State> getListSonsEDA() {
+		return listSonsEDA;
+	}
+
+	/**
+	 * @brief Establece los hijos generados por el algoritmo de estimación de distribución
+	 * @param listSonsEDA Hijos generados
+	 */
+	public void setListSonsEDA(List<State> listSonsEDA) {
+		this.listSonsEDA = listSonsEDA;
+	}
+
+	/**
+	 * @brief Obtiene las distancias del frente de Pareto de MultiobjectiveHillClimbingDistance
+	 * @return Distancias del frente
+	 */
+	public List<Double> getDistanceSolution() {
+		return distanceSolution;
+	}
+
+	/**
+	 * @brief Establece las distancias del frente de Pareto de MultiobjectiveHillClimbingDistance
+	 * @param distanceSolution Distancias del frente
+	 */
+	public void setDistanceSolution(List<Double> distanceSolution) {
+		this.distanceSolution = distanceSolution;
+	}
+
+	/**
+	 * @brief Obtiene los mejores locales por cúmulo del PSO
+	 * @return Mejores locales por cúmulo
+	 */
+	public State[] getLBest() {
+		return lBest;
+	}
+
+	/**
+	 * @brief Establece los mejores locales por cúmulo del PSO
+	 * @param lBest Mejores locales por cúmulo
+	 */
+	public void setLBest(State[] lBest) {
+		this.lBest = lBest;
+	}
+
+	/**
+	 * @brief Obtiene el mejor global del PSO
+	 * @return Mejor global
+	 */
+	public State getGBest() {
+		return gBest;
+	}
+
+	/**
+	 * @brief Establece el mejor global del PSO
+	 * @param gBest Mejor global
+	 */
+	public void setGBest(State gBest) {
+		this.gBest = gBest;
+	}
+
+	/**
+	 * @brief Obtiene la partícula actual del PSO
+	 * @return Índice de la partícula actual
+	 */
+	public int getCountParticle() {
+		return countParticle;
+	}
+
+	/**
+	 * @brief Establece la partícula actual del PSO
+	 * @param countParticle Índice de la partícula actual
+	 */
+	public void setCountParticle(int countParticle) {
+		this.countParticle = countParticle;
+	}
+
+	/**
+	 * @brief Obtiene la iteración actual del PSO
+	 * @return Iteración actual del PSO
+	 */
+	public int getCountCurrentIterPSO() {
+		return countCurrentIterPSO;
+	}
+
+	/**
+	 * @brief Establece la iteración actual del PSO
+	 * @param countCurrentIterPSO Iteración actual del PSO
+	 */
+	public void setCountCurrentIterPSO(int countCurrentIterPSO) {
+		this.countCurrentIterPSO = countCurrentIterPSO;
+	}
+}
@@ -0,0 +1,170 @@
+/**
+ * @file StrategyMetrics.java
+ * @brief Registro de tiempos por fase del bucle de Strategy.executeStrategy
+ *
+ * Permite saber si una corrida está limitada por la evaluación de la función
+ * objetivo o por el propio marco (generación de candidatos, aceptación,
+ * registro de listas).
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.ToLongFunction;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import metaheuristics.generators.GeneratorType;
+
+/**
+ * @class StrategyMetrics
+ * @brief Histogramas de nanosegundos por GeneratorType y LoopPhase
+ *
+ * Desactivado por defecto. Se decide al comenzar cada corrida: si está
+ * desactivado, recorder() devuelve null y el bucle no llama a System.nanoTime()
+ * ni toca ningún contador, así que el coste es una comprobación de null por
+ * fase. Las corridas que ya han empezado no se ven afectadas por setEnabled.
+ *
+ * En el MultiGenerator los tiempos se registran bajo MULTI_GENERATOR.
+ */
+public final class StrategyMetrics {
+
+	/** @brief Nombre JMX con el que se registra el MXBean */
+	public static final String OBJECT_NAME = "BiCIAM:type=StrategyMetrics";
+
+	/** @brief Indica si las corridas nuevas se instrumentan */
+	private static volatile boolean enabled;
+
+	/** @brief Histogramas indexados por [GeneratorType.ordinal()][LoopPhase.ordinal()] */
+	private static final PhaseHistogram[][] HISTOGRAMS = new PhaseHistogram[GeneratorType.values().length][LoopPhase.values().length];
+
+	static {
+		for (int g = 0; g < HISTOGRAMS.length; g++) {
+			for (int p = 0; p < HISTOGRAMS[g].length; p++) {
+				HISTOGRAMS[g][p] = new PhaseHistogram();
+			}
+		}
+	}
+
+	private StrategyMetrics() {
+		throw new UnsupportedOperationException("Utility class");
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static void setEnabled(boolean enabled) {
+		StrategyMetrics.enabled = enabled;
+	}
+
+	/**
+	 * @brief Cronómetro para una corrida nueva
+	 * @param generatorType Generador de la corrida
+	 * @return Cronómetro, o null si las métricas están desactivadas
+	 */
+	public static PhaseRecorder recorder(GeneratorType generatorType) {
+		return enabled ? new PhaseRecorder(HISTOGRAMS[generatorType.ordinal()]) : null;
+	}
+
+	/**
+	 * @brief Histograma de una fase de un generador
+	 * @param generatorType Generador
+	 * @param phase Fase del bucle
+	 * @return Histograma acumulado desde el último reset()
+	 */
+	public static PhaseHistogram histogram(GeneratorType generatorType, LoopPhase phase) {
+		return HISTOGRAMS[generatorType.ordinal()][phase.ordinal()];
+	}
+
+	/**
+	 * @brief Pone a cero todos los histogramas
+	 */
+	public static void reset() {
+		for (PhaseHistogram[] row : HISTOGRAMS) {
+			for (PhaseHistogram histogram : row) {
+				histogram.reset();
+			}
+		}
+	}
+
+	/**
+	 * @brief Registra el MXBean en el servidor de la plataforma si no lo está ya
+	 * @return Nombre con el que queda registrado
+	 * @throws JMException Si el registro falla
+	 */
+	public static synchronized ObjectName registerMBean() throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		if (!server.isRegistered(name)) {
+			server.registerMBean(new Bean(), name);
+		}
+		return name;
+	}
+
+	/**
+	 * @brief Valor de cada histograma con registros, con claves "GENERATOR.PHASE"
+	 */
+	static Map<String, Long> collect(ToLongFunction<PhaseHistogram> value) {
+		Map<String, Long> result = new TreeMap<String, Long>();
+		for (GeneratorType type : GeneratorType.values()) {
+			for (LoopPhase phase : LoopPhase.values()) {
+				PhaseHistogram histogram = histogram(type, phase);
+				if (histogram.getCount() > 0) {
+					result.put(type.name() + "." + phase.name(), value.applyAsLong(histogram));
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @class Bean
+	 * @brief Implementación del MXBean sobre los histogramas estáticos
+	 */
+	private static final class Bean implements StrategyMetricsMXBean {
+
+		@Override
+		public boolean isEnabled() {
+			return StrategyMetrics.isEnabled();
+		}
+
+		@Override
+		public void setEnabled(boolean enabled) {
+			StrategyMetrics.setEnabled(enabled);
+		}
+
+		@Override
+		public Map<String, Long> getCounts() {
+			return collect(PhaseHistogram::getCount);
+		}
+
+		@Override
+		public Map<String, Long> getTotalNanos() {
+			return collect(PhaseHistogram::getTotalNanos);
+		}
+
+		@Override
+		public Map<String, Long> getP99Nanos() {
+			return collect(histogram -> histogram.percentileNanos(99));
+		}
+
+		@Override
+		public long[] histogram(String generatorType, String phase) {
+			return StrategyMetrics.histogram(GeneratorType.valueOf(generatorType), LoopPhase.valueOf(phase)).getBuckets();
+		}
+
+		@Override
+		public void reset() {
+			StrategyMetrics.reset();
+		}
+	}
+}
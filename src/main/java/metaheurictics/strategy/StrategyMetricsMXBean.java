@@ -0,0 +1,45 @@
+/**
+ * @file StrategyMetricsMXBean.java
+ * @brief Interfaz JMX de las métricas del bucle de Strategy
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import java.util.Map;
+
+/**
+ * @interface StrategyMetricsMXBean
+ * @brief Consulta y control de StrategyMetrics desde JMX
+ *
+ * Las claves de los mapas tienen la forma "GENERATOR_TYPE.PHASE" y solo
+ * incluyen las combinaciones con algún registro.
+ */
+public interface StrategyMetricsMXBean {
+
+	boolean isEnabled();
+
+	void setEnabled(boolean enabled);
+
+	/** @brief Número de muestras por generador y fase */
+	Map<String, Long> getCounts();
+
+	/** @brief Nanosegundos acumulados por generador y fase */
+	Map<String, Long> getTotalNanos();
+
+	/** @brief Percentil 99 estimado por generador y fase */
+	Map<String, Long> getP99Nanos();
+
+	/**
+	 * @brief Contadores de las cubetas de un histograma
+	 * @param generatorType Nombre del GeneratorType
+	 * @param phase Nombre de la LoopPhase
+	 * @return Contadores de cada cubeta
+	 */
+	long[] histogram(String generatorType, String phase);
+
+	/** @brief Pone a cero todos los histogramas */
+	void reset();
+}
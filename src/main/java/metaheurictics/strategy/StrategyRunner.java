@@ -0,0 +1,116 @@
+/**
+ * @file StrategyRunner.java
+ * @brief Lanzamiento asíncrono de corridas de Strategy
+ *
+ * submit() ejecuta Strategy.executeStrategy en un pool, cada corrida en su
+ * propio StrategyContext, y devuelve un RunHandle para esperar el resultado,
+ * consultar el progreso o detener la corrida.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package metaheurictics.strategy;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import local_search.complement.StopExecute;
+import local_search.complement.UpdateParameter;
+
+/**
+ * @class StrategyRunner
+ * @brief Ejecutor de corridas independientes con control por RunHandle
+ *
+ * Pensado para planificadores que lanzan muchas corridas y detienen pronto las
+ * que van perdiendo: la cancelación se atiende entre iteraciones y libera el
+ * hilo del pool en cuanto termina la iteración en curso.
+ */
+public class StrategyRunner {
+
+	/** @brief Pool donde se ejecutan las corridas */
+	private final ExecutorService pool;
+
+	/** @brief Indica si el pool lo creó este ejecutor y debe cerrarlo */
+	private final boolean ownsPool;
+
+	/**
+	 * @brief Crea un ejecutor con un pool fijo propio
+	 * @param threads Número de hilos del pool
+	 */
+	public StrategyRunner(int threads) {
+		if (threads <= 0) {
+			throw new IllegalArgumentException("threads must be positive");
+		}
+		this.pool = Executors.newFixedThreadPool(threads);
+		this.ownsPool = true;
+	}
+
+	/**
+	 * @brief Crea un ejecutor sobre un pool externo
+	 * @param pool Pool externo; no se cierra en shutdown()
+	 */
+	public StrategyRunner(ExecutorService pool) {
+		this.pool = pool;
+		this.ownsPool = false;
+	}
+
+	/**
+	 * @brief Lanza una corrida y devuelve su control sin esperar a que termine
+	 * @param config Configuración de la corrida
+	 * @return Control de la corrida
+	 * @throws RejectedExecutionException Si el pool no acepta más tareas
+	 */
+	public RunHandle submit(RunConfiguration config) {
+		RunHandle handle = new RunHandle();
+		pool.execute(() -> run(config, handle));
+		return handle;
+	}
+
+	/**
+	 * @brief Ejecuta la corrida en el hilo actual y completa su control
+	 */
+	private void run(RunConfiguration config, RunHandle handle) {
+		if (handle.isCancelRequested()) {
+			handle.cancelled();
+			return;
+		}
+		StrategyContext context = new StrategyContext(config.getProblem());
+		if (config.getSeed() != null) {
+			context.setSeed(config.getSeed());
+		}
+		try {
+			RunSnapshot result = context.call(() -> {
+				Strategy strategy = Strategy.getStrategy();
+				strategy.setStopexecute(new StopExecute());
+				strategy.setUpdateparameter(new UpdateParameter());
+				strategy.setStopCondition(config.getStopCondition());
+				if (config.getConfigurer() != null) {
+					config.getConfigurer().accept(strategy);
+				}
+				RunHandle.Monitor monitor = handle.new Monitor(strategy.getStopCondition(), config.getProgressListener(), config.getProgressInterval());
+				strategy.setStopCondition(monitor);
+				strategy.executeStrategy(config.getCountmaxIterations(), config.getCountIterationsChange(), config.getOperatornumber(), config.getGeneratorType());
+				return monitor.finish(strategy);
+			});
+			if (handle.isCancelRequested()) {
+				handle.cancelled();
+			} else {
+				handle.complete(result);
+			}
+		} catch (Throwable e) {
+			handle.fail(e);
+		}
+	}
+
+	/**
+	 * @brief Cierra el pool si fue creado por este ejecutor
+	 */
+	public void shutdown() {
+		if (ownsPool) {
+			pool.shutdown();
+		}
+	}
+}
@@ -12,12 +12,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
 
+import problem.definition.FitnessComparator;
 import problem.definition.State;
-import problem.definition.Problem.ProblemType;
 
 import evolutionary_algorithms.complement.DistributionType;
 import evolutionary_algorithms.complement.FatherSelection;
+import evolutionary_algorithms.complement.Population;
 import evolutionary_algorithms.complement.Replace;
 import evolutionary_algorithms.complement.ReplaceType;
 import evolutionary_algorithms.complement.Sampling;
@@ -44,6 +46,9 @@ public class DistributionEstimationAlgorithm extends Generator {
 	
 	/** @brief Lista de estados de referencia para la estimación de distribuciones */
 	private List<State> referenceList = new ArrayList<State>(); 
+
+	/** @brief Población creada por este generador, que se cierra en release() */
+	private Population ownedPopulation;
 	
 	/** @brief Lista de estados hijos generados */
 	public static List<State> sonList = new ArrayList<State>(); 
@@ -88,7 +93,7 @@ public class DistributionEstimationAlgorithm extends Generator {
 	private int[] usageCountByPeriod = new int[10];
 	
 	/** @brief Historial de trazas del peso */
-	private float[] listTrace = new float[1200000];
+	private WeightTrace listTrace = new WeightTrace(0);
 	
 	/**
 	 * @brief Constructor por defecto del algoritmo de estimación de distribuciones
@@ -98,7 +103,9 @@ public class DistributionEstimationAlgorithm extends Generator {
 	 */
 	public DistributionEstimationAlgorithm() {
 		super();
-		this.referenceList = getListStateRef(); // llamada al m�todo que devuelve la lista. 
+		List<State> source = getListStateRef(); // llamada al m�todo que devuelve la lista.
+		this.referenceList = Population.adopt(source);
+		this.ownedPopulation = referenceList != source ? (Population) referenceList : null;
 //		this.selectionType = SelectionType.Truncation;
 		//this.replaceType = ReplaceType.Generational;
 //		this.replaceType = ReplaceType.Smallest;
@@ -106,7 +113,7 @@ public class DistributionEstimationAlgorithm extends Generator {
 		this.distributionType = DistributionType.UNIVARIATE;
 		this.Samplingtype = SamplingType.PROBABILISTIC_SAMPLING;
 		this.weight = 50;
-		listTrace[0] = weight;
+		listTrace.record(0, weight);
 		betterCountByPeriod[0] = 0;
 		usageCountByPeriod[0] = 0;
 	}
@@ -156,7 +163,7 @@ public class DistributionEstimationAlgorithm extends Generator {
     	iffsampling = new FactorySampling();
     	Sampling samplingG = iffsampling.createSampling(Samplingtype);
     	List<State> ind = samplingG.sampling(probability, referenceList.size());
-    	sonList = ind;
+    	setListSons(ind);
     	candidate = MaxValue(ind);
        // this.candidate = candidate;
     	return candidate;*/	
@@ -171,18 +178,13 @@ public class DistributionEstimationAlgorithm extends Generator {
     	List<State> ind = samplingG.sampling(fathers, operatornumber);
     	State candidate = null;
     	if(ind.size() > 1){
-    		for (int i = 0; i < ind.size(); i++) {
-    			double evaluation = Strategy.getStrategy().getProblem().getFunction().get(0).Evaluation(ind.get(i));
-    			ArrayList<Double> listEval = new ArrayList<Double>();
-    			listEval.add(evaluation);
-    			ind.get(0).setEvaluation(listEval);
-    		}
+    		Strategy.getStrategy().getProblem().evaluateAll(ind);
     		candidate = MaxValue(ind);
     	}
     	else{
     		candidate = ind.get(0);
     	}
-//    	sonList = ind;
+//    	setListSons(ind);
     	//listcandidate.add(candidate);
        // this.candidate = candidate;
     	return candidate;
@@ -195,19 +197,7 @@ public class DistributionEstimationAlgorithm extends Generator {
 	 */
 	@Override
 	public State getReference() {
-		stateReferenceDA = referenceList.get(0);
-		if(Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)){
-			for (int i = 1; i < referenceList.size(); i++) {
-				if(stateReferenceDA.getEvaluation().get(0) < referenceList.get(i).getEvaluation().get(0))
-					stateReferenceDA = referenceList.get(i);
-			}
-		}
-		else{
-			for (int i = 1; i < referenceList.size(); i++) {
-				if(stateReferenceDA.getEvaluation().get(0) > referenceList.get(i).getEvaluation().get(0))
-					stateReferenceDA = referenceList.get(i);
-			}
-		}
+		stateReferenceDA = Population.best(referenceList, FitnessComparator.of(Strategy.getStrategy().getProblem().getTypeProblem()));
 		return stateReferenceDA;
 	}
 
@@ -256,45 +246,35 @@ public class DistributionEstimationAlgorithm extends Generator {
 	 * @throws NoSuchMethodException Si no se encuentra un método
 	 */
 	@Override
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException,	NoSuchMethodException {
+	public void updateReference(State stateCandidate, int countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException,	NoSuchMethodException {
 		iffreplace = new FactoryReplace();
 		Replace replace = iffreplace.createReplace(replaceType);
 		referenceList = replace.replace(stateCandidate, referenceList);
 	}
 	
+	/**
+	 * @brief Descarta la traza y cierra la población que creó este generador; las compartidas no se tocan
+	 */
+	@Override
+	public void release() {
+		super.release();
+		if (ownedPopulation != null) {
+			ownedPopulation.close();
+			ownedPopulation = null;
+		}
+	}
+
 	/**
 	 * @brief Obtiene la lista de estados de referencia desde la estrategia
 	 * @return Lista de estados de referencia
 	 */
 	public List<State> getListStateRef(){
-		Boolean found = false;
-		List<String> key = Strategy.getStrategy().getListKey();
-		int count = 0;
-		//if(Strategy.getStrategy().Statistics.getAllStates().size() == 0){
-		/*if(RandomSearch.listStateReference.size() == 0){
-			return this.referenceList = new ArrayList<State>();
-		}*/
-		while((found.equals(false)) && (Strategy.getStrategy().mapGenerators.size() > count)){
-			if(key.get(count).equals(GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM.toString())){
-				GeneratorType keyGenerator = GeneratorType.valueOf(String.valueOf(key.get(count)));
-				DistributionEstimationAlgorithm generator = (DistributionEstimationAlgorithm)Strategy.getStrategy().mapGenerators.get(keyGenerator);
-				if(generator.getListReference().isEmpty()){
-					referenceList.addAll(RandomSearch.listStateReference);
-					//for (int j = 1; j < Strategy.getStrategy().Statistics.getAllStates().size(); j++) {
-//					for (int j = 1; j < RandomSearch.listStateReference.size(); j++) {
-//						//if((Strategy.getStrategy().Statistics.getAllStates().get(j).getTypeGenerator().equals(GeneratorType.RandomSearch)) && (referenceList.size()!= countRef)){
-//						if(referenceList.size() != countRef){
-//							//State problemState = Strategy.getStrategy().Statistics.getAllStates().get(j);
-//							referenceList.add(RandomSearch.listStateReference.get(j));
-//						}
-//					}  
-				}
-				else{
-					referenceList = generator.getListReference();
-				}
-			    found = true;
-			}
-			count++;
+		DistributionEstimationAlgorithm generator = Strategy.getStrategy().findGenerator(GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM, DistributionEstimationAlgorithm.class);
+		if(generator == null || generator.getListReference().isEmpty()){
+			referenceList.addAll(RandomSearch.getListStateReference());
+		}
+		else{
+			referenceList = generator.getListReference();
 		}
 		return referenceList;
 	}
@@ -343,7 +323,7 @@ public class DistributionEstimationAlgorithm extends Generator {
 	 * @throws NoSuchMethodException Si no se encuentra un método
 	 */
 	public List<State> getfathersList() throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		List<State> refList = new ArrayList<State>(this.referenceList); 
+		List<State> refList = this.referenceList instanceof Population ? this.referenceList : new ArrayList<State>(this.referenceList); 
     	iffatherselection = new FactoryFatherSelection();
     	FatherSelection selection = iffatherselection.createSelectFather(selectionType);
     	List<State> fathers = selection.selection(refList, truncation);
@@ -352,7 +332,29 @@ public class DistributionEstimationAlgorithm extends Generator {
 
 	@Override
 	public List<State> getSonList() {
-		return sonList;
+		return getListSons();
+	}
+
+	/**
+	 * @brief Hijos generados en la corrida ligada
+	 * @return Valor del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static List<State> getListSons() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getListSonsEDA() : sonList;
+	}
+
+	/**
+	 * @brief Asigna los hijos generados
+	 * @param value Nuevo valor para la corrida ligada, o para el campo estático si no hay contexto
+	 */
+	public static void setListSons(List<State> value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setListSonsEDA(value);
+		} else {
+			sonList = value;
+		}
 	}
 
 	/**
@@ -361,6 +363,10 @@ public class DistributionEstimationAlgorithm extends Generator {
 	 * @return true si el candidato está en las referencias, false en caso contrario
 	 */
 	public boolean awardUpdateREF(State stateCandidate) {
+		if (this.referenceList instanceof Population) {
+			// Las filas no conservan la identidad del estado: se buscan por valor
+			return this.referenceList.contains(stateCandidate);
+		}
 		boolean find = false;
 		int i = 0;
 		while (find == false && i < this.referenceList.size()) {
@@ -412,6 +418,11 @@ public class DistributionEstimationAlgorithm extends Generator {
 	@Override
 	public float[] getTrace() {
 		// TODO Auto-generated method stub
+		return this.listTrace.toArray();
+	}
+
+	@Override
+	public WeightTrace getWeightTrace() {
 		return this.listTrace;
 	}
 
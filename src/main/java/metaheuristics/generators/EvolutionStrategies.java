@@ -11,12 +11,15 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 
+import config.RandomService;
+
 import metaheurictics.strategy.Strategy;
-import problem.definition.Problem.ProblemType;
+import problem.definition.FitnessComparator;
 import problem.definition.State;
 import evolutionary_algorithms.complement.FatherSelection;
 import evolutionary_algorithms.complement.Mutation;
 import evolutionary_algorithms.complement.MutationType;
+import evolutionary_algorithms.complement.Population;
 import evolutionary_algorithms.complement.Replace;
 import evolutionary_algorithms.complement.ReplaceType;
 import evolutionary_algorithms.complement.SelectionType;
@@ -41,6 +44,9 @@ public class EvolutionStrategies extends Generator {
 	
 	/** @brief Lista de estados de referencia */
 	private List<State> listStateReference = new ArrayList<State>(); 
+
+	/** @brief Población creada por este generador, que se cierra en release() */
+	private Population ownedPopulation;
 	
 	/** @brief Factoría para la selección de padres */
 	private IFFactoryFatherSelection iffatherselection;
@@ -91,7 +97,7 @@ public class EvolutionStrategies extends Generator {
 	private int[] usageCountByPeriod = new int[10];
 	
 	/** @brief Historial de trazas del peso */
-	private float[] listTrace = new float[1200000];
+	private WeightTrace listTrace = new WeightTrace(0);
 	
 	/**
 	 * @brief Constructor por defecto de estrategias evolutivas
@@ -109,14 +115,16 @@ public class EvolutionStrategies extends Generator {
 	public EvolutionStrategies() {
 		super();
 		try {
-			this.listStateReference = getListStateRef(); 
+			List<State> source = getListStateRef();
+			this.listStateReference = Population.adopt(source);
+			this.ownedPopulation = listStateReference != source ? (Population) listStateReference : null;
 		} catch (Exception e) {
 			// If strategy is not available or any issue occurs, fallback to empty list
 			this.listStateReference = new ArrayList<State>();
 		}
 		this.generatorType = GeneratorType.EVOLUTION_STRATEGIES;
 		this.weight = 50;
-		listTrace[0] = this.weight;
+		listTrace.record(0, this.weight);
 		betterCountByPeriod[0] = 0;
 		usageCountByPeriod[0] = 0;
 	}
@@ -138,8 +146,8 @@ public class EvolutionStrategies extends Generator {
 //		List<State> refList = new ArrayList<State>(this.listStateReference); 
     	// Ensure we have a usable reference list; fall back to RandomSearch if necessary
     	if (this.listStateReference == null || this.listStateReference.isEmpty()) {
-    		if (RandomSearch.listStateReference != null && !RandomSearch.listStateReference.isEmpty()) {
-    			this.listStateReference.addAll(RandomSearch.listStateReference);
+    		if (RandomSearch.getListStateReference() != null && !RandomSearch.getListStateReference().isEmpty()) {
+    			this.listStateReference.addAll(RandomSearch.getListStateReference());
     		}
     	}
 
@@ -150,13 +158,13 @@ public class EvolutionStrategies extends Generator {
     		fathers = selection.selection(this.listStateReference, truncation);
     	} catch (Exception e) {
     		// If selection fails, try to use the available state reference lists
-    		fathers = (this.listStateReference != null && !this.listStateReference.isEmpty()) ? this.listStateReference : RandomSearch.listStateReference;
+    		fathers = (this.listStateReference != null && !this.listStateReference.isEmpty()) ? this.listStateReference : RandomSearch.getListStateReference();
     	}
 
     	if (fathers == null || fathers.isEmpty()) {
     		// No father available - try fallback to RandomSearch explicitly
-    		if (RandomSearch.listStateReference != null && !RandomSearch.listStateReference.isEmpty()) {
-    			fathers = RandomSearch.listStateReference;
+    		if (RandomSearch.getListStateReference() != null && !RandomSearch.getListStateReference().isEmpty()) {
+    			fathers = RandomSearch.getListStateReference();
     		}
     	}
 
@@ -165,7 +173,7 @@ public class EvolutionStrategies extends Generator {
     		return null;
     	}
 
-    	int pos1 = (int)(Math.random() * fathers.size());
+    	int pos1 = (int)(RandomService.nextDouble() * fathers.size());
     	State father = fathers.get(pos1);
     	State candidate = null;
     	try {
@@ -190,8 +198,8 @@ public class EvolutionStrategies extends Generator {
     	if (candidate == null) {
     		if (this.listStateReference != null && !this.listStateReference.isEmpty()) {
     			candidate = this.listStateReference.get(0).getCopy();
-    		} else if (RandomSearch.listStateReference != null && !RandomSearch.listStateReference.isEmpty()) {
-    			candidate = RandomSearch.listStateReference.get(0).getCopy();
+    		} else if (RandomSearch.getListStateReference() != null && !RandomSearch.getListStateReference().isEmpty()) {
+    			candidate = RandomSearch.getListStateReference().get(0).getCopy();
     		} else {
     			return null;
     		}
@@ -220,19 +228,7 @@ public class EvolutionStrategies extends Generator {
 	 */
 	@Override
 	public State getReference() {
-		stateReferenceES = listStateReference.get(0);
-		if(Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)){
-			for (int i = 1; i < listStateReference.size(); i++) {
-				if(stateReferenceES.getEvaluation().get(0) < listStateReference.get(i).getEvaluation().get(0))
-					stateReferenceES = listStateReference.get(i);
-			}
-		}
-		else{
-			for (int i = 1; i < listStateReference.size(); i++) {
-				if(stateReferenceES.getEvaluation().get(0) > listStateReference.get(i).getEvaluation().get(0))
-					stateReferenceES = listStateReference.get(i);
-			}
-		}
+		stateReferenceES = Population.best(listStateReference, FitnessComparator.of(Strategy.getStrategy().getProblem().getTypeProblem()));
 		return stateReferenceES;
 	}
 	
@@ -251,48 +247,35 @@ public class EvolutionStrategies extends Generator {
 	}
 
 	@Override
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+	public void updateReference(State stateCandidate, int countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		iffreplace = new FactoryReplace();
 		Replace replace = iffreplace.createReplace(replaceType);
 		listStateReference = replace.replace(stateCandidate, listStateReference);
 
 	}
 	
+	/**
+	 * @brief Descarta la traza y cierra la población que creó este generador; las compartidas no se tocan
+	 */
+	@Override
+	public void release() {
+		super.release();
+		if (ownedPopulation != null) {
+			ownedPopulation.close();
+			ownedPopulation = null;
+		}
+	}
+
 	public List<State> getListStateRef(){
-		Boolean found = false;
-		// If Strategy singleton is not available, fallback to RandomSearch global list
-		if (Strategy.getStrategy() == null || Strategy.getStrategy().getListKey() == null || Strategy.getStrategy().mapGenerators == null) {
-			if (RandomSearch.listStateReference != null && !RandomSearch.listStateReference.isEmpty()) {
-				listStateReference.addAll(RandomSearch.listStateReference);
+		Strategy strategy = Strategy.getStrategy();
+		EvolutionStrategies generator = strategy == null ? null : strategy.findGenerator(GeneratorType.EVOLUTION_STRATEGIES, EvolutionStrategies.class);
+		if(generator == null || generator.getListStateReference().isEmpty()){
+			if (RandomSearch.getListStateReference() != null) {
+				listStateReference.addAll(RandomSearch.getListStateReference());
 			}
-			return listStateReference;
 		}
-		List<String> key = Strategy.getStrategy().getListKey();
-		int count = 0;
-		//if(Strategy.getStrategy().Statistics.getAllStates().size() == 0){
-		/*if(RandomSearch.listStateReference.size() == 0){
-			return this.listStateReference = new ArrayList<State>();
-		}*/
-		while((found.equals(false)) && (Strategy.getStrategy().mapGenerators.size() > count)){
-			if(key.get(count).equals(GeneratorType.EVOLUTION_STRATEGIES.toString())){
-				GeneratorType keyGenerator = GeneratorType.valueOf(String.valueOf(key.get(count)));
-				EvolutionStrategies generator = (EvolutionStrategies) Strategy.getStrategy().mapGenerators.get(keyGenerator);
-				if(generator.getListStateReference().isEmpty()){
-					listStateReference.addAll(RandomSearch.listStateReference);
-					//for (int j = 1; j < Strategy.getStrategy().Statistics.getAllStates().size(); j++) {
-//					for (int j = 1; j < RandomSearch.listStateReference.size(); j++) {
-//						if(listStateReference.size() != countRef){
-							//State problemState = Strategy.getStrategy().Statistics.getAllStates().get(j);
-//							listStateReference.add(RandomSearch.listStateReference.get(j));
-//						}
-//					}  
-				}
-				else{
-					listStateReference = generator.getListStateReference();
-				}
-			        found = true;
-			}
-			count++;
+		else{
+			listStateReference = generator.getListStateReference();
 		}
 		return listStateReference;
 	}
@@ -360,6 +343,11 @@ public class EvolutionStrategies extends Generator {
 	@Override
 	public float[] getTrace() {
 		// TODO Auto-generated method stub
+		return this.listTrace.toArray();
+	}
+
+	@Override
+	public WeightTrace getWeightTrace() {
 		return this.listTrace;
 	}
 
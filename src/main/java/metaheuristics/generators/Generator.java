@@ -39,6 +39,9 @@ public abstract class Generator {
 
 	/**
 	 * @brief Actualiza el estado de referencia con un nuevo candidato
+	 * 
+	 * Es la variante que usa el ciclo de Strategy, sin encajonar la iteración.
+	 * 
 	 * @param stateCandidate Estado candidato a considerar
 	 * @param countIterationsCurrent Iteración actual del algoritmo
 	 * @throws IllegalArgumentException Si los argumentos son inválidos
@@ -49,7 +52,30 @@ public abstract class Generator {
 	 * @throws InvocationTargetException Si hay error en la invocación
 	 * @throws NoSuchMethodException Si no se encuentra un método
 	 */
-	public abstract void updateReference(State stateCandidate, Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException;
+	public abstract void updateReference(State stateCandidate, int countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException;
+
+	/**
+	 * @brief Actualiza el estado de referencia con un nuevo candidato
+	 * 
+	 * Puente para los llamadores de la firma anterior: delega en
+	 * updateReference(State, int).
+	 * 
+	 * @param stateCandidate Estado candidato a considerar
+	 * @param countIterationsCurrent Iteración actual del algoritmo
+	 * @throws IllegalArgumentException Si los argumentos son inválidos
+	 * @throws SecurityException Si hay problemas de seguridad
+	 * @throws ClassNotFoundException Si no se encuentra una clase
+	 * @throws InstantiationException Si hay error en la instanciación
+	 * @throws IllegalAccessException Si hay acceso ilegal
+	 * @throws InvocationTargetException Si hay error en la invocación
+	 * @throws NoSuchMethodException Si no se encuentra un método
+	 * @deprecated Llamar updateReference(State, int), que evita encajonar la
+	 * iteración en cada vuelta del ciclo
+	 */
+	@Deprecated
+	public final void updateReference(State stateCandidate, Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		updateReference(stateCandidate, countIterationsCurrent.intValue());
+	}
 
 	/**
 	 * @brief Obtiene el estado de referencia actual
@@ -102,9 +128,37 @@ public abstract class Generator {
 
 	/**
 	 * @brief Obtiene el historial de trazas
+	 * 
+	 * En los generadores con WeightTrace es una copia de longitud
+	 * getWeightTrace().size(), no el arreglo donde se registra: modificarla no
+	 * altera la traza y cada llamada reserva un arreglo nuevo. Para registrar
+	 * pesos se usa getWeightTrace().
+	 * 
 	 * @return Array con el historial de trazas
 	 */
 	public abstract float[] getTrace();
+
+	/**
+	 * @brief Obtiene la traza del peso donde MultiGenerator registra cada iteración
+	 * @return Traza del generador, o null si no lleva historial propio
+	 */
+	public WeightTrace getWeightTrace() {
+		return null;
+	}
+
+	/**
+	 * @brief Libera los recursos propios del generador, como una Population fuera del heap
+	 * 
+	 * Strategy lo llama al reemplazar el generador y al terminar o reiniciar la
+	 * corrida. Por defecto descarta la WeightTrace, si la hay, y borra su
+	 * archivo de volcado.
+	 */
+	public void release() {
+		WeightTrace trace = getWeightTrace();
+		if (trace != null) {
+			trace.release();
+		}
+	}
 	
 	/** @brief Contador de uso del generador */
 	public int countGender;
@@ -11,16 +11,19 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 
+import config.RandomService;
+
 import metaheurictics.strategy.Strategy;
 
+import problem.definition.FitnessComparator;
 import problem.definition.State;
-import problem.definition.Problem.ProblemType;
 
 import evolutionary_algorithms.complement.Crossover;
 import evolutionary_algorithms.complement.CrossoverType;
 import evolutionary_algorithms.complement.FatherSelection;
 import evolutionary_algorithms.complement.Mutation;
 import evolutionary_algorithms.complement.MutationType;
+import evolutionary_algorithms.complement.Population;
 import evolutionary_algorithms.complement.Replace;
 import evolutionary_algorithms.complement.ReplaceType;
 import evolutionary_algorithms.complement.SelectionType;
@@ -47,6 +50,9 @@ public class GeneticAlgorithm extends Generator {
 	
 	/** @brief Lista de estados de la población */
 	private List<State> listState = new ArrayList<State>(); 
+
+	/** @brief Población creada por este generador, que se cierra en release() */
+	private Population ownedPopulation;
 	
 	/** @brief Factoría para la selección de padres */
 	private IFFactoryFatherSelection iffatherselection;
@@ -97,7 +103,7 @@ public class GeneticAlgorithm extends Generator {
 	private int[] usageCountByPeriod = new int[10];
 	
 	/** @brief Historial de trazas del peso */
-	private float[] listTrace = new float[1200000];
+	private WeightTrace listTrace = new WeightTrace(0);
 	
 	/**
 	 * @brief Constructor por defecto del algoritmo genético
@@ -113,7 +119,9 @@ public class GeneticAlgorithm extends Generator {
 		if (mutationType == null) mutationType = MutationType.ONE_POINT_MUTATION;
 		if (replaceType == null) replaceType = ReplaceType.GENERATIONAL_REPLACE;
 		try {
-			this.listState = getListStateRef(); // llamada al método que devuelve la lista.
+			List<State> source = getListStateRef(); // llamada al método que devuelve la lista.
+			this.listState = Population.adopt(source);
+			this.ownedPopulation = listState != source ? (Population) listState : null;
 		} catch (Throwable t) {
 			// In test environments Strategy or mapGenerators may be mocked/absent.
 			this.listState = new ArrayList<State>();
@@ -124,7 +132,7 @@ public class GeneticAlgorithm extends Generator {
 //		this.replaceType = ReplaceType.Smallest;
 		this.generatorType = GeneratorType.GENETIC_ALGORITHM;
 		this.weight = 50;
-		listTrace[0] = this.weight;
+		listTrace.record(0, this.weight);
 		betterCountByPeriod[0] = 0;
 		usageCountByPeriod[0] = 0;
 	}
@@ -146,12 +154,13 @@ public class GeneticAlgorithm extends Generator {
     	
 		//******************selection*******************************
 		//ArrayList<State>list=new ArrayList<State>();
-		List<State> refList = new ArrayList<State>(this.listState); 
+		// La selección sobre una Population trabaja con índices y no la reordena
+		List<State> refList = this.listState instanceof Population ? this.listState : new ArrayList<State>(this.listState); 
     	iffatherselection = new FactoryFatherSelection();
     	FatherSelection selection = iffatherselection.createSelectFather(selectionType);
     	List<State> fathers = selection.selection(refList, truncation);
-    	int pos1 = (int)(Math.random() * fathers.size());
-    	int pos2 = (int)(Math.random() * fathers.size());
+    	int pos1 = (int)(RandomService.nextDouble() * fathers.size());
+    	int pos2 = (int)(RandomService.nextDouble() * fathers.size());
     	
 		// Safely obtain a base state to copy from. Tests may not set Problem.state, so
 		// fall back to a generator-local state list or RandomSearch reference when needed.
@@ -163,7 +172,7 @@ public class GeneticAlgorithm extends Generator {
 		}
 		if (baseState1 == null) {
 			if (this.listState != null && !this.listState.isEmpty()) baseState1 = this.listState.get(0);
-			else if (RandomSearch.listStateReference != null && !RandomSearch.listStateReference.isEmpty()) baseState1 = RandomSearch.listStateReference.get(0);
+			else if (RandomSearch.getListStateReference() != null && !RandomSearch.getListStateReference().isEmpty()) baseState1 = RandomSearch.getListStateReference().get(0);
 			else baseState1 = new State();
 		}
 		State auxState1 = (State) baseState1.getCopy();
@@ -180,7 +189,7 @@ public class GeneticAlgorithm extends Generator {
 		}
 		if (baseState2 == null) {
 			if (this.listState != null && !this.listState.isEmpty()) baseState2 = this.listState.get(0);
-			else if (RandomSearch.listStateReference != null && !RandomSearch.listStateReference.isEmpty()) baseState2 = RandomSearch.listStateReference.get(0);
+			else if (RandomSearch.getListStateReference() != null && !RandomSearch.getListStateReference().isEmpty()) baseState2 = RandomSearch.getListStateReference().get(0);
 			else baseState2 = new State();
 		}
 		State auxState2 = (State) baseState2.getCopy();
@@ -217,7 +226,7 @@ public class GeneticAlgorithm extends Generator {
 	}
 
 	@Override
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException,	NoSuchMethodException {
+	public void updateReference(State stateCandidate, int countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException,	NoSuchMethodException {
 		iffreplace = new FactoryReplace();
 		Replace replace = iffreplace.createReplace(replaceType);
 		listState = replace.replace(stateCandidate, listState);
@@ -232,39 +241,29 @@ public class GeneticAlgorithm extends Generator {
 		this.listState = listState;
 	}
 	
+	/**
+	 * @brief Descarta la traza y cierra la población que creó este generador; las compartidas no se tocan
+	 */
+	@Override
+	public void release() {
+		super.release();
+		if (ownedPopulation != null) {
+			ownedPopulation.close();
+			ownedPopulation = null;
+		}
+	}
+
 	public List<State> getListStateRef(){
-		Boolean found = false;
-		List<String> key = Strategy.getStrategy().getListKey();
-		int count = 0;
-		//if(Strategy.getStrategy().Statistics.getAllStates().size() == 0){
-		/*if(RandomSearch.listStateReference.size() == 0){
-			return this.listState = new ArrayList<State>();
-		}*/
-		while((found.equals(false)) && (Strategy.getStrategy().mapGenerators.size() > count)){
-			if(key.get(count).equals(GeneratorType.GENETIC_ALGORITHM.toString())){
-				GeneratorType keyGenerator = GeneratorType.valueOf(String.valueOf(key.get(count)));
-				GeneticAlgorithm generator = (GeneticAlgorithm) Strategy.getStrategy().mapGenerators.get(keyGenerator);
-				if(generator.getListState().isEmpty()){
-					listState.addAll(RandomSearch.listStateReference);
-					//for (int j = 1; j < Strategy.getStrategy().Statistics.getAllStates().size(); j++) {
-//					for (int j = 1; j < RandomSearch.listStateReference.size(); j++) {
-						//if(Strategy.getStrategy().Statistics.getAllStates().get(j).getTypeGenerator().equals(GeneratorType.RandomSearch) && (listState.size()!= countRef)){
-//						if(listState.size() != countRef){
-							//listState.add(Strategy.getStrategy().Statistics.getAllStates().get(j));
-//							listState.add(RandomSearch.listStateReference.get(j));
-//						}
-//					}  
-				}
-				else{
-					listState = generator.getListState();
-				}
-			        found = true;
-			}
-			count++;
+		GeneticAlgorithm generator = Strategy.getStrategy().findGenerator(GeneratorType.GENETIC_ALGORITHM, GeneticAlgorithm.class);
+		if(generator == null || generator.getListState().isEmpty()){
+			listState.addAll(RandomSearch.getListStateReference());
+		}
+		else{
+			listState = generator.getListState();
 		}
 		// Fallback: if still empty, try to populate from RandomSearch global list
-		if ((listState == null || listState.isEmpty()) && RandomSearch.listStateReference != null && !RandomSearch.listStateReference.isEmpty()) {
-			listState = new ArrayList<State>(RandomSearch.listStateReference);
+		if ((listState == null || listState.isEmpty()) && RandomSearch.getListStateReference() != null && !RandomSearch.getListStateReference().isEmpty()) {
+			listState = new ArrayList<State>(RandomSearch.getListStateReference());
 		}
 		return listState;
 	}
@@ -300,19 +299,12 @@ public class GeneticAlgorithm extends Generator {
 
 	@Override
 	public boolean awardUpdateREF(State stateCandidate) {
-		boolean update = false;
-		if (Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)) {
-			if (stateCandidate.getEvaluation().get(0) > stateReferenceGA.getEvaluation().get(0)) {
-				update = true;
-				countBetterGender++;
-			}
-		} else {
-			if (stateCandidate.getEvaluation().get(0) < stateReferenceGA.getEvaluation().get(0)) {
-				update = true;
-				countBetterGender++;
-			}
+		FitnessComparator fitness = FitnessComparator.of(Strategy.getStrategy().getProblem().getTypeProblem());
+		if (fitness.isBetter(stateCandidate.evalAt(0), stateReferenceGA.evalAt(0))) {
+			countBetterGender++;
+			return true;
 		}
-		return update;
+		return false;
 	}
 
 
@@ -340,6 +332,11 @@ public class GeneticAlgorithm extends Generator {
 	@Override
 	public float[] getTrace() {
 		// TODO Auto-generated method stub
+		return this.listTrace.toArray();
+	}
+
+	@Override
+	public WeightTrace getWeightTrace() {
 		return this.listTrace;
 	}
 
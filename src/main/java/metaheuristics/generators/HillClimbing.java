@@ -70,7 +70,7 @@ public class HillClimbing extends Generator{
 	private int[] usageCountByPeriod = new int[10];
 	
 	/** @brief Historial de trazas del peso */
-	private float[] listTrace = new float[1200000];
+	private WeightTrace listTrace = new WeightTrace(0);
 	
 	/**
 	 * @brief Constructor por defecto del Hill Climbing
@@ -97,22 +97,20 @@ public class HillClimbing extends Generator{
 		this.candidatevalue = new CandidateValue();
 		this.Generatortype = GeneratorType.HILL_CLIMBING;
 		this.weight = 0;
-		listTrace[0] = this.weight;
+		listTrace.record(0, this.weight);
 		betterCountByPeriod[0] = 0;
 		usageCountByPeriod[0] = 0;
 	}
 
 	@Override
 	public State generate(Integer operatornumber) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		List<State> neighborhood = new ArrayList<State>();
-		neighborhood = Strategy.getStrategy().getProblem().getOperator().generatedNewState(stateReferenceHC, operatornumber);
-	    State statecandidate = candidatevalue.stateCandidate(stateReferenceHC, typeCandidate, strategy, operatornumber, neighborhood);
+	    State statecandidate = candidatevalue.stateCandidate(stateReferenceHC, typeCandidate, strategy, operatornumber);
 	  
 	    return statecandidate;
 	}
 
 	@Override
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+	public void updateReference(State stateCandidate, int countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		ifacceptCandidate = new FactoryAcceptCandidate();
 		AcceptableCandidate candidate = ifacceptCandidate.createAcceptCandidate(typeAcceptation);
 		Boolean accept = candidate.acceptCandidate(stateReferenceHC, stateCandidate);
@@ -193,6 +191,11 @@ public class HillClimbing extends Generator{
 
 	@Override
 	public float[] getTrace() {
+		return this.listTrace.toArray();
+	}
+
+	@Override
+	public WeightTrace getWeightTrace() {
 		return this.listTrace;
 	}
 }
@@ -18,8 +18,10 @@ import local_search.acceptation_type.AcceptType;
 import local_search.acceptation_type.AcceptableCandidate;
 import local_search.candidate_type.CandidateType;
 import local_search.candidate_type.CandidateValue;
+import local_search.complement.MoveNeighborhood;
 import local_search.complement.StrategyType;
 import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
 
 import problem.definition.State;
 import problem.definition.Problem.ProblemType;
@@ -47,13 +49,13 @@ public class HillClimbingRestart extends Generator{
 	protected float weight;
 	
 	//problemas dinamicos
-	private float[] listTrace = new float[1200000];
+	private WeightTrace listTrace = new WeightTrace(0);
 
 	public HillClimbingRestart() {
 		super();
 //		countIterations = Strategy.getStrategy().getCountCurrent();
 //		countSame = 1;
-		countCurrent = count;
+		setCountCurrent(getCount());
 		this.typeAcceptation = AcceptType.ACCEPT_BEST;
 		this.strategy = StrategyType.NORMAL;
 		if(Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)) {
@@ -65,7 +67,7 @@ public class HillClimbingRestart extends Generator{
 		this.candidatevalue = new CandidateValue();
 		this.Generatortype = GeneratorType.HILL_CLIMBING_RESTART;
 		this.weight = 50;
-		listTrace[0] = this.weight;
+		listTrace.record(0, this.weight);
 		this.listCountBetterGender = new int[10];
 		this.listCountBetterGender[0] = 0;
 		this.countGender = 0;
@@ -77,22 +79,22 @@ public class HillClimbingRestart extends Generator{
 	public State generate (Integer operatornumber) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		//ArrayList<State>list=new ArrayList<State>();
 		State statecandidate = new State();
+		int count = getCount();
 		if(count == Strategy.getStrategy().getCountCurrent()){
 			State stateR = new State(stateReferenceHC);
 			listRef.add(stateR);
-			stateReferenceHC = Strategy.getStrategy().getProblem().getOperator().generateRandomState(1).get(0);
+			stateReferenceHC = MoveNeighborhood.randomStates(1).findFirst().get();
 			Strategy.getStrategy().getProblem().Evaluate(stateReferenceHC);
-			count = count + countCurrent;
+			setCount(count + getCountCurrent());
 		}
-		List<State> neighborhood = Strategy.getStrategy().getProblem().getOperator().generatedNewState(stateReferenceHC, operatornumber);
-		statecandidate = candidatevalue.stateCandidate(stateReferenceHC, typeCandidate, strategy, operatornumber, neighborhood);
+		statecandidate = candidatevalue.stateCandidate(stateReferenceHC, typeCandidate, strategy, operatornumber);
 		//list.add(statecandidate);
 		return statecandidate;
 	}
 
 	@Override
 	public void updateReference(State stateCandidate,
-			Integer countIterationsCurrent) throws IllegalArgumentException,
+			int countIterationsCurrent) throws IllegalArgumentException,
 			SecurityException, ClassNotFoundException, InstantiationException,
 			IllegalAccessException, InvocationTargetException,
 			NoSuchMethodException {
@@ -191,6 +193,50 @@ public class HillClimbingRestart extends Generator{
 	}
 */
 	
+	/**
+	 * @brief Iteración del próximo reinicio
+	 * @return Valor del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static int getCount() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getCountRestart() : count;
+	}
+
+	/**
+	 * @brief Asigna la iteración del próximo reinicio
+	 * @param value Nuevo valor para la corrida ligada, o para el campo estático si no hay contexto
+	 */
+	public static void setCount(int value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setCountRestart(value);
+		} else {
+			count = value;
+		}
+	}
+
+	/**
+	 * @brief Iteraciones entre reinicios
+	 * @return Valor del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static int getCountCurrent() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getCountCurrentRestart() : countCurrent;
+	}
+
+	/**
+	 * @brief Asigna las iteraciones entre reinicios
+	 * @param value Nuevo valor para la corrida ligada, o para el campo estático si no hay contexto
+	 */
+	public static void setCountCurrent(int value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setCountCurrentRestart(value);
+		} else {
+			countCurrent = value;
+		}
+	}
+
 	@Override
 	public int[] getListCountBetterGender() {
 		return this.listCountBetterGender;
@@ -206,6 +252,11 @@ public class HillClimbingRestart extends Generator{
 	@Override
 	public float[] getTrace() {
 		// TODO Auto-generated method stub
+		return this.listTrace.toArray();
+	}
+
+	@Override
+	public WeightTrace getWeightTrace() {
 		return this.listTrace;
 	}
 }
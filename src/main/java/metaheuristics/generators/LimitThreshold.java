@@ -47,7 +47,7 @@ public class LimitThreshold extends Generator{
 	private float weight;
 	
 	//problemas dinamicos
-	private float[] listTrace = new float[1200000];
+	private WeightTrace listTrace = new WeightTrace(0);
 	
 	public GeneratorType getTypeGenerator() {
 		return typeGenerator;
@@ -85,7 +85,7 @@ public class LimitThreshold extends Generator{
 		this.candidatevalue = new CandidateValue();
 		this.typeGenerator = GeneratorType.LIMIT_THRESHOLD;
 		this.weight = (float) 50.0;
-		listTrace[0] = weight;
+		listTrace.record(0, weight);
 		this.listCountBetterGender = new int[10];
 		this.listCountBetterGender[0] = 0;
 		this.countGender = 0;
@@ -94,13 +94,12 @@ public class LimitThreshold extends Generator{
 	}
 	@Override
 	public State generate(Integer operatornumber) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		List<State> neighborhood = Strategy.getStrategy().getProblem().getOperator().generatedNewState(stateReferenceLT, operatornumber);
-	    State statecandidate = candidatevalue.stateCandidate(stateReferenceLT, typeCandidate, strategy, operatornumber, neighborhood);
+	    State statecandidate = candidatevalue.stateCandidate(stateReferenceLT, typeCandidate, strategy, operatornumber);
 	    return statecandidate;
 	}
 
 	@Override
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+	public void updateReference(State stateCandidate, int countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		ifacceptCandidate = new FactoryAcceptCandidate();
 		AcceptableCandidate candidate = ifacceptCandidate.createAcceptCandidate(typeAcceptation);
 		Boolean accept = candidate.acceptCandidate(stateReferenceLT , stateCandidate);
@@ -180,6 +179,11 @@ public class LimitThreshold extends Generator{
 	@Override
 	public float[] getTrace() {
 		// TODO Auto-generated method stub
+		return this.listTrace.toArray();
+	}
+
+	@Override
+	public WeightTrace getWeightTrace() {
 		return this.listTrace;
 	}
 
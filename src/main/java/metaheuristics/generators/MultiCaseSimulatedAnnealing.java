@@ -19,7 +19,7 @@ import local_search.candidate_type.CandidateType;
 import local_search.candidate_type.CandidateValue;
 import local_search.complement.StrategyType;
 import metaheurictics.strategy.Strategy;
-import problem.definition.Problem;
+import metaheurictics.strategy.StrategyContext;
 import problem.definition.State;
 
 /**
@@ -55,6 +55,59 @@ public class MultiCaseSimulatedAnnealing extends Generator {
 		this.typeGenerator = typeGenerator;
 	}
 
+	/**
+	 * @brief Obtiene la temperatura actual de la corrida
+	 * @return Temperatura del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static Double getTinitial() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getMulticaseTinitial() : tinitial;
+	}
+
+	/**
+	 * @brief Establece la temperatura actual de la corrida
+	 * @param value Nueva temperatura
+	 */
+	public static void setTinitial(Double value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setMulticaseTinitial(value);
+		} else {
+			tinitial = value;
+		}
+	}
+
+	/**
+	 * @brief Obtiene el factor de enfriamiento de la corrida
+	 * @return Alpha del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static Double getAlpha() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getMulticaseAlpha() : alpha;
+	}
+
+	/**
+	 * @brief Obtiene la próxima iteración de enfriamiento de la corrida
+	 * @return Valor del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static int getCountIterationsT() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getMulticaseCountIterationsT() : countIterationsT;
+	}
+
+	/**
+	 * @brief Establece la próxima iteración de enfriamiento de la corrida
+	 * @param value Nueva iteración de enfriamiento
+	 */
+	public static void setCountIterationsT(int value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setMulticaseCountIterationsT(value);
+		} else {
+			countIterationsT = value;
+		}
+	}
+
 	public MultiCaseSimulatedAnnealing(){
     	super();
     	this.typeAcceptation = AcceptType.ACCEPT_MULTICASE;
@@ -68,10 +121,7 @@ public class MultiCaseSimulatedAnnealing extends Generator {
 
 	@Override
 	public State generate(Integer operatornumber) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		List<State> neighborhood = new ArrayList<State>();
-		Problem problem = Strategy.getStrategy().getProblem();
-		neighborhood = problem.getOperator().generatedNewState(stateReferenceSA, operatornumber);
-	    State statecandidate = candidatevalue.stateCandidate(stateReferenceSA, typeCandidate, strategy, operatornumber, neighborhood);
+	    State statecandidate = candidatevalue.stateCandidate(stateReferenceSA, typeCandidate, strategy, operatornumber);
 	    return statecandidate;
 	}
 
@@ -90,15 +140,17 @@ public class MultiCaseSimulatedAnnealing extends Generator {
 	}
 
 	@Override
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent)throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+	public void updateReference(State stateCandidate, int countIterationsCurrent)throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		int countIterationsT = getCountIterationsT();
 		countRept = countIterationsT;
 		ifacceptCandidate = new FactoryAcceptCandidate();
 		AcceptableCandidate candidate = ifacceptCandidate.createAcceptCandidate(typeAcceptation);
 		Boolean accept = candidate.acceptCandidate(stateReferenceSA, stateCandidate);
 		if(accept.equals(true))
 		  stateReferenceSA = stateCandidate.getCopy();
-		if(countIterationsCurrent.equals(countIterationsT)){
-			tinitial = tinitial * alpha;
+		if(countIterationsCurrent == countIterationsT){
+			Double tinitial = getTinitial() * getAlpha();
+			setTinitial(tinitial);
 			//Variante Fast MOSA
 			//tinitial = tinitial/(1 + countIterationsCurrent);
 			
@@ -109,9 +161,7 @@ public class MultiCaseSimulatedAnnealing extends Generator {
 			else{
 				tinitial = tinitial/(1 + countIterationsCurrent);
 			}*/
-			System.out.println("La T:" + tinitial);
-			countIterationsT = countIterationsT + countRept;
-			System.out.println("La Cant es: " + countIterationsT);
+			setCountIterationsT(countIterationsT + countRept);
 		}
 		getReferenceList();
 	}
@@ -11,8 +11,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
 import java.util.List;
 
+import config.RandomService;
 
-import factory_method.FactoryGenerator;
 
 import metaheuristics.generators.HillClimbing;
 import metaheuristics.generators.EvolutionStrategies;
@@ -21,8 +21,9 @@ import metaheuristics.generators.GeneticAlgorithm;
 import metaheuristics.generators.RandomSearch;
 
 import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
 
-import problem.definition.Problem.ProblemType;
+import problem.definition.FitnessComparator;
 import problem.definition.State;
 
 /**
@@ -52,15 +53,16 @@ public class MultiGenerator extends Generator {
 	
 
 	public static void destroyMultiGenerator(){
-		listGeneratedPP.clear();
+		getListGeneratedPP().clear();
 		//listGenerators.clear();
-		listStateReference.clear();
-		activeGenerator = null;
-		listGenerators = null;
+		getListStateReference().clear();
+		setActiveGenerator(null);
+		setListGenerators(null);
 	}
 	
 	public static void initializeListGenerator()throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		listGenerators = new Generator[4];
+		Generator[] listGenerators = new Generator[4];
+		setListGenerators(listGenerators);
 		// Directly instantiate the concrete generator classes expected by tests.
 		// Fall back to RandomSearch only if instantiation fails to avoid null entries.
 		try {
@@ -88,15 +90,17 @@ public class MultiGenerator extends Generator {
 	public static void initializeGenerators() throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 //		Strategy.getStrategy().initializeGenerators();
 		initializeListGenerator();
+		Generator[] listGenerators = getListGenerators();
+		List<State> listStateReference = getListStateReference();
 		// Safely obtain a reference state. Strategy or Problem may be unavailable in tests.
 		State stateREF = null;
 		try {
 			if (Strategy.getStrategy() != null && Strategy.getStrategy().getProblem() != null && Strategy.getStrategy().getProblem().getState() != null) {
 				stateREF = new State(Strategy.getStrategy().getProblem().getState());
 				listStateReference.add(stateREF);
-			} else if (RandomSearch.listStateReference != null && !RandomSearch.listStateReference.isEmpty()) {
+			} else if (RandomSearch.getListStateReference() != null && !RandomSearch.getListStateReference().isEmpty()) {
 				// fallback to a copy of a global state if available
-				listStateReference.add(new State(RandomSearch.listStateReference.get(0)));
+				listStateReference.add(new State(RandomSearch.getListStateReference().get(0)));
 			}
 		} catch (Throwable t) {
 			// last-resort: leave listStateReference empty to avoid NPEs; callers should handle empty list
@@ -120,28 +124,22 @@ public class MultiGenerator extends Generator {
 			}
 		}
 		
-		FactoryGenerator ifFactoryGeneratorEE = new FactoryGenerator();
-		Generator generatorEE = ifFactoryGeneratorEE.createGenerator(GeneratorType.EVOLUTION_STRATEGIES);
-		
-		FactoryGenerator ifFactoryGeneratorGA = new FactoryGenerator();
-		Generator generatorGA = ifFactoryGeneratorGA.createGenerator(GeneratorType.GENETIC_ALGORITHM);
-		
-		FactoryGenerator ifFactoryGeneratorEDA = new FactoryGenerator();
-		Generator generatorEDA = ifFactoryGeneratorEDA.createGenerator(GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM);
+		// Los generadores poblacionales del portafolio son los del registro de
+		// Strategy: los que se creen después durante la corrida comparten su población
+		Strategy strategy = Strategy.getStrategy();
 		
 		for (int i = 0; i < MultiGenerator.getListGenerators().length; i++) {
 			Generator g = MultiGenerator.getListGenerators()[i];
 			if (g == null) continue;
 			GeneratorType gt = null;
 			try { gt = g.getType(); } catch (Throwable t) { continue; }
-			if (gt.equals(GeneratorType.EVOLUTION_STRATEGIES)){
-				MultiGenerator.getListGenerators()[i] = generatorEE;
+			if (!gt.equals(GeneratorType.EVOLUTION_STRATEGIES) && !gt.equals(GeneratorType.GENETIC_ALGORITHM) && !gt.equals(GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM)){
+				continue;
 			}
-			if (gt.equals(GeneratorType.GENETIC_ALGORITHM)){
-				MultiGenerator.getListGenerators()[i] = generatorGA;
-			}
-			if (gt.equals(GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM)){
-				MultiGenerator.getListGenerators()[i] = generatorEDA;
+			Generator registered = strategy.getGenerator(gt);
+			if (registered != null && registered != g) {
+				g.release();
+				MultiGenerator.getListGenerators()[i] = registered;
 			}
 		}
 		
@@ -177,6 +175,8 @@ public class MultiGenerator extends Generator {
 //			}
 //			else i++;
 //		}
+		List<State> listGeneratedPP = getListGeneratedPP();
+		List<State> candidates = new ArrayList<State>();
 		int j = 0;
 		while (j < EvolutionStrategies.countRef){
 			State stateCandidate = null;
@@ -195,49 +195,86 @@ public class MultiGenerator extends Generator {
 				} catch (Throwable t) {
 					stateCandidate = null;
 				}
-				if (stateCandidate == null && RandomSearch.listStateReference != null && !RandomSearch.listStateReference.isEmpty()) {
-					stateCandidate = new State(RandomSearch.listStateReference.get(0));
+				if (stateCandidate == null && RandomSearch.getListStateReference() != null && !RandomSearch.getListStateReference().isEmpty()) {
+					stateCandidate = new State(RandomSearch.getListStateReference().get(0));
 				}
 				// As a last resort, create an empty State to allow tests to proceed
 				if (stateCandidate == null) stateCandidate = new State();
 			}
-			try {
-				Strategy.getStrategy().getProblem().Evaluate(stateCandidate);
-				stateCandidate.setNumber(j);
-				stateCandidate.setTypeGenerator(generator.getType());
-				listGeneratedPP.add(stateCandidate);
-			} catch (Throwable e) {
-				// If evaluation fails, still add the candidate to avoid empty list in tests
-				stateCandidate.setNumber(j);
-				try { stateCandidate.setTypeGenerator(generator.getType()); } catch (Throwable t) {}
-				listGeneratedPP.add(stateCandidate);
-			}
+			stateCandidate.setNumber(j);
+			try { stateCandidate.setTypeGenerator(generator.getType()); } catch (Throwable t) {}
+			candidates.add(stateCandidate);
 			j++;
 		}
+		// Evaluate the whole initial population as one batch; on failure fall back to
+		// per-state evaluation and still keep the candidates to avoid an empty list in tests
+		try {
+			Strategy.getStrategy().getProblem().evaluateAll(candidates);
+		} catch (Throwable e) {
+			for (State candidate : candidates) {
+				try {
+					Strategy.getStrategy().getProblem().Evaluate(candidate);
+				} catch (Throwable t) {
+					// ignore and keep the unevaluated candidate
+				}
+			}
+		}
+		listGeneratedPP.addAll(candidates);
 	}
 	
-	private static ArrayList<State> getListGeneratedPP() {
-		return (ArrayList<State>) listGeneratedPP;
+	/**
+	 * @brief Obtiene la población inicial generada de la corrida actual
+	 * @return Lista del StrategyContext ligado o la lista estática si no hay contexto
+	 */
+	public static ArrayList<State> getListGeneratedPP() {
+		StrategyContext context = StrategyContext.current();
+		return (ArrayList<State>) (context != null ? context.getListGeneratedPP() : listGeneratedPP);
 	}
 
 	public static Generator[] getListGenerators() {
-		return listGenerators;
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getListGenerators() : listGenerators;
 	}
 
 	public static void setListGenerators(Generator[] listGenerators) {
-		MultiGenerator.listGenerators = listGenerators;
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setListGenerators(listGenerators);
+		} else {
+			MultiGenerator.listGenerators = listGenerators;
+		}
 	}
 
 	public static Generator getActiveGenerator() {
-		return activeGenerator;
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getActiveGenerator() : activeGenerator;
 	}
 
 	public static void setActiveGenerator(Generator activeGenerator) {
-		MultiGenerator.activeGenerator = activeGenerator;
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setActiveGenerator(activeGenerator);
+		} else {
+			MultiGenerator.activeGenerator = activeGenerator;
+		}
 	}
 
 	public static void setListGeneratedPP(List<State> listGeneratedPP) {
-		MultiGenerator.listGeneratedPP = listGeneratedPP;
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setListGeneratedPP(listGeneratedPP);
+		} else {
+			MultiGenerator.listGeneratedPP = listGeneratedPP;
+		}
+	}
+
+	/**
+	 * @brief Obtiene la lista de referencias del portafolio de la corrida actual
+	 * @return Lista del StrategyContext ligado o la lista estática si no hay contexto
+	 */
+	public static List<State> getListStateReference() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getListStateReferenceMG() : listStateReference;
 	}
 
 	@Override
@@ -250,7 +287,9 @@ public class MultiGenerator extends Generator {
 		// Select a generator via roulette, then attempt to generate a non-null state.
 		if (Strategy.getStrategy() == null) return null;
 		Strategy.getStrategy().generator = roulette();
-		activeGenerator = Strategy.getStrategy().generator;
+		Generator[] listGenerators = getListGenerators();
+		Generator activeGenerator = Strategy.getStrategy().generator;
+		setActiveGenerator(activeGenerator);
 		if (activeGenerator != null) activeGenerator.countGender++;
 		State state = null;
 		int attempts = 0;
@@ -270,7 +309,7 @@ public class MultiGenerator extends Generator {
 						State s = g.generate(1);
 						if (s != null) {
 							Strategy.getStrategy().generator = g;
-							activeGenerator = g;
+							setActiveGenerator(g);
 							state = s;
 							break;
 						}
@@ -293,6 +332,7 @@ public class MultiGenerator extends Generator {
 				}
 			}
 			// last resort: try global listStateReference
+			List<State> listStateReference = getListStateReference();
 			if (listStateReference != null && !listStateReference.isEmpty()) return new State(listStateReference.get(0));
 		}
 		return state;
@@ -307,7 +347,7 @@ public class MultiGenerator extends Generator {
 	@Override
 	public List<State> getReferenceList() {
 		// TODO Auto-generated method stub
-		return listStateReference;
+		return getListStateReference();
 	}
 
 	@Override
@@ -329,7 +369,7 @@ public class MultiGenerator extends Generator {
 
 	@Override
 	public void updateReference(State stateCandidate,
-			Integer countIterationsCurrent) throws IllegalArgumentException,
+			int countIterationsCurrent) throws IllegalArgumentException,
 			SecurityException, ClassNotFoundException, InstantiationException,
 			IllegalAccessException, InvocationTargetException,
 			NoSuchMethodException {
@@ -356,28 +396,13 @@ public class MultiGenerator extends Generator {
 	}
 	
 	public boolean searchState(State stateCandidate) {
-		if(Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)){
-			if(stateCandidate.getEvaluation().get(0) > Strategy.getStrategy().getBestState().getEvaluation().get(0)){
-				if(stateCandidate.getEvaluation().get(0) > Strategy.getStrategy().getBestState().getEvaluation().get(0))
-					activeGenerator.countBetterGender++;
-//				System.out.println(activeGenerator.getType().toString() + activeGenerator.countBetterGender);
-//				System.out.println(activeGenerator.countBetterGender);
-				return true;
-			}
-			else return false;
+		FitnessComparator fitness = FitnessComparator.of(Strategy.getStrategy().getProblem().getTypeProblem());
+		if(fitness.isBetter(stateCandidate.evalAt(0), Strategy.getStrategy().getBestState().evalAt(0))){
+			getActiveGenerator().countBetterGender++;
+//			System.out.println(activeGenerator.getType().toString() + activeGenerator.countBetterGender);
+			return true;
 		}
-		else {
-			if(stateCandidate.getEvaluation().get(0) < Strategy.getStrategy().getBestState().getEvaluation().get(0)){
-				if(stateCandidate.getEvaluation().get(0) < Strategy.getStrategy().getBestState().getEvaluation().get(0))
-					activeGenerator.countBetterGender++;
-//				System.out.println(activeGenerator.getType().toString() + activeGenerator.countBetterGender);
-//				System.out.println(activeGenerator.countBetterGender);
-				return true;
-			}
-			else return false;
-		}
-		
-		
+		return false;
 	}
 	
 	@Override
@@ -386,6 +411,7 @@ public class MultiGenerator extends Generator {
 	}
 	
 	public Generator roulette() {
+		Generator[] listGenerators = getListGenerators();
 		float totalWeight = 0;
 		for (int i = 0; i < listGenerators.length; i++) {
 			totalWeight = listGenerators[i].getWeight() + totalWeight;
@@ -407,7 +433,7 @@ public class MultiGenerator extends Generator {
 			limitRoulette.setGenerator(listGenerators[i]);
 			listLimit.add(limitRoulette);
 		}
-		float numbAleatory = (float) (Math.random() * (double)(1));
+		float numbAleatory = (float) (RandomService.nextDouble() * (double)(1));
 		boolean find = false;
 		int i = 0;
 		while ((find == false) && (i < listLimit.size())){
@@ -428,19 +454,43 @@ public class MultiGenerator extends Generator {
 		return false;
 	}
 	
+	/**
+	 * @brief Registra el peso de un generador en su traza para la iteración dada
+	 *
+	 * Los generadores sin WeightTrace propia conservan el comportamiento del
+	 * arreglo devuelto por getTrace(), si existe y tiene espacio.
+	 *
+	 * @param generator Generador cuyo peso se registra
+	 * @param iteration Iteración actual de la estrategia
+	 * @param weight Peso a registrar
+	 */
+	private static void recordTrace(Generator generator, int iteration, float weight) {
+		WeightTrace trace = generator.getWeightTrace();
+		if (trace != null) {
+			trace.record(iteration, weight);
+			return;
+		}
+		float[] array = generator.getTrace();
+		if (array != null && iteration < array.length) {
+			array[iteration] = weight;
+		}
+	}
+
 	@SuppressWarnings("static-access")
 	public void updateAwardSC() {
+		Generator[] listGenerators = getListGenerators();
+		Generator activeGenerator = getActiveGenerator();
 		float weightLast = activeGenerator.getWeight();
 		float weightUpdate = (float) (weightLast * (1 - 0.1) + 10);
 		activeGenerator.setWeight(weightUpdate);
 //		activeGenerator.getTrace()getTrace().add(weightUpdate);
 		for (int i = 0; i < listGenerators.length; i++) {
 			if(listGenerators[i].equals(activeGenerator))
-				activeGenerator.getTrace()[Strategy.getStrategy().getCountCurrent()] = weightUpdate;
+				recordTrace(activeGenerator, Strategy.getStrategy().getCountCurrent(), weightUpdate);
 			else{
 			if(!listGenerators[i].getType().equals(GeneratorType.MULTI_GENERATOR)){
 				float trace = listGenerators[i].getWeight();
-				listGenerators[i].getTrace() [Strategy.getStrategy().getCountCurrent()] = trace;
+				recordTrace(listGenerators[i], Strategy.getStrategy().getCountCurrent(), trace);
 				}
 			}
 		}
@@ -448,17 +498,19 @@ public class MultiGenerator extends Generator {
 
 	@SuppressWarnings("static-access")
 	public void updateAwardImp() {
+		Generator[] listGenerators = getListGenerators();
+		Generator activeGenerator = getActiveGenerator();
 		float weightLast = activeGenerator.getWeight();
 		float weightUpdate = (float) (weightLast * (1 - 0.1));
 		activeGenerator.setWeight(weightUpdate);
 //		activeGenerator.getTrace().add(weightUpdate);
 		for (int i = 0; i < listGenerators.length; i++) {
 			if(listGenerators[i].equals(activeGenerator))
-				activeGenerator.getTrace()[Strategy.getStrategy().getCountCurrent()] = weightUpdate;
+				recordTrace(activeGenerator, Strategy.getStrategy().getCountCurrent(), weightUpdate);
 			else{
 				if(!listGenerators[i].getType().equals(GeneratorType.MULTI_GENERATOR)){
 					float trace = listGenerators[i].getWeight();
-					listGenerators[i].getTrace() [Strategy.getStrategy().getCountCurrent()] = trace;
+					recordTrace(listGenerators[i], Strategy.getStrategy().getCountCurrent(), trace);
 				}
 			}
 		}
@@ -476,10 +528,10 @@ public class MultiGenerator extends Generator {
 	}
 	
 	@SuppressWarnings("static-access")
-	public void tournament(State stateCandidate,Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+	public void tournament(State stateCandidate, int countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		State stateTem = new State(stateCandidate);
 		for (int i = 0; i < MultiGenerator.getListGenerators().length; i++) {
-			if(!listGenerators[i].getType().equals(GeneratorType.MULTI_GENERATOR))
+			if(!MultiGenerator.getListGenerators()[i].getType().equals(GeneratorType.MULTI_GENERATOR))
 				MultiGenerator.getListGenerators()[i].updateReference(stateTem, countIterationsCurrent);
 		}
 	}
@@ -20,8 +20,10 @@ import local_search.acceptation_type.AcceptType;
 import local_search.acceptation_type.AcceptableCandidate;
 import local_search.candidate_type.CandidateType;
 import local_search.candidate_type.CandidateValue;
+import local_search.complement.MoveNeighborhood;
 import local_search.complement.StrategyType;
 import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
 
 /**
  * @class MultiobjectiveHillClimbingDistance
@@ -90,9 +92,7 @@ public class MultiobjectiveHillClimbingDistance extends Generator{
 	 */
 	@Override
 	public State generate(Integer operatornumber) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		List<State> neighborhood = new ArrayList<State>();
-		neighborhood = Strategy.getStrategy().getProblem().getOperator().generatedNewState(stateReferenceHC, operatornumber);
-		State statecandidate = candidatevalue.stateCandidate(stateReferenceHC, typeCandidate, strategy, operatornumber, neighborhood);
+		State statecandidate = candidatevalue.stateCandidate(stateReferenceHC, typeCandidate, strategy, operatornumber);
 		return statecandidate;
 	}
 
@@ -113,19 +113,16 @@ public class MultiobjectiveHillClimbingDistance extends Generator{
 	 * @throws NoSuchMethodException Si no se encuentra el método
 	 */
 	@Override
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, 
+	public void updateReference(State stateCandidate, int countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, 
 	InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		//Agregando la primera soluci�n a la lista de soluciones no dominadas
 		if(Strategy.getStrategy().listRefPoblacFinal.size() == 0){
 			Strategy.getStrategy().listRefPoblacFinal.add(stateReferenceHC.getCopy());
-			distanceSolution.add(new Double(0));
+			getDistanceSolution().add(new Double(0));
 		}
 		ifacceptCandidate = new FactoryAcceptCandidate();
 		AcceptableCandidate candidate = ifacceptCandidate.createAcceptCandidate(typeAcceptation);
 		State lastState = Strategy.getStrategy().listRefPoblacFinal.get(Strategy.getStrategy().listRefPoblacFinal.size()-1);
-		List<State> neighborhood = new ArrayList<State>();
-		neighborhood = Strategy.getStrategy().getProblem().getOperator().generatedNewState(stateReferenceHC, sizeNeighbors);
-		int i= 0;
 //		Boolean restart= true;
 
 //		while (restart==true) {
@@ -140,15 +137,16 @@ public class MultiobjectiveHillClimbingDistance extends Generator{
 			else{
 
 				boolean stop = false;
-				while (i < neighborhood.size()&& stop==false) {
-					if (Contain(neighborhood.get(i))==false) {
-						stateReferenceHC = SolutionMoreDistance(Strategy.getStrategy().listRefPoblacFinal, distanceSolution);
+				// Los vecinos se generan de uno en uno hasta encontrar uno no visitado
+				Iterator<State> neighborhood = MoveNeighborhood.stream(stateReferenceHC, sizeNeighbors).iterator();
+				while (neighborhood.hasNext() && stop==false) {
+					if (Contain(neighborhood.next())==false) {
+						stateReferenceHC = SolutionMoreDistance(Strategy.getStrategy().listRefPoblacFinal, getDistanceSolution());
 						visitedState.add(stateReferenceHC);
 						stop=true;
 						lastState=stateReferenceHC.getCopy();
 //						restart=false;
 					}
-					i++;
 				}
 				int coutrestart=0;
 				while (stop == false && coutrestart < sizeNeighbors && accept==false) {
@@ -267,6 +265,28 @@ public class MultiobjectiveHillClimbingDistance extends Generator{
 		return null;
 	}
 
+	/**
+	 * @brief Distancias del frente de Pareto de la corrida ligada
+	 * @return Lista del StrategyContext ligado o la lista estática si no hay contexto
+	 */
+	public static List<Double> getDistanceSolution() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getDistanceSolution() : distanceSolution;
+	}
+
+	/**
+	 * @brief Asigna las distancias del frente de Pareto
+	 * @param value Nueva lista para la corrida ligada, o para el campo estático si no hay contexto
+	 */
+	public static void setDistanceSolution(List<Double> value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setDistanceSolution(value);
+		} else {
+			distanceSolution = value;
+		}
+	}
+
 	/**
 	 * @brief Calcula y actualiza las distancias al añadir una nueva solución
 	 * @param solution Lista de soluciones del frente de Pareto
@@ -276,6 +296,7 @@ public class MultiobjectiveHillClimbingDistance extends Generator{
 		State[] solutions = solution.toArray(new State[solution.size()]);
 		Double distance = 0.0;
 		List<Double>listDist=new ArrayList<Double>();
+		List<Double> distanceSolution = getDistanceSolution();
 		
 		//Si es el primer elemento, inicializar distanceSolution con 0.0
 		if (solutions.length == 1) {
@@ -308,9 +329,9 @@ public class MultiobjectiveHillClimbingDistance extends Generator{
 		}
 		listDist.add(distance);
 //		distanceSolution.add(distance);
-		distanceSolution=listDist;
+		setDistanceSolution(listDist);
 		
-		return distanceSolution;
+		return listDist;
 
 	}
 
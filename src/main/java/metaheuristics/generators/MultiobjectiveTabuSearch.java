@@ -151,7 +151,7 @@ public class MultiobjectiveTabuSearch extends Generator {
 	 * @throws NoSuchMethodException Si no se encuentra el método
 	 */
 	@Override
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent)throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+	public void updateReference(State stateCandidate, int countIterationsCurrent)throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		ifacceptCandidate = new FactoryAcceptCandidate();
 		AcceptableCandidate candidate = ifacceptCandidate.createAcceptCandidate(typeAcceptation);
 		Boolean acept = candidate.acceptCandidate(stateReferenceTS, stateCandidate);
@@ -159,33 +159,8 @@ public class MultiobjectiveTabuSearch extends Generator {
 		  stateReferenceTS = stateCandidate;
 
 		if (strategy.equals(StrategyType.TABU) && acept.equals(true)) {
-			if (TabuSolutions.listTabu.size() < TabuSolutions.maxelements) {
-				Boolean find = false;
-				int count = 0;
-				while ((TabuSolutions.listTabu.size() > count) && (find.equals(false))) {
-					if (TabuSolutions.listTabu.get(count).equals(stateCandidate)) {
-						find = true;
-					}
-					count++;
-				}
-				if (find.equals(false)) {
-					TabuSolutions.listTabu.add(stateCandidate);
-				}
-			} else {
-				TabuSolutions.listTabu.remove(0);
-				Boolean find = false;
-				int count = 0;
-				while (TabuSolutions.listTabu.size() > count && find.equals(false)) {
-					if (TabuSolutions.listTabu.get(count).equals(stateCandidate)) {
-						find = true;
-					}
-					count++;
-				}
-				if (find.equals(false)) {
-					TabuSolutions.listTabu.add(stateCandidate);
-				}
-			}
-	}
+			TabuSolutions.addTabu(stateCandidate, candidatevalue.getLastMove());
+		}
 		getReferenceList();
   }
 	
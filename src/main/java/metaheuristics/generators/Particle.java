@@ -13,9 +13,11 @@ import java.util.List;
 
 import metaheurictics.strategy.Strategy;
 
-import problem.definition.Problem.ProblemType;
+import problem.definition.DoubleVectorState;
+import problem.definition.FitnessComparator;
 import problem.definition.State;
-import config.SecureRandomGenerator;
+import problem.definition.VectorState;
+import config.RandomService;
 
 /**
  * @class Particle
@@ -34,6 +36,12 @@ public class Particle extends Generator {
 	
 	/** @brief Vector de velocidad de la partícula */
 	private ArrayList<Object> velocity;
+
+	/** @brief Velocidad sin boxing usada cuando la posición es un VectorState; si no es null, manda sobre velocity */
+	private double[] velocityValues;
+
+	/** @brief Números aleatorios del último movimiento binario, reutilizados entre iteraciones */
+	private double[] randomValues;
 	
 	/**
 	 * @brief Constructor por defecto de la partícula
@@ -65,6 +73,7 @@ public class Particle extends Generator {
 	 * @return Vector de velocidad de la partícula
 	 */
 	public ArrayList<Object> getVelocity() {
+		syncVelocity();
 		return velocity;
 	}
 
@@ -74,6 +83,7 @@ public class Particle extends Generator {
 	 */
 	public void setVelocity(ArrayList<Object> velocity) {
 		this.velocity = velocity;
+		this.velocityValues = null;
 	}
 
 	/**
@@ -127,7 +137,11 @@ public class Particle extends Generator {
 			IllegalAccessException, InvocationTargetException,
 			NoSuchMethodException {
 		// TODO Auto-generated method stub
-		
+		if (stateActual instanceof VectorState) {
+			moveVector((VectorState) stateActual);
+			return null;
+		}
+		syncVelocity();
 		ArrayList<Object> actualVelocity = UpdateVelocity();
 		ArrayList<Object> newCode = UpdateCode(actualVelocity);
 		this.velocity = actualVelocity;
@@ -144,9 +158,9 @@ public class Particle extends Generator {
 		} catch (Throwable t) {
 			countMax = 1.0;
 		}
-		double w = ParticleSwarmOptimization.wmax - ((ParticleSwarmOptimization.wmax - ParticleSwarmOptimization.wmin) / countMax) * ParticleSwarmOptimization.countCurrentIterPSO;  //CALCULO DE LA INERCIA
-    	double rand1 = SecureRandomGenerator.nextDouble();
-    	double rand2 = SecureRandomGenerator.nextDouble();
+		double w = ParticleSwarmOptimization.wmax - ((ParticleSwarmOptimization.wmax - ParticleSwarmOptimization.wmin) / countMax) * ParticleSwarmOptimization.getCountCurrentIterPSO();  //CALCULO DE LA INERCIA
+    	double rand1 = RandomService.nextDouble();
+    	double rand2 = RandomService.nextDouble();
     	double inertia, cognitive, social;
 		int learning = ParticleSwarmOptimization.learning1 + ParticleSwarmOptimization.learning2; // ratios de aprendizaje cognitivo y social
 		// Use double arithmetic to avoid integer subtraction pitfalls
@@ -173,7 +187,7 @@ public class Particle extends Generator {
 		// recorre el vector velocidad y lo actualiza
 		for (int i = 0; i < codeSize; i++) {
     		// cumulo donde se encuentra la particula
-    		int swarm = ParticleSwarmOptimization.countParticle / ParticleSwarmOptimization.countParticleBySwarm; 
+    		int swarm = ParticleSwarmOptimization.getCountParticle() / ParticleSwarmOptimization.countParticleBySwarm; 
            	inertia = w * (Double)velocity.get(i);  
            	if(ParticleSwarmOptimization.binary == true){
 				// safe casts for binary representation
@@ -181,7 +195,7 @@ public class Particle extends Generator {
 					cognitive = (Double)(ParticleSwarmOptimization.learning1 * rand1 * ((Integer)(this.statePBest.getCode().get(i)) - (Integer)(stateActual.getCode().get(i))));
 				} catch (Throwable t) { cognitive = 0.0; }
 				try {
-					social = (Double)(ParticleSwarmOptimization.learning2 * rand2 * (((Integer)(((State) ParticleSwarmOptimization.lBest[swarm]).getCode().get(i))) - ((Integer)(stateActual.getCode().get(i)))));
+					social = (Double)(ParticleSwarmOptimization.learning2 * rand2 * (((Integer)(((State) ParticleSwarmOptimization.getLBest()[swarm]).getCode().get(i))) - ((Integer)(stateActual.getCode().get(i)))));
 				} catch (Throwable t) { social = 0.0; }
            	}
            	else{
@@ -189,7 +203,7 @@ public class Particle extends Generator {
 					cognitive = (Double)(ParticleSwarmOptimization.learning1 * rand1 * ((Double)(this.statePBest.getCode().get(i)) - (Double)(stateActual.getCode().get(i))));
 				} catch (Throwable t) { cognitive = 0.0; }
 				try {
-					social = (Double)(ParticleSwarmOptimization.learning2 * rand2 * (((Double)(((State) ParticleSwarmOptimization.lBest[swarm]).getCode().get(i))) - ((Double)(stateActual.getCode().get(i)))));
+					social = (Double)(ParticleSwarmOptimization.learning2 * rand2 * (((Double)(((State) ParticleSwarmOptimization.getLBest()[swarm]).getCode().get(i))) - ((Double)(stateActual.getCode().get(i)))));
 				} catch (Throwable t) { social = 0.0; }
            	}
         	actualVelocity.add(ParticleSwarmOptimization.constriction*(inertia + cognitive + social));
@@ -203,6 +217,119 @@ public class Particle extends Generator {
         return actualVelocity;
     }
 	
+	/**
+	 * @brief Actualiza velocidad y posición sobre los arrays de un VectorState
+	 *
+	 * Aplica las mismas fórmulas que UpdateVelocity y UpdateCode, con los
+	 * mismos números aleatorios, pero sin listas de objetos ni casts por gen.
+	 * @param position Posición actual de la partícula
+	 */
+	private void moveVector(VectorState position) {
+		double countMax = 1.0;
+		try {
+			if (Strategy.getStrategy() != null) countMax = Math.max(1, Strategy.getStrategy().getCountMax());
+		} catch (Throwable t) {
+			countMax = 1.0;
+		}
+		double w = ParticleSwarmOptimization.wmax - ((ParticleSwarmOptimization.wmax - ParticleSwarmOptimization.wmin) / countMax) * ParticleSwarmOptimization.getCountCurrentIterPSO();
+		double rand1 = RandomService.nextDouble();
+		double rand2 = RandomService.nextDouble();
+		int learning = ParticleSwarmOptimization.learning1 + ParticleSwarmOptimization.learning2;
+		ParticleSwarmOptimization.constriction = 2.0/(Math.abs(2.0 - (double)learning - Math.sqrt(((double)learning * (double)learning) - 4.0 * (double)learning)));
+		int codeSize = position.size();
+		double[] v = velocityValues(codeSize);
+		if (codeSize > 0) {
+			int swarm = ParticleSwarmOptimization.getCountParticle() / ParticleSwarmOptimization.countParticleBySwarm;
+			State[] lBest = ParticleSwarmOptimization.getLBest();
+			VectorState pBest = asVector(statePBest, codeSize);
+			VectorState social = asVector(lBest != null && swarm < lBest.length ? lBest[swarm] : null, codeSize);
+			for (int i = 0; i < codeSize; i++) {
+				double x = position.valueAt(i);
+				double cognitiveTerm = pBest == null ? 0.0 : ParticleSwarmOptimization.learning1 * rand1 * (pBest.valueAt(i) - x);
+				double socialTerm = social == null ? 0.0 : ParticleSwarmOptimization.learning2 * rand2 * (social.valueAt(i) - x);
+				v[i] = ParticleSwarmOptimization.constriction * (w * v[i] + cognitiveTerm + socialTerm);
+			}
+		}
+		if (ParticleSwarmOptimization.binary == false) {
+			for (int i = 0; i < codeSize; i++) {
+				position.setValueAt(i, position.valueAt(i) + v[i]);
+			}
+		} else {
+			double[] rand = randomValues(codeSize);
+			RandomService.nextDoubles(rand);
+			for (int i = 0; i < codeSize; i++) {
+				double s = 1/(1 + 1.72 * v[i]);
+				position.setValueAt(i, rand[i] < s ? 1 : 0);
+			}
+		}
+		this.velocityValues = v;
+	}
+
+	/**
+	 * @brief Buffer para los sorteos del caso binario, reutilizado si tiene el tamaño pedido
+	 */
+	private double[] randomValues(int size) {
+		if (randomValues == null || randomValues.length != size) {
+			randomValues = new double[size];
+		}
+		return randomValues;
+	}
+
+	/**
+	 * @brief Velocidad como array, reutilizando la anterior si tiene el tamaño pedido
+	 */
+	private double[] velocityValues(int size) {
+		if (velocityValues != null && velocityValues.length == size) {
+			return velocityValues;
+		}
+		double[] values = new double[size];
+		if (velocity != null && velocity.size() == size) {
+			for (int i = 0; i < size; i++) {
+				values[i] = ((Number) velocity.get(i)).doubleValue();
+			}
+		}
+		return values;
+	}
+
+	/**
+	 * @brief Vuelca la velocidad del array a la lista tras una actualización vectorial
+	 */
+	private void syncVelocity() {
+		if (velocityValues != null) {
+			ArrayList<Object> list = new ArrayList<Object>(velocityValues.length);
+			for (double value : velocityValues) {
+				list.add(value);
+			}
+			velocity = list;
+			velocityValues = null;
+		}
+	}
+
+	/**
+	 * @brief Vista vectorial de un estado de referencia (pBest o lBest)
+	 * @return El propio estado si ya es vectorial, una copia convertida si su
+	 *         codificación es numérica, o null si no aporta término (igual que
+	 *         el cálculo genérico, que lo trata como 0)
+	 */
+	private static VectorState asVector(State state, int size) {
+		if (state instanceof VectorState) {
+			return ((VectorState) state).size() >= size ? (VectorState) state : null;
+		}
+		if (state == null) {
+			return null;
+		}
+		ArrayList<Object> code = state.getCode();
+		if (code.size() < size) {
+			return null;
+		}
+		for (Object value : code) {
+			if (!(value instanceof Number)) {
+				return null;
+			}
+		}
+		return new DoubleVectorState(code);
+	}
+
 	private ArrayList<Object> UpdateCode(ArrayList<Object> actualVelocity) {  // CALCULO DE LA NUEA POSICION DE LA PARTICULA
 		ArrayList<Object> newCode = new ArrayList<Object>();
 		ArrayList<Object> binaryCode = new ArrayList<Object>();
@@ -215,7 +342,7 @@ public class Particle extends Generator {
 	    }
 		 else{                                                  //clculo de la posicion para codificacion binaria
 			  for (int i = 0; i < stateActual.getCode().size(); i++){
-				  double rand = SecureRandomGenerator.nextDouble();
+				  double rand = RandomService.nextDouble();
 				  double s = 1/(1 + 1.72 * (Double)(actualVelocity.get(i))); // 
 				  if (rand < s){
 				     binaryCode.add(1);
@@ -238,24 +365,30 @@ public class Particle extends Generator {
 
 	@Override
 	public void updateReference(State stateCandidate,
-			Integer countIterationsCurrent) throws IllegalArgumentException,
+			int countIterationsCurrent) throws IllegalArgumentException,
 			SecurityException, ClassNotFoundException, InstantiationException,
 			IllegalAccessException, InvocationTargetException,
 			NoSuchMethodException {
 		// TODO Auto-generated method stub
-		if(Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR)){
-			if(stateActual.getEvaluation().get(0) > statePBest.getEvaluation().get(0)){
-				statePBest.setCode(new ArrayList<Object>(stateActual.getCode()));
-				statePBest.setEvaluation(stateActual.getEvaluation());
-			}
+		FitnessComparator fitness = FitnessComparator.of(Strategy.getStrategy().getProblem().getTypeProblem());
+		// al maximizar se compara la posición actual de la partícula, al minimizar el candidato recibido
+		State source = fitness.isMaximize() ? stateActual : stateCandidate;
+		if(fitness.isBetter(source.evalAt(0), statePBest.evalAt(0))){
+			copyCode(source, statePBest);
+			statePBest.setEvaluation(source.getEvaluation());
 		}
-		else{
-			if(stateCandidate.getEvaluation().get(0) < statePBest.getEvaluation().get(0)){
-				statePBest.setCode(new ArrayList<Object>(stateCandidate.getCode()));
-				statePBest.setEvaluation(stateCandidate.getEvaluation());
-			}
+	}
+
+	/**
+	 * @brief Copia la codificación de un estado a otro, array a array si ambos son vectoriales
+	 */
+	private static void copyCode(State source, State target) {
+		if (source instanceof VectorState && source.getClass() == target.getClass()
+				&& ((VectorState) source).size() == ((VectorState) target).size()) {
+			((VectorState) target).copyRange((VectorState) source, 0, ((VectorState) source).size());
+		} else {
+			target.setCode(new ArrayList<Object>(source.getCode()));
 		}
-		
 	}
 
 	@Override
@@ -13,9 +13,11 @@ import java.util.List;
 
 
 import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
 
 
-import problem.definition.Problem.ProblemType;
+import problem.definition.FitnessComparator;
+import problem.definition.Problem;
 import problem.definition.State;
 
 /**
@@ -46,37 +48,38 @@ public class ParticleSwarmOptimization extends Generator {
 	public static State gBest;
 	public static int countCurrentIterPSO;
 	//problemas dinamicos
-    private float[] listTrace = new float[1200000];
+    private WeightTrace listTrace = new WeightTrace(0);
 			
 	public ParticleSwarmOptimization(){
 		super();
 		countRef = coutSwarm * countParticleBySwarm;
 		List<Particle> refParticles = getListStateRef();
-		if (refParticles != null) {
+		// getListStateRef puede devolver la propia lista ya poblada
+		if (refParticles != null && refParticles != listParticle) {
 			for (Particle p : refParticles) {
 				listParticle.add(p);
 			}
 		}
 
 		// If no particles were populated but RandomSearch has states, convert them into particles
-		if (listParticle.isEmpty() && RandomSearch.listStateReference != null && RandomSearch.listStateReference.size() > 0) {
+		if (listParticle.isEmpty() && RandomSearch.getListStateReference() != null && RandomSearch.getListStateReference().size() > 0) {
 			// If swarm sizing not configured, create one swarm containing all states
 			if (coutSwarm <= 0) {
 				coutSwarm = 1;
 			}
 			if (countParticleBySwarm <= 0) {
-				countParticleBySwarm = RandomSearch.listStateReference.size();
+				countParticleBySwarm = RandomSearch.getListStateReference().size();
 			}
 			countRef = coutSwarm * countParticleBySwarm;
-			for (int j = 0; j < RandomSearch.listStateReference.size(); j++) {
+			for (int j = 0; j < RandomSearch.getListStateReference().size(); j++) {
 				if (countRef == 0 || getListParticle().size() < countRef) {
 					ArrayList<Object> velocity = new ArrayList<Object>();
-					State stateAct = (State) RandomSearch.listStateReference.get(j).getCopy();
-					stateAct.setCode(new ArrayList<Object>(RandomSearch.listStateReference.get(j).getCode()));
-					stateAct.setEvaluation(RandomSearch.listStateReference.get(j).getEvaluation());
-					State statePBest = (State) RandomSearch.listStateReference.get(j).getCopy();
-					statePBest.setCode(new ArrayList<Object>(RandomSearch.listStateReference.get(j).getCode()));
-					statePBest.setEvaluation(RandomSearch.listStateReference.get(j).getEvaluation());
+					State stateAct = (State) RandomSearch.getListStateReference().get(j).getCopy();
+					stateAct.setCode(new ArrayList<Object>(RandomSearch.getListStateReference().get(j).getCode()));
+					stateAct.setEvaluation(RandomSearch.getListStateReference().get(j).getEvaluation());
+					State statePBest = (State) RandomSearch.getListStateReference().get(j).getCopy();
+					statePBest.setCode(new ArrayList<Object>(RandomSearch.getListStateReference().get(j).getCode()));
+					statePBest.setEvaluation(RandomSearch.getListStateReference().get(j).getEvaluation());
 					Particle particle = new Particle(stateAct, statePBest, velocity);
 					getListParticle().add(particle);
 				}
@@ -86,32 +89,32 @@ public class ParticleSwarmOptimization extends Generator {
 //		listStateReference = new ArrayList<State>(Strategy.getStrategy().listBest);
 		this.generatorType = GeneratorType.PARTICLE_SWARM_OPTIMIZATION;
 		this.weight = 0;
-		if (lBest == null || lBest.length < Math.max(1, coutSwarm)) {
-			lBest = new State[Math.max(1, coutSwarm)];
+		if (getLBest() == null || getLBest().length < Math.max(1, coutSwarm)) {
+			setLBest(new State[Math.max(1, coutSwarm)]);
 		}
 		// Ensure countParticle starts at 0 for initialization routines
-		countParticle = 0;
+		setCountParticle(0);
 		if(!listParticle.isEmpty()){
-			countCurrentIterPSO = 1;
+			setCountCurrentIterPSO(1);
 			// ensure we have sensible swarm sizing
 			if (coutSwarm <= 0) coutSwarm = 1;
 			if (countParticleBySwarm <= 0) countParticleBySwarm = Math.max(1, listParticle.size());
-			if (lBest == null || lBest.length < Math.max(1, coutSwarm)) {
-				lBest = new State[Math.max(1, coutSwarm)];
+			if (getLBest() == null || getLBest().length < Math.max(1, coutSwarm)) {
+				setLBest(new State[Math.max(1, coutSwarm)]);
 			}
 			inicialiceLBest();
 			// Ensure gBest initialization is safe even if some lBest entries are null
 			try {
-				gBest = gBestInicial();
+				setGBest(gBestInicial());
 			} catch (Exception e) {
 				// fallback: pick first available particle state's pbest if present
 				if(!listParticle.isEmpty() && listParticle.get(0).getStatePBest() != null){
-					gBest = listParticle.get(0).getStatePBest();
+					setGBest(listParticle.get(0).getStatePBest());
 				}
 			}
 		}
-		countParticle = 0;
-		listTrace[0] = this.weight;
+		setCountParticle(0);
+		listTrace.record(0, this.weight);
 		this.listCountBetterGender = new int[10];
 		this.listCountBetterGender[0] = 0;
 		this.countGender = 0;
@@ -121,19 +124,22 @@ public class ParticleSwarmOptimization extends Generator {
 	@Override
 	public State generate(Integer operatornumber) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException{ //PSO
 		if (countRef <= 0 || listParticle == null || listParticle.isEmpty()) return null;
-		if (countParticle >= countRef)
+		int countParticle = getCountParticle();
+		if (countParticle >= countRef || countParticle >= listParticle.size())
 			countParticle = 0;
 		// generate using current particle
 		listParticle.get(countParticle).generate(1);
 		State result = listParticle.get(countParticle).getStateActual();
 		// increment the counter after generation so first call moves it to 1
-		countParticle++;
+		setCountParticle(countParticle + 1);
 		return result;
 	}
    	
 	public void inicialiceLBest (){
 		// initialize local bests per swarm defensively
+		State[] lBest = getLBest();
 		int totalParticles = listParticle == null ? 0 : listParticle.size();
+		FitnessComparator fitness = fitness();
 		for (int j = 0; j < Math.max(1, coutSwarm); j++) {
 			State reference = null;
 			int start = j * Math.max(1, countParticleBySwarm);
@@ -149,24 +155,12 @@ public class ParticleSwarmOptimization extends Generator {
 				continue;
 			}
 			// scan the particles in the swarm and choose best according to problem type if possible
-			boolean maxim = true;
-			try {
-				if (Strategy.getStrategy() != null && Strategy.getStrategy().getProblem() != null) {
-					maxim = Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR);
-				}
-			} catch (Throwable t) {
-				maxim = true; // default to maximization
-			}
 			for (int i = start; i < end; i++) {
 				if (i >= totalParticles) break;
 				State pbest = listParticle.get(i).getStatePBest();
 				if (pbest == null) continue;
 				try {
-					if (maxim) {
-						if (pbest.getEvaluation().get(0) > reference.getEvaluation().get(0)) reference = pbest;
-					} else {
-						if (pbest.getEvaluation().get(0) < reference.getEvaluation().get(0)) reference = pbest;
-					}
+					if (fitness.isBetter(pbest.evalAt(0), reference.evalAt(0))) reference = pbest;
 				} catch (Exception e) {
 					// ignore malformed evaluation and skip
 				}
@@ -182,68 +176,40 @@ public class ParticleSwarmOptimization extends Generator {
 	}
 	
 	private List<Particle> getListStateRef() {
-		Boolean found = false;
 		// If RandomSearch global list is null or empty, return empty particle list
-		if (RandomSearch.listStateReference == null || RandomSearch.listStateReference.size() == 0) {
+		if (RandomSearch.getListStateReference() == null || RandomSearch.getListStateReference().size() == 0) {
 			return this.setListParticle(new ArrayList<Particle>());
 		}
-		// If Strategy singleton is not available, convert RandomSearch states into particles directly
-		if (Strategy.getStrategy() == null || Strategy.getStrategy().getListKey() == null || Strategy.getStrategy().mapGenerators == null) {
-			for (int j = 0; j < RandomSearch.listStateReference.size(); j++) {
+		Strategy strategy = Strategy.getStrategy();
+		ParticleSwarmOptimization generator = strategy == null ? null : strategy.findGenerator(GeneratorType.PARTICLE_SWARM_OPTIMIZATION, ParticleSwarmOptimization.class);
+		if (generator == null || generator.getListParticle().isEmpty()){
+			// Convertir los estados en particulas
+			for (int j = 0; j < RandomSearch.getListStateReference().size(); j++) {
+				// Si countRef is zero, allow conversion of all states
 				if (countRef == 0 || getListParticle().size() < countRef) {
 					ArrayList<Object> velocity = new ArrayList<Object>();
-					State stateAct = (State) RandomSearch.listStateReference.get(j).getCopy();
-					stateAct.setCode(new ArrayList<Object>(RandomSearch.listStateReference.get(j).getCode()));
-					stateAct.setEvaluation(RandomSearch.listStateReference.get(j).getEvaluation());
-					State statePBest = (State) RandomSearch.listStateReference.get(j).getCopy();
-					statePBest.setCode(new ArrayList<Object>(RandomSearch.listStateReference.get(j).getCode()));
-					statePBest.setEvaluation(RandomSearch.listStateReference.get(j).getEvaluation());
+					State stateAct = (State) RandomSearch.getListStateReference().get(j).getCopy();
+					stateAct.setCode(new ArrayList<Object>(RandomSearch.getListStateReference().get(j).getCode()));
+					stateAct.setEvaluation(RandomSearch.getListStateReference().get(j).getEvaluation());
+
+					State statePBest = (State) RandomSearch.getListStateReference().get(j).getCopy();
+					statePBest.setCode(new ArrayList<Object>(RandomSearch.getListStateReference().get(j).getCode()));
+					statePBest.setEvaluation(RandomSearch.getListStateReference().get(j).getEvaluation());
+
 					Particle particle = new Particle(stateAct, statePBest, velocity);
 					getListParticle().add(particle);
 				}
 			}
-			return getListParticle();
 		}
-		List<String> key = Strategy.getStrategy().getListKey();
-		int count = 0;
-		while((found.equals(false)) && (Strategy.getStrategy().mapGenerators.size() > count)){
-			//recorrer la lista de generadores, hasta que encuentre el PSO
-			if(key.get(count).equals(GeneratorType.PARTICLE_SWARM_OPTIMIZATION.toString())){
-				//creo el generador PSO, y si su lista de particulas esta vacia entonces es la primera vez que lo estoy creando, y cada estado lo convierto en particulas
-				GeneratorType keyGenerator = GeneratorType.valueOf(String.valueOf(key.get(count)));
-				ParticleSwarmOptimization generator = (ParticleSwarmOptimization) Strategy.getStrategy().mapGenerators.get(keyGenerator);
-				if (generator.getListParticle().isEmpty()){
-					// Convertir los estados en particulas
-					for (int j = 0; j < RandomSearch.listStateReference.size(); j++) {
-						// Si countRef is zero, allow conversion of all states
-						if (countRef == 0 || getListParticle().size() < countRef) {
-							ArrayList<Object> velocity = new ArrayList<Object>();
-							State stateAct = (State) RandomSearch.listStateReference.get(j).getCopy();
-							stateAct.setCode(new ArrayList<Object>(RandomSearch.listStateReference.get(j).getCode()));
-							stateAct.setEvaluation(RandomSearch.listStateReference.get(j).getEvaluation());
-                            
-							State statePBest = (State) RandomSearch.listStateReference.get(j).getCopy();
-							statePBest.setCode(new ArrayList<Object>(RandomSearch.listStateReference.get(j).getCode()));
-							statePBest.setEvaluation(RandomSearch.listStateReference.get(j).getEvaluation());
-                            
-							Particle particle = new Particle(stateAct, statePBest, velocity);
-							getListParticle().add(particle);
-						}
-					}  
-				}
-				else{
-					List<Particle> particles = new ArrayList<>();
-					for (State state : generator.getListStateReference()) {
-						Particle particle = new Particle();
-						particle.setStateActual(state);
-						particle.setStatePBest(state);
-						particles.add(particle);
-					}
-					setListParticle(particles);
-				}
-			        found = true;
+		else{
+			List<Particle> particles = new ArrayList<>();
+			for (State state : generator.getListStateReference()) {
+				Particle particle = new Particle();
+				particle.setStateActual(state);
+				particle.setStatePBest(state);
+				particles.add(particle);
 			}
-			count++;
+			setListParticle(particles);
 		}
 		return getListParticle();
 	}
@@ -290,61 +256,129 @@ public class ParticleSwarmOptimization extends Generator {
 		ParticleSwarmOptimization.countRef = countRef;
 	}
 
+	/**
+	 * @brief Obtiene los mejores locales de la corrida actual
+	 * @return Arreglo del StrategyContext ligado o el estático si no hay contexto
+	 */
+	public static State[] getLBest() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getLBest() : lBest;
+	}
+
+	public static void setLBest(State[] value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setLBest(value);
+		} else {
+			lBest = value;
+		}
+	}
+
+	/**
+	 * @brief Obtiene el mejor global de la corrida actual
+	 * @return Estado del StrategyContext ligado o el estático si no hay contexto
+	 */
+	public static State getGBest() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getGBest() : gBest;
+	}
+
+	public static void setGBest(State value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setGBest(value);
+		} else {
+			gBest = value;
+		}
+	}
+
+	public static int getCountParticle() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getCountParticle() : countParticle;
+	}
+
+	public static void setCountParticle(int value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setCountParticle(value);
+		} else {
+			countParticle = value;
+		}
+	}
+
+	public static int getCountCurrentIterPSO() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getCountCurrentIterPSO() : countCurrentIterPSO;
+	}
+
+	public static void setCountCurrentIterPSO(int value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setCountCurrentIterPSO(value);
+		} else {
+			countCurrentIterPSO = value;
+		}
+	}
+
 
 	//*****************************************
 	@Override
-	public void updateReference(State stateCandidate,Integer countIterationsCurrent) throws IllegalArgumentException,SecurityException, ClassNotFoundException, InstantiationException,IllegalAccessException, InvocationTargetException,NoSuchMethodException {
+	public void updateReference(State stateCandidate,int countIterationsCurrent) throws IllegalArgumentException,SecurityException, ClassNotFoundException, InstantiationException,IllegalAccessException, InvocationTargetException,NoSuchMethodException {
+		int countParticle = getCountParticle();
+		// generate ya avanzó el contador: al pasar la última partícula se vuelve a la primera
+		if (countParticle >= listParticle.size())
+			countParticle = 0;
+		State[] lBest = getLBest();
+		State gBest = getGBest();
 		Particle particle = new Particle();
 		particle = listParticle.get(countParticle);
 		int swarm = countParticle/countParticleBySwarm;
-		// Guard against null lBest entries
-		boolean maxim = true;
-		try {
-			if (Strategy.getStrategy() != null && Strategy.getStrategy().getProblem() != null) {
-				maxim = Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR);
-			}
-		} catch (Throwable t) {
-			maxim = true;
-		}
+		FitnessComparator fitness = fitness();
 		if (lBest == null || swarm < 0 || swarm >= lBest.length) {
 			// Ensure array sizing
 			int newSize = Math.max(1, coutSwarm);
 			State[] newLBest = new State[newSize];
 			if (lBest != null) System.arraycopy(lBest, 0, newLBest, 0, Math.min(lBest.length, newSize));
 			lBest = newLBest;
+			setLBest(lBest);
 		}
 		if (lBest[swarm] == null) {
 			lBest[swarm] = particle.getStatePBest();
 		}
-		if (maxim) {
-			if (lBest[swarm] != null && particle.getStatePBest() != null && lBest[swarm].getEvaluation().get(0) < particle.getStatePBest().getEvaluation().get(0)){
-				lBest[swarm] = particle.getStatePBest();
-				if(lBest[swarm] != null && !getReferenceList().isEmpty() && lBest[swarm].getEvaluation().get(0) > getReferenceList().get(getReferenceList().size() - 1).getEvaluation().get(0)){
-					gBest = new State();
-					gBest.setCode(new ArrayList<Object>(lBest[swarm].getCode()));
-					gBest.setEvaluation(lBest[swarm].getEvaluation());
-					gBest.setTypeGenerator(lBest[swarm].getTypeGenerator());
-				}
-			}
-		} else {
+		// solo al minimizar la partícula actualiza aquí su mejor posición personal
+		if (!fitness.isMaximize()) {
 			particle.updateReference(stateCandidate, countIterationsCurrent);
-			if (lBest[swarm] != null && particle.getStatePBest() != null && lBest[swarm].getEvaluation().get(0) > particle.getStatePBest().getEvaluation().get(0)){
-				lBest[swarm] = particle.getStatePBest();
-				if(lBest[swarm] != null && !getReferenceList().isEmpty() && lBest[swarm].getEvaluation().get(0) < getReferenceList().get(getReferenceList().size() - 1).getEvaluation().get(0)){
-					gBest = new State();
-					gBest.setCode(new ArrayList<Object>(lBest[swarm].getCode()));
-					gBest.setEvaluation(lBest[swarm].getEvaluation());
-					gBest.setTypeGenerator(lBest[swarm].getTypeGenerator());
-				}
+		}
+		if (lBest[swarm] != null && particle.getStatePBest() != null && fitness.isBetter(particle.getStatePBest().evalAt(0), lBest[swarm].evalAt(0))){
+			lBest[swarm] = particle.getStatePBest();
+			if(!getReferenceList().isEmpty() && fitness.isBetter(lBest[swarm].evalAt(0), getReferenceList().get(getReferenceList().size() - 1).evalAt(0))){
+				gBest = new State();
+				gBest.setCode(new ArrayList<Object>(lBest[swarm].getCode()));
+				gBest.setEvaluation(lBest[swarm].getEvaluation());
+				gBest.setTypeGenerator(lBest[swarm].getTypeGenerator());
 			}
 		}
+		setGBest(gBest);
 		listStateReference.add(gBest);
-		countParticle++;
-		countCurrentIterPSO++;
+		setCountParticle(countParticle + 1);
+		setCountCurrentIterPSO(getCountCurrentIterPSO() + 1);
 	}
 	
+	/**
+	 * @brief Sentido del objetivo del problema en curso
+	 * @return Comparador del problema; sin problema o sin tipo se maximiza
+	 */
+	private static FitnessComparator fitness() {
+		Problem problem = Strategy.getStrategy().getProblem();
+		if (problem == null || problem.getTypeProblem() == null) {
+			return FitnessComparator.MAXIMIZE;
+		}
+		return FitnessComparator.of(problem.getTypeProblem());
+	}
+
 	public State gBestInicial (){
 		// Find first non-null lBest to initialize
+		State[] lBest = getLBest();
 		State stateBest = null;
 		for (int i = 0; i < lBest.length; i++) {
 			if (lBest[i] != null) { stateBest = lBest[i]; break; }
@@ -354,22 +388,11 @@ public class ParticleSwarmOptimization extends Generator {
 			if (!listParticle.isEmpty() && listParticle.get(0).getStatePBest() != null) return listParticle.get(0).getStatePBest();
 			return null;
 		}
-		boolean maxim = true;
-		try {
-			if (Strategy.getStrategy() != null && Strategy.getStrategy().getProblem() != null) {
-				maxim = Strategy.getStrategy().getProblem().getTypeProblem().equals(ProblemType.MAXIMIZAR);
-			}
-		} catch (Throwable t) {
-			maxim = true;
-		}
+		FitnessComparator fitness = fitness();
 		for (int i = 0; i < lBest.length; i++) {
 			if (lBest[i] == null) continue;
 			try {
-				if (maxim) {
-					if (lBest[i].getEvaluation().get(0) > stateBest.getEvaluation().get(0)) stateBest = lBest[i];
-				} else {
-					if (lBest[i].getEvaluation().get(0) < stateBest.getEvaluation().get(0)) stateBest = lBest[i];
-				}
+				if (fitness.isBetter(lBest[i].evalAt(0), stateBest.evalAt(0))) stateBest = lBest[i];
 			} catch (Exception e) {
 				// ignore malformed evaluation
 			}
@@ -432,6 +455,11 @@ public class ParticleSwarmOptimization extends Generator {
 
 	@Override
 	public float[] getTrace() {
+		return this.listTrace.toArray();
+	}
+
+	@Override
+	public WeightTrace getWeightTrace() {
 		return this.listTrace;
 	}
 
@@ -17,6 +17,7 @@ import local_search.candidate_type.CandidateType;
 import local_search.candidate_type.CandidateValue;
 import local_search.complement.StrategyType;
 import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
 
 import problem.definition.State;
 
@@ -58,6 +59,28 @@ public class RandomSearch extends Generator {
 	
 	/** @brief Lista de estados de referencia para acceso desde algoritmos basados en poblaciones */
 	public static List<State> listStateReference = new ArrayList<State>();
+
+	/**
+	 * @brief Obtiene la lista de referencias de la corrida actual
+	 * @return Lista del StrategyContext ligado o la lista estática si no hay contexto
+	 */
+	public static List<State> getListStateReference() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getListStateReferenceRS() : listStateReference;
+	}
+
+	/**
+	 * @brief Establece la lista de referencias de la corrida actual
+	 * @param list Nueva lista de referencias
+	 */
+	public static void setListStateReference(List<State> list) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setListStateReferenceRS(list);
+		} else {
+			listStateReference = list;
+		}
+	}
 	
 	/** @brief Contador de mejoras por período para problemas dinámicos */
 	private int[] betterCountByPeriod = new int[10];
@@ -66,7 +89,7 @@ public class RandomSearch extends Generator {
 	private int[] usageCountByPeriod = new int[10];
 	
 	/** @brief Historial de trazas del peso */
-    private float[] listTrace = new float[1200000];
+    private WeightTrace listTrace = new WeightTrace(0);
 	
 	/**
 	 * @brief Constructor por defecto de búsqueda aleatoria
@@ -82,20 +105,22 @@ public class RandomSearch extends Generator {
 		this.candidatevalue = new CandidateValue();
 		this.typeGenerator = GeneratorType.RANDOM_SEARCH;
 		this.weight = 50;
-		listTrace[0] = this.weight;
+		listTrace.record(0, this.weight);
 		betterCountByPeriod[0] = 0;
 		usageCountByPeriod[0] = 0;
-		listStateReference = new ArrayList<State>();
+		setListStateReference(new ArrayList<State>());
 	}
 	
 	@Override
 	public State generate(Integer operatornumber) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		//ArrayList<State>list =new ArrayList<State>();
 		List<State> neighborhood = new ArrayList<State>();
-		neighborhood = Strategy.getStrategy().getProblem().getOperator().generateRandomState(operatornumber);
+		// RandomCandidate elige uno de varios estados aleatorios independientes: basta con generar uno
+		int count = typeCandidate == CandidateType.RANDOM_CANDIDATE && !strategy.equals(StrategyType.TABU) ? 1 : operatornumber;
+		neighborhood = Strategy.getStrategy().getProblem().getOperator().generateRandomState(count);
 	    State statecandidate = candidatevalue.stateCandidate(stateReferenceRS, typeCandidate, strategy, operatornumber, neighborhood);
 	    if(GeneticAlgorithm.countRef != 0 || EvolutionStrategies.countRef != 0 || DistributionEstimationAlgorithm.countRef != 0 || ParticleSwarmOptimization.countRef != 0)
-	    	listStateReference.add(statecandidate);
+	    	getListStateReference().add(statecandidate);
 	    return statecandidate;
 	}
 
@@ -110,7 +135,7 @@ public class RandomSearch extends Generator {
 	}
 
 	@Override
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException,	IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+	public void updateReference(State stateCandidate, int countIterationsCurrent) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException,	IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		ifacceptCandidate = new FactoryAcceptCandidate();
 		AcceptableCandidate candidate = ifacceptCandidate.createAcceptCandidate(typeAcceptation);
 		Boolean accept = candidate.acceptCandidate(stateReferenceRS, stateCandidate);
@@ -135,6 +160,7 @@ public class RandomSearch extends Generator {
 
 	@Override
 	public List<State> getReferenceList() {
+		List<State> listStateReference = getListStateReference();
 		listStateReference.add(stateReferenceRS);
 		return listStateReference;
 	}
@@ -177,6 +203,11 @@ public class RandomSearch extends Generator {
 	@Override
 	public float[] getTrace() {
 		// TODO Auto-generated method stub
+		return this.listTrace.toArray();
+	}
+
+	@Override
+	public WeightTrace getWeightTrace() {
 		return this.listTrace;
 	}
 
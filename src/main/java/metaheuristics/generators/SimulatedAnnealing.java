@@ -17,6 +17,7 @@ import local_search.candidate_type.CandidateType;
 import local_search.candidate_type.CandidateValue;
 import local_search.complement.StrategyType;
 import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
 
 import problem.definition.State;
 
@@ -81,7 +82,7 @@ public class SimulatedAnnealing extends Generator {
 	private int[] usageCountByPeriod = new int[10];
 	
 	/** @brief Historial de trazas del peso */
-    private float[] listTrace = new float[1200000];
+    private WeightTrace listTrace = new WeightTrace(0);
 
 
     public GeneratorType getTypeGenerator() {
@@ -92,6 +93,59 @@ public class SimulatedAnnealing extends Generator {
 		this.typeGenerator = typeGenerator;
 	}
 
+	/**
+	 * @brief Obtiene la temperatura actual de la corrida
+	 * @return Temperatura del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static Double getTinitial() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getTinitial() : tinitial;
+	}
+
+	/**
+	 * @brief Establece la temperatura actual de la corrida
+	 * @param value Nueva temperatura
+	 */
+	public static void setTinitial(Double value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setTinitial(value);
+		} else {
+			tinitial = value;
+		}
+	}
+
+	/**
+	 * @brief Obtiene el factor de enfriamiento de la corrida
+	 * @return Alpha del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static Double getAlpha() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getAlpha() : alpha;
+	}
+
+	/**
+	 * @brief Obtiene la próxima iteración de enfriamiento de la corrida
+	 * @return Valor del StrategyContext ligado o el valor estático si no hay contexto
+	 */
+	public static int getCountIterationsT() {
+		StrategyContext context = StrategyContext.current();
+		return context != null ? context.getCountIterationsT() : countIterationsT;
+	}
+
+	/**
+	 * @brief Establece la próxima iteración de enfriamiento de la corrida
+	 * @param value Nueva iteración de enfriamiento
+	 */
+	public static void setCountIterationsT(int value) {
+		StrategyContext context = StrategyContext.current();
+		if (context != null) {
+			context.setCountIterationsT(value);
+		} else {
+			countIterationsT = value;
+		}
+	}
+
 	public SimulatedAnnealing(){
 
     	super();
@@ -106,7 +160,7 @@ public class SimulatedAnnealing extends Generator {
 		this.candidatevalue = new CandidateValue();
 		this.typeGenerator = GeneratorType.SIMULATED_ANNEALING;
 		this.weight = 50;
-		listTrace[0] = this.weight;
+		listTrace.record(0, this.weight);
 		betterCountByPeriod[0] = 0;
 		usageCountByPeriod[0] = 0;
     }
@@ -114,9 +168,7 @@ public class SimulatedAnnealing extends Generator {
 	@Override
 	public State generate(Integer operatornumber) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		//<State>list=new ArrayList<State>();
-		List<State> neighborhood = new ArrayList<State>();
-		neighborhood = Strategy.getStrategy().getProblem().getOperator().generatedNewState(stateReferenceSA, operatornumber);
-	    State statecandidate = candidatevalue.stateCandidate(stateReferenceSA, typeCandidate, strategy, operatornumber, neighborhood);
+	    State statecandidate = candidatevalue.stateCandidate(stateReferenceSA, typeCandidate, strategy, operatornumber);
 	   // list.add(statecandidate);
 	    return statecandidate;
 	}
@@ -136,16 +188,17 @@ public class SimulatedAnnealing extends Generator {
 	}
 
 	@Override
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent)throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+	public void updateReference(State stateCandidate, int countIterationsCurrent)throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		int countIterationsT = getCountIterationsT();
 		countRept = countIterationsT;
 		ifacceptCandidate = new FactoryAcceptCandidate();
 		AcceptableCandidate candidate = ifacceptCandidate.createAcceptCandidate(typeAcceptation);
 		Boolean accept = candidate.acceptCandidate(stateReferenceSA, stateCandidate);
 		if(accept.equals(true))
 		  stateReferenceSA = stateCandidate;
-		if(countIterationsCurrent.equals(countIterationsT)){
-			tinitial = tinitial * alpha;
-			countIterationsT = countIterationsT + countRept;
+		if(countIterationsCurrent == countIterationsT){
+			setTinitial(getTinitial() * getAlpha());
+			setCountIterationsT(countIterationsT + countRept);
 		}
 //		getReferenceList();
 	}
@@ -199,6 +252,11 @@ public class SimulatedAnnealing extends Generator {
 	@Override
 	public float[] getTrace() {
 		// TODO Auto-generated method stub
+		return this.listTrace.toArray();
+	}
+
+	@Override
+	public WeightTrace getWeightTrace() {
 		return this.listTrace;
 	}
 
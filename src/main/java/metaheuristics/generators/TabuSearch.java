@@ -50,7 +50,7 @@ public class TabuSearch extends Generator {
 	//problemas dinamicos
 	private int[] betterCountByPeriod = new int[10];
 	private int[] usageCountByPeriod = new int[10];
-    private float[] listTrace = new float[1200000];
+    private WeightTrace listTrace = new WeightTrace(0);
 
 
     public GeneratorType getTypeGenerator() {
@@ -79,7 +79,7 @@ public class TabuSearch extends Generator {
 		this.candidatevalue = new CandidateValue();
 		this.typeGenerator = GeneratorType.TABU_SEARCH;
 		this.weight = 50;
-		listTrace[0] = this.weight;
+		listTrace.record(0, this.weight);
 		betterCountByPeriod[0] = 0;
 		usageCountByPeriod[0] = 0;
 		
@@ -88,9 +88,7 @@ public class TabuSearch extends Generator {
 	@Override
 	public State generate(Integer operatornumber) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		//ArrayList<State>list=new ArrayList<State>();
-		List<State> neighborhood = new ArrayList<State>();
-		neighborhood = Strategy.getStrategy().getProblem().getOperator().generatedNewState(stateReferenceTS, operatornumber);
-	    State statecandidate = candidatevalue.stateCandidate(stateReferenceTS, typeCandidate, strategy, operatornumber, neighborhood);
+	    State statecandidate = candidatevalue.stateCandidate(stateReferenceTS, typeCandidate, strategy, operatornumber);
 	   // list.add(statecandidate);
 	    return statecandidate;
 	}
@@ -110,7 +108,7 @@ public class TabuSearch extends Generator {
 	}
 
 	@Override            //******************no lo entiendo
-	public void updateReference(State stateCandidate, Integer countIterationsCurrent)throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+	public void updateReference(State stateCandidate, int countIterationsCurrent)throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
 		ifacceptCandidate = new FactoryAcceptCandidate();
 		AcceptableCandidate candidate = ifacceptCandidate.createAcceptCandidate(typeAcceptation);
 		Boolean acept = candidate.acceptCandidate(stateReferenceTS, stateCandidate);
@@ -118,32 +116,7 @@ public class TabuSearch extends Generator {
 			stateReferenceTS = stateCandidate;
 
 		if (strategy.equals(StrategyType.TABU) && acept.equals(true)) {
-			if (TabuSolutions.listTabu.size() < TabuSolutions.maxelements) {
-				Boolean find = false;
-				int count = 0;
-				while ((TabuSolutions.listTabu.size() > count) && (find.equals(false))) {
-					if ((TabuSolutions.listTabu.get(count).Comparator(stateCandidate))==true) {
-						find = true;
-					}
-					count++;
-				}
-				if (find.equals(false)) {
-					TabuSolutions.listTabu.add(stateCandidate);
-				}
-			} else {
-				TabuSolutions.listTabu.remove(0);
-				Boolean find = false;
-				int count = 0;
-				while (TabuSolutions.listTabu.size() > count && find.equals(false)) {
-					if ((TabuSolutions.listTabu.get(count).Comparator(stateCandidate))==true) {
-						find = true;
-					}
-					count++;
-				}
-				if (find.equals(false)) {
-					TabuSolutions.listTabu.add(stateCandidate);
-				}
-			}
+			TabuSolutions.addTabu(stateCandidate, candidatevalue.getLastMove());
 		}
 //		getReferenceList();
 	}
@@ -199,6 +172,11 @@ public class TabuSearch extends Generator {
 	@Override
 	public float[] getTrace() {
 		// TODO Auto-generated method stub
+		return this.listTrace.toArray();
+	}
+
+	@Override
+	public WeightTrace getWeightTrace() {
 		return this.listTrace;
 	}
 
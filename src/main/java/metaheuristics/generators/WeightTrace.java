@@ -0,0 +1,346 @@
+/**
+ * @file WeightTrace.java
+ * @brief Historial compacto del peso de un generador por iteración
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+package metaheuristics.generators;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * @class WeightTrace
+ * @brief Traza del peso de un generador que crece por bloques bajo demanda
+ *
+ * Sustituye al antiguo arreglo fijo de 1.200.000 posiciones. El peso inicial
+ * se guarda aparte, por lo que un generador que nunca participa en el
+ * portafolio de MultiGenerator no reserva ningún bloque. Los bloques se
+ * crean al registrar la primera iteración que cae en ellos y, si se activa
+ * el volcado, los más antiguos se escriben a disco para acotar la memoria en
+ * corridas largas. El volcado se activa para una traza con spillTo, o para
+ * todas con setSpillDirectory: en ese caso cada traza abre su propio archivo
+ * temporal cuando supera getSpillResidentChunks() bloques en memoria y lo
+ * borra al cerrarse. Las iteraciones no registradas valen 0, igual que en el
+ * arreglo original.
+ */
+public class WeightTrace {
+
+	/** @brief Cantidad de iteraciones por bloque */
+	public static final int CHUNK_SIZE = 4096;
+
+	private static final int CHUNK_BYTES = CHUNK_SIZE * Float.BYTES;
+
+	/** @brief Directorio del volcado automático, null si está desactivado */
+	private static volatile Path spillDirectory;
+
+	/** @brief Bloques en memoria a partir de los cuales se activa el volcado automático */
+	private static volatile int spillResidentChunks = 64;
+
+	/** @brief Peso registrado en la iteración 0 si no se sobrescribe */
+	private float initial;
+
+	/** @brief Bloques en memoria; null si no existe o está en disco */
+	private float[][] chunks = new float[0][];
+
+	/** @brief Marca de los bloques volcados a disco */
+	private boolean[] spilled = new boolean[0];
+
+	/** @brief Número de iteraciones cubiertas por la traza */
+	private int size = 1;
+
+	/** @brief Archivo de volcado, null si el volcado está desactivado */
+	private FileChannel spillChannel;
+
+	/** @brief Bloques que pueden permanecer en memoria con el volcado activo */
+	private int maxResidentChunks;
+
+	/** @brief Bloques actualmente en memoria */
+	private int residentChunks;
+
+	/**
+	 * @brief Crea una traza cuyo valor en la iteración 0 es el peso inicial
+	 * @param initial Peso inicial del generador
+	 */
+	public WeightTrace(float initial) {
+		this.initial = initial;
+	}
+
+	/**
+	 * @brief Directorio donde las trazas crean su archivo de volcado automático
+	 * @param directory Directorio existente, o null para no volcar a disco
+	 */
+	public static void setSpillDirectory(Path directory) {
+		spillDirectory = directory;
+	}
+
+	public static Path getSpillDirectory() {
+		return spillDirectory;
+	}
+
+	/**
+	 * @brief Bloques que una traza mantiene en memoria con el volcado automático
+	 * @param chunks Límite de bloques residentes, al menos 1
+	 */
+	public static void setSpillResidentChunks(int chunks) {
+		if (chunks < 1) {
+			throw new IllegalArgumentException("chunks must be >= 1: " + chunks);
+		}
+		spillResidentChunks = chunks;
+	}
+
+	public static int getSpillResidentChunks() {
+		return spillResidentChunks;
+	}
+
+	/**
+	 * @brief Registra el peso de una iteración
+	 * @param iteration Iteración, mayor o igual que 0
+	 * @param weight Peso en esa iteración
+	 */
+	public void record(int iteration, float weight) {
+		if (iteration < 0) {
+			throw new IllegalArgumentException("iteration must be >= 0: " + iteration);
+		}
+		if (iteration == 0) {
+			initial = weight;
+		} else {
+			chunkFor(iteration / CHUNK_SIZE)[iteration % CHUNK_SIZE] = weight;
+		}
+		if (iteration >= size) {
+			size = iteration + 1;
+		}
+	}
+
+	/**
+	 * @brief Obtiene el peso de una iteración
+	 * @param iteration Iteración consultada
+	 * @return Peso registrado, o 0 si la iteración nunca se registró
+	 */
+	public float get(int iteration) {
+		if (iteration < 0 || iteration >= size) {
+			throw new IndexOutOfBoundsException("iteration " + iteration + ", size " + size);
+		}
+		if (iteration == 0) {
+			return initial;
+		}
+		int index = iteration / CHUNK_SIZE;
+		if (index >= chunks.length) {
+			return 0;
+		}
+		if (chunks[index] != null) {
+			return chunks[index][iteration % CHUNK_SIZE];
+		}
+		if (spilled[index]) {
+			ByteBuffer buffer = ByteBuffer.allocate(Float.BYTES);
+			readFully(buffer, (long) iteration * Float.BYTES);
+			return buffer.getFloat(0);
+		}
+		return 0;
+	}
+
+	/**
+	 * @brief Número de iteraciones cubiertas, es decir, la última registrada más uno
+	 * @return Tamaño de la traza
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @brief Bloques reservados en memoria
+	 * @return Cantidad de bloques residentes
+	 */
+	public int getResidentChunks() {
+		return residentChunks;
+	}
+
+	/**
+	 * @brief Copia la traza completa, incluyendo los bloques volcados a disco
+	 * @return Arreglo de longitud size()
+	 */
+	public float[] toArray() {
+		float[] result = new float[size];
+		for (int index = 0; index < chunks.length; index++) {
+			int from = index * CHUNK_SIZE;
+			int length = Math.min(CHUNK_SIZE, size - from);
+			if (chunks[index] != null) {
+				System.arraycopy(chunks[index], 0, result, from, length);
+			} else if (spilled[index]) {
+				ByteBuffer buffer = ByteBuffer.allocate(length * Float.BYTES);
+				readFully(buffer, (long) from * Float.BYTES);
+				buffer.flip();
+				buffer.asFloatBuffer().get(result, from, length);
+			}
+		}
+		result[0] = initial;
+		return result;
+	}
+
+	/**
+	 * @brief Activa el volcado a disco de los bloques más antiguos
+	 *
+	 * Los bloques ya reservados que excedan el límite se vuelcan de inmediato.
+	 * El archivo se crea o se trunca y queda abierto hasta llamar a close().
+	 *
+	 * @param file Archivo de volcado
+	 * @param maxResidentChunks Bloques que pueden quedar en memoria, al menos 1
+	 * @throws IOException Si no se puede abrir el archivo
+	 */
+	public void spillTo(Path file, int maxResidentChunks) throws IOException {
+		if (maxResidentChunks < 1) {
+			throw new IllegalArgumentException("maxResidentChunks must be >= 1: " + maxResidentChunks);
+		}
+		close();
+		openSpill(file, maxResidentChunks, StandardOpenOption.TRUNCATE_EXISTING);
+		evictIfNeeded(-1);
+	}
+
+	/**
+	 * @brief Carga en memoria los bloques volcados y cierra el archivo de volcado
+	 */
+	public void close() {
+		if (spillChannel == null) {
+			return;
+		}
+		for (int index = 0; index < chunks.length; index++) {
+			if (spilled[index]) {
+				float[] chunk = new float[CHUNK_SIZE];
+				ByteBuffer buffer = ByteBuffer.allocate(CHUNK_BYTES);
+				readFully(buffer, (long) index * CHUNK_BYTES);
+				buffer.flip();
+				buffer.asFloatBuffer().get(chunk, 0, buffer.remaining() / Float.BYTES);
+				chunks[index] = chunk;
+				spilled[index] = false;
+				residentChunks++;
+			}
+		}
+		closeChannel();
+	}
+
+	/**
+	 * @brief Descarta la traza y borra el archivo de volcado automático
+	 *
+	 * Generator.release() lo llama cuando Strategy libera el generador. A
+	 * diferencia de close(), no carga los bloques volcados: la traza queda
+	 * vacía con el peso inicial.
+	 */
+	public void release() {
+		chunks = new float[0][];
+		spilled = new boolean[0];
+		residentChunks = 0;
+		size = 1;
+		if (spillChannel != null) {
+			closeChannel();
+		}
+	}
+
+	private void openSpill(Path file, int maxResidentChunks, OpenOption extra) throws IOException {
+		spillChannel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE, extra);
+		Arrays.fill(spilled, false);
+		this.maxResidentChunks = maxResidentChunks;
+	}
+
+	/**
+	 * @brief Abre un archivo temporal en spillDirectory si la traza supera el límite
+	 */
+	private void spillIfConfigured() {
+		Path directory = spillDirectory;
+		int limit = spillResidentChunks;
+		if (spillChannel != null || directory == null || residentChunks <= limit) {
+			return;
+		}
+		try {
+			Path file = Files.createTempFile(directory, "weight-trace", ".bin");
+			openSpill(file, limit, StandardOpenOption.DELETE_ON_CLOSE);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private void closeChannel() {
+		try {
+			spillChannel.close();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		} finally {
+			spillChannel = null;
+		}
+	}
+
+	private float[] chunkFor(int index) {
+		if (index >= chunks.length) {
+			int capacity = Math.max(index + 1, chunks.length * 2);
+			chunks = Arrays.copyOf(chunks, capacity);
+			spilled = Arrays.copyOf(spilled, capacity);
+		}
+		float[] chunk = chunks[index];
+		if (chunk == null) {
+			chunk = new float[CHUNK_SIZE];
+			if (spilled[index]) {
+				ByteBuffer buffer = ByteBuffer.allocate(CHUNK_BYTES);
+				readFully(buffer, (long) index * CHUNK_BYTES);
+				buffer.flip();
+				buffer.asFloatBuffer().get(chunk, 0, buffer.remaining() / Float.BYTES);
+				spilled[index] = false;
+			}
+			chunks[index] = chunk;
+			residentChunks++;
+			spillIfConfigured();
+			evictIfNeeded(index);
+		}
+		return chunk;
+	}
+
+	/**
+	 * @brief Vuelca los bloques de menor índice hasta respetar el límite
+	 * @param keep Bloque que no debe volcarse por estar en uso, o -1
+	 */
+	private void evictIfNeeded(int keep) {
+		if (spillChannel == null) {
+			return;
+		}
+		int index = 0;
+		while (residentChunks > maxResidentChunks) {
+			while (chunks[index] == null || index == keep) {
+				index++;
+			}
+			ByteBuffer buffer = ByteBuffer.allocate(CHUNK_BYTES);
+			buffer.asFloatBuffer().put(chunks[index]);
+			long position = (long) index * CHUNK_BYTES;
+			try {
+				while (buffer.hasRemaining()) {
+					position += spillChannel.write(buffer, position);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			chunks[index] = null;
+			spilled[index] = true;
+			residentChunks--;
+		}
+	}
+
+	private void readFully(ByteBuffer buffer, long position) {
+		try {
+			while (buffer.hasRemaining()) {
+				int read = spillChannel.read(buffer, position);
+				if (read < 0) {
+					break;
+				}
+				position += read;
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/**
+ * @file BitState.java
+ * @brief Estado binario guardado en un BitSet.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package problem.definition;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+
+/**
+ * @class BitState
+ * @brief Cadena de bits de longitud fija, un bit por gen.
+ *
+ * getCode() devuelve Integer 0/1 por cada gen, la misma representación que
+ * usan PSO binario y los problemas de mochila. setCode() acepta Number
+ * (distinto de cero es 1) o Boolean.
+ */
+public class BitState extends VectorState {
+
+	/** Bits activos de la solución */
+	protected BitSet bits;
+
+	/** Número de genes; BitSet no guarda su longitud lógica */
+	protected int length;
+
+	/**
+	 * @brief Crea una cadena de n bits a cero.
+	 *
+	 * @param length Número de genes
+	 */
+	public BitState(int length) {
+		super();
+		this.bits = new BitSet(length);
+		this.length = length;
+	}
+
+	/**
+	 * @brief Crea una cadena a partir de una codificación de objetos.
+	 *
+	 * @param code Codificación con valores Number o Boolean
+	 */
+	public BitState(ArrayList<Object> code) {
+		super();
+		setCode(code);
+	}
+
+	/**
+	 * @brief Acceso directo al BitSet, sin copia.
+	 *
+	 * @return BitSet interno; los cambios se reflejan en el estado
+	 */
+	public BitSet getBits() {
+		return bits;
+	}
+
+	public boolean get(int i) {
+		return bits.get(i);
+	}
+
+	public void set(int i, boolean value) {
+		bits.set(i, value);
+	}
+
+	public void flip(int i) {
+		bits.flip(i);
+	}
+
+	/**
+	 * @brief Número de bits a uno.
+	 *
+	 * @return Cardinalidad del conjunto
+	 */
+	public int cardinality() {
+		return bits.cardinality();
+	}
+
+	@Override
+	public int size() {
+		return length;
+	}
+
+	@Override
+	public double valueAt(int i) {
+		return bits.get(i) ? 1 : 0;
+	}
+
+	@Override
+	public void setValueAt(int i, double value) {
+		bits.set(i, value != 0);
+	}
+
+	@Override
+	public void copyRange(VectorState source, int from, int to) {
+		if (source instanceof BitState) {
+			BitSet other = ((BitState) source).bits;
+			for (int i = from; i < to; i++) {
+				bits.set(i, other.get(i));
+			}
+		} else {
+			for (int i = from; i < to; i++) {
+				setValueAt(i, source.valueAt(i));
+			}
+		}
+	}
+
+	@Override
+	protected Object boxedAt(int i) {
+		return bits.get(i) ? 1 : 0;
+	}
+
+	@Override
+	protected boolean sameValues(VectorState other) {
+		BitState state = (BitState) other;
+		return length == state.length && bits.equals(state.bits);
+	}
+
+	@Override
+	public double Distance(State state) {
+		if (state instanceof BitState) {
+			BitSet diff = (BitSet) bits.clone();
+			diff.xor(((BitState) state).bits);
+			return diff.cardinality();
+		}
+		return super.Distance(state);
+	}
+
+	@Override
+	public void setCode(ArrayList<Object> listCode) {
+		length = listCode == null ? 0 : listCode.size();
+		bits = new BitSet(length);
+		for (int i = 0; i < length; i++) {
+			Object value = listCode.get(i);
+			if (value instanceof Boolean ? (Boolean) value : ((Number) value).doubleValue() != 0) {
+				bits.set(i);
+			}
+		}
+	}
+
+	@Override
+	public State getCopy() {
+		BitState copy = new BitState(length);
+		copy.bits = (BitSet) bits.clone();
+		return copyHeaderTo(copy);
+	}
+}
@@ -0,0 +1,124 @@
+/**
+ * @file DoubleVectorState.java
+ * @brief Estado con codificación real guardada en un double[].
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package problem.definition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * @class DoubleVectorState
+ * @brief Vector de genes reales sin boxing, pensado para PSO y problemas continuos.
+ *
+ * getCode() devuelve Double por cada gen.
+ */
+public class DoubleVectorState extends VectorState {
+
+	/** Genes de la solución */
+	protected double[] genes;
+
+	/**
+	 * @brief Crea un vector de n genes a cero.
+	 *
+	 * @param size Número de genes
+	 */
+	public DoubleVectorState(int size) {
+		super();
+		this.genes = new double[size];
+	}
+
+	/**
+	 * @brief Crea un vector con una copia de los genes dados.
+	 *
+	 * @param genes Valores iniciales
+	 */
+	public DoubleVectorState(double[] genes) {
+		super();
+		this.genes = genes.clone();
+	}
+
+	/**
+	 * @brief Crea un vector a partir de una codificación de objetos numéricos.
+	 *
+	 * @param code Codificación con valores Number
+	 */
+	public DoubleVectorState(ArrayList<Object> code) {
+		super();
+		setCode(code);
+	}
+
+	/**
+	 * @brief Acceso directo al array de genes, sin copia.
+	 *
+	 * @return Array interno; los cambios se reflejan en el estado
+	 */
+	public double[] getGenes() {
+		return genes;
+	}
+
+	public double getGene(int i) {
+		return genes[i];
+	}
+
+	public void setGene(int i, double value) {
+		genes[i] = value;
+	}
+
+	@Override
+	public int size() {
+		return genes.length;
+	}
+
+	@Override
+	public double valueAt(int i) {
+		return genes[i];
+	}
+
+	@Override
+	public void setValueAt(int i, double value) {
+		genes[i] = value;
+	}
+
+	@Override
+	public void copyRange(VectorState source, int from, int to) {
+		if (source instanceof DoubleVectorState) {
+			System.arraycopy(((DoubleVectorState) source).genes, from, genes, from, to - from);
+		} else {
+			for (int i = from; i < to; i++) {
+				genes[i] = source.valueAt(i);
+			}
+		}
+	}
+
+	@Override
+	protected Object boxedAt(int i) {
+		return genes[i];
+	}
+
+	@Override
+	protected boolean sameValues(VectorState other) {
+		return Arrays.equals(genes, ((DoubleVectorState) other).genes);
+	}
+
+	@Override
+	public void setCode(ArrayList<Object> listCode) {
+		int size = listCode == null ? 0 : listCode.size();
+		if (genes == null || genes.length != size) {
+			genes = new double[size];
+		}
+		for (int i = 0; i < size; i++) {
+			genes[i] = ((Number) listCode.get(i)).doubleValue();
+		}
+	}
+
+	@Override
+	public State getCopy() {
+		return copyHeaderTo(new DoubleVectorState(genes));
+	}
+}
@@ -0,0 +1,147 @@
+/**
+ * @file FitnessCache.java
+ * @brief Caché acotada de evaluaciones indexada por la codificación del estado.
+ *
+ * Evita volver a llamar a las funciones objetivo para codificaciones ya
+ * evaluadas. Es opcional: Problem solo la usa si se ha configurado.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package problem.definition;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @class FitnessCache
+ * @brief Caché LRU de evaluaciones con contadores de aciertos y fallos.
+ *
+ * La clave es la codificación del estado con su hash precalculado; la igualdad
+ * se comprueba sobre la lista completa para que una colisión de hash no
+ * devuelva la evaluación de otro estado. Los métodos están sincronizados para
+ * poder usarse desde los evaluadores paralelos.
+ */
+public class FitnessCache {
+
+	/** Número máximo de entradas antes de expulsar la menos usada */
+	private final int maxSize;
+
+	/** Entradas en orden de acceso (LRU) */
+	private final LinkedHashMap<CodeKey, ArrayList<Double>> entries;
+
+	/** Consultas resueltas desde la caché */
+	private long hits;
+
+	/** Consultas que tuvieron que evaluarse */
+	private long misses;
+
+	/**
+	 * @brief Crea una caché con capacidad máxima.
+	 *
+	 * @param maxSize Número máximo de evaluaciones guardadas
+	 */
+	public FitnessCache(int maxSize) {
+		if (maxSize <= 0) {
+			throw new IllegalArgumentException("maxSize must be positive");
+		}
+		this.maxSize = maxSize;
+		this.entries = new LinkedHashMap<CodeKey, ArrayList<Double>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<CodeKey, ArrayList<Double>> eldest) {
+				return size() > FitnessCache.this.maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @brief Asigna al estado la evaluación guardada para su codificación.
+	 *
+	 * @param state Estado a buscar
+	 * @return true si había evaluación en caché y se asignó al estado
+	 */
+	public synchronized boolean lookup(State state) {
+		ArrayList<Double> evaluation = entries.get(new CodeKey(state.codeView()));
+		if (evaluation == null) {
+			misses++;
+			return false;
+		}
+		hits++;
+		state.setEvaluation(new ArrayList<Double>(evaluation));
+		return true;
+	}
+
+	/**
+	 * @brief Guarda la evaluación actual del estado.
+	 *
+	 * @param state Estado ya evaluado
+	 */
+	public synchronized void store(State state) {
+		ArrayList<Double> evaluation = state.getEvaluation();
+		if (evaluation != null) {
+			entries.put(new CodeKey(state.getCode()), evaluation);
+		}
+	}
+
+	/**
+	 * @brief Vacía la caché, por ejemplo tras un cambio del entorno dinámico.
+	 */
+	public synchronized void invalidateAll() {
+		entries.clear();
+	}
+
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public int getMaxSize() {
+		return maxSize;
+	}
+
+	/**
+	 * @class CodeKey
+	 * @brief Codificación con hash precalculado usada como clave.
+	 */
+	private static final class CodeKey {
+
+		private final List<Object> code;
+
+		private final int hash;
+
+		CodeKey(List<Object> code) {
+			this.code = code;
+			this.hash = code.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof CodeKey)) {
+				return false;
+			}
+			CodeKey other = (CodeKey) obj;
+			return hash == other.hash && code.equals(other.code);
+		}
+	}
+}
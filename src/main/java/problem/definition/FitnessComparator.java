@@ -0,0 +1,163 @@
+/**
+ * @file FitnessComparator.java
+ * @brief Comparación de evaluaciones según el sentido del problema.
+ *
+ * Reúne en un solo lugar la decisión MAXIMIZAR/MINIMIZAR que antes se
+ * repetía en cada generador, criterio de aceptación y operador evolutivo.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package problem.definition;
+
+import java.util.Comparator;
+import java.util.List;
+
+import problem.definition.Problem.ProblemType;
+
+/**
+ * @class FitnessComparator
+ * @brief Compara valores de aptitud primitivos en el sentido del objetivo.
+ *
+ * Solo existen dos instancias, MAXIMIZE y MINIMIZE, que se obtienen una vez a
+ * partir de Problem.getTypeProblem(). El sentido se guarda como un signo, de
+ * modo que cada comparación es una multiplicación y una comparación de
+ * doubles, sin ramas ni encapsulado. Como Comparator de State ordena del peor
+ * al mejor según el primer objetivo.
+ */
+public final class FitnessComparator implements Comparator<State> {
+
+	/** Comparador para problemas de maximización */
+	public static final FitnessComparator MAXIMIZE = new FitnessComparator(1.0);
+
+	/** Comparador para problemas de minimización */
+	public static final FitnessComparator MINIMIZE = new FitnessComparator(-1.0);
+
+	/** 1 si se maximiza, -1 si se minimiza */
+	private final double sign;
+
+	private FitnessComparator(double sign) {
+		this.sign = sign;
+	}
+
+	/**
+	 * @brief Comparador correspondiente a un tipo de problema
+	 * @param typeProblem Tipo del problema; null se trata como minimización
+	 * @return MAXIMIZE o MINIMIZE
+	 */
+	public static FitnessComparator of(ProblemType typeProblem) {
+		return typeProblem == ProblemType.MAXIMIZAR ? MAXIMIZE : MINIMIZE;
+	}
+
+	/**
+	 * @brief Comparador correspondiente a un problema
+	 * @param problem Problema; null se trata como minimización
+	 * @return MAXIMIZE o MINIMIZE
+	 */
+	public static FitnessComparator of(Problem problem) {
+		return problem == null ? MINIMIZE : of(problem.getTypeProblem());
+	}
+
+	/**
+	 * @brief Indica si el comparador es el de maximización
+	 * @return true para MAXIMIZE
+	 */
+	public boolean isMaximize() {
+		return sign > 0;
+	}
+
+	/**
+	 * @brief Indica si un valor es estrictamente mejor que otro
+	 * @param candidate Valor candidato
+	 * @param reference Valor de referencia
+	 * @return true si candidate mejora a reference
+	 */
+	public boolean isBetter(double candidate, double reference) {
+		return sign * candidate > sign * reference;
+	}
+
+	/**
+	 * @brief Indica si un valor es mejor o igual que otro
+	 * @param candidate Valor candidato
+	 * @param reference Valor de referencia
+	 * @return true si candidate no empeora a reference
+	 */
+	public boolean isBetterOrEqual(double candidate, double reference) {
+		return sign * candidate >= sign * reference;
+	}
+
+	/**
+	 * @brief Indica si un valor empeora a otro en menos de una tolerancia
+	 * @param candidate Valor candidato
+	 * @param reference Valor de referencia
+	 * @param tolerance Empeoramiento admitido, no negativo
+	 * @return true si candidate es mejor que reference desplazado tolerance hacia el peor lado
+	 */
+	public boolean isWithin(double candidate, double reference, double tolerance) {
+		return sign * candidate > sign * reference - tolerance;
+	}
+
+	/**
+	 * @brief Compara dos valores en el sentido del objetivo
+	 * @param a Primer valor
+	 * @param b Segundo valor
+	 * @return Negativo si a es peor, 0 si empatan y positivo si a es mejor
+	 */
+	public int compare(double a, double b) {
+		return Double.compare(sign * a, sign * b);
+	}
+
+	/**
+	 * @brief Compara dos estados por su primer objetivo
+	 * @param a Primer estado
+	 * @param b Segundo estado
+	 * @return Negativo si a es peor, 0 si empatan y positivo si a es mejor
+	 */
+	@Override
+	public int compare(State a, State b) {
+		return compare(a.evalAt(0), b.evalAt(0));
+	}
+
+	/**
+	 * @brief Primer estado con el mejor valor del primer objetivo
+	 * @param states Lista no vacía
+	 * @return El mejor estado; en caso de empate el de menor índice
+	 */
+	public State best(List<State> states) {
+		State best = states.get(0);
+		double value = best.evalAt(0);
+		for (int i = 1; i < states.size(); i++) {
+			double current = states.get(i).evalAt(0);
+			if (isBetter(current, value)) {
+				value = current;
+				best = states.get(i);
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * @brief Primer estado con el peor valor del primer objetivo
+	 * @param states Lista no vacía
+	 * @return El peor estado; en caso de empate el de menor índice
+	 */
+	public State worst(List<State> states) {
+		State worst = states.get(0);
+		double value = worst.evalAt(0);
+		for (int i = 1; i < states.size(); i++) {
+			double current = states.get(i).evalAt(0);
+			if (isBetter(value, current)) {
+				value = current;
+				worst = states.get(i);
+			}
+		}
+		return worst;
+	}
+
+	@Override
+	public String toString() {
+		return isMaximize() ? "MAXIMIZE" : "MINIMIZE";
+	}
+}
@@ -0,0 +1,70 @@
+/**
+ * @file GeneMove.java
+ * @brief Movimiento que asigna un nuevo valor a una posición de la codificación.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package problem.definition;
+
+import java.util.Objects;
+
+/**
+ * @class GeneMove
+ * @brief Cambio de una variable: posición y valor nuevo.
+ */
+public class GeneMove extends Move {
+
+	/** Posición modificada */
+	private final int index;
+
+	/** Valor asignado a la posición */
+	private final Object value;
+
+	public GeneMove(int index, Object value) {
+		this.index = index;
+		this.value = value;
+	}
+
+	public int getIndex() {
+		return index;
+	}
+
+	public Object getValue() {
+		return value;
+	}
+
+	@Override
+	public void apply(State state) {
+		state.setCodeAt(index, value);
+	}
+
+	@Override
+	public int[] positions() {
+		return new int[] {index};
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof GeneMove)) {
+			return false;
+		}
+		GeneMove other = (GeneMove) obj;
+		return index == other.index && Objects.equals(value, other.value);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * index + Objects.hashCode(value);
+	}
+
+	@Override
+	public String toString() {
+		return "GeneMove[" + index + "=" + value + "]";
+	}
+}
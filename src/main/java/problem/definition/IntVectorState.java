@@ -0,0 +1,125 @@
+/**
+ * @file IntVectorState.java
+ * @brief Estado con codificación de enteros guardada en un int[].
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package problem.definition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * @class IntVectorState
+ * @brief Vector de genes enteros sin boxing.
+ *
+ * getCode() devuelve Integer por cada gen, igual que un State cuya
+ * codificación se hubiera construido con enteros.
+ */
+public class IntVectorState extends VectorState {
+
+	/** Genes de la solución */
+	protected int[] genes;
+
+	/**
+	 * @brief Crea un vector de n genes a cero.
+	 *
+	 * @param size Número de genes
+	 */
+	public IntVectorState(int size) {
+		super();
+		this.genes = new int[size];
+	}
+
+	/**
+	 * @brief Crea un vector con una copia de los genes dados.
+	 *
+	 * @param genes Valores iniciales
+	 */
+	public IntVectorState(int[] genes) {
+		super();
+		this.genes = genes.clone();
+	}
+
+	/**
+	 * @brief Crea un vector a partir de una codificación de objetos numéricos.
+	 *
+	 * @param code Codificación con valores Number
+	 */
+	public IntVectorState(ArrayList<Object> code) {
+		super();
+		setCode(code);
+	}
+
+	/**
+	 * @brief Acceso directo al array de genes, sin copia.
+	 *
+	 * @return Array interno; los cambios se reflejan en el estado
+	 */
+	public int[] getGenes() {
+		return genes;
+	}
+
+	public int getGene(int i) {
+		return genes[i];
+	}
+
+	public void setGene(int i, int value) {
+		genes[i] = value;
+	}
+
+	@Override
+	public int size() {
+		return genes.length;
+	}
+
+	@Override
+	public double valueAt(int i) {
+		return genes[i];
+	}
+
+	@Override
+	public void setValueAt(int i, double value) {
+		genes[i] = (int) Math.round(value);
+	}
+
+	@Override
+	public void copyRange(VectorState source, int from, int to) {
+		if (source instanceof IntVectorState) {
+			System.arraycopy(((IntVectorState) source).genes, from, genes, from, to - from);
+		} else {
+			for (int i = from; i < to; i++) {
+				setValueAt(i, source.valueAt(i));
+			}
+		}
+	}
+
+	@Override
+	protected Object boxedAt(int i) {
+		return genes[i];
+	}
+
+	@Override
+	protected boolean sameValues(VectorState other) {
+		return Arrays.equals(genes, ((IntVectorState) other).genes);
+	}
+
+	@Override
+	public void setCode(ArrayList<Object> listCode) {
+		int size = listCode == null ? 0 : listCode.size();
+		if (genes == null || genes.length != size) {
+			genes = new int[size];
+		}
+		for (int i = 0; i < size; i++) {
+			genes[i] = ((Number) listCode.get(i)).intValue();
+		}
+	}
+
+	@Override
+	public State getCopy() {
+		return copyHeaderTo(new IntVectorState(genes));
+	}
+}
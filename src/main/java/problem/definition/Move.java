@@ -0,0 +1,50 @@
+/**
+ * @file Move.java
+ * @brief Movimiento de vecindad: describe cómo obtener un vecino a partir de un estado.
+ *
+ * Un operador puede emitir movimientos en lugar de estados completos. Así la
+ * función objetivo puede puntuar el vecino con evaluateDelta() sin copiar
+ * la codificación, y solo se construye el State del vecino elegido.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package problem.definition;
+
+/**
+ * @class Move
+ * @brief Cambio local sobre la codificación de un estado.
+ */
+public abstract class Move {
+
+	/**
+	 * @brief Aplica el movimiento sobre el propio estado.
+	 *
+	 * @param state Estado a modificar
+	 */
+	public abstract void apply(State state);
+
+	/**
+	 * @brief Posiciones de la codificación que modifica el movimiento.
+	 *
+	 * @return Índices afectados
+	 */
+	public abstract int[] positions();
+
+	/**
+	 * @brief Construye el vecino: copia el estado base y le aplica el movimiento.
+	 *
+	 * La copia conserva la evaluación del estado base; quien la use debe
+	 * asignarle la evaluación del vecino.
+	 *
+	 * @param base Estado de partida, no se modifica
+	 * @return Nuevo estado vecino
+	 */
+	public State applyTo(State base) {
+		State state = base.getCopy();
+		apply(state);
+		return state;
+	}
+}
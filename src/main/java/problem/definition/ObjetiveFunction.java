@@ -69,4 +69,32 @@ public abstract class ObjetiveFunction {
 	 * @return Valor de evaluación
 	 */
 	public abstract Double Evaluation(State state);
+
+	/**
+	 * @brief Indica si evaluateDelta() es más barata que una evaluación completa.
+	 * 
+	 * Los generadores de búsqueda local solo puntúan vecinos con
+	 * evaluateDelta() cuando este método devuelve true.
+	 * 
+	 * @return false por defecto
+	 */
+	public boolean supportsDelta() {
+		return false;
+	}
+
+	/**
+	 * @brief Variación del valor objetivo al aplicar un movimiento.
+	 * 
+	 * Las subclases que lo sobrescriban (por ejemplo, un TSP que solo
+	 * recalcula las aristas afectadas por un intercambio) deben devolver
+	 * supportsDelta() == true. La implementación por defecto evalúa por
+	 * completo el estado base y el vecino.
+	 * 
+	 * @param base Estado de partida, no se modifica
+	 * @param move Movimiento a puntuar
+	 * @return Valor del vecino menos valor del estado base
+	 */
+	public Double evaluateDelta(State base, Move move) {
+		return Evaluation(move.applyTo(base)) - Evaluation(base);
+	}
 }
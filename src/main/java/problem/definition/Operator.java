@@ -14,6 +14,8 @@
 package problem.definition;
 
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
 
 /**
  * @class Operator
@@ -38,5 +40,54 @@ public abstract class Operator {
 		 */
 		public abstract List<State> generateRandomState (Integer operatornumber);
 
+		/**
+		 * @brief Genera los movimientos del vecindario sin construir los estados.
+		 * 
+		 * Los operadores que lo implementen permiten puntuar vecinos con
+		 * ObjetiveFunction.evaluateDelta() y materializar solo el elegido.
+		 * 
+		 * @param stateCurrent Estado actual desde el cual generar
+		 * @param operatornumber Número de movimientos a generar
+		 * @return Lista de movimientos, o null si el operador no los admite
+		 */
+		public List<Move> generatedMoves(State stateCurrent, Integer operatornumber) {
+			return null;
+		}
+
+		/**
+		 * @brief Genera el vecindario bajo demanda.
+		 * 
+		 * Cada vecino se construye cuando se pide, de modo que quien consuma
+		 * el vecindario puede detenerse antes y solo mantiene en memoria los
+		 * vecinos que conserva. Por defecto se construye a partir de
+		 * generatedMoves(); los operadores sin movimientos pueden redefinirlo
+		 * para generar sus vecinos de uno en uno.
+		 * 
+		 * @param stateCurrent Estado actual desde el cual generar
+		 * @param operatornumber Número de vecinos
+		 * @return Spliterator de tamaño operatornumber, o null si el operador solo genera listas
+		 */
+		public Spliterator<State> generatedNeighbors(State stateCurrent, Integer operatornumber) {
+			List<Move> moves = generatedMoves(stateCurrent, operatornumber);
+			if (moves == null) {
+				return null;
+			}
+			return moves.stream().map(move -> move.applyTo(stateCurrent)).spliterator();
+		}
+
+		/**
+		 * @brief Genera estados aleatorios bajo demanda.
+		 * 
+		 * Por defecto cada estado se obtiene con generateRandomState(1) al
+		 * pedirlo. Si el Spliterator se divide para procesarlo en paralelo,
+		 * generateRandomState() debe ser seguro entre hilos.
+		 * 
+		 * @param operatornumber Número de estados aleatorios
+		 * @return Spliterator de tamaño operatornumber
+		 */
+		public Spliterator<State> generatedRandomStates(Integer operatornumber) {
+			return IntStream.range(0, operatornumber).mapToObj(i -> generateRandomState(1).get(0)).spliterator();
+		}
+
 	}
 
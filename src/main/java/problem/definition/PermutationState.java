@@ -0,0 +1,77 @@
+/**
+ * @file PermutationState.java
+ * @brief Estado cuya codificación es una permutación de 0..n-1.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package problem.definition;
+
+import java.util.ArrayList;
+
+/**
+ * @class PermutationState
+ * @brief Vector de enteros que representa un orden, por ejemplo una ruta TSP.
+ *
+ * No se valida en cada asignación porque los operadores genéricos pueden
+ * producir vectores intermedios; isPermutation() permite comprobarlo.
+ */
+public class PermutationState extends IntVectorState {
+
+	public PermutationState(int[] genes) {
+		super(genes);
+	}
+
+	public PermutationState(ArrayList<Object> code) {
+		super(code);
+	}
+
+	/**
+	 * @brief Crea la permutación identidad 0, 1, ..., n-1.
+	 *
+	 * @param size Número de elementos
+	 * @return Nueva permutación
+	 */
+	public static PermutationState identity(int size) {
+		int[] genes = new int[size];
+		for (int i = 0; i < size; i++) {
+			genes[i] = i;
+		}
+		return new PermutationState(genes);
+	}
+
+	/**
+	 * @brief Intercambia dos posiciones de la permutación.
+	 *
+	 * @param i Primera posición
+	 * @param j Segunda posición
+	 */
+	public void swap(int i, int j) {
+		int tmp = genes[i];
+		genes[i] = genes[j];
+		genes[j] = tmp;
+	}
+
+	/**
+	 * @brief Comprueba que los genes son una permutación de 0..n-1.
+	 *
+	 * @return true si cada valor aparece exactamente una vez
+	 */
+	public boolean isPermutation() {
+		boolean[] seen = new boolean[genes.length];
+		for (int gene : genes) {
+			if (gene < 0 || gene >= genes.length || seen[gene]) {
+				return false;
+			}
+			seen[gene] = true;
+		}
+		return true;
+	}
+
+	@Override
+	public State getCopy() {
+		return copyHeaderTo(new PermutationState(genes));
+	}
+}
@@ -14,7 +14,11 @@
 package problem.definition;
 import java.lang.reflect.InvocationTargetException;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
 
+import problem.extension.BatchEvaluator;
+import problem.extension.SequentialEvaluator;
 import problem.extension.SolutionMethod;
 import problem.extension.TypeSolutionMethod;
 
@@ -58,6 +62,15 @@ public class Problem {
 	/** Fábrica para crear métodos de solución */
 	private IFFactorySolutionMethod factorySolutionMethod;
 	
+	/** Caché opcional de evaluaciones; null si está desactivada */
+	private FitnessCache fitnessCache;
+	
+	/** Estrategia de evaluación de lotes usada por evaluateAll */
+	private BatchEvaluator evaluator = new SequentialEvaluator();
+
+	/** Evaluaciones realizadas por Evaluate; LongAdder porque los evaluadores paralelos lo incrementan a la vez */
+	private final LongAdder evaluationCount = new LongAdder();
+	
 	/**
 	 * @brief Constructor por defecto.
 	 */
@@ -116,6 +129,9 @@ public class Problem {
 	 * 
 	 * Si no hay método de solución definido, usa la primera función objetivo.
 	 * Si hay método de solución (multi-objetivo), lo utiliza para evaluar.
+	 * Con una FitnessCache configurada, las codificaciones ya evaluadas toman
+	 * la evaluación guardada sin llamar a la función objetivo. Cada evaluación
+	 * que no sale de la caché se suma a getEvaluationCount().
 	 * 
 	 * @param state Estado a evaluar
 	 * @throws IllegalArgumentException Si los argumentos son inválidos
@@ -127,19 +143,78 @@ public class Problem {
 	 * @throws NoSuchMethodException Si no se encuentra el método
 	 */
 	public void Evaluate(State state) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
-		double eval = 0;       
-		ArrayList<Double> evaluation = new ArrayList<Double>(this.function.size());
+		if (fitnessCache != null && fitnessCache.lookup(state)) {
+			return;
+		}
+		evaluationCount.increment();
 		if (typeSolutionMethod == null) {
-			eval= function.get(0).Evaluation(state);
-			evaluation.add(evaluation.size(), eval);
-			state.setEvaluation(evaluation);
+			ArrayList<Double> evaluation = new ArrayList<Double>(1);
+			evaluation.add(function.get(0).Evaluation(state));
+			state.adoptEvaluation(evaluation); // la lista es nueva: no hace falta la copia defensiva
 		}
 		else {
 			SolutionMethod method = newSolutionMethod(typeSolutionMethod);
 			method.evaluationState(state);
 		}
+		if (fitnessCache != null) {
+			fitnessCache.store(state);
+		}
 	}
 	
+	/**
+	 * @brief Evalúa un lote de estados con el evaluador configurado.
+	 * 
+	 * Cada estado se evalúa con Evaluate; el evaluador decide si se hace en
+	 * secuencia o en paralelo. Las funciones objetivo deben ser seguras entre
+	 * hilos cuando se usa un evaluador paralelo.
+	 * 
+	 * @param states Estados a evaluar
+	 * @throws IllegalArgumentException Si los argumentos son inválidos
+	 * @throws SecurityException Si hay violación de seguridad
+	 * @throws ClassNotFoundException Si no se encuentra la clase
+	 * @throws InstantiationException Si falla la instanciación
+	 * @throws IllegalAccessException Si el acceso es ilegal
+	 * @throws InvocationTargetException Si falla la invocación
+	 * @throws NoSuchMethodException Si no se encuentra el método
+	 */
+	public void evaluateAll(List<State> states) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		evaluator.evaluateAll(this, states);
+	}
+
+	/**
+	 * @brief Número de evaluaciones realizadas por Evaluate.
+	 * 
+	 * No incluye las respuestas de la caché de evaluaciones. Se acumula
+	 * durante toda la vida del problema; los criterios de parada restan el
+	 * valor que tenía al comenzar la corrida.
+	 * 
+	 * @return Evaluaciones realizadas
+	 */
+	public long getEvaluationCount() {
+		return evaluationCount.sum();
+	}
+
+	public FitnessCache getFitnessCache() {
+		return fitnessCache;
+	}
+
+	/**
+	 * @brief Activa o desactiva la caché de evaluaciones.
+	 * 
+	 * @param fitnessCache Caché a usar, o null para desactivarla
+	 */
+	public void setFitnessCache(FitnessCache fitnessCache) {
+		this.fitnessCache = fitnessCache;
+	}
+
+	public BatchEvaluator getEvaluator() {
+		return evaluator;
+	}
+
+	public void setEvaluator(BatchEvaluator evaluator) {
+		this.evaluator = evaluator;
+	}
+
 	public TypeSolutionMethod getTypeSolutionMethod() {
 		return typeSolutionMethod;
 	}
@@ -16,6 +16,8 @@ package problem.definition;
 
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import metaheuristics.generators.GeneratorType;
 
@@ -36,6 +38,12 @@ public class State {
 	
 	/** Codificación del estado (representación de la solución) */
 	protected ArrayList<Object> code;
+
+	/** Si es true, getCopy() comparte code y evaluation con la copia hasta la primera escritura */
+	private static volatile boolean copyOnWrite = false;
+
+	/** Indica que code puede estar compartido con otra copia y debe duplicarse antes de escribir */
+	private boolean codeShared;
 	
 	/**
 	 * @brief Constructor de copia.
@@ -78,6 +86,55 @@ public class State {
 
 	public void setCode(ArrayList<Object> listCode) {
 		this.code = listCode == null ? new ArrayList<Object>() : new ArrayList<Object>(listCode);
+		this.codeShared = false;
+	}
+
+	/**
+	 * @brief Valor de la posición i de la codificación, sin copiar la lista.
+	 *
+	 * @param i Posición
+	 * @return Valor de la posición
+	 */
+	public Object codeAt(int i) {
+		return code.get(i);
+	}
+
+	/**
+	 * @brief Asigna la posición i de la codificación.
+	 *
+	 * En modo copy-on-write duplica antes la lista si está compartida con
+	 * otra copia.
+	 *
+	 * @param i Posición
+	 * @param value Nuevo valor
+	 */
+	public void setCodeAt(int i, Object value) {
+		if (codeShared) {
+			code = new ArrayList<Object>(code);
+			codeShared = false;
+		}
+		code.set(i, value);
+	}
+
+	/**
+	 * @brief Longitud de la codificación, sin copiar la lista.
+	 *
+	 * @return Número de posiciones
+	 */
+	public int codeSize() {
+		return code == null ? 0 : code.size();
+	}
+
+	/**
+	 * @brief Vista de solo lectura de la codificación.
+	 *
+	 * No copia los datos; refleja la codificación actual hasta el próximo
+	 * setCode(). Los intentos de modificación lanzan UnsupportedOperationException.
+	 *
+	 * @return Vista inmodificable
+	 */
+	public List<Object> codeView() {
+		return code == null ? Collections.emptyList() : Collections.unmodifiableList(code);
 	}
 
 	public GeneratorType getTypeGenerator() {
@@ -96,6 +153,64 @@ public class State {
 		this.evaluation = evaluation == null ? null : new ArrayList<Double>(evaluation);
 	}
 
+	/**
+	 * @brief Asigna una evaluación recién construida sin copiarla.
+	 *
+	 * Solo para listas que nadie más referencia, como la que arma
+	 * Problem.Evaluate para cada estado.
+	 *
+	 * @param evaluation Lista de evaluación que pasa a ser propiedad del estado
+	 */
+	void adoptEvaluation(ArrayList<Double> evaluation) {
+		this.evaluation = evaluation;
+	}
+
+	/**
+	 * @brief Valor de la función objetivo i, sin copiar la lista.
+	 *
+	 * @param i Índice del objetivo
+	 * @return Evaluación del objetivo
+	 */
+	public double evalAt(int i) {
+		return evaluation.get(i);
+	}
+
+	/**
+	 * @brief Número de objetivos evaluados.
+	 *
+	 * @return Tamaño de la evaluación, 0 si el estado no está evaluado
+	 */
+	public int evalSize() {
+		return evaluation == null ? 0 : evaluation.size();
+	}
+
+	/**
+	 * @brief Vista de solo lectura de la evaluación.
+	 *
+	 * @return Vista inmodificable, o null si el estado no está evaluado
+	 */
+	public List<Double> evaluationView() {
+		return evaluation == null ? null : Collections.unmodifiableList(evaluation);
+	}
+
+	/**
+	 * @brief Activa o desactiva el modo copy-on-write de getCopy().
+	 *
+	 * Con el modo activo, getCopy() no duplica las listas: la copia y el
+	 * original las comparten y la primera escritura con setCodeAt() duplica
+	 * la codificación. getCode() y getEvaluation() siguen devolviendo copias
+	 * defensivas en ambos modos.
+	 *
+	 * @param enabled true para compartir las listas entre copias
+	 */
+	public static void setCopyOnWrite(boolean enabled) {
+		copyOnWrite = enabled;
+	}
+
+	public static boolean isCopyOnWrite() {
+		return copyOnWrite;
+	}
+
 	public int getNumber() {
 		return number;
 	}
@@ -112,6 +227,14 @@ public class State {
 		State s = new State();
 		s.typeGenerator = this.typeGenerator;
 		s.number = this.number;
+		if (copyOnWrite && this.code != null) {
+			// setCode y setEvaluation reemplazan la lista, así que compartirla es seguro
+			s.code = this.code;
+			s.evaluation = this.evaluation;
+			s.codeShared = true;
+			this.codeShared = true;
+			return s;
+		}
 		s.code = this.code == null ? new ArrayList<Object>() : new ArrayList<Object>(this.code);
 		s.evaluation = this.evaluation == null ? null : new ArrayList<Double>(this.evaluation);
 		return s;
@@ -126,7 +249,7 @@ public class State {
 	public boolean Comparator(State state){
 
 		boolean result=false;
-		if(state.getCode().equals(getCode())){
+		if(state.codeView().equals(codeView())){
 			result=true;
 		}
 		return result;
@@ -142,8 +265,9 @@ public class State {
 	 */
 	public double Distance(State state){
 		double distancia = 0;
-		for (int i = 0; i < state.getCode().size(); i++) {
-			if (!(state.getCode().get(i).equals(this.getCode().get(i)))) {
+		ArrayList<Object> other = state.getCode();
+		for (int i = 0; i < other.size(); i++) {
+			if (!(other.get(i).equals(this.codeAt(i)))) {
 				distancia++;
 			}
 		}
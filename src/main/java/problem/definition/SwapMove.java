@@ -0,0 +1,77 @@
+/**
+ * @file SwapMove.java
+ * @brief Movimiento que intercambia dos posiciones de la codificación.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package problem.definition;
+
+/**
+ * @class SwapMove
+ * @brief Intercambio de dos posiciones, el vecindario habitual en permutaciones (TSP).
+ *
+ * Dos intercambios de las mismas posiciones son iguales sin importar el orden.
+ */
+public class SwapMove extends Move {
+
+	/** Primera posición */
+	private final int first;
+
+	/** Segunda posición */
+	private final int second;
+
+	public SwapMove(int first, int second) {
+		this.first = first;
+		this.second = second;
+	}
+
+	public int getFirst() {
+		return first;
+	}
+
+	public int getSecond() {
+		return second;
+	}
+
+	@Override
+	public void apply(State state) {
+		if (state instanceof PermutationState) {
+			((PermutationState) state).swap(first, second);
+			return;
+		}
+		Object tmp = state.codeAt(first);
+		state.setCodeAt(first, state.codeAt(second));
+		state.setCodeAt(second, tmp);
+	}
+
+	@Override
+	public int[] positions() {
+		return new int[] {first, second};
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof SwapMove)) {
+			return false;
+		}
+		SwapMove other = (SwapMove) obj;
+		return Math.min(first, second) == Math.min(other.first, other.second)
+				&& Math.max(first, second) == Math.max(other.first, other.second);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Math.min(first, second) + Math.max(first, second);
+	}
+
+	@Override
+	public String toString() {
+		return "SwapMove[" + first + "<->" + second + "]";
+	}
+}
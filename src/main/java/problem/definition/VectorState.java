@@ -0,0 +1,170 @@
+/**
+ * @file VectorState.java
+ * @brief Base de los estados cuya codificación es un vector de primitivos.
+ *
+ * Las subclases guardan los genes en arrays de tipos primitivos en lugar de
+ * un ArrayList<Object>. La API de State se mantiene: getCode() y setCode()
+ * convierten entre el array y la lista de objetos, de modo que el código
+ * existente sigue funcionando, y los operadores que conocen esta clase pueden
+ * trabajar directamente sobre los valores sin boxing.
+ *
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+
+package problem.definition;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * @class VectorState
+ * @brief Estado con codificación vectorial de acceso indexado sin boxing.
+ *
+ * El campo code heredado no se usa; los valores viven en el array de cada
+ * subclase.
+ */
+public abstract class VectorState extends State {
+
+	protected VectorState() {
+		super();
+		code = null;
+	}
+
+	/**
+	 * @brief Número de genes de la codificación.
+	 *
+	 * @return Longitud del vector
+	 */
+	public abstract int size();
+
+	/**
+	 * @brief Valor numérico del gen i.
+	 *
+	 * @param i Posición del gen
+	 * @return Valor del gen como double
+	 */
+	public abstract double valueAt(int i);
+
+	/**
+	 * @brief Asigna el gen i a partir de un valor numérico.
+	 *
+	 * Cada subclase convierte el valor a su tipo (redondeo para enteros,
+	 * distinto de cero para bits).
+	 *
+	 * @param i Posición del gen
+	 * @param value Nuevo valor
+	 */
+	public abstract void setValueAt(int i, double value);
+
+	/**
+	 * @brief Copia los genes [from, to) de otro vector del mismo tamaño.
+	 *
+	 * @param source Vector origen
+	 * @param from Primera posición (incluida)
+	 * @param to Última posición (excluida)
+	 */
+	public abstract void copyRange(VectorState source, int from, int to);
+
+	/**
+	 * @brief Gen i como objeto, tal y como aparece en getCode().
+	 *
+	 * @param i Posición del gen
+	 * @return Valor encapsulado
+	 */
+	protected abstract Object boxedAt(int i);
+
+	/**
+	 * @brief Compara los valores con otro vector de la misma clase.
+	 *
+	 * @param other Vector de la misma clase que este
+	 * @return true si todos los genes coinciden
+	 */
+	protected abstract boolean sameValues(VectorState other);
+
+	@Override
+	public ArrayList<Object> getCode() {
+		int size = size();
+		ArrayList<Object> list = new ArrayList<Object>(size);
+		for (int i = 0; i < size; i++) {
+			list.add(boxedAt(i));
+		}
+		return list;
+	}
+
+	@Override
+	public Object codeAt(int i) {
+		return boxedAt(i);
+	}
+
+	@Override
+	public void setCodeAt(int i, Object value) {
+		setValueAt(i, ((Number) value).doubleValue());
+	}
+
+	@Override
+	public int codeSize() {
+		return size();
+	}
+
+	@Override
+	public List<Object> codeView() {
+		return new CodeView();
+	}
+
+	/**
+	 * @brief Copia a otro estado el tipo de generador, número y evaluación.
+	 *
+	 * @param target Estado destino, normalmente la copia de este
+	 * @return El estado destino
+	 */
+	protected <T extends State> T copyHeaderTo(T target) {
+		target.typeGenerator = this.typeGenerator;
+		target.number = this.number;
+		target.evaluation = this.evaluation == null ? null : new ArrayList<Double>(this.evaluation);
+		return target;
+	}
+
+	@Override
+	public boolean Comparator(State state) {
+		if (state != null && state.getClass() == getClass()) {
+			return sameValues((VectorState) state);
+		}
+		return super.Comparator(state);
+	}
+
+	@Override
+	public double Distance(State state) {
+		if (state != null && state.getClass() == getClass()) {
+			VectorState other = (VectorState) state;
+			double distancia = 0;
+			for (int i = 0; i < other.size(); i++) {
+				if (Double.compare(other.valueAt(i), valueAt(i)) != 0) {
+					distancia++;
+				}
+			}
+			return distancia;
+		}
+		return super.Distance(state);
+	}
+
+	/**
+	 * @class CodeView
+	 * @brief Vista de solo lectura que encapsula cada gen al leerlo.
+	 */
+	private final class CodeView extends AbstractList<Object> implements RandomAccess {
+
+		@Override
+		public Object get(int index) {
+			return boxedAt(index);
+		}
+
+		@Override
+		public int size() {
+			return VectorState.this.size();
+		}
+	}
+}
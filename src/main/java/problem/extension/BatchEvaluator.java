@@ -0,0 +1,93 @@
+/**
+ * @file BatchEvaluator.java
+ * @brief Clase abstracta base para la evaluación de lotes de estados.
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+package problem.extension;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+import metaheurictics.strategy.StrategyContext;
+import problem.definition.Problem;
+import problem.definition.State;
+
+/**
+ * @class BatchEvaluator
+ * @brief Estrategia de evaluación usada por Problem.evaluateAll.
+ * 
+ * Las implementaciones paralelas propagan el StrategyContext del hilo que
+ * llama a los hilos de trabajo, de modo que las funciones objetivo que
+ * consultan Strategy.getStrategy() ven la misma corrida.
+ */
+public abstract class BatchEvaluator {
+
+	/**
+	 * @brief Evalúa todos los estados de la lista con Problem.Evaluate.
+	 * 
+	 * @param problem Problema cuyas funciones objetivo se aplican
+	 * @param states Estados a evaluar
+	 */
+	public abstract void evaluateAll(Problem problem, List<State> states) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException;
+
+	/**
+	 * @brief Libera los hilos propios del evaluador, si los tiene.
+	 */
+	public void shutdown() {
+	}
+
+	/**
+	 * @brief Crea una tarea por estado ligada al contexto del hilo actual.
+	 */
+	protected static List<Callable<Void>> tasks(Problem problem, List<State> states) {
+		StrategyContext context = StrategyContext.current();
+		List<Callable<Void>> tasks = new ArrayList<Callable<Void>>(states.size());
+		for (State state : states) {
+			Callable<Void> task = () -> {
+				problem.Evaluate(state);
+				return null;
+			};
+			tasks.add(context == null ? task : () -> context.callWorker(task));
+		}
+		return tasks;
+	}
+
+	/**
+	 * @brief Espera a que terminen las tareas y relanza el primer error encontrado.
+	 */
+	protected static void await(List<Future<Void>> futures) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		try {
+			for (Future<Void> future : futures) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		} catch (ExecutionException e) {
+			rethrow(e.getCause());
+		}
+	}
+
+	/**
+	 * @brief Relanza la causa de un fallo en otro hilo con su tipo original.
+	 * 
+	 * Las excepciones comprobadas que no son de la lista estándar se
+	 * envuelven en IllegalStateException.
+	 */
+	public static void rethrow(Throwable cause) throws ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+		if (cause instanceof Error) throw (Error) cause;
+		if (cause instanceof ClassNotFoundException) throw (ClassNotFoundException) cause;
+		if (cause instanceof InstantiationException) throw (InstantiationException) cause;
+		if (cause instanceof IllegalAccessException) throw (IllegalAccessException) cause;
+		if (cause instanceof InvocationTargetException) throw (InvocationTargetException) cause;
+		if (cause instanceof NoSuchMethodException) throw (NoSuchMethodException) cause;
+		throw new IllegalStateException(cause);
+	}
+}
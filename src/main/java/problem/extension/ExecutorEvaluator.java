@@ -0,0 +1,62 @@
+/**
+ * @file ExecutorEvaluator.java
+ * @brief Evaluación paralela de lotes de estados sobre un pool de hilos acotado.
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+package problem.extension;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import problem.definition.Problem;
+import problem.definition.State;
+
+/**
+ * @class ExecutorEvaluator
+ * @brief Evalúa los lotes en un pool fijo con cola acotada.
+ * 
+ * Cuando la cola se llena la tarea se ejecuta en el hilo que llama, lo que
+ * limita la memoria pendiente y frena al productor en lugar de rechazar trabajo.
+ */
+public class ExecutorEvaluator extends BatchEvaluator {
+
+	/** Pool de hilos de evaluación */
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * @brief Crea un evaluador con un número fijo de hilos.
+	 * 
+	 * @param threads Número de hilos
+	 * @param queueCapacity Número máximo de evaluaciones en cola
+	 */
+	public ExecutorEvaluator(int threads, int queueCapacity) {
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(queueCapacity), new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	@Override
+	public void evaluateAll(Problem problem, List<State> states) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		if (states.size() <= 1) {
+			for (State state : states) {
+				problem.Evaluate(state);
+			}
+			return;
+		}
+		try {
+			await(executor.invokeAll(tasks(problem, states)));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,67 @@
+/**
+ * @file ForkJoinEvaluator.java
+ * @brief Evaluación paralela de lotes de estados sobre un ForkJoinPool.
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+package problem.extension;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import problem.definition.Problem;
+import problem.definition.State;
+
+/**
+ * @class ForkJoinEvaluator
+ * @brief Reparte la evaluación de un lote entre los hilos de un ForkJoinPool.
+ * 
+ * Por defecto usa el pool común; con un paralelismo explícito crea un pool
+ * propio que se libera con shutdown().
+ */
+public class ForkJoinEvaluator extends BatchEvaluator {
+
+	/** Pool donde se ejecutan las evaluaciones */
+	private final ForkJoinPool pool;
+
+	/** Indica si el pool es propio y debe cerrarse */
+	private final boolean ownsPool;
+
+	/**
+	 * @brief Crea un evaluador sobre el ForkJoinPool común.
+	 */
+	public ForkJoinEvaluator() {
+		this.pool = ForkJoinPool.commonPool();
+		this.ownsPool = false;
+	}
+
+	/**
+	 * @brief Crea un evaluador con un ForkJoinPool propio.
+	 * 
+	 * @param parallelism Número de hilos del pool
+	 */
+	public ForkJoinEvaluator(int parallelism) {
+		this.pool = new ForkJoinPool(parallelism);
+		this.ownsPool = true;
+	}
+
+	@Override
+	public void evaluateAll(Problem problem, List<State> states) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		if (states.size() <= 1) {
+			for (State state : states) {
+				problem.Evaluate(state);
+			}
+			return;
+		}
+		await(pool.invokeAll(tasks(problem, states)));
+	}
+
+	@Override
+	public void shutdown() {
+		if (ownsPool) {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,28 @@
+/**
+ * @file SequentialEvaluator.java
+ * @brief Evaluación secuencial de lotes de estados.
+ * @author BiCIAM
+ * @version 1.0
+ * @date 2025
+ */
+package problem.extension;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+import problem.definition.Problem;
+import problem.definition.State;
+
+/**
+ * @class SequentialEvaluator
+ * @brief Evalúa los estados uno tras otro en el hilo que llama (comportamiento por defecto).
+ */
+public class SequentialEvaluator extends BatchEvaluator {
+
+	@Override
+	public void evaluateAll(Problem problem, List<State> states) throws IllegalArgumentException, SecurityException, ClassNotFoundException, InstantiationException, IllegalAccessException, InvocationTargetException, NoSuchMethodException {
+		for (int i = 0; i < states.size(); i++) {
+			problem.Evaluate(states.get(i));
+		}
+	}
+}
@@ -12,6 +12,8 @@ import java.util.List;
 
 import metaheurictics.strategy.Strategy;
 
+import problem.definition.GeneMove;
+import problem.definition.Move;
 import problem.definition.Operator;
 import problem.definition.State;
 
@@ -37,14 +39,28 @@ public class MutationOperator extends Operator {
     @Override
     public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
         List<State> listNeigborhood = new ArrayList<>();
+        for (Move move : generatedMoves(stateCurrent, operatornumber)) {
+            listNeigborhood.add(move.applyTo(stateCurrent));
+        }
+        return listNeigborhood;
+    }
+
+    /**
+     * @brief Genera los cambios de una variable que forman el vecindario.
+     * 
+     * @param stateCurrent Estado actual
+     * @param operatornumber Número de movimientos a generar
+     * @return Lista de movimientos (posición y valor nuevo)
+     */
+    @Override
+    public List<Move> generatedMoves(State stateCurrent, Integer operatornumber) {
+        List<Move> moves = new ArrayList<>(operatornumber);
         for (int i = 0; i < operatornumber; i++) {
             int key = Strategy.getStrategy().getProblem().getCodification().getAleatoryKey();
             Object candidate = Strategy.getStrategy().getProblem().getCodification().getVariableAleatoryValue(key);
-            State state = stateCurrent.getCopy();
-            state.getCode().set(key, candidate);
-            listNeigborhood.add(state);
+            moves.add(new GeneMove(key, candidate));
         }
-        return listNeigborhood;
+        return moves;
     }
 
     /**
@@ -0,0 +1,142 @@
+package config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import metaheurictics.strategy.StrategyContext;
+
+@DisplayName("Tests para RandomService")
+class RandomServiceTest {
+
+    @AfterEach
+    void tearDown() {
+        RandomService.setEngineType(RandomEngineType.SPLITTABLE_RANDOM);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomEngineType.class)
+    @DisplayName("La misma semilla produce la misma secuencia")
+    void testSameSeedSameSequence(RandomEngineType type) {
+        RandomEngine a = type.create(42L);
+        RandomEngine b = type.create(42L);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.nextLong(), b.nextLong());
+        }
+        assertNotEquals(type.create(1L).nextLong(), type.create(2L).nextLong());
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomEngineType.class)
+    @DisplayName("Los motores divididos generan secuencias distintas")
+    void testSplitDiffers(RandomEngineType type) {
+        RandomEngine parent = type.create(7L);
+        RandomEngine child = parent.split();
+        boolean differs = false;
+        for (int i = 0; i < 10 && !differs; i++) {
+            differs = parent.nextLong() != child.nextLong();
+        }
+        assertTrue(differs);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RandomEngineType.class)
+    @DisplayName("nextInt y nextDouble respetan sus rangos")
+    void testBounds(RandomEngineType type) {
+        RandomEngine engine = type.create(3L);
+        for (int i = 0; i < 1000; i++) {
+            int value = engine.nextInt(7);
+            assertTrue(value >= 0 && value < 7);
+            double d = engine.nextDouble();
+            assertTrue(d >= 0.0 && d < 1.0);
+        }
+        assertEquals(0, engine.nextInt(1));
+        assertThrows(IllegalArgumentException.class, () -> engine.nextInt(0));
+    }
+
+    @Test
+    @DisplayName("nextDoubles equivale a extracciones sucesivas de nextDouble")
+    void testBulkMatchesSequential() {
+        double[] bulk = new double[16];
+        RandomEngineType.XOSHIRO256_STAR_STAR.create(5L).nextDoubles(bulk);
+        RandomEngine sequential = RandomEngineType.XOSHIRO256_STAR_STAR.create(5L);
+        for (double value : bulk) {
+            assertEquals(sequential.nextDouble(), value);
+        }
+    }
+
+    @Test
+    @DisplayName("Dos corridas con la misma semilla usan la misma secuencia")
+    void testContextSeedIsReproducible() throws Exception {
+        RandomService.setEngineType(RandomEngineType.XOSHIRO256_STAR_STAR);
+        StrategyContext first = new StrategyContext();
+        first.setSeed(11L);
+        StrategyContext second = new StrategyContext();
+        second.setSeed(11L);
+
+        double[] a = first.call(() -> new double[] {RandomService.nextDouble(), RandomService.nextDouble()});
+        double[] b = second.call(() -> new double[] {RandomService.nextDouble(), RandomService.nextDouble()});
+
+        assertArrayEquals(a, b);
+    }
+
+    @Test
+    @DisplayName("Un contexto con semilla continúa su secuencia al ligarse en otro hilo")
+    void testContextEngineFollowsBind() throws Exception {
+        StrategyContext context = new StrategyContext();
+        context.setSeed(1L);
+        RandomEngine expected = RandomService.create(1L);
+        double first = expected.nextDouble();
+        double second = expected.nextDouble();
+
+        assertEquals(first, (double) context.call(RandomService::nextDouble));
+        AtomicReference<Double> other = new AtomicReference<Double>();
+        Thread thread = new Thread(() -> {
+            try {
+                other.set(context.call(RandomService::nextDouble));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertEquals(second, other.get());
+    }
+
+    @Test
+    @DisplayName("Un hilo de trabajo no puede usar el motor de la corrida")
+    void testWorkerCannotUseContextEngine() throws Exception {
+        StrategyContext context = new StrategyContext();
+        context.setSeed(1L);
+        RandomEngine engine = context.call(() -> context.getRandom());
+
+        AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        Thread thread = new Thread(() -> {
+            try {
+                context.callWorker(RandomService::nextDouble);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        thread.join();
+
+        assertInstanceOf(IllegalStateException.class, failure.get());
+        assertSame(engine, context.call(() -> context.getRandom()));
+        assertSame(engine, context.callWorker(() -> context.getRandom()), "El hilo dueño sigue usando su motor");
+    }
+
+    @Test
+    @DisplayName("Sin ligar el contexto no se crea el motor de la corrida")
+    void testContextEngineRequiresBind() {
+        StrategyContext context = new StrategyContext();
+        assertThrows(IllegalStateException.class, context::getRandom);
+    }
+}
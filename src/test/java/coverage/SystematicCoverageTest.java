@@ -144,10 +144,10 @@ public class SystematicCoverageTest {
         State res = m.mutation(st.getCopy(), 1.0);
         assertNotNull(res);
         // path should be cleared after mutation
-        assertTrue(AIOMutation.path.isEmpty());
+        assertTrue(m.getPath().isEmpty());
         // fillPath should populate path
-        AIOMutation.fillPath();
-        assertFalse(AIOMutation.path.isEmpty());
+        m.fillPath();
+        assertFalse(m.getPath().isEmpty());
     }
 
     @Test
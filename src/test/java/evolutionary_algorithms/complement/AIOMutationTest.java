@@ -33,15 +33,19 @@ class AIOMutationTest {
     @Test
     @DisplayName("path debe ser un ArrayList")
     void testPathIsArrayList() {
-        assertNotNull(AIOMutation.path);
-        assertTrue(AIOMutation.path instanceof ArrayList);
+        AIOMutation aiomMutation = new AIOMutation();
+        assertNotNull(aiomMutation.getPath());
+        assertTrue(aiomMutation.getPath() instanceof ArrayList);
     }
 
     @Test
     @DisplayName("path debe poder ser limpiado")
     void testPathCanBeCleared() {
-        AIOMutation.path.clear();
-        assertEquals(0, AIOMutation.path.size());
+        AIOMutation aiomMutation = new AIOMutation();
+        aiomMutation.getPath().add(1);
+        aiomMutation.getPath().clear();
+        assertEquals(0, aiomMutation.getPath().size());
+        assertTrue(new AIOMutation().getPath().isEmpty());
     }
 
     @Test
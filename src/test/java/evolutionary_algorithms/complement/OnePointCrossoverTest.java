@@ -12,6 +12,7 @@ import org.junit.jupiter.api.RepeatedTest;
 
 import metaheurictics.strategy.Strategy;
 import problem.definition.Codification;
+import problem.definition.IntVectorState;
 import problem.definition.Problem;
 import problem.definition.State;
 
@@ -277,4 +278,25 @@ class OnePointCrossoverTest {
         assertNotNull(result);
         assertEquals(3, result.getCode().size());
     }
+
+    @RepeatedTest(10)
+    @DisplayName("Cruce de IntVectorState conserva el tipo y corta en un punto")
+    void testIntVectorStateCrossover() {
+        IntVectorState father1 = new IntVectorState(new int[] {1, 1, 1, 1, 1});
+        IntVectorState father2 = new IntVectorState(new int[] {2, 2, 2, 2, 2});
+
+        State result = crossover.crossover(father1, father2, 1.0);
+
+        assertTrue(result instanceof IntVectorState, "El hijo debe conservar la representación primitiva");
+        int[] genes = ((IntVectorState) result).getGenes();
+        assertEquals(5, genes.length);
+        int changes = 0;
+        for (int i = 1; i < genes.length; i++) {
+            if (genes[i] != genes[i - 1]) {
+                changes++;
+            }
+        }
+        assertTrue(changes <= 1, "Un cruce de un punto solo puede tener un cambio de padre");
+        assertArrayEquals(new int[] {1, 1, 1, 1, 1}, father1.getGenes(), "Los padres no deben modificarse");
+    }
 }
@@ -0,0 +1,129 @@
+package evolutionary_algorithms.complement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+@DisplayName("Tests para PopulationStorage")
+class PopulationStorageTest {
+
+    @TempDir
+    Path directory;
+
+    private PopulationStorage storage;
+
+    @AfterEach
+    void tearDown() {
+        if (storage != null) {
+            storage.close();
+        }
+        PopulationStorage.setMappedDirectory(null);
+    }
+
+    private PopulationStorage create(PopulationStorageType type, int geneCount, int capacity) {
+        PopulationStorage.setMappedDirectory(directory);
+        storage = PopulationStorage.create(type, geneCount, capacity);
+        return storage;
+    }
+
+    private static void fill(PopulationStorage storage, int row) {
+        storage.setFitness(row, row * 0.5);
+        for (int g = 0; g < storage.getGeneCount(); g++) {
+            storage.setGene(row, g, row * 10 + g);
+        }
+    }
+
+    private static void assertRow(PopulationStorage storage, int row, int expected) {
+        assertEquals(expected * 0.5, storage.getFitness(row));
+        for (int g = 0; g < storage.getGeneCount(); g++) {
+            assertEquals(expected * 10 + g, storage.getGene(row, g));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PopulationStorageType.class)
+    @DisplayName("Crecer conserva las filas ya escritas")
+    void testGrowKeepsRows(PopulationStorageType type) {
+        PopulationStorage storage = create(type, 3, 0);
+        assertEquals(type, storage.getType());
+
+        for (int row = 0; row < 300; row++) {
+            storage.ensureCapacity(row + 1);
+            fill(storage, row);
+        }
+
+        assertTrue(storage.capacity() >= 300);
+        for (int row = 0; row < 300; row++) {
+            assertRow(storage, row, row);
+        }
+        double[] genes = new double[3];
+        storage.getRow(120, genes);
+        assertArrayEquals(new double[] {1200, 1201, 1202}, genes);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PopulationStorageType.class)
+    @DisplayName("copyRows admite rangos solapados en ambos sentidos")
+    void testCopyRowsOverlapping(PopulationStorageType type) {
+        PopulationStorage storage = create(type, 2, 200);
+        for (int row = 0; row < 200; row++) {
+            fill(storage, row);
+        }
+
+        storage.copyRows(0, 1, 150);
+        assertRow(storage, 0, 0);
+        assertRow(storage, 1, 0);
+        assertRow(storage, 150, 149);
+
+        storage.copyRows(100, 0, 100);
+        assertRow(storage, 0, 99);
+        assertRow(storage, 99, 199);
+    }
+
+    @Test
+    @DisplayName("copyRow copia entre almacenamientos de distinto tipo")
+    void testCopyRowBetweenTypes() {
+        PopulationStorage heap = PopulationStorage.create(PopulationStorageType.HEAP, 4, 8);
+        PopulationStorage direct = create(PopulationStorageType.DIRECT, 4, 8);
+        fill(heap, 5);
+
+        direct.copyRow(heap, 5, 2);
+        heap.copyRow(direct, 2, 7);
+
+        assertRow(direct, 2, 5);
+        assertRow(heap, 7, 5);
+    }
+
+    @Test
+    @DisplayName("MAPPED crea el archivo en el directorio indicado y close lo borra")
+    void testMappedFileLifecycle() throws Exception {
+        PopulationStorage storage = create(PopulationStorageType.MAPPED, 5, 100);
+        fill(storage, 99);
+
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+        assertRow(storage, 99, 99);
+
+        storage.close();
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Rechaza una cantidad de genes negativa")
+    void testRejectsNegativeGeneCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PopulationStorage.create(PopulationStorageType.DIRECT, -1, 10));
+    }
+}
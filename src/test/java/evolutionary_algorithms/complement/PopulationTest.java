@@ -0,0 +1,362 @@
+package evolutionary_algorithms.complement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import config.RandomService;
+import metaheurictics.strategy.Strategy;
+import metaheuristics.generators.EvolutionStrategies;
+import metaheuristics.generators.GeneratorType;
+import metaheuristics.generators.GeneticAlgorithm;
+import metaheuristics.generators.RandomSearch;
+import problem.definition.FitnessComparator;
+import problem.definition.IntVectorState;
+import problem.definition.Problem;
+import problem.definition.Problem.ProblemType;
+import problem.definition.State;
+
+@DisplayName("Tests para Population")
+class PopulationTest {
+
+    @TempDir
+    Path directory;
+
+    private Problem problem;
+
+    @BeforeEach
+    void setUp() {
+        problem = new Problem();
+        problem.setTypeProblem(ProblemType.MAXIMIZAR);
+        problem.setPossibleValue(4);
+        Strategy.setProblem(problem);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Population.setEnabled(false);
+        Population.setDefaultStorage(PopulationStorageType.HEAP);
+        PopulationStorage.setMappedDirectory(null);
+        Strategy.destroyExecute();
+    }
+
+    private static State state(double fitness, Object... genes) {
+        State state = new State(new ArrayList<Object>(List.of(genes)));
+        ArrayList<Double> evaluation = new ArrayList<>();
+        evaluation.add(fitness);
+        state.setEvaluation(evaluation);
+        return state;
+    }
+
+    private static List<State> sample() {
+        List<State> states = new ArrayList<>();
+        states.add(state(3.0, 0, 1, 2));
+        states.add(state(7.0, 1, 1, 3));
+        states.add(state(5.0, 0, 2, 3));
+        states.add(state(7.0, 2, 1, 0));
+        states.add(state(1.0, 0, 1, 3));
+        return states;
+    }
+
+    @Test
+    @DisplayName("of copia genes, aptitud y metadatos y get los materializa")
+    void testRoundTrip() {
+        State original = state(2.5, 4, 5, 6);
+        original.setNumber(9);
+        original.setTypeGenerator(GeneratorType.GENETIC_ALGORITHM);
+        State unevaluated = new State(new ArrayList<Object>(List.of(1, 2, 3)));
+
+        Population population = Population.of(List.of(original, unevaluated));
+
+        assertEquals(2, population.size());
+        assertEquals(3, population.getGeneCount());
+        assertTrue(population.isIntegral());
+        assertEquals(5.0, population.getGene(0, 1));
+        assertEquals(2.5, population.getFitness(0));
+
+        State copy = population.get(0);
+        assertNotSame(original, copy);
+        assertEquals(original.getCode(), copy.getCode());
+        assertEquals(2.5, copy.evalAt(0));
+        assertEquals(9, copy.getNumber());
+        assertEquals(GeneratorType.GENETIC_ALGORITHM, copy.getTypeGenerator());
+        assertNull(population.get(1).getEvaluation());
+    }
+
+    @Test
+    @DisplayName("Acepta estados vectoriales y códigos Double")
+    void testVectorAndDoubleStates() {
+        IntVectorState vector = new IntVectorState(new int[] {3, 1});
+        Population ints = Population.of(List.of(vector));
+        assertEquals(List.of(3, 1), ints.get(0).getCode());
+
+        Population doubles = Population.of(List.of(state(1.0, 0.5, 1.5)));
+        assertFalse(doubles.isIntegral());
+        assertEquals(List.of(0.5, 1.5), doubles.get(0).getCode());
+    }
+
+    @Test
+    @DisplayName("Rechaza estados que no encajan en la población")
+    void testRejectsMismatchedStates() {
+        Population population = Population.of(List.of(state(1.0, 1, 2)));
+
+        assertThrows(IllegalArgumentException.class, () -> population.add(state(1.0, 1, 2, 3)));
+        assertThrows(IllegalArgumentException.class, () -> population.add(state(1.0, 1.0, 2.0)));
+        assertThrows(IllegalArgumentException.class, () -> Population.of(List.of(state(1.0, "a"))));
+    }
+
+    @Test
+    @DisplayName("Quitar el primero y agregar al final conserva el orden al crecer")
+    void testQueueBehaviour() {
+        Population population = new Population();
+        for (int i = 0; i < 40; i++) {
+            population.add(state(i, i));
+        }
+        for (int i = 0; i < 100; i++) {
+            population.discard(0);
+            population.add(state(40 + i, 40 + i));
+        }
+
+        assertEquals(40, population.size());
+        for (int i = 0; i < population.size(); i++) {
+            assertEquals(100.0 + i, population.getGene(i, 0));
+            assertEquals(100.0 + i, population.getFitness(i));
+        }
+        population.remove(5);
+        assertEquals(106.0, population.getGene(5, 0));
+        population.add(0, state(-1.0, -1));
+        assertEquals(-1.0, population.getGene(0, 0));
+        assertEquals(100.0, population.getGene(1, 0));
+    }
+
+    @Test
+    @DisplayName("Los índices del mejor, el peor y el orden respetan el sentido del objetivo")
+    void testIndexQueries() {
+        Population population = Population.of(sample());
+
+        assertEquals(1, population.bestIndex(FitnessComparator.MAXIMIZE));
+        assertEquals(4, population.worstIndex(FitnessComparator.MAXIMIZE));
+        assertEquals(4, population.bestIndex(FitnessComparator.MINIMIZE));
+        assertArrayEquals(new int[] {1, 3, 2, 0, 4}, population.orderBestFirst(FitnessComparator.MAXIMIZE));
+        assertArrayEquals(new int[] {4, 0, 2, 1, 3}, population.orderBestFirst(FitnessComparator.MINIMIZE));
+        assertEquals(7.0, Population.best(population, FitnessComparator.MAXIMIZE).evalAt(0));
+    }
+
+    @Test
+    @DisplayName("indexOf compara por valor porque las filas no tienen identidad")
+    void testIndexOfByValue() {
+        Population population = Population.of(sample());
+
+        assertEquals(2, population.indexOf(state(5.0, 0, 2, 3)));
+        assertTrue(population.contains(population.get(3)));
+        assertEquals(-1, population.indexOf(state(5.0, 0, 2, 2)));
+    }
+
+    @Test
+    @DisplayName("TruncationSelection elige por índices sin reordenar la población")
+    void testTruncationSelection() {
+        Population population = Population.of(sample());
+
+        List<State> fathers = new TruncationSelection().selection(population, 3);
+
+        assertTrue(fathers instanceof Population);
+        assertEquals(3, fathers.size());
+        assertEquals(7.0, fathers.get(0).evalAt(0));
+        assertEquals(7.0, fathers.get(1).evalAt(0));
+        assertEquals(5.0, fathers.get(2).evalAt(0));
+        assertEquals(3.0, population.getFitness(0));
+    }
+
+    @Test
+    @DisplayName("RouletteSelection consume los mismos sorteos que sobre listas")
+    void testRouletteSelection() {
+        RandomService.setMasterSeed(11);
+        List<State> fromList = new RouletteSelection().selection(sample(), 0);
+        RandomService.setMasterSeed(11);
+        List<State> fromPopulation = new RouletteSelection().selection(Population.of(sample()), 0);
+
+        assertEquals(fromList.size(), fromPopulation.size());
+        for (int i = 0; i < fromList.size(); i++) {
+            assertEquals(fromList.get(i).getCode(), fromPopulation.get(i).getCode());
+        }
+    }
+
+    @Test
+    @DisplayName("SteadyStateReplace sobrescribe la fila del peor individuo")
+    void testSteadyStateReplace() {
+        Population population = Population.of(sample());
+
+        List<State> result = new SteadyStateReplace().replace(state(4.0, 3, 3, 3), population);
+
+        assertSame(population, result);
+        assertEquals(5, population.size());
+        assertEquals(4.0, population.getFitness(4));
+        assertEquals(3.0, population.getGene(4, 0));
+
+        new SteadyStateReplace().replace(state(0.5, 2, 2, 2), population);
+        assertEquals(4.0, population.getFitness(4));
+    }
+
+    @Test
+    @DisplayName("GenerationalReplace descarta el más antiguo y agrega el candidato")
+    void testGenerationalReplace() throws Exception {
+        Population population = Population.of(sample());
+
+        new GenerationalReplace().replace(state(9.0, 3, 3, 3), population);
+
+        assertEquals(5, population.size());
+        assertEquals(7.0, population.getFitness(0));
+        assertEquals(9.0, population.getFitness(4));
+    }
+
+    @Test
+    @DisplayName("ProbabilisticSampling produce los mismos individuos que sobre listas")
+    void testProbabilisticSampling() {
+        RandomService.setMasterSeed(5);
+        List<State> fromList = new ProbabilisticSampling().sampling(sample(), 6);
+        RandomService.setMasterSeed(5);
+        List<State> fromPopulation = new ProbabilisticSampling().sampling(Population.of(sample()), 6);
+
+        assertEquals(6, fromPopulation.size());
+        for (int i = 0; i < fromList.size(); i++) {
+            assertEquals(3, fromPopulation.get(i).getCode().size());
+            assertEquals(fromList.get(i).getCode(), fromPopulation.get(i).getCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Univariate calcula la misma distribución que sobre listas")
+    void testUnivariate() {
+        List<Probability> fromList = new Univariate().distribution(sample());
+        List<Probability> fromPopulation = new Univariate().distribution(Population.of(sample()));
+
+        assertEquals(fromList.size(), fromPopulation.size());
+        for (int i = 0; i < fromList.size(); i++) {
+            assertEquals(fromList.get(i).getKey(), fromPopulation.get(i).getKey());
+            assertEquals(fromList.get(i).getValue(), fromPopulation.get(i).getValue());
+            assertEquals(fromList.get(i).getProbability(), fromPopulation.get(i).getProbability());
+        }
+    }
+
+    @Test
+    @DisplayName("adopt solo convierte cuando está activo y la lista es representable")
+    void testAdopt() {
+        List<State> states = sample();
+        assertSame(states, Population.adopt(states));
+
+        Population.setEnabled(true);
+        List<State> adopted = Population.adopt(states);
+        assertTrue(adopted instanceof Population);
+        assertSame(adopted, Population.adopt(adopted));
+
+        List<State> text = new ArrayList<>(List.of(state(1.0, "a")));
+        assertSame(text, Population.adopt(text));
+    }
+
+    @ParameterizedTest
+    @EnumSource(PopulationStorageType.class)
+    @DisplayName("Los operadores dan el mismo resultado con cualquier almacenamiento")
+    void testOperatorsOnEveryStorage(PopulationStorageType type) throws Exception {
+        PopulationStorage.setMappedDirectory(directory);
+        try (Population population = Population.of(sample(), type)) {
+            assertEquals(type, population.getStorageType());
+
+            List<State> fathers = new TruncationSelection().selection(population, 3);
+            assertEquals(List.of(1, 1, 3), fathers.get(0).getCode());
+            assertEquals(5.0, fathers.get(2).evalAt(0));
+
+            RandomService.setMasterSeed(5);
+            List<State> expected = new ProbabilisticSampling().sampling(sample(), 4);
+            RandomService.setMasterSeed(5);
+            List<State> sampled = new ProbabilisticSampling().sampling(population, 4);
+            for (int i = 0; i < expected.size(); i++) {
+                assertEquals(expected.get(i).getCode(), sampled.get(i).getCode());
+            }
+
+            new SteadyStateReplace().replace(state(4.0, 3, 3, 3), population);
+            new GenerationalReplace().replace(state(9.0, 2, 2, 2), population);
+            assertEquals(5, population.size());
+            assertEquals(7.0, population.getFitness(0));
+            assertEquals(4.0, population.getFitness(3));
+            assertEquals(List.of(2, 2, 2), population.get(4).getCode());
+        }
+    }
+
+    @Test
+    @DisplayName("Una selección comparte las filas y no admite escrituras")
+    void testSelectionIsReadOnlyView() {
+        Population population = Population.of(sample());
+
+        Population selected = population.select(new int[] {3, 3, 0}, 3);
+
+        assertTrue(selected.isView());
+        assertEquals(3, selected.size());
+        assertEquals(2.0, selected.getGene(0, 0));
+        assertEquals(2.0, selected.getGene(1, 0));
+        assertEquals(3.0, selected.getFitness(2));
+        assertThrows(UnsupportedOperationException.class, () -> selected.add(state(1.0, 1, 1, 1)));
+        assertThrows(UnsupportedOperationException.class, () -> selected.setFitness(0, 1.0));
+
+        Population copy = Population.of(selected);
+        assertFalse(copy.isView());
+        copy.setFitness(0, 1.0);
+        assertEquals(7.0, population.getFitness(3));
+    }
+
+    @Test
+    @DisplayName("adopt usa el almacenamiento por defecto y close deja la población vacía")
+    void testAdoptWithDefaultStorage() {
+        Population.setEnabled(true);
+        Population.setDefaultStorage(PopulationStorageType.DIRECT);
+
+        Population adopted = (Population) Population.adopt(sample());
+
+        assertEquals(PopulationStorageType.DIRECT, adopted.getStorageType());
+        assertEquals(7.0, Population.best(adopted, FitnessComparator.MAXIMIZE).evalAt(0));
+        adopted.close();
+        assertTrue(adopted.isEmpty());
+        adopted.add(state(1.0, 0.5));
+        assertFalse(adopted.isIntegral());
+    }
+
+    private long mappedFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    @DisplayName("Los generadores borran su archivo MAPPED al ser reemplazados y al terminar la corrida")
+    void testGeneratorsReleaseMappedPopulations() throws Exception {
+        Population.setEnabled(true);
+        Population.setDefaultStorage(PopulationStorageType.MAPPED);
+        PopulationStorage.setMappedDirectory(directory);
+        RandomSearch.getListStateReference().addAll(sample());
+        Strategy strategy = Strategy.getStrategy();
+
+        GeneticAlgorithm ga = new GeneticAlgorithm();
+        EvolutionStrategies es = new EvolutionStrategies();
+        assertInstanceOf(Population.class, ga.getListState());
+        assertEquals(2, mappedFiles());
+
+        strategy.replaceGenerator(ga);
+        strategy.replaceGenerator(es);
+        assertEquals(1, mappedFiles());
+        assertTrue(ga.getListState().isEmpty());
+
+        Strategy.destroyExecute();
+        assertEquals(0, mappedFiles());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
 import evolutionary_algorithms.complement.DistributionType;
+import evolutionary_algorithms.complement.Univariate;
 import factory_interface.IFFactoryDistribution;
 
 @DisplayName("Tests para FactoryDistribution")
@@ -37,4 +38,10 @@ class FactoryDistributionTest {
             factoryDistribution.createDistribution(null);
         });
     }
+
+    @Test
+    @DisplayName("createDistribution() traduce el nombre del enum al de la clase")
+    void testCreateDistributionResolvesClassName() throws Exception {
+        assertInstanceOf(Univariate.class, factoryDistribution.createDistribution(DistributionType.UNIVARIATE));
+    }
 }
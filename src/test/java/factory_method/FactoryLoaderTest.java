@@ -4,6 +4,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import evolutionary_algorithms.complement.CrossoverType;
+import evolutionary_algorithms.complement.DistributionType;
+import evolutionary_algorithms.complement.MutationType;
+import evolutionary_algorithms.complement.ReplaceType;
+import evolutionary_algorithms.complement.SamplingType;
+import evolutionary_algorithms.complement.SelectionType;
+
 @DisplayName("Tests para FactoryLoader")
 class FactoryLoaderTest {
 
@@ -76,4 +87,44 @@ class FactoryLoaderTest {
             }
         }
     }
+
+    @Test
+    @DisplayName("create() usa el registro y mantiene el contrato de getInstance")
+    void testCreateFromRegistry() {
+        Map<SelectionType, Supplier<Object>> registry = new EnumMap<>(SelectionType.class);
+        registry.put(SelectionType.ROULETTE_SELECTION, StringBuilder::new);
+        registry.put(SelectionType.TRUNCATION_SELECTION, () -> {
+            throw new IllegalStateException("constructor falla");
+        });
+
+        assertInstanceOf(StringBuilder.class, FactoryLoader.create(registry, SelectionType.ROULETTE_SELECTION));
+        assertNull(FactoryLoader.create(registry, SelectionType.TRUNCATION_SELECTION), "Un constructor que falla retorna null");
+        registry.remove(SelectionType.TRUNCATION_SELECTION);
+        assertNull(FactoryLoader.create(registry, SelectionType.TRUNCATION_SELECTION), "Un tipo sin registrar retorna null");
+        assertThrows(IllegalArgumentException.class, () -> FactoryLoader.create(registry, null));
+    }
+
+    @Test
+    @DisplayName("Cada tipo de los operadores evolutivos tiene constructor registrado")
+    void testEveryEvolutionaryTypeResolves() throws Exception {
+        // Antes el nombre del enum se convertía en nombre de clase y algunos tipos no resolvían
+        for (SamplingType type : SamplingType.values()) {
+            assertNotNull(new FactorySampling().createSampling(type), type.name());
+        }
+        for (DistributionType type : DistributionType.values()) {
+            assertNotNull(new FactoryDistribution().createDistribution(type), type.name());
+        }
+        for (CrossoverType type : CrossoverType.values()) {
+            assertNotNull(new FactoryCrossover().createCrossover(type), type.name());
+        }
+        for (MutationType type : MutationType.values()) {
+            assertNotNull(new FactoryMutation().createMutation(type), type.name());
+        }
+        for (SelectionType type : SelectionType.values()) {
+            assertNotNull(new FactoryFatherSelection().createSelectFather(type), type.name());
+        }
+        for (ReplaceType type : ReplaceType.values()) {
+            assertNotNull(new FactoryReplace().createReplace(type), type.name());
+        }
+    }
 }
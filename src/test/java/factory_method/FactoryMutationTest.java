@@ -3,6 +3,8 @@ package factory_method;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import static org.junit.jupiter.api.Assertions.*;
 
 import evolutionary_algorithms.complement.MutationType;
@@ -37,4 +39,12 @@ class FactoryMutationTest {
             factoryMutation.createMutation(null);
         });
     }
+
+    @ParameterizedTest
+    @EnumSource(MutationType.class)
+    @DisplayName("createMutation() resuelve todos los tipos, incluidos TWO_POINTS y AIOM")
+    void testCreateMutationResolvesEveryType(MutationType type) throws Exception {
+        assertNotNull(factoryMutation.createMutation(type));
+        assertNotSame(factoryMutation.createMutation(type), factoryMutation.createMutation(type));
+    }
 }
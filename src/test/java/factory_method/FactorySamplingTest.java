@@ -5,6 +5,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import evolutionary_algorithms.complement.ProbabilisticSampling;
 import evolutionary_algorithms.complement.SamplingType;
 import factory_interface.IFFSampling;
 
@@ -37,4 +38,10 @@ class FactorySamplingTest {
             factorySampling.createSampling(null);
         });
     }
+
+    @Test
+    @DisplayName("createSampling() traduce el nombre del enum al de la clase")
+    void testCreateSamplingResolvesClassName() throws Exception {
+        assertInstanceOf(ProbabilisticSampling.class, factorySampling.createSampling(SamplingType.PROBABILISTIC_SAMPLING));
+    }
 }
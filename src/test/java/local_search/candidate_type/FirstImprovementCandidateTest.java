@@ -0,0 +1,156 @@
+package local_search.candidate_type;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import local_search.complement.StrategyType;
+import metaheurictics.strategy.Strategy;
+import problem.definition.GeneMove;
+import problem.definition.IntVectorState;
+import problem.definition.Move;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.Problem;
+import problem.definition.State;
+
+@DisplayName("Tests para FirstImprovementCandidate")
+class FirstImprovementCandidateTest {
+
+    private FirstImprovementCandidate candidate;
+    private int pulled;
+    private int evaluations;
+
+    @BeforeEach
+    void setUp() {
+        candidate = new FirstImprovementCandidate();
+        pulled = 0;
+        evaluations = 0;
+    }
+
+    @AfterEach
+    void tearDown() {
+        Strategy.destroyExecute();
+    }
+
+    private Problem problem(Problem.ProblemType type) {
+        Problem p = new Problem();
+        p.setTypeProblem(type);
+        ArrayList<ObjetiveFunction> functions = new ArrayList<>();
+        functions.add(new ObjetiveFunction() {
+            @Override
+            public Double Evaluation(State state) {
+                evaluations++;
+                double total = 0;
+                for (int i = 0; i < state.codeSize(); i++) {
+                    total += ((Number) state.codeAt(i)).doubleValue();
+                }
+                return total;
+            }
+        });
+        p.setFunction(functions);
+        Strategy.setProblem(p);
+        return p;
+    }
+
+    private State createState(double evaluation) {
+        State state = new State();
+        ArrayList<Double> evals = new ArrayList<>();
+        evals.add(evaluation);
+        state.setEvaluation(evals);
+        return state;
+    }
+
+    private Iterator<State> counting(List<State> states) {
+        Iterator<State> inner = states.iterator();
+        return new Iterator<State>() {
+            @Override
+            public boolean hasNext() {
+                return inner.hasNext();
+            }
+
+            @Override
+            public State next() {
+                pulled++;
+                return inner.next();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Se detiene en el primer vecino que mejora al estado actual")
+    void testStopsAtFirstImprovement() throws Exception {
+        problem(Problem.ProblemType.MAXIMIZAR);
+        List<State> neighbors = List.of(createState(5.0), createState(12.0), createState(20.0), createState(30.0));
+
+        State result = candidate.stateSearch(createState(10.0), counting(neighbors));
+
+        assertEquals(12.0, result.evalAt(0));
+        assertEquals(2, pulled);
+    }
+
+    @Test
+    @DisplayName("Si ninguno mejora devuelve el mejor de los vistos")
+    void testReturnsBestWhenNoImprovement() throws Exception {
+        problem(Problem.ProblemType.MINIMIZAR);
+        List<State> neighbors = List.of(createState(15.0), createState(11.0), createState(13.0));
+
+        State result = candidate.stateSearch(createState(10.0), counting(neighbors));
+
+        assertEquals(11.0, result.evalAt(0));
+        assertEquals(3, pulled);
+    }
+
+    @Test
+    @DisplayName("Con movimientos solo construye y evalúa los vecinos que llega a pedir")
+    void testLazyNeighborhoodThroughCandidateValue() throws Exception {
+        Problem p = problem(Problem.ProblemType.MAXIMIZAR);
+        p.setOperator(new Operator() {
+            @Override
+            public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+                return null;
+            }
+
+            @Override
+            public List<Move> generatedMoves(State stateCurrent, Integer operatornumber) {
+                // Los dos primeros empeoran y el tercero mejora
+                List<Move> moves = new ArrayList<>();
+                moves.add(new GeneMove(0, 0));
+                moves.add(new GeneMove(1, 0));
+                for (int i = 2; i < operatornumber; i++) {
+                    moves.add(new GeneMove(i % 4, 9));
+                }
+                return moves;
+            }
+
+            @Override
+            public List<State> generateRandomState(Integer operatornumber) {
+                return null;
+            }
+        });
+        IntVectorState base = new IntVectorState(new int[] {1, 1, 1, 1});
+        p.Evaluate(base);
+        evaluations = 0;
+
+        CandidateValue value = new CandidateValue();
+        State result = value.stateCandidate(base, CandidateType.FIRST_IMPROVEMENT, StrategyType.NORMAL, 50);
+
+        assertEquals(12.0, result.evalAt(0), 1e-9);
+        assertEquals(3, evaluations);
+        assertEquals(new GeneMove(2, 9), value.getLastMove());
+    }
+
+    @Test
+    @DisplayName("La fábrica crea la estrategia a partir del tipo")
+    void testFactoryCreatesCandidate() throws Exception {
+        assertInstanceOf(FirstImprovementCandidate.class, new CandidateValue().newSearchCandidate(CandidateType.FIRST_IMPROVEMENT));
+        assertInstanceOf(SampledBestOfKCandidate.class, new CandidateValue().newSearchCandidate(CandidateType.SAMPLED_BEST_OF_K));
+    }
+}
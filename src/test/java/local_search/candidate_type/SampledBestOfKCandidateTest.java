@@ -0,0 +1,116 @@
+package local_search.candidate_type;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import metaheurictics.strategy.Strategy;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Problem;
+import problem.definition.State;
+
+@DisplayName("Tests para SampledBestOfKCandidate")
+class SampledBestOfKCandidateTest {
+
+    private SampledBestOfKCandidate candidate;
+    private List<State> neighborhood;
+
+    @BeforeEach
+    void setUp() {
+        candidate = new SampledBestOfKCandidate();
+        neighborhood = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            neighborhood.add(createState(i));
+        }
+        Problem p = new Problem();
+        p.setTypeProblem(Problem.ProblemType.MAXIMIZAR);
+        Strategy.setProblem(p);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Strategy.destroyExecute();
+    }
+
+    private State createState(double evaluation) {
+        State state = new State();
+        ArrayList<Double> evals = new ArrayList<>();
+        evals.add(evaluation);
+        state.setEvaluation(evals);
+        return state;
+    }
+
+    @Test
+    @DisplayName("Solo pide k vecinos al iterador y devuelve el mejor de ellos")
+    void testPullsOnlyK() throws Exception {
+        candidate = new SampledBestOfKCandidate(3);
+        Iterator<State> neighbors = neighborhood.iterator();
+
+        State result = candidate.stateSearch(null, neighbors);
+
+        assertEquals(2.0, result.evalAt(0));
+        assertEquals(3.0, neighbors.next().evalAt(0), "El cuarto vecino no se ha pedido");
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Sobre una lista elige el mejor de k posiciones distintas")
+    void testSampleFromList() throws Exception {
+        candidate = new SampledBestOfKCandidate(9);
+        State result = candidate.stateSearch(neighborhood);
+        // Con 9 de 10 posiciones distintas, el mejor es 9 u 8
+        assertTrue(result.evalAt(0) >= 8.0);
+    }
+
+    @Test
+    @DisplayName("Con k mayor que el vecindario devuelve el mejor de todos")
+    void testLargeK() throws Exception {
+        candidate = new SampledBestOfKCandidate(50);
+        assertEquals(9.0, candidate.stateSearch(neighborhood).evalAt(0));
+        assertNull(candidate.stateSearch(new ArrayList<>()));
+    }
+
+    @RepeatedTest(10)
+    @DisplayName("Sobre una lista evalúa exactamente k vecinos distintos")
+    void testSampleIsDistinct() throws Exception {
+        Set<State> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Problem p = Strategy.getStrategy().getProblem();
+        ArrayList<ObjetiveFunction> functions = new ArrayList<>();
+        functions.add(new ObjetiveFunction() {
+            @Override public Double Evaluation(State state) {
+                assertTrue(seen.add(state), "Vecino evaluado dos veces");
+                return 1.0;
+            }
+        });
+        p.setFunction(functions);
+        List<State> unevaluated = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            unevaluated.add(new State());
+        }
+
+        new SampledBestOfKCandidate(6).stateSearch(unevaluated);
+
+        assertEquals(6, seen.size());
+    }
+
+    @Test
+    @DisplayName("CandidateValue pasa su tamaño de muestra a la fábrica")
+    void testSampleSizeFromCandidateValue() throws Exception {
+        CandidateValue value = new CandidateValue();
+        value.setSampleSize(4);
+        SearchCandidate search = value.newSearchCandidate(CandidateType.SAMPLED_BEST_OF_K);
+        assertEquals(4, ((SampledBestOfKCandidate) search).getK());
+        assertEquals(SampledBestOfKCandidate.DEFAULT_K, new SampledBestOfKCandidate().getK());
+        assertEquals(1, new SampledBestOfKCandidate(0).getK());
+    }
+}
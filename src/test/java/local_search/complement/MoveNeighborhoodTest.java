@@ -0,0 +1,285 @@
+package local_search.complement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import local_search.candidate_type.CandidateType;
+import local_search.candidate_type.CandidateValue;
+import metaheurictics.strategy.Strategy;
+import metaheuristics.generators.GeneratorType;
+import problem.definition.Move;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.PermutationState;
+import problem.definition.Problem;
+import problem.definition.State;
+import problem.definition.SwapMove;
+
+public class MoveNeighborhoodTest {
+
+    /** Longitud de una ruta abierta: suma de |c[i+1] - c[i]| */
+    private static final class PathLength extends ObjetiveFunction {
+        int fullCalls;
+        private final boolean delta;
+
+        PathLength(boolean delta) {
+            this.delta = delta;
+        }
+
+        @Override
+        public Double Evaluation(State state) {
+            fullCalls++;
+            double total = 0;
+            for (int i = 0; i + 1 < state.codeSize(); i++) {
+                total += Math.abs((Integer) state.codeAt(i + 1) - (Integer) state.codeAt(i));
+            }
+            return total;
+        }
+
+        @Override
+        public boolean supportsDelta() {
+            return delta;
+        }
+
+        @Override
+        public Double evaluateDelta(State base, Move move) {
+            if (!delta) {
+                return super.evaluateDelta(base, move);
+            }
+            // Solo cambian las aristas que tocan las posiciones intercambiadas
+            SwapMove swap = (SwapMove) move;
+            double before = 0;
+            double after = 0;
+            for (int p : move.positions()) {
+                for (int i = Math.max(0, p - 1); i <= p && i + 1 < base.codeSize(); i++) {
+                    before += Math.abs((Integer) base.codeAt(i + 1) - (Integer) base.codeAt(i));
+                    after += Math.abs(valueAfter(base, swap, i + 1) - valueAfter(base, swap, i));
+                }
+            }
+            return after - before;
+        }
+
+        private int valueAfter(State base, SwapMove swap, int i) {
+            if (i == swap.getFirst()) {
+                return (Integer) base.codeAt(swap.getSecond());
+            }
+            if (i == swap.getSecond()) {
+                return (Integer) base.codeAt(swap.getFirst());
+            }
+            return (Integer) base.codeAt(i);
+        }
+    }
+
+    /** Intercambio que cuenta cuántos vecinos se construyen */
+    private static int built;
+
+    private static final class CountingSwap extends SwapMove {
+        CountingSwap(int first, int second) {
+            super(first, second);
+        }
+
+        @Override
+        public State applyTo(State base) {
+            built++;
+            return super.applyTo(base);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        Strategy.destroyExecute();
+    }
+
+    private Problem problem(PathLength function) {
+        Problem p = new Problem();
+        p.setTypeProblem(Problem.ProblemType.MINIMIZAR);
+        ArrayList<ObjetiveFunction> functions = new ArrayList<>();
+        functions.add(function);
+        p.setFunction(functions);
+        p.setOperator(new Operator() {
+            @Override
+            public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+                List<State> list = new ArrayList<>();
+                for (Move move : generatedMoves(stateCurrent, operatornumber)) {
+                    list.add(move.applyTo(stateCurrent));
+                }
+                return list;
+            }
+
+            @Override
+            public List<Move> generatedMoves(State stateCurrent, Integer operatornumber) {
+                List<Move> moves = new ArrayList<>();
+                for (int i = 0; i < operatornumber; i++) {
+                    moves.add(new CountingSwap(i, i + 2));
+                }
+                return moves;
+            }
+
+            @Override
+            public List<State> generateRandomState(Integer operatornumber) {
+                List<State> list = new ArrayList<>();
+                list.add(PermutationState.identity(6));
+                return list;
+            }
+        });
+        Strategy.setProblem(p);
+        return p;
+    }
+
+    private PermutationState base(Problem p) throws Exception {
+        PermutationState state = PermutationState.identity(6);
+        p.Evaluate(state);
+        return state;
+    }
+
+    @Test
+    @DisplayName("Con evaluateDelta los vecinos llegan evaluados sin evaluación completa")
+    void testDeltaScoresNeighbors() throws Exception {
+        PathLength function = new PathLength(true);
+        Problem p = problem(function);
+        PermutationState base = base(p);
+        function.fullCalls = 0;
+
+        List<State> neighborhood = MoveNeighborhood.generate(base, 3);
+
+        assertEquals(3, neighborhood.size());
+        assertEquals(0, function.fullCalls);
+        PathLength check = new PathLength(false);
+        for (State neighbor : neighborhood) {
+            assertEquals(check.Evaluation(neighbor), neighbor.evalAt(0), 1e-9);
+        }
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4, 5}, base.getGenes(), "El estado base no debe cambiar");
+    }
+
+    @Test
+    @DisplayName("Sin soporte de delta se usa generatedNewState")
+    void testFallbackWithoutDelta() throws Exception {
+        PathLength function = new PathLength(false);
+        Problem p = problem(function);
+        PermutationState base = base(p);
+
+        List<State> neighborhood = MoveNeighborhood.generate(base, 2);
+
+        assertEquals(2, neighborhood.size());
+        assertNull(MoveNeighborhood.deltaFunction(p));
+        assertEquals(List.of(2, 1, 0, 3, 4, 5), neighborhood.get(0).getCode());
+    }
+
+    @Test
+    @DisplayName("La implementación por defecto de evaluateDelta coincide con la evaluación completa")
+    void testDefaultDelta() throws Exception {
+        PathLength function = new PathLength(false);
+        State base = PermutationState.identity(5);
+        Move move = new SwapMove(1, 3);
+        double expected = function.Evaluation(move.applyTo(base)) - function.Evaluation(base);
+        assertEquals(expected, function.evaluateDelta(base, move), 1e-9);
+        assertEquals(new SwapMove(3, 1), move);
+    }
+
+    @Test
+    @DisplayName("RANDOM_CANDIDATE construye un único vecino")
+    void testRandomBuildsOneNeighbor() throws Exception {
+        Problem p = problem(new PathLength(true));
+        PermutationState base = base(p);
+        built = 0;
+
+        State candidate = new CandidateValue().stateCandidate(base, CandidateType.RANDOM_CANDIDATE, StrategyType.NORMAL, 4);
+
+        assertNotNull(candidate);
+        assertEquals(1, built);
+        assertEquals(new PathLength(false).Evaluation(candidate), candidate.evalAt(0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("SMALLER_CANDIDATE con delta construye solo el mejor vecino")
+    void testSmallerBuildsOnlyWinner() throws Exception {
+        PathLength function = new PathLength(true);
+        Problem p = problem(function);
+        PermutationState base = base(p);
+        List<State> all = MoveNeighborhood.materialize(base, p.getOperator().generatedMoves(base, 4));
+        double best = Double.MAX_VALUE;
+        for (State s : all) {
+            best = Math.min(best, s.evalAt(0));
+        }
+        built = 0;
+        function.fullCalls = 0;
+
+        State candidate = new CandidateValue().stateCandidate(base, CandidateType.SMALLER_CANDIDATE, StrategyType.NORMAL, 4);
+
+        assertEquals(1, built);
+        assertEquals(0, function.fullCalls);
+        assertEquals(best, candidate.evalAt(0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Sin delta GREATER_CANDIDATE evalúa cada vecino y devuelve el mejor")
+    void testGreaterWithoutDelta() throws Exception {
+        PathLength function = new PathLength(false);
+        Problem p = problem(function);
+        PermutationState base = base(p);
+        function.fullCalls = 0;
+
+        State candidate = new CandidateValue().stateCandidate(base, CandidateType.GREATER_CANDIDATE, StrategyType.NORMAL, 4);
+
+        assertEquals(4, function.fullCalls);
+        assertEquals(function.Evaluation(candidate), candidate.evalAt(0), 1e-9);
+        for (State s : MoveNeighborhood.materialize(base, p.getOperator().generatedMoves(base, 4))) {
+            assertTrue(function.Evaluation(s) <= candidate.evalAt(0));
+        }
+    }
+
+    @Test
+    @DisplayName("Sin delta el ciclo no vuelve a evaluar al vecino ganador")
+    void testWinnerNotReevaluatedByLoop() throws Exception {
+        PathLength function = new PathLength(false);
+        problem(function);
+        Strategy strategy = Strategy.getStrategy();
+        strategy.setStopexecute(new StopExecute());
+        function.fullCalls = 0;
+
+        strategy.executeStrategy(5, Integer.MAX_VALUE, 4, GeneratorType.HILL_CLIMBING);
+
+        assertEquals(1 + 5 * 4, function.fullCalls, "Estado inicial más cuatro vecinos por iteración");
+    }
+
+    @Test
+    @DisplayName("lazy construye los vecinos de uno en uno y recuerda el movimiento del último")
+    void testLazyRemembersLastMove() throws Exception {
+        Problem p = problem(new PathLength(true));
+        PermutationState base = base(p);
+        List<Move> moves = p.getOperator().generatedMoves(base, 3);
+        built = 0;
+
+        MoveNeighborhood.LazyNeighbors neighbors = MoveNeighborhood.lazy(base, moves);
+        State first = neighbors.next();
+        State second = neighbors.next();
+
+        assertEquals(2, built);
+        assertEquals(2, neighbors.builtCount());
+        assertSame(moves.get(1), neighbors.moveOf(second));
+        assertNull(neighbors.moveOf(first));
+        assertNull(neighbors.moveOf(null));
+        assertTrue(neighbors.hasNext());
+    }
+
+    @Test
+    @DisplayName("Con estrategia tabú los criterios incrementales conservan la puntuación por delta")
+    void testTabuStreamingKeepsDeltaScores() throws Exception {
+        PathLength function = new PathLength(true);
+        Problem p = problem(function);
+        PermutationState base = base(p);
+        function.fullCalls = 0;
+
+        State candidate = new CandidateValue().stateCandidate(base, CandidateType.FIRST_IMPROVEMENT, StrategyType.TABU, 4);
+
+        assertNotNull(candidate);
+        assertEquals(0, function.fullCalls);
+        assertEquals(new PathLength(false).Evaluation(candidate), candidate.evalAt(0), 1e-9);
+    }
+}
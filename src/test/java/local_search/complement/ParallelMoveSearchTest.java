@@ -0,0 +1,151 @@
+package local_search.complement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import local_search.candidate_type.CandidateType;
+import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
+import problem.definition.Move;
+import problem.definition.ObjetiveFunction;
+import problem.definition.PermutationState;
+import problem.definition.Problem;
+import problem.definition.State;
+import problem.definition.SwapMove;
+
+public class ParallelMoveSearchTest {
+
+    /** Objetivo con muchos empates: solo cuentan las tres primeras posiciones */
+    private static final class Prefix extends ObjetiveFunction {
+        private final boolean delta;
+
+        Prefix(boolean delta) {
+            this.delta = delta;
+        }
+
+        @Override
+        public Double Evaluation(State state) {
+            return 4.0 * (Integer) state.codeAt(0) + 2.0 * (Integer) state.codeAt(1) + (Integer) state.codeAt(2);
+        }
+
+        @Override
+        public boolean supportsDelta() {
+            return delta;
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ParallelMoveSearch.enabled = false;
+        ParallelMoveSearch.threshold = 64;
+        ParallelMoveSearch.chunkSize = 16;
+        ParallelMoveSearch.pool = null;
+        StrategyContext.unbind();
+        Strategy.destroyExecute();
+    }
+
+    private Problem problem(boolean delta) {
+        Problem p = new Problem();
+        p.setTypeProblem(Problem.ProblemType.MAXIMIZAR);
+        ArrayList<ObjetiveFunction> functions = new ArrayList<>();
+        functions.add(new Prefix(delta));
+        p.setFunction(functions);
+        Strategy.setProblem(p);
+        return p;
+    }
+
+    private List<Move> moves(int size, int count, long seed) {
+        Random random = new Random(seed);
+        List<Move> moves = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            moves.add(new SwapMove(random.nextInt(size), random.nextInt(size)));
+        }
+        return moves;
+    }
+
+    private void assertSameSelection(boolean delta, CandidateType type) throws Exception {
+        Problem p = problem(delta);
+        PermutationState base = PermutationState.identity(40);
+        p.Evaluate(base);
+        List<Move> moves = moves(40, 500, 7L);
+
+        ParallelMoveSearch.enabled = false;
+        MoveNeighborhood.Selection serial = MoveNeighborhood.choose(base, moves, type);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ParallelMoveSearch.enabled = true;
+        ParallelMoveSearch.threshold = 2;
+        ParallelMoveSearch.chunkSize = 3;
+        ParallelMoveSearch.setPool(pool);
+        try {
+            for (int run = 0; run < 5; run++) {
+                MoveNeighborhood.Selection parallel = MoveNeighborhood.choose(base, moves, type);
+                assertSame(serial.getMove(), parallel.getMove(), "Con empates debe ganar el primer movimiento");
+                assertEquals(serial.getState().getCode(), parallel.getState().getCode());
+                assertEquals(serial.getState().evalAt(0), parallel.getState().evalAt(0), 1e-9);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Con evaluateDelta el resultado paralelo coincide con el secuencial")
+    void testParallelDeltaMatchesSerial() throws Exception {
+        assertSameSelection(true, CandidateType.GREATER_CANDIDATE);
+        assertSameSelection(true, CandidateType.SMALLER_CANDIDATE);
+    }
+
+    @Test
+    @DisplayName("Sin delta cada tramo construye y evalúa sus vecinos con el mismo resultado")
+    void testParallelFullEvaluationMatchesSerial() throws Exception {
+        assertSameSelection(false, CandidateType.GREATER_CANDIDATE);
+        assertSameSelection(false, CandidateType.SMALLER_CANDIDATE);
+    }
+
+    @Test
+    @DisplayName("Por debajo del umbral no se usa el pool")
+    void testThreshold() {
+        ParallelMoveSearch.enabled = true;
+        assertFalse(ParallelMoveSearch.applies(10));
+        assertTrue(ParallelMoveSearch.applies(64));
+        ParallelMoveSearch.enabled = false;
+        assertFalse(ParallelMoveSearch.applies(1000));
+    }
+
+    @Test
+    @DisplayName("La configuración es por corrida cuando hay un StrategyContext ligado")
+    void testConfigurationPerContext() throws Exception {
+        ParallelMoveSearch.threshold = 10;
+        StrategyContext first = new StrategyContext();
+        StrategyContext second = new StrategyContext();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            first.call(() -> {
+                ParallelMoveSearch.setEnabled(true);
+                ParallelMoveSearch.setThreshold(2);
+                ParallelMoveSearch.setChunkSize(4);
+                ParallelMoveSearch.setPool(pool);
+                return null;
+            });
+
+            assertTrue(first.call(() -> ParallelMoveSearch.applies(2)));
+            assertSame(pool, first.call(ParallelMoveSearch::getPool));
+            assertEquals(4, (int) first.call(ParallelMoveSearch::getChunkSize));
+            assertFalse(second.call(() -> ParallelMoveSearch.applies(1000)), "Otra corrida conserva los valores por omisión");
+            assertEquals(10, (int) second.call(ParallelMoveSearch::getThreshold));
+            assertSame(ForkJoinPool.commonPool(), second.call(ParallelMoveSearch::getPool));
+            assertFalse(ParallelMoveSearch.enabled, "Los valores por omisión no cambian");
+            assertEquals(10, ParallelMoveSearch.threshold);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package local_search.complement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import metaheurictics.strategy.Strategy;
+import metaheuristics.generators.DistributionEstimationAlgorithm;
+import metaheuristics.generators.EvolutionStrategies;
+import metaheuristics.generators.GeneratorType;
+import metaheuristics.generators.GeneticAlgorithm;
+import metaheuristics.generators.ParticleSwarmOptimization;
+import problem.definition.FitnessCache;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.Problem;
+import problem.definition.State;
+
+class StopConditionTest {
+
+    private Strategy strategy;
+    private Problem problem;
+
+    @BeforeEach
+    void setUp() {
+        GeneticAlgorithm.countRef = 0;
+        EvolutionStrategies.countRef = 0;
+        DistributionEstimationAlgorithm.countRef = 0;
+        ParticleSwarmOptimization.countRef = 0;
+        ParticleSwarmOptimization.coutSwarm = 0;
+        ParticleSwarmOptimization.countParticleBySwarm = 0;
+        strategy = Strategy.getStrategy();
+        problem = new Problem();
+        problem.setTypeProblem(Problem.ProblemType.MINIMIZAR);
+        ArrayList<ObjetiveFunction> functions = new ArrayList<>();
+        functions.add(new ObjetiveFunction() {
+            @Override
+            public Double Evaluation(State state) {
+                return 1.0;
+            }
+        });
+        problem.setFunction(functions);
+        problem.setOperator(new Operator() {
+            @Override
+            public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+                return List.of(new State());
+            }
+
+            @Override
+            public List<State> generateRandomState(Integer operatornumber) {
+                return List.of(new State());
+            }
+        });
+        Strategy.setProblem(problem);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Strategy.destroyExecute();
+    }
+
+    private State evaluated(double value) {
+        State state = new State();
+        state.setEvaluation(new ArrayList<Double>(List.of(value)));
+        return state;
+    }
+
+    @Test
+    @DisplayName("TargetFitness respeta el sentido del problema")
+    void testTargetFitness() {
+        StopCondition target = StopCondition.targetFitness(10.0);
+        assertFalse(target.isSatisfied(strategy), "Sin mejor estado no se cumple");
+        strategy.setBestState(evaluated(12.0));
+        assertFalse(target.isSatisfied(strategy));
+        strategy.setBestState(evaluated(10.0));
+        assertTrue(target.isSatisfied(strategy));
+        problem.setTypeProblem(Problem.ProblemType.MAXIMIZAR);
+        strategy.setBestState(evaluated(12.0));
+        assertTrue(target.isSatisfied(strategy));
+    }
+
+    @Test
+    @DisplayName("Stagnation se reinicia con cada mejora estricta")
+    void testStagnation() {
+        StopCondition stagnation = StopCondition.noImprovement(3);
+        strategy.setCountCurrent(0);
+        strategy.setBestState(evaluated(5.0));
+        stagnation.start(strategy);
+        assertFalse(stagnation.isSatisfied(strategy));
+        strategy.setCountCurrent(2);
+        strategy.setBestState(evaluated(4.0));
+        assertFalse(stagnation.isSatisfied(strategy));
+        strategy.setCountCurrent(4);
+        strategy.setBestState(evaluated(4.0));
+        assertFalse(stagnation.isSatisfied(strategy), "Empatar no cuenta como mejora, pero aún no hay 3 iteraciones");
+        strategy.setCountCurrent(5);
+        assertTrue(stagnation.isSatisfied(strategy));
+    }
+
+    @Test
+    @DisplayName("AND y OR combinan los criterios")
+    void testComposition() {
+        StopCondition iterations = StopCondition.maxIterations(5);
+        StopCondition never = StopCondition.maxTime(1, TimeUnit.DAYS);
+        StopCondition both = iterations.and(never);
+        StopCondition either = iterations.or(never);
+        both.start(strategy);
+        either.start(strategy);
+        strategy.setCountCurrent(5);
+        assertFalse(both.isSatisfied(strategy));
+        assertTrue(either.isSatisfied(strategy));
+        assertThrows(IllegalArgumentException.class, () -> StopCondition.anyOf());
+    }
+
+    @Test
+    @DisplayName("Problem.Evaluate cuenta evaluaciones salvo las de la caché")
+    void testEvaluationCount() throws Exception {
+        problem.setFitnessCache(new FitnessCache(16));
+        State state = new State(new ArrayList<Object>(List.of(1, 2)));
+        problem.Evaluate(state);
+        problem.Evaluate(new State(new ArrayList<Object>(List.of(1, 2))));
+        assertEquals(1, problem.getEvaluationCount());
+    }
+
+    @Test
+    @DisplayName("executeStrategy se detiene al agotar el presupuesto de evaluaciones")
+    void testExecuteStopsOnEvaluationBudget() throws Exception {
+        strategy.setStopexecute(new StopExecute());
+        strategy.setStopCondition(StopCondition.maxEvaluations(20));
+
+        strategy.executeStrategy(Integer.MAX_VALUE, Integer.MAX_VALUE, 1, GeneratorType.RANDOM_SEARCH);
+
+        assertEquals(20, problem.getEvaluationCount());
+        assertEquals(19, strategy.getCountCurrent(), "La evaluación inicial también cuenta");
+    }
+
+    @Test
+    @DisplayName("executeStrategy se detiene al agotar el tiempo")
+    void testExecuteStopsOnTimeBudget() throws Exception {
+        strategy.setStopexecute(new StopExecute());
+        strategy.setStopCondition(StopCondition.maxTime(50, TimeUnit.MILLISECONDS));
+
+        long start = System.nanoTime();
+        strategy.executeStrategy(Integer.MAX_VALUE, Integer.MAX_VALUE, 1, GeneratorType.RANDOM_SEARCH);
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsed >= 50, "No debe parar antes del presupuesto");
+        assertTrue(elapsed < 5000, "Debe parar poco después del presupuesto");
+    }
+}
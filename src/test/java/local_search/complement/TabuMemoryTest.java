@@ -0,0 +1,99 @@
+package local_search.complement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import problem.definition.GeneMove;
+import problem.definition.IntVectorState;
+import problem.definition.Move;
+import problem.definition.State;
+import problem.definition.SwapMove;
+
+public class TabuMemoryTest {
+
+    @AfterEach
+    void tearDown() {
+        TabuSolutions.listTabu = TabuMemory.forStates();
+        TabuSolutions.listTabuAttributes = TabuMemory.forAttributes();
+        TabuSolutions.mode = TabuMode.SOLUTION;
+        TabuSolutions.maxelements = 0;
+    }
+
+    private State state(Object... values) {
+        return new State(new ArrayList<Object>(List.of(values)));
+    }
+
+    @Test
+    @DisplayName("El buffer circular expulsa el más antiguo y conserva el orden de inserción")
+    void testRingBufferEviction() {
+        TabuMemory<Object> memory = TabuMemory.forAttributes();
+        for (int i = 0; i < 40; i++) {
+            memory.addUnique(i, 3);
+        }
+        assertEquals(List.of(37, 38, 39), memory);
+        assertTrue(memory.isTabu(39));
+        assertFalse(memory.isTabu(36));
+        assertFalse(memory.addUnique(38, 3), "Un elemento repetido no se añade");
+        assertEquals(List.of(38, 39), memory);
+    }
+
+    @Test
+    @DisplayName("Los estados se reconocen por su codificación, no por identidad")
+    void testStatesMatchByCode() {
+        TabuMemory<State> memory = TabuMemory.forStates();
+        State visited = state(1, 2, 3);
+        memory.addUnique(visited, 5);
+        visited.setCodeAt(0, 9);
+
+        assertTrue(memory.isTabu(state(1, 2, 3)), "La huella se toma al insertar");
+        assertTrue(memory.isTabu(new IntVectorState(new int[] {1, 2, 3})));
+        assertFalse(memory.isTabu(state(9, 2, 3)));
+        memory.remove(0);
+        assertFalse(memory.isTabu(state(1, 2, 3)));
+    }
+
+    @Test
+    @DisplayName("filterNeighborhood descarta los vecinos tabú y aplica aspiración si no queda ninguno")
+    void testFilterNeighborhood() throws Exception {
+        TabuSolutions.maxelements = 4;
+        TabuSolutions.addTabu(state(1, 1), null);
+        List<State> neighborhood = new ArrayList<>(List.of(state(1, 1), state(2, 2)));
+
+        List<State> filtered = new TabuSolutions().filterNeighborhood(neighborhood);
+        assertEquals(1, filtered.size());
+        assertEquals(List.of(2, 2), filtered.get(0).getCode());
+
+        List<State> allTabu = new ArrayList<>(List.of(state(1, 1)));
+        assertEquals(1, new TabuSolutions().filterNeighborhood(allTabu).size());
+    }
+
+    @Test
+    @DisplayName("En modo MOVE se prohíben los movimientos aplicados, también el intercambio inverso")
+    void testMoveMode() {
+        TabuSolutions.mode = TabuMode.MOVE;
+        TabuSolutions.maxelements = 2;
+        TabuSolutions.addTabu(state(0, 1, 2), new SwapMove(0, 2));
+
+        List<Move> moves = List.of(new SwapMove(2, 0), new SwapMove(0, 1));
+        assertEquals(List.of(new SwapMove(0, 1)), new TabuSolutions().filterMoves(moves));
+        assertTrue(TabuSolutions.getListTabu().isEmpty(), "En modo de atributos no se guardan soluciones");
+    }
+
+    @Test
+    @DisplayName("En modo POSITION se prohíbe cualquier movimiento sobre una posición reciente")
+    void testPositionMode() {
+        TabuSolutions.mode = TabuMode.POSITION;
+        TabuSolutions.maxelements = 4;
+        TabuSolutions.addTabu(state(0, 0, 0), new GeneMove(1, 5));
+
+        List<Move> moves = List.of(new GeneMove(1, 7), new SwapMove(0, 1), new GeneMove(2, 7));
+        assertEquals(List.of(new GeneMove(2, 7)), new TabuSolutions().filterMoves(moves));
+        assertEquals(List.of(new GeneMove(1, 7)), new TabuSolutions().filterMoves(List.of(new GeneMove(1, 7))));
+    }
+}
@@ -0,0 +1,120 @@
+package metaheurictics.strategy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import metaheuristics.generators.DistributionEstimationAlgorithm;
+import metaheuristics.generators.EvolutionStrategies;
+import metaheuristics.generators.GeneratorType;
+import metaheuristics.generators.GeneticAlgorithm;
+import metaheuristics.generators.ParticleSwarmOptimization;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.Problem;
+import problem.definition.Problem.ProblemType;
+import problem.definition.State;
+
+public class ExperimentExecutorTest {
+
+    @BeforeEach
+    void resetSharedConfig() {
+        GeneticAlgorithm.countRef = 0;
+        EvolutionStrategies.countRef = 0;
+        DistributionEstimationAlgorithm.countRef = 0;
+        ParticleSwarmOptimization.countRef = 0;
+        ParticleSwarmOptimization.coutSwarm = 0;
+        ParticleSwarmOptimization.countParticleBySwarm = 0;
+    }
+
+    @AfterEach
+    void tearDown() {
+        StrategyContext.unbind();
+        Strategy.destroyExecute();
+    }
+
+    private static Problem newProblem() {
+        Problem p = new Problem();
+        p.setFunction(new ArrayList<>());
+        p.getFunction().add(new ObjetiveFunction() {
+            @Override public Double Evaluation(State state) { return ThreadLocalRandom.current().nextDouble(); }
+        });
+        p.setTypeProblem(ProblemType.MAXIMIZAR);
+        p.setOperator(new Operator() {
+            @Override public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+                List<State> l = new ArrayList<>();
+                l.add(new State());
+                return l;
+            }
+            @Override public List<State> generateRandomState(Integer operatornumber) {
+                List<State> l = new ArrayList<>();
+                l.add(new State());
+                return l;
+            }
+        });
+        return p;
+    }
+
+    @Test
+    @DisplayName("run ejecuta todas las réplicas y agrega sus estadísticas")
+    void testRunAggregatesReplicas() throws Exception {
+        ExperimentExecutor executor = new ExperimentExecutor(ExperimentExecutorTest::newProblem, 3);
+        List<ReplicaResult> results = Collections.synchronizedList(new ArrayList<>());
+        try {
+            ExperimentStatistics stats = executor.run(6, 42L, 20, 100, 1, GeneratorType.RANDOM_SEARCH, results::add);
+            assertEquals(6, stats.getCount());
+            assertEquals(6, results.size());
+            Set<Integer> replicas = new HashSet<>();
+            for (ReplicaResult r : results) {
+                replicas.add(r.getReplica());
+                assertEquals(ExperimentExecutor.seedFor(42L, r.getReplica()), r.getSeed());
+                assertNotNull(r.getBestState());
+                assertEquals(100, r.getListOfflineError().length);
+                assertTrue(stats.getBest() >= r.getBestEvaluation());
+            }
+            assertEquals(6, replicas.size());
+            assertFalse(Double.isNaN(stats.getMean()));
+            assertTrue(stats.getStandardDeviation() >= 0.0);
+        } finally {
+            executor.shutdown();
+        }
+        assertNull(StrategyContext.current());
+    }
+
+    @Test
+    @DisplayName("seedFor es determinista y distinto por réplica")
+    void testSeedForDeterministic() {
+        assertEquals(ExperimentExecutor.seedFor(7L, 3), ExperimentExecutor.seedFor(7L, 3));
+        assertNotEquals(ExperimentExecutor.seedFor(7L, 3), ExperimentExecutor.seedFor(7L, 4));
+        assertNotEquals(ExperimentExecutor.seedFor(7L, 3), ExperimentExecutor.seedFor(8L, 3));
+    }
+
+    @Test
+    @DisplayName("ExperimentStatistics calcula media, mediana, mejor y desviación")
+    void testStatistics() {
+        ExperimentStatistics stats = new ExperimentStatistics(ProblemType.MINIMIZAR);
+        double[] values = {4.0, 1.0, 3.0, 2.0};
+        for (int i = 0; i < values.length; i++) {
+            State s = new State();
+            s.setEvaluation(new ArrayList<>(List.of(values[i])));
+            stats.add(new ReplicaResult(i, i, s, new float[0], 10L, ProblemType.MINIMIZAR));
+        }
+        assertEquals(4, stats.getCount());
+        assertEquals(2.5, stats.getMean(), 1e-9);
+        assertEquals(2.5, stats.getMedian(), 1e-9);
+        assertEquals(1.0, stats.getBest(), 1e-9);
+        assertEquals(1, stats.getBestReplica().getReplica());
+        assertEquals(Math.sqrt(5.0 / 3.0), stats.getStandardDeviation(), 1e-9);
+        assertEquals(40L, stats.getTotalNanos());
+    }
+}
@@ -0,0 +1,148 @@
+package metaheurictics.strategy;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import local_search.complement.StopExecute;
+import metaheuristics.generators.DistributionEstimationAlgorithm;
+import metaheuristics.generators.EvolutionStrategies;
+import metaheuristics.generators.Generator;
+import metaheuristics.generators.GeneratorType;
+import metaheuristics.generators.GeneticAlgorithm;
+import metaheuristics.generators.ParticleSwarmOptimization;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.Problem;
+import problem.definition.State;
+
+@Tag("allocation")
+class StrategyAllocationTest {
+
+    private static final int ITERATIONS = 20000;
+    private static final Double FITNESS = 1.0;
+
+    private com.sun.management.ThreadMXBean threads;
+    private Strategy strategy;
+    private Problem problem;
+    private State candidate;
+
+    private interface Work {
+        void run() throws Exception;
+    }
+
+    /** Generador que devuelve siempre el mismo candidato sin reservar memoria. */
+    private static final class FixedGenerator extends Generator {
+        private final State candidate;
+        private final List<State> references = new ArrayList<State>();
+        private State reference;
+
+        FixedGenerator(State candidate) {
+            this.candidate = candidate;
+        }
+
+        @Override public State generate(Integer operatornumber) { return candidate; }
+        @Override public void updateReference(State stateCandidate, int countIterationsCurrent) {}
+        @Override public State getReference() { return reference; }
+        @Override public void setInitialReference(State stateInitialRef) { this.reference = stateInitialRef; }
+        @Override public GeneratorType getType() { return GeneratorType.HILL_CLIMBING; }
+        @Override public List<State> getReferenceList() { return references; }
+        @Override public List<State> getSonList() { return references; }
+        @Override public boolean awardUpdateREF(State stateCandidate) { return false; }
+        @Override public void setWeight(float weight) {}
+        @Override public float getWeight() { return 0; }
+        @Override public float[] getTrace() { return new float[0]; }
+        @Override public int[] getListCountBetterGender() { return new int[0]; }
+        @Override public int[] getListCountGender() { return new int[0]; }
+    }
+
+    @BeforeEach
+    void setUp() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "La JVM no expone la memoria reservada por hilo");
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "La JVM no mide la memoria reservada por hilo");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        GeneticAlgorithm.countRef = 0;
+        EvolutionStrategies.countRef = 0;
+        DistributionEstimationAlgorithm.countRef = 0;
+        ParticleSwarmOptimization.countRef = 0;
+        ParticleSwarmOptimization.coutSwarm = 0;
+        ParticleSwarmOptimization.countParticleBySwarm = 0;
+
+        problem = new Problem();
+        problem.setFunction(new ArrayList<>());
+        problem.getFunction().add(new ObjetiveFunction() {
+            @Override public Double Evaluation(State state) { return FITNESS; }
+        });
+        problem.setTypeProblem(Problem.ProblemType.MAXIMIZAR);
+        problem.setOperator(new Operator() {
+            @Override public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+                return List.of(new State());
+            }
+            @Override public List<State> generateRandomState(Integer operatornumber) {
+                return List.of(new State());
+            }
+        });
+        Strategy.setProblem(problem);
+
+        candidate = new State(new ArrayList<Object>(List.of(1)));
+        strategy = Strategy.getStrategy();
+        strategy.setStopexecute(new StopExecute());
+        strategy.setFactoryGenerator(type -> new FixedGenerator(candidate));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (strategy != null) {
+            strategy.setFactoryGenerator(null);
+        }
+        Strategy.destroyExecute();
+    }
+
+    private void run(int iterations) throws Exception {
+        strategy.executeStrategy(iterations, iterations, 1, GeneratorType.HILL_CLIMBING);
+    }
+
+    private long allocated(Work work) throws Exception {
+        long thread = Thread.currentThread().getId();
+        long before = threads.getThreadAllocatedBytes(thread);
+        work.run();
+        return threads.getThreadAllocatedBytes(thread) - before;
+    }
+
+    @Test
+    @DisplayName("El ciclo de executeStrategy no reserva memoria propia por iteración")
+    void testLoopDoesNotAllocate() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            run(2 * ITERATIONS);
+            for (int j = 0; j < ITERATIONS; j++) {
+                problem.Evaluate(candidate);
+            }
+        }
+
+        long single = allocated(() -> run(ITERATIONS));
+        long twice = allocated(() -> run(2 * ITERATIONS));
+        long evaluations = allocated(() -> {
+            for (int j = 0; j < ITERATIONS; j++) {
+                problem.Evaluate(candidate);
+            }
+        });
+
+        // La diferencia entre ambas corridas son ITERATIONS iteraciones; se descuenta
+        // lo que reserva el propio problema al guardar cada evaluación en el estado.
+        long framework = twice - single - evaluations;
+        assertEquals(0, framework / ITERATIONS,
+                "Bytes por iteración: corrida=" + (twice - single) + ", evaluaciones=" + evaluations);
+    }
+}
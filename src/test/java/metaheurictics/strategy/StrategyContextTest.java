@@ -0,0 +1,135 @@
+package metaheurictics.strategy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import local_search.complement.TabuSolutions;
+import metaheuristics.generators.DistributionEstimationAlgorithm;
+import metaheuristics.generators.HillClimbingRestart;
+import metaheuristics.generators.MultiCaseSimulatedAnnealing;
+import metaheuristics.generators.MultiobjectiveHillClimbingDistance;
+import metaheuristics.generators.RandomSearch;
+import metaheuristics.generators.SimulatedAnnealing;
+import problem.definition.Problem;
+import problem.definition.State;
+
+public class StrategyContextTest {
+
+    @BeforeEach
+    void clean() {
+        StrategyContext.unbind();
+        Strategy.destroyExecute();
+        TabuSolutions.listTabu.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StrategyContext.unbind();
+        Strategy.destroyExecute();
+        TabuSolutions.listTabu.clear();
+    }
+
+    @Test
+    @DisplayName("Sin contexto ligado se usa el singleton global")
+    void testFallbackToGlobalSingleton() {
+        assertNull(StrategyContext.current());
+        assertSame(Strategy.getStrategy(), Strategy.getStrategy());
+        assertSame(TabuSolutions.listTabu, TabuSolutions.getListTabu());
+    }
+
+    @Test
+    @DisplayName("call liga el contexto y lo restaura al terminar")
+    void testCallBindsAndRestores() throws Exception {
+        Problem problem = new Problem();
+        StrategyContext context = new StrategyContext(problem);
+        Strategy inside = context.call(() -> Strategy.getStrategy());
+        assertSame(context.getStrategy(), inside);
+        assertSame(problem, inside.getProblem());
+        assertNull(StrategyContext.current());
+        assertNotSame(inside, Strategy.getStrategy());
+    }
+
+    @Test
+    @DisplayName("El estado por corrida no se filtra al estado global")
+    void testRunStateIsolatedFromGlobals() throws Exception {
+        SimulatedAnnealing.tinitial = 100.0;
+        MultiCaseSimulatedAnnealing.tinitial = 80.0;
+        MultiCaseSimulatedAnnealing.countIterationsT = 10;
+        HillClimbingRestart.count = 7;
+        MultiobjectiveHillClimbingDistance.distanceSolution.clear();
+        StrategyContext context = new StrategyContext(new Problem());
+        context.call(() -> {
+            TabuSolutions.getListTabu().add(new State());
+            RandomSearch.getListStateReference().add(new State());
+            SimulatedAnnealing.setTinitial(5.0);
+            MultiCaseSimulatedAnnealing.setTinitial(4.0);
+            MultiCaseSimulatedAnnealing.setCountIterationsT(20);
+            HillClimbingRestart.setCount(14);
+            DistributionEstimationAlgorithm.setListSons(new ArrayList<State>());
+            MultiobjectiveHillClimbingDistance.getDistanceSolution().add(3.0);
+            return null;
+        });
+        assertEquals(1, context.getListTabu().size());
+        assertEquals(1, context.getListStateReferenceRS().size());
+        assertEquals(5.0, context.getTinitial());
+        assertTrue(TabuSolutions.listTabu.isEmpty());
+        assertTrue(RandomSearch.listStateReference.isEmpty());
+        assertEquals(100.0, SimulatedAnnealing.tinitial);
+        assertEquals(4.0, context.getMulticaseTinitial());
+        assertEquals(20, context.getMulticaseCountIterationsT());
+        assertEquals(80.0, MultiCaseSimulatedAnnealing.tinitial);
+        assertEquals(10, MultiCaseSimulatedAnnealing.countIterationsT);
+        assertEquals(14, context.getCountRestart());
+        assertEquals(7, HillClimbingRestart.count);
+        assertNotSame(DistributionEstimationAlgorithm.sonList, context.getListSonsEDA());
+        assertEquals(1, context.getDistanceSolution().size());
+        assertTrue(MultiobjectiveHillClimbingDistance.distanceSolution.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Hilos distintos obtienen instancias de Strategy distintas")
+    void testContextsPerThread() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            StrategyContext first = new StrategyContext(new Problem());
+            StrategyContext second = new StrategyContext(new Problem());
+            Future<Strategy> a = pool.submit(() -> first.call(() -> {
+                Strategy.getStrategy().setCountCurrent(1);
+                return Strategy.getStrategy();
+            }));
+            Future<Strategy> b = pool.submit(() -> second.call(() -> {
+                Strategy.getStrategy().setCountCurrent(2);
+                return Strategy.getStrategy();
+            }));
+            assertSame(first.getStrategy(), a.get());
+            assertSame(second.getStrategy(), b.get());
+            assertEquals(1, a.get().getCountCurrent());
+            assertEquals(2, b.get().getCountCurrent());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("destroyExecute con contexto solo reinicia la instancia del contexto")
+    void testDestroyExecuteWithContext() throws Exception {
+        Strategy global = Strategy.getStrategy();
+        StrategyContext context = new StrategyContext(new Problem());
+        Strategy before = context.getStrategy();
+        context.call(() -> {
+            Strategy.destroyExecute();
+            return null;
+        });
+        assertNotSame(before, context.getStrategy());
+        assertSame(global, Strategy.getStrategy());
+    }
+}
@@ -0,0 +1,141 @@
+package metaheurictics.strategy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import local_search.complement.StopExecute;
+import metaheuristics.generators.DistributionEstimationAlgorithm;
+import metaheuristics.generators.EvolutionStrategies;
+import metaheuristics.generators.GeneratorType;
+import metaheuristics.generators.GeneticAlgorithm;
+import metaheuristics.generators.ParticleSwarmOptimization;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.Problem;
+import problem.definition.State;
+
+public class StrategyMetricsTest {
+
+    @BeforeEach
+    void setUp() {
+        GeneticAlgorithm.countRef = 0;
+        EvolutionStrategies.countRef = 0;
+        DistributionEstimationAlgorithm.countRef = 0;
+        ParticleSwarmOptimization.countRef = 0;
+        ParticleSwarmOptimization.coutSwarm = 0;
+        ParticleSwarmOptimization.countParticleBySwarm = 0;
+        StrategyMetrics.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        StrategyMetrics.setEnabled(false);
+        StrategyMetrics.reset();
+        Strategy.destroyExecute();
+    }
+
+    private void run(int iterations) throws Exception {
+        run(iterations, false);
+    }
+
+    private void run(int iterations, boolean saveListStates) throws Exception {
+        Problem p = new Problem();
+        p.setFunction(new ArrayList<>());
+        p.getFunction().add(new ObjetiveFunction() {
+            @Override public Double Evaluation(State state) { return 1.0; }
+        });
+        p.setTypeProblem(Problem.ProblemType.MAXIMIZAR);
+        p.setOperator(new Operator() {
+            @Override public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+                return List.of(new State());
+            }
+            @Override public List<State> generateRandomState(Integer operatornumber) {
+                return List.of(new State());
+            }
+        });
+        Strategy strategy = Strategy.getStrategy();
+        Strategy.setProblem(p);
+        strategy.setStopexecute(new StopExecute());
+        strategy.saveListStates = saveListStates;
+        strategy.executeStrategy(iterations, iterations, 1, GeneratorType.RANDOM_SEARCH);
+    }
+
+    @Test
+    @DisplayName("Con las métricas activas cada fase registra una muestra por iteración")
+    void testPhasesRecorded() throws Exception {
+        StrategyMetrics.setEnabled(true);
+        run(12);
+        for (LoopPhase phase : LoopPhase.values()) {
+            assertEquals(12, StrategyMetrics.histogram(GeneratorType.RANDOM_SEARCH, phase).getCount(), phase.name());
+        }
+        assertEquals(0, StrategyMetrics.histogram(GeneratorType.HILL_CLIMBING, LoopPhase.GENERATE).getCount());
+    }
+
+    @Test
+    @DisplayName("El registro de listStates se mide en ARCHIVE y no en UPDATE_REFERENCE")
+    void testArchiveHasOwnPhase() throws Exception {
+        StrategyMetrics.setEnabled(true);
+        run(7, true);
+        assertEquals(7, Strategy.getStrategy().listStates.size() - 1);
+        assertEquals(7, StrategyMetrics.histogram(GeneratorType.RANDOM_SEARCH, LoopPhase.ARCHIVE).getCount());
+        assertEquals(7, StrategyMetrics.histogram(GeneratorType.RANDOM_SEARCH, LoopPhase.UPDATE_REFERENCE).getCount());
+    }
+
+    @Test
+    @DisplayName("Desactivadas no se registra nada")
+    void testDisabledRecordsNothing() throws Exception {
+        assertNull(StrategyMetrics.recorder(GeneratorType.RANDOM_SEARCH));
+        run(5);
+        assertEquals(0, StrategyMetrics.histogram(GeneratorType.RANDOM_SEARCH, LoopPhase.EVALUATE).getCount());
+    }
+
+    @Test
+    @DisplayName("El histograma usa cubetas de potencias de dos")
+    void testHistogram() {
+        PhaseHistogram histogram = new PhaseHistogram();
+        histogram.record(0);
+        histogram.record(1);
+        histogram.record(3);
+        histogram.record(1000);
+        long[] buckets = histogram.getBuckets();
+        assertEquals(1, buckets[0]);
+        assertEquals(1, buckets[1]);
+        assertEquals(1, buckets[2]);
+        assertEquals(1, buckets[10]);
+        assertEquals(4, histogram.getCount());
+        assertEquals(1004, histogram.getTotalNanos());
+        assertEquals(1000, histogram.getMaxNanos());
+        assertEquals(3, histogram.percentileNanos(75));
+        assertEquals(1000, histogram.percentileNanos(100));
+    }
+
+    @Test
+    @DisplayName("El MXBean expone los contadores por generador y fase")
+    void testMBean() throws Exception {
+        ObjectName name = StrategyMetrics.registerMBean();
+        assertEquals(name, StrategyMetrics.registerMBean(), "Registrar dos veces no falla");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        server.setAttribute(name, new Attribute("Enabled", true));
+        assertTrue(StrategyMetrics.isEnabled());
+        run(3);
+
+        TabularData counts = (TabularData) server.getAttribute(name, "Counts");
+        Map<String, Long> bean = StrategyMetrics.collect(PhaseHistogram::getCount);
+        assertEquals(bean.size(), counts.size());
+        assertEquals(3L, bean.get("RANDOM_SEARCH.GENERATE"));
+    }
+}
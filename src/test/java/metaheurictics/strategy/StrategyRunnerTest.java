@@ -0,0 +1,116 @@
+package metaheurictics.strategy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import local_search.complement.StopCondition;
+import metaheuristics.generators.DistributionEstimationAlgorithm;
+import metaheuristics.generators.EvolutionStrategies;
+import metaheuristics.generators.GeneratorType;
+import metaheuristics.generators.GeneticAlgorithm;
+import metaheuristics.generators.ParticleSwarmOptimization;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Operator;
+import problem.definition.Problem;
+import problem.definition.Problem.ProblemType;
+import problem.definition.State;
+
+public class StrategyRunnerTest {
+
+    private StrategyRunner runner;
+
+    @BeforeEach
+    void resetSharedConfig() {
+        GeneticAlgorithm.countRef = 0;
+        EvolutionStrategies.countRef = 0;
+        DistributionEstimationAlgorithm.countRef = 0;
+        ParticleSwarmOptimization.countRef = 0;
+        ParticleSwarmOptimization.coutSwarm = 0;
+        ParticleSwarmOptimization.countParticleBySwarm = 0;
+        runner = new StrategyRunner(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    private static Problem newProblem() {
+        Problem p = new Problem();
+        p.setFunction(new ArrayList<>());
+        p.getFunction().add(new ObjetiveFunction() {
+            @Override public Double Evaluation(State state) { return 1.0; }
+        });
+        p.setTypeProblem(ProblemType.MAXIMIZAR);
+        p.setOperator(new Operator() {
+            @Override public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+                List<State> l = new ArrayList<>();
+                l.add(new State());
+                return l;
+            }
+            @Override public List<State> generateRandomState(Integer operatornumber) {
+                List<State> l = new ArrayList<>();
+                l.add(new State());
+                return l;
+            }
+        });
+        return p;
+    }
+
+    @Test
+    @DisplayName("submit completa el futuro con el progreso final")
+    void testSubmitCompletes() throws Exception {
+        RunConfiguration config = new RunConfiguration(newProblem(), GeneratorType.RANDOM_SEARCH, 25, 25, 1);
+        config.setSeed(7L);
+
+        RunHandle handle = runner.submit(config);
+        RunSnapshot result = handle.getFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(25, result.getIteration());
+        assertEquals(26, result.getEvaluations(), "Incluye la evaluación del estado inicial");
+        assertNotNull(result.getBestState());
+        assertEquals(1.0, result.getBestEvaluation(), 1e-9);
+        assertEquals(25, handle.snapshot().getIteration());
+    }
+
+    @Test
+    @DisplayName("cancel detiene una corrida sin límite en la siguiente iteración")
+    void testCancelStopsRun() throws Exception {
+        RunConfiguration config = new RunConfiguration(newProblem(), GeneratorType.RANDOM_SEARCH, Integer.MAX_VALUE, Integer.MAX_VALUE, 1);
+        config.setStopCondition(StopCondition.maxTime(1, TimeUnit.MINUTES));
+        RunHandle handle = runner.submit(config);
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (handle.snapshot().getIteration() < 10 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        handle.cancel();
+
+        assertThrows(CancellationException.class, () -> handle.getFuture().get(10, TimeUnit.SECONDS));
+        assertTrue(handle.getFuture().isCancelled());
+        assertTrue(handle.snapshot().getIteration() >= 10);
+        assertTrue(handle.snapshot().getElapsedNanos() < TimeUnit.MINUTES.toNanos(1));
+    }
+
+    @Test
+    @DisplayName("El oyente recibe el progreso cada intervalo de iteraciones")
+    void testProgressListener() throws Exception {
+        List<Integer> iterations = new CopyOnWriteArrayList<>();
+        RunConfiguration config = new RunConfiguration(newProblem(), GeneratorType.RANDOM_SEARCH, 20, 20, 1);
+        config.setProgressListener(snapshot -> iterations.add(snapshot.getIteration()), 5);
+
+        runner.submit(config).getFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(List.of(0, 5, 10, 15), iterations);
+    }
+}
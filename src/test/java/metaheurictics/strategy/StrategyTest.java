@@ -351,7 +351,7 @@ class StrategyTest {
         Generator g1 = new Generator() {
             private State ref = new State();
             @Override public State generate(Integer operatornumber) { return null; }
-            @Override public void updateReference(State stateCandidate, Integer countIterationsCurrent) {}
+            @Override public void updateReference(State stateCandidate, int countIterationsCurrent) {}
             @Override public State getReference() { return ref; }
             @Override public void setInitialReference(State stateInitialRef) { this.ref = stateInitialRef; }
             @Override public GeneratorType getType() { return GeneratorType.RANDOM_SEARCH; }
@@ -370,7 +370,7 @@ class StrategyTest {
         final int[] betters2 = new int[] {2, 2, 2};
         Generator g2 = new Generator() {
             @Override public State generate(Integer operatornumber) { return null; }
-            @Override public void updateReference(State stateCandidate, Integer countIterationsCurrent) {}
+            @Override public void updateReference(State stateCandidate, int countIterationsCurrent) {}
             @Override public State getReference() { return null; }
             @Override public void setInitialReference(State stateInitialRef) {}
             @Override public GeneratorType getType() { return GeneratorType.RANDOM_SEARCH; }
@@ -411,7 +411,7 @@ class StrategyTest {
         class SimpleGen extends Generator {
             private float weight = 10f;
             @Override public State generate(Integer operatornumber) { return null; }
-            @Override public void updateReference(State stateCandidate, Integer countIterationsCurrent) {}
+            @Override public void updateReference(State stateCandidate, int countIterationsCurrent) {}
             @Override public State getReference() { return null; }
             @Override public void setInitialReference(State stateInitialRef) {}
             @Override public GeneratorType getType() { return GeneratorType.RANDOM_SEARCH; }
@@ -447,7 +447,7 @@ class StrategyTest {
 
         Generator gen = new Generator() {
             @Override public State generate(Integer operatornumber) { return null; }
-            @Override public void updateReference(State stateCandidate, Integer countIterationsCurrent) {}
+            @Override public void updateReference(State stateCandidate, int countIterationsCurrent) {}
             @Override public State getReference() { return null; }
             @Override public void setInitialReference(State stateInitialRef) {}
             @Override public GeneratorType getType() { return GeneratorType.GENETIC_ALGORITHM; }
@@ -487,6 +487,36 @@ class StrategyTest {
         assertTrue(keys.size() >= 1, "Debería devolver al menos una key de GeneratorType");
     }
 
+    @Test
+    @DisplayName("Registro de generadores: initialize no construye ninguno y getGenerator crea bajo demanda")
+    void testGeneratorRegistryIsLazy() throws Exception {
+        strategy.setProblem(mockProblem);
+        strategy.initialize();
+        assertTrue(strategy.mapGenerators.isEmpty(), "initialize no debería construir generadores");
+        assertEquals(GeneratorType.values().length, strategy.getListKey().size());
+        assertNull(strategy.findGenerator(GeneratorType.GENETIC_ALGORITHM, GeneticAlgorithm.class));
+
+        Generator first = strategy.getGenerator(GeneratorType.GENETIC_ALGORITHM);
+
+        assertSame(first, strategy.getGenerator(GeneratorType.GENETIC_ALGORITHM), "Se construye una sola vez");
+        assertSame(first, strategy.findGenerator(GeneratorType.GENETIC_ALGORITHM, GeneticAlgorithm.class));
+        assertNull(strategy.findGenerator(GeneratorType.GENETIC_ALGORITHM, MultiGenerator.class));
+        assertEquals(1, strategy.mapGenerators.size());
+    }
+
+    @Test
+    @DisplayName("Registro de generadores: un GA nuevo comparte la población del GA registrado")
+    void testRegisteredGeneticAlgorithmSharesPopulation() throws Exception {
+        strategy.setProblem(mockProblem);
+        strategy.initialize();
+        GeneticAlgorithm registered = (GeneticAlgorithm) strategy.getGenerator(GeneratorType.GENETIC_ALGORITHM);
+        ArrayList<State> population = new ArrayList<>();
+        population.add(new State());
+        registered.setListState(population);
+
+        assertSame(population, new GeneticAlgorithm().getListState());
+    }
+
     @Test
     @DisplayName("update: Cambia generator cuando countIterationsCurrent == countRef - 1")
     void testUpdate_SetsGeneratorBasedOnCountRef() throws Exception {
@@ -36,7 +36,7 @@ public class EvolutionStrategiesTest {
         // install a minimal stub generator to avoid code paths that reference Strategy.generator
         Strategy.getStrategy().generator = new Generator() {
             @Override public State generate(Integer operatornumber) { return null; }
-            @Override public void updateReference(State stateCandidate, Integer countIterationsCurrent) { }
+            @Override public void updateReference(State stateCandidate, int countIterationsCurrent) { }
             @Override public State getReference() { return null; }
             @Override public void setInitialReference(State stateInitialRef) { }
             @Override public GeneratorType getType() { return GeneratorType.EVOLUTION_STRATEGIES; }
@@ -0,0 +1,26 @@
+package metaheuristics.generators;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import problem.definition.State;
+
+@DisplayName("Tests para Generator")
+class GeneratorTest {
+
+    @Test
+    @SuppressWarnings("deprecation")
+    @DisplayName("updateReference(State, Integer) delega en la variante int")
+    void testIntegerCallReachesIntOverride() throws Exception {
+        Generator current = mock(Generator.class, CALLS_REAL_METHODS);
+        doNothing().when(current).updateReference(any(State.class), anyInt());
+        State state = new State();
+
+        current.updateReference(state, Integer.valueOf(7));
+
+        verify(current).updateReference(state, 7);
+    }
+}
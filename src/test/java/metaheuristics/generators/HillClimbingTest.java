@@ -490,7 +490,7 @@ class HillClimbingTest {
             float[] trace = hillClimbing.getTrace();
 
             assertNotNull(trace, "Trace no debería ser nulo");
-            assertEquals(1200000, trace.length, "Trace debería tener 1200000 elementos");
+            assertEquals(1, trace.length, "Trace solo debería contener el peso inicial");
         }
     }
 
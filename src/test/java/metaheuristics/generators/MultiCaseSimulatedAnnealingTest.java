@@ -23,7 +23,7 @@ public class MultiCaseSimulatedAnnealingTest {
         // Stub generator to satisfy Dominance/accept flows inside AcceptMulticase
         Strategy.getStrategy().generator = new Generator() {
             @Override public State generate(Integer operatornumber) { return null; }
-            @Override public void updateReference(State stateCandidate, Integer countIterationsCurrent) { }
+            @Override public void updateReference(State stateCandidate, int countIterationsCurrent) { }
             @Override public State getReference() { return null; }
             @Override public void setInitialReference(State stateInitialRef) { }
             @Override public GeneratorType getType() { return GeneratorType.MULTI_CASE_SIMULATED_ANNEALING; }
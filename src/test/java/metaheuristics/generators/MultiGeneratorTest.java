@@ -727,6 +727,28 @@ class MultiGeneratorTest {
                 "Peso debería decrecer para no improvement case");
     }
 
+    @Test
+    @DisplayName("updateAwardImp: Registra el peso de cada generador en su traza")
+    void testUpdateAwardRecordsTrace() throws Exception {
+        Strategy strategy = Strategy.getStrategy();
+        strategy.setCountCurrent(5000);
+
+        Generator activeGen = new RandomSearch();
+        Generator otherGen = new HillClimbing();
+        otherGen.setWeight(20.0f);
+        assertEquals(0, activeGen.getWeightTrace().getResidentChunks(), "Sin registros no se reservan bloques");
+        MultiGenerator.setActiveGenerator(activeGen);
+        MultiGenerator.setListGenerators(new Generator[]{activeGen, otherGen});
+
+        multiGenerator = new MultiGenerator();
+        multiGenerator.updateAwardImp();
+
+        assertEquals(5001, activeGen.getTrace().length);
+        assertEquals(45.0f, activeGen.getWeightTrace().get(5000), 0.001f);
+        assertEquals(20.0f, otherGen.getWeightTrace().get(5000), 0.001f);
+        assertEquals(50.0f, activeGen.getWeightTrace().get(0), 0.001f, "El peso inicial se conserva");
+    }
+
     // ==================== Tests de initializeGenerators ====================
 
     @Test
@@ -753,6 +775,38 @@ class MultiGeneratorTest {
             "listGeneratedPP debería tener estados generados");
     }
 
+    @Test
+    @DisplayName("initializeGenerators: Los generadores poblacionales del portafolio son los registrados")
+    void testInitializeGeneratorsUsesRegistry() throws Exception {
+        Strategy strategy = Strategy.getStrategy();
+        strategy.setProblem(mockProblem);
+        strategy.initializeGenerators();
+
+        State stateREF = new State();
+        ArrayList<Double> eval = new ArrayList<>();
+        eval.add(10.0);
+        stateREF.setEvaluation(eval);
+        stateREF.setCode(new ArrayList<>());
+        when(mockProblem.getState()).thenReturn(stateREF);
+
+        EvolutionStrategies.countRef = 4;
+
+        MultiGenerator.initializeGenerators();
+
+        int found = 0;
+        for (Generator g : MultiGenerator.getListGenerators()) {
+            GeneratorType type = g.getType();
+            if (type == GeneratorType.GENETIC_ALGORITHM
+                    || type == GeneratorType.EVOLUTION_STRATEGIES
+                    || type == GeneratorType.DISTRIBUTION_ESTIMATION_ALGORITHM) {
+                assertSame(strategy.findGenerator(type, Generator.class), g,
+                    "El miembro " + type + " debería ser el del registro");
+                found++;
+            }
+        }
+        assertEquals(2, found, "El portafolio debería tener GA y ES");
+    }
+
     // ==================== Tests Adicionales Simples ====================
 
     @Test
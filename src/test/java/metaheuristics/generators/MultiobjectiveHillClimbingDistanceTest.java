@@ -37,7 +37,7 @@ public class MultiobjectiveHillClimbingDistanceTest {
         // Provide a stub generator to satisfy Dominance/acceptance internals
         Strategy.getStrategy().generator = new Generator() {
             @Override public State generate(Integer operatornumber) { return new State(); }
-            @Override public void updateReference(State stateCandidate, Integer countIterationsCurrent) { }
+            @Override public void updateReference(State stateCandidate, int countIterationsCurrent) { }
             @Override public State getReference() { return new State(); }
             @Override public void setInitialReference(State stateInitialRef) { }
             @Override public GeneratorType getType() { return GeneratorType.RANDOM_SEARCH; }
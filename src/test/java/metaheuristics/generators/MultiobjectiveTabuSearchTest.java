@@ -24,7 +24,7 @@ public class MultiobjectiveTabuSearchTest {
         // Provide a minimal stub generator to avoid NPEs in Dominance/acceptance flows
         Strategy.getStrategy().generator = new Generator() {
             @Override public State generate(Integer operatornumber) { return null; }
-            @Override public void updateReference(State stateCandidate, Integer countIterationsCurrent) { }
+            @Override public void updateReference(State stateCandidate, int countIterationsCurrent) { }
             @Override public State getReference() { return null; }
             @Override public void setInitialReference(State stateInitialRef) { }
             @Override public GeneratorType getType() { return GeneratorType.MULTIOBJECTIVE_TABU_SEARCH; }
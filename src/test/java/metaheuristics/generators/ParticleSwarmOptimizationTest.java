@@ -86,6 +86,25 @@ public class ParticleSwarmOptimizationTest {
         assertEquals((before + 1) % Math.max(1, ParticleSwarmOptimization.countRef), ParticleSwarmOptimization.countParticle % Math.max(1, ParticleSwarmOptimization.countRef));
     }
 
+    @Test
+    @DisplayName("generate and updateReference wrap when the swarm is smaller than countRef")
+    void testCounterWrapsWithShortSwarm() throws Exception {
+        Problem p = new Problem();
+        p.setTypeProblem(Problem.ProblemType.MINIMIZAR);
+        ArrayList<ObjetiveFunction> funcs = new ArrayList<>();
+        funcs.add(new ObjetiveFunction() { @Override public Double Evaluation(State state) { return 0.0; }});
+        p.setFunction(funcs);
+        Strategy.setProblem(p);
+        ParticleSwarmOptimization pso = new ParticleSwarmOptimization();
+        ParticleSwarmOptimization.countRef = seedStates.size() + 1;
+        for (int i = 0; i < 2 * ParticleSwarmOptimization.countRef; i++) {
+            State candidate = pso.generate(1);
+            assertNotNull(candidate);
+            candidate.setEvaluation(new ArrayList<>(List.of(5.0)));
+            pso.updateReference(candidate, i);
+        }
+    }
+
     @Test
     @DisplayName("generate returns null when no particles or countRef=0")
     void testGenerateReturnsNullWhenNoParticles() throws Exception {
@@ -9,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import metaheurictics.strategy.Strategy;
+import problem.definition.DoubleVectorState;
 import problem.definition.Problem;
 import problem.definition.State;
 import problem.definition.Problem.ProblemType;
@@ -155,4 +156,28 @@ public class ParticleTest {
         p.updateReference(candidate, 0);
         assertEquals(0.1, p.getStatePBest().getEvaluation().get(0), 1e-9);
     }
+
+    @Test
+    public void testVectorStateMatchesGenericUpdate() throws Exception {
+        ArrayList<Object> code = new ArrayList<>();
+        code.add(1.0);
+        code.add(2.0);
+        ArrayList<Object> vel = new ArrayList<>();
+        vel.add(1.0);
+        vel.add(-1.0);
+
+        State generic = new State(code);
+        Particle slow = new Particle(new State(code), generic, new ArrayList<>(vel));
+        slow.generate(1);
+
+        DoubleVectorState vector = new DoubleVectorState(code);
+        Particle fast = new Particle(new DoubleVectorState(code), vector, new ArrayList<>(vel));
+        fast.generate(1);
+
+        assertSame(vector, fast.getStateActual());
+        assertEquals(generic.getCode(), vector.getCode());
+        assertEquals(slow.getVelocity(), fast.getVelocity());
+        assertEquals(1.9, vector.getGene(0), 1e-9);
+        assertEquals(1.1, vector.getGene(1), 1e-9);
+    }
 }
@@ -99,7 +99,7 @@ class SimulatedAnnealingTest {
 
         assertEquals(10, betterCount.length, "BetterCount debería tener 10 elementos");
         assertEquals(10, usageCount.length, "UsageCount debería tener 10 elementos");
-        assertEquals(1200000, trace.length, "Trace debería tener 1200000 elementos");
+        assertEquals(1, trace.length, "Trace solo debería contener el peso inicial");
         assertEquals(50, trace[0], 0.01, "Primer elemento de trace debería ser el peso inicial");
     }
 
@@ -536,7 +536,7 @@ class SimulatedAnnealingTest {
         float[] trace = simulatedAnnealing.getTrace();
 
         assertNotNull(trace, "Trace no debería ser nulo");
-        assertEquals(1200000, trace.length, "Trace debería tener 1200000 elementos");
+        assertEquals(1, trace.length, "Trace solo debería contener el peso inicial");
         assertEquals(50, trace[0], 0.01, "Primer elemento debería ser el peso inicial");
     }
 
@@ -122,7 +122,7 @@ class TabuSearchTest {
 
             assertEquals(10, betterCount.length, "BetterCount debería tener 10 elementos");
             assertEquals(10, usageCount.length, "UsageCount debería tener 10 elementos");
-            assertEquals(1200000, trace.length, "Trace debería tener 1200000 elementos");
+            assertEquals(1, trace.length, "Trace solo debería contener el peso inicial");
             assertEquals(50, trace[0], 0.01, "Primer elemento de trace debería ser el peso inicial");
         }
     }
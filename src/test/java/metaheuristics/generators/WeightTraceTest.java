@@ -0,0 +1,118 @@
+package metaheuristics.generators;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class WeightTraceTest {
+
+    @AfterEach
+    void tearDown() {
+        WeightTrace.setSpillDirectory(null);
+        WeightTrace.setSpillResidentChunks(64);
+    }
+
+    @Test
+    @DisplayName("El peso inicial no reserva bloques")
+    void testInitialWeightIsFree() {
+        WeightTrace trace = new WeightTrace(50f);
+        assertEquals(1, trace.size());
+        assertEquals(50f, trace.get(0));
+        assertEquals(0, trace.getResidentChunks());
+        assertArrayEquals(new float[] {50f}, trace.toArray());
+    }
+
+    @Test
+    @DisplayName("Crece por bloques y las iteraciones sin registrar valen 0")
+    void testGrowsByChunks() {
+        WeightTrace trace = new WeightTrace(50f);
+        trace.record(3, 7f);
+        trace.record(2_000_000, 9f);
+
+        assertEquals(2_000_001, trace.size(), "Supera el antiguo límite de 1.200.000");
+        assertEquals(2, trace.getResidentChunks());
+        assertEquals(7f, trace.get(3));
+        assertEquals(0f, trace.get(4));
+        assertEquals(0f, trace.get(WeightTrace.CHUNK_SIZE * 10));
+        assertEquals(9f, trace.get(2_000_000));
+        assertThrows(IndexOutOfBoundsException.class, () -> trace.get(2_000_001));
+        assertThrows(IllegalArgumentException.class, () -> trace.record(-1, 1f));
+    }
+
+    @Test
+    @DisplayName("Con volcado a disco solo quedan en memoria los bloques permitidos")
+    void testSpillKeepsValues(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("trace.bin");
+        WeightTrace trace = new WeightTrace(50f);
+        trace.spillTo(file, 2);
+        int iterations = WeightTrace.CHUNK_SIZE * 5 + 10;
+        for (int i = 1; i < iterations; i++) {
+            trace.record(i, i * 0.5f);
+        }
+
+        assertEquals(2, trace.getResidentChunks());
+        assertTrue(Files.size(file) >= 3L * WeightTrace.CHUNK_SIZE * Float.BYTES);
+        assertEquals(0.5f, trace.get(1));
+        trace.record(2, -1f);
+        assertEquals(-1f, trace.get(2), "Un bloque volcado se puede sobrescribir");
+        assertEquals(2, trace.getResidentChunks());
+
+        float[] all = trace.toArray();
+        assertEquals(iterations, all.length);
+        assertEquals(50f, all[0]);
+        assertEquals(-1f, all[2]);
+        for (int i = 3; i < iterations; i++) {
+            assertEquals(i * 0.5f, all[i]);
+        }
+
+        trace.close();
+        assertEquals(6, trace.getResidentChunks());
+        assertEquals((iterations - 1) * 0.5f, trace.get(iterations - 1));
+    }
+
+    @Test
+    @DisplayName("Con un directorio de volcado la traza abre su archivo al superar el límite")
+    void testSpillDirectory(@TempDir Path dir) throws Exception {
+        WeightTrace.setSpillDirectory(dir);
+        WeightTrace.setSpillResidentChunks(2);
+        WeightTrace trace = new WeightTrace(50f);
+        trace.record(WeightTrace.CHUNK_SIZE, 1f);
+        trace.record(WeightTrace.CHUNK_SIZE * 2, 2f);
+        try (var files = Files.list(dir)) {
+            assertEquals(0, files.count(), "Sin superar el límite no se crea archivo");
+        }
+
+        trace.record(WeightTrace.CHUNK_SIZE * 3, 3f);
+        trace.record(WeightTrace.CHUNK_SIZE * 4, 4f);
+        assertEquals(2, trace.getResidentChunks(), "Los bloques más antiguos pasan al archivo");
+        assertEquals(1f, trace.get(WeightTrace.CHUNK_SIZE));
+        assertEquals(4f, trace.toArray()[WeightTrace.CHUNK_SIZE * 4]);
+
+        trace.release();
+        assertEquals(1, trace.size());
+        assertEquals(0, trace.getResidentChunks());
+        try (var files = Files.list(dir)) {
+            assertEquals(0, files.count(), "release() borra el archivo temporal");
+        }
+    }
+
+    @Test
+    @DisplayName("getTrace() devuelve una copia y release() del generador descarta la traza")
+    void testGeneratorTraceIsCopy() {
+        HillClimbing generator = new HillClimbing();
+        generator.getWeightTrace().record(3, 7f);
+        float[] copy = generator.getTrace();
+        assertEquals(4, copy.length);
+        copy[3] = 0f;
+        assertEquals(7f, generator.getWeightTrace().get(3));
+
+        generator.release();
+        assertEquals(1, generator.getTrace().length);
+    }
+}
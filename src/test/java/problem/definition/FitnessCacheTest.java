@@ -0,0 +1,117 @@
+package problem.definition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import metaheurictics.strategy.Strategy;
+import problem.extension.TypeSolutionMethod;
+
+public class FitnessCacheTest {
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @AfterEach
+    void tearDown() {
+        Strategy.destroyExecute();
+    }
+
+    private Problem buildProblem() {
+        Problem p = new Problem();
+        p.setTypeProblem(Problem.ProblemType.MAXIMIZAR);
+        ArrayList<ObjetiveFunction> functions = new ArrayList<>();
+        functions.add(new ObjetiveFunction() {
+            { setTypeProblem(Problem.ProblemType.MAXIMIZAR); setWeight(1.0f); }
+            @Override public Double Evaluation(State state) {
+                calls.incrementAndGet();
+                return ((Integer) state.getCode().get(0)).doubleValue();
+            }
+        });
+        p.setFunction(functions);
+        return p;
+    }
+
+    private State state(int value) {
+        return new State(new ArrayList<Object>(List.of(value)));
+    }
+
+    @Test
+    @DisplayName("Evaluate reutiliza la evaluación de una codificación repetida")
+    void testEvaluateUsesCache() throws Exception {
+        Problem p = buildProblem();
+        p.setFitnessCache(new FitnessCache(10));
+        State a = state(3);
+        State b = state(3);
+        p.Evaluate(a);
+        p.Evaluate(b);
+        assertEquals(1, calls.get());
+        assertEquals(3.0, b.getEvaluation().get(0), 1e-9);
+        assertEquals(1, p.getFitnessCache().getHits());
+        assertEquals(1, p.getFitnessCache().getMisses());
+    }
+
+    @Test
+    @DisplayName("Sin caché configurada cada llamada evalúa la función objetivo")
+    void testDisabledByDefault() throws Exception {
+        Problem p = buildProblem();
+        assertNull(p.getFitnessCache());
+        p.Evaluate(state(1));
+        p.Evaluate(state(1));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("La caché expulsa la entrada menos usada al superar su capacidad")
+    void testLruEviction() throws Exception {
+        Problem p = buildProblem();
+        FitnessCache cache = new FitnessCache(2);
+        p.setFitnessCache(cache);
+        p.Evaluate(state(1));
+        p.Evaluate(state(2));
+        p.Evaluate(state(1));
+        p.Evaluate(state(3));
+        assertEquals(2, cache.size());
+        assertTrue(cache.lookup(state(1)));
+        assertFalse(cache.lookup(state(2)));
+    }
+
+    @Test
+    @DisplayName("invalidateAll obliga a reevaluar")
+    void testInvalidateAll() throws Exception {
+        Problem p = buildProblem();
+        p.setFitnessCache(new FitnessCache(10));
+        p.Evaluate(state(5));
+        p.getFitnessCache().invalidateAll();
+        p.Evaluate(state(5));
+        assertEquals(2, calls.get());
+        assertEquals(0, p.getFitnessCache().getHits());
+    }
+
+    @Test
+    @DisplayName("Los métodos multiobjetivo usan la caché del problema")
+    void testSolutionMethodUsesCache() throws Exception {
+        Problem p = buildProblem();
+        p.setTypeSolutionMethod(TypeSolutionMethod.FACTORES_PONDERADOS);
+        p.setFitnessCache(new FitnessCache(10));
+        Strategy.setProblem(p);
+        p.Evaluate(state(4));
+        State again = state(4);
+        p.Evaluate(again);
+        assertEquals(1, calls.get());
+        assertEquals(4.0, again.getEvaluation().get(0), 1e-9);
+        assertEquals(1, p.getEvaluationCount());
+        assertEquals(1, p.getFitnessCache().getHits());
+    }
+
+    @Test
+    @DisplayName("El constructor rechaza capacidades no positivas")
+    void testInvalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new FitnessCache(0));
+    }
+}
@@ -0,0 +1,88 @@
+package problem.definition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import problem.definition.Problem.ProblemType;
+
+class FitnessComparatorTest {
+
+    private static State evaluated(double value) {
+        State state = new State();
+        state.setEvaluation(new ArrayList<Double>(List.of(value)));
+        return state;
+    }
+
+    @Test
+    @DisplayName("of devuelve una instancia fija por tipo de problema")
+    void testOf() {
+        assertSame(FitnessComparator.MAXIMIZE, FitnessComparator.of(ProblemType.MAXIMIZAR));
+        assertSame(FitnessComparator.MINIMIZE, FitnessComparator.of(ProblemType.MINIMIZAR));
+        assertSame(FitnessComparator.MINIMIZE, FitnessComparator.of((ProblemType) null));
+        assertSame(FitnessComparator.MINIMIZE, FitnessComparator.of((Problem) null));
+
+        Problem problem = new Problem();
+        problem.setTypeProblem(ProblemType.MAXIMIZAR);
+        assertSame(FitnessComparator.MAXIMIZE, FitnessComparator.of(problem));
+        assertTrue(FitnessComparator.MAXIMIZE.isMaximize());
+        assertFalse(FitnessComparator.MINIMIZE.isMaximize());
+    }
+
+    @Test
+    @DisplayName("Las comparaciones respetan el sentido del objetivo")
+    void testComparisons() {
+        FitnessComparator max = FitnessComparator.MAXIMIZE;
+        FitnessComparator min = FitnessComparator.MINIMIZE;
+
+        assertTrue(max.isBetter(2.0, 1.0));
+        assertFalse(max.isBetter(1.0, 1.0));
+        assertTrue(max.isBetterOrEqual(1.0, 1.0));
+        assertTrue(min.isBetter(1.0, 2.0));
+        assertFalse(min.isBetter(2.0, 2.0));
+        assertTrue(min.isBetterOrEqual(2.0, 2.0));
+        assertFalse(max.isBetter(Double.NaN, 1.0));
+        assertFalse(min.isBetter(Double.NaN, 1.0));
+
+        assertTrue(max.isWithin(9.5, 10.0, 1.0));
+        assertFalse(max.isWithin(9.0, 10.0, 1.0));
+        assertTrue(min.isWithin(10.5, 10.0, 1.0));
+        assertFalse(min.isWithin(11.0, 10.0, 1.0));
+
+        assertTrue(max.compare(2.0, 1.0) > 0);
+        assertTrue(min.compare(2.0, 1.0) < 0);
+        assertEquals(0, min.compare(evaluated(3.0), evaluated(3.0)));
+    }
+
+    @Test
+    @DisplayName("best y worst eligen el primer estado en caso de empate")
+    void testBestAndWorst() {
+        State a = evaluated(5.0);
+        State b = evaluated(1.0);
+        State c = evaluated(5.0);
+        State d = evaluated(1.0);
+        List<State> states = List.of(a, b, c, d);
+
+        assertSame(a, FitnessComparator.MAXIMIZE.best(states));
+        assertSame(b, FitnessComparator.MAXIMIZE.worst(states));
+        assertSame(b, FitnessComparator.MINIMIZE.best(states));
+        assertSame(a, FitnessComparator.MINIMIZE.worst(states));
+    }
+
+    @Test
+    @DisplayName("Como Comparator ordena del peor al mejor")
+    void testSortOrder() {
+        List<State> states = new ArrayList<>(List.of(evaluated(2.0), evaluated(3.0), evaluated(1.0)));
+
+        states.sort(FitnessComparator.MINIMIZE);
+        assertEquals(3.0, states.get(0).evalAt(0));
+        assertEquals(1.0, states.get(2).evalAt(0));
+
+        states.sort(FitnessComparator.MAXIMIZE.reversed());
+        assertEquals(3.0, states.get(0).evalAt(0));
+    }
+}
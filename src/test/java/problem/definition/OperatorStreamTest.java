@@ -0,0 +1,168 @@
+package problem.definition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import local_search.candidate_type.CandidateType;
+import local_search.candidate_type.CandidateValue;
+import local_search.complement.MoveNeighborhood;
+import local_search.complement.StrategyType;
+import metaheurictics.strategy.Strategy;
+
+class OperatorStreamTest {
+
+    private int built;
+    private int listCalls;
+    private int randomCalls;
+
+    /** Operador que cambia el gen 0 por 0, 1, 2, ... */
+    private final class GeneOperator extends Operator {
+        private final boolean moves;
+
+        GeneOperator(boolean moves) {
+            this.moves = moves;
+        }
+
+        @Override
+        public List<State> generatedNewState(State stateCurrent, Integer operatornumber) {
+            listCalls++;
+            List<State> list = new ArrayList<>();
+            for (int i = 0; i < operatornumber; i++) {
+                list.add(new GeneMove(0, i).applyTo(stateCurrent));
+            }
+            return list;
+        }
+
+        @Override
+        public List<State> generateRandomState(Integer operatornumber) {
+            randomCalls++;
+            List<State> list = new ArrayList<>();
+            for (int i = 0; i < operatornumber; i++) {
+                list.add(new IntVectorState(new int[] {randomCalls}));
+            }
+            return list;
+        }
+
+        @Override
+        public List<Move> generatedMoves(State stateCurrent, Integer operatornumber) {
+            if (!moves) {
+                return null;
+            }
+            List<Move> list = new ArrayList<>();
+            for (int i = 0; i < operatornumber; i++) {
+                list.add(new GeneMove(0, i) {
+                    @Override
+                    public State applyTo(State base) {
+                        built++;
+                        return super.applyTo(base);
+                    }
+                });
+            }
+            return list;
+        }
+
+        @Override
+        public Spliterator<State> generatedNeighbors(State stateCurrent, Integer operatornumber) {
+            if (moves) {
+                return super.generatedNeighbors(stateCurrent, operatornumber);
+            }
+            // Sin movimientos: cada vecino se construye al pedirlo
+            return IntStream.range(0, operatornumber).mapToObj(i -> {
+                built++;
+                IntVectorState neighbor = (IntVectorState) stateCurrent.getCopy();
+                neighbor.setGene(0, i);
+                return (State) neighbor;
+            }).spliterator();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        built = 0;
+        listCalls = 0;
+        randomCalls = 0;
+    }
+
+    @AfterEach
+    void tearDown() {
+        Strategy.destroyExecute();
+    }
+
+    private Problem problem(Operator operator) {
+        Problem p = new Problem();
+        p.setTypeProblem(Problem.ProblemType.MAXIMIZAR);
+        ArrayList<ObjetiveFunction> functions = new ArrayList<>();
+        functions.add(new ObjetiveFunction() {
+            @Override
+            public Double Evaluation(State state) {
+                // Máximo en gen 0 == 3
+                return -Math.abs(((Number) state.codeAt(0)).doubleValue() - 3);
+            }
+        });
+        p.setFunction(functions);
+        p.setOperator(operator);
+        Strategy.setProblem(p);
+        return p;
+    }
+
+    @Test
+    @DisplayName("El vecindario por defecto tiene tamaño operatornumber y construye bajo demanda")
+    void testDefaultNeighborsAreLazyAndSized() {
+        GeneOperator operator = new GeneOperator(true);
+        Spliterator<State> neighbors = operator.generatedNeighbors(new IntVectorState(new int[] {9}), 10);
+
+        assertEquals(10, neighbors.getExactSizeIfKnown());
+        assertEquals(0, built);
+        neighbors.tryAdvance(s -> assertEquals(0, s.codeAt(0)));
+        assertEquals(1, built);
+    }
+
+    @Test
+    @DisplayName("Sin movimientos el candidato se elige del Stream sin pedir la lista")
+    void testCandidateFromStream() throws Exception {
+        problem(new GeneOperator(false));
+        State base = new IntVectorState(new int[] {9});
+
+        State candidate = new CandidateValue().stateCandidate(base, CandidateType.GREATER_CANDIDATE, StrategyType.NORMAL, 8);
+
+        assertEquals(3, candidate.codeAt(0));
+        assertEquals(0.0, candidate.evalAt(0), 1e-9);
+        assertEquals(0, listCalls);
+        assertEquals(8, built);
+    }
+
+    @Test
+    @DisplayName("FIRST_IMPROVEMENT deja de generar vecinos al encontrar una mejora")
+    void testEarlyExitOnStream() throws Exception {
+        Problem p = problem(new GeneOperator(false));
+        State base = new IntVectorState(new int[] {0});
+        p.Evaluate(base);
+
+        State candidate = new CandidateValue().stateCandidate(base, CandidateType.FIRST_IMPROVEMENT, StrategyType.NORMAL, 100);
+
+        assertEquals(1, candidate.codeAt(0));
+        assertEquals(2, built);
+    }
+
+    @Test
+    @DisplayName("Los estados aleatorios se generan al consumirlos")
+    void testRandomStatesAreLazy() {
+        problem(new GeneOperator(true));
+
+        State first = MoveNeighborhood.randomStates(50).findFirst().get();
+
+        assertEquals(1, first.codeAt(0));
+        assertEquals(1, randomCalls);
+        assertEquals(List.of(2, 3), MoveNeighborhood.randomStates(2).map(s -> s.codeAt(0)).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,79 @@
+package problem.definition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StateAccessorsTest {
+
+    @AfterEach
+    void tearDown() {
+        State.setCopyOnWrite(false);
+    }
+
+    private State state(Object... values) {
+        State s = new State(new ArrayList<Object>(List.of(values)));
+        s.setEvaluation(new ArrayList<Double>(List.of(1.5, 2.5)));
+        return s;
+    }
+
+    @Test
+    @DisplayName("codeAt, codeSize y evalAt leen sin copiar")
+    void testIndexedAccessors() {
+        State s = state(4, 5, 6);
+        assertEquals(3, s.codeSize());
+        assertEquals(5, s.codeAt(1));
+        assertEquals(2, s.evalSize());
+        assertEquals(2.5, s.evalAt(1), 1e-9);
+        assertEquals(0, new State().evalSize());
+    }
+
+    @Test
+    @DisplayName("Las vistas reflejan el estado y no admiten modificaciones")
+    void testViewsAreReadOnly() {
+        State s = state(1, 2);
+        List<Object> view = s.codeView();
+        assertEquals(s.getCode(), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, 9));
+        assertThrows(UnsupportedOperationException.class, () -> s.evaluationView().add(3.0));
+        s.setCodeAt(0, 7);
+        assertEquals(7, s.codeView().get(0));
+        assertNull(new State().evaluationView());
+    }
+
+    @Test
+    @DisplayName("En modo copy-on-write la copia comparte datos hasta la primera escritura")
+    void testCopyOnWrite() {
+        State.setCopyOnWrite(true);
+        State original = state(1, 2, 3);
+        State copy = original.getCopy();
+
+        copy.setCodeAt(0, 9);
+        assertEquals(1, original.codeAt(0));
+        assertEquals(9, copy.codeAt(0));
+
+        original.setCodeAt(1, 8);
+        assertEquals(2, copy.codeAt(1));
+        assertEquals(original.getEvaluation(), copy.getEvaluation());
+
+        copy.getCode().set(2, 0);
+        assertEquals(3, copy.codeAt(2), "getCode() sigue devolviendo una copia defensiva");
+    }
+
+    @Test
+    @DisplayName("Los vectores primitivos ofrecen las mismas vistas")
+    void testVectorStateViews() {
+        IntVectorState s = new IntVectorState(new int[] {3, 4});
+        assertEquals(2, s.codeSize());
+        assertEquals(4, s.codeAt(1));
+        assertEquals(List.of(3, 4), s.codeView());
+        s.setCodeAt(0, 10);
+        assertEquals(10, s.getGene(0));
+        assertTrue(s.Comparator(new State(new ArrayList<Object>(List.of(10, 4)))));
+    }
+}
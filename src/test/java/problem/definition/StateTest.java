@@ -203,6 +203,18 @@ class StateTest {
         assertFalse(state.Comparator(otherState));
     }
 
+    @Test
+    @DisplayName("Comparator() no copia la codificación del otro estado")
+    void testComparatorDoesNotCopyCode() {
+        State otherState = new State(code) {
+            @Override
+            public ArrayList<Object> getCode() {
+                throw new AssertionError("Comparator no debe copiar la codificación");
+            }
+        };
+        assertTrue(state.Comparator(otherState));
+    }
+
     @Test
     @DisplayName("Distance() debe calcular correctamente la distancia entre estados")
     void testDistance() {
@@ -0,0 +1,88 @@
+package problem.definition;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class VectorStateTest {
+
+    private ArrayList<Object> code(Object... values) {
+        return new ArrayList<Object>(List.of(values));
+    }
+
+    @Test
+    @DisplayName("IntVectorState expone la misma codificación que un State de enteros")
+    void testIntVectorStateCode() {
+        IntVectorState state = new IntVectorState(code(3, 1, 2));
+        assertEquals(new State(code(3, 1, 2)).getCode(), state.getCode());
+        state.setGene(0, 7);
+        assertEquals(7, state.getCode().get(0));
+        state.setCode(code(4, 5));
+        assertArrayEquals(new int[] {4, 5}, state.getGenes());
+    }
+
+    @Test
+    @DisplayName("getCopy conserva el tipo, la evaluación y no comparte el array")
+    void testCopyIsIndependent() {
+        DoubleVectorState state = new DoubleVectorState(new double[] {1.5, -2.0});
+        state.setEvaluation(new ArrayList<Double>(List.of(9.0)));
+        state.setNumber(4);
+
+        State copy = state.getCopy();
+
+        assertTrue(copy instanceof DoubleVectorState);
+        assertEquals(9.0, copy.getEvaluation().get(0), 1e-9);
+        assertEquals(4, copy.getNumber());
+        ((DoubleVectorState) copy).setGene(0, 0.0);
+        assertEquals(1.5, state.getGene(0), 1e-9);
+    }
+
+    @Test
+    @DisplayName("BitState traduce 0/1 y calcula la distancia de Hamming")
+    void testBitState() {
+        BitState a = new BitState(code(1, 0, 1, 1));
+        BitState b = new BitState(code(1, 1, 0, 1));
+        assertEquals(code(1, 0, 1, 1), a.getCode());
+        assertEquals(3, a.cardinality());
+        assertEquals(2.0, a.Distance(b), 1e-9);
+        assertEquals(new State(a.getCode()).Distance(new State(b.getCode())), a.Distance(b), 1e-9);
+        assertFalse(a.Comparator(b));
+        b.flip(1);
+        b.flip(2);
+        assertTrue(a.Comparator(b));
+    }
+
+    @Test
+    @DisplayName("Comparator y Distance funcionan contra un State genérico")
+    void testMixedComparison() {
+        IntVectorState vector = new IntVectorState(new int[] {1, 2, 3});
+        State generic = new State(code(1, 2, 4));
+        assertFalse(vector.Comparator(generic));
+        assertEquals(1.0, vector.Distance(generic), 1e-9);
+        assertTrue(vector.Comparator(new State(code(1, 2, 3))));
+    }
+
+    @Test
+    @DisplayName("PermutationState intercambia posiciones y valida la permutación")
+    void testPermutationState() {
+        PermutationState perm = PermutationState.identity(4);
+        perm.swap(0, 3);
+        assertArrayEquals(new int[] {3, 1, 2, 0}, perm.getGenes());
+        assertTrue(perm.isPermutation());
+        assertTrue(perm.getCopy() instanceof PermutationState);
+        perm.setGene(1, 3);
+        assertFalse(perm.isPermutation());
+    }
+
+    @Test
+    @DisplayName("copyRange copia tramos entre vectores de distinto tipo")
+    void testCopyRange() {
+        IntVectorState target = new IntVectorState(4);
+        target.copyRange(new DoubleVectorState(new double[] {1.0, 2.4, 2.6, 4.0}), 1, 3);
+        assertArrayEquals(new int[] {0, 2, 3, 0}, target.getGenes());
+    }
+}
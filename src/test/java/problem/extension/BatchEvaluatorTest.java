@@ -0,0 +1,129 @@
+package problem.extension;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import metaheurictics.strategy.Strategy;
+import metaheurictics.strategy.StrategyContext;
+import problem.definition.ObjetiveFunction;
+import problem.definition.Problem;
+import problem.definition.State;
+
+public class BatchEvaluatorTest {
+
+    private Problem buildProblem() {
+        Problem p = new Problem();
+        p.setTypeProblem(Problem.ProblemType.MAXIMIZAR);
+        ArrayList<ObjetiveFunction> functions = new ArrayList<>();
+        functions.add(new ObjetiveFunction() {
+            @Override public Double Evaluation(State state) { return (double) state.getNumber() * 2; }
+        });
+        p.setFunction(functions);
+        return p;
+    }
+
+    private List<State> buildStates(int n) {
+        List<State> states = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            State s = new State();
+            s.setNumber(i);
+            states.add(s);
+        }
+        return states;
+    }
+
+    private void assertEvaluated(List<State> states) {
+        for (State s : states) {
+            assertEquals(s.getNumber() * 2.0, s.getEvaluation().get(0), 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("Por defecto evaluateAll evalúa en secuencia")
+    void testDefaultSequential() throws Exception {
+        Problem p = buildProblem();
+        assertTrue(p.getEvaluator() instanceof SequentialEvaluator);
+        List<State> states = buildStates(5);
+        p.evaluateAll(states);
+        assertEvaluated(states);
+    }
+
+    @Test
+    @DisplayName("ForkJoinEvaluator evalúa todos los estados del lote")
+    void testForkJoin() throws Exception {
+        Problem p = buildProblem();
+        ForkJoinEvaluator evaluator = new ForkJoinEvaluator(3);
+        p.setEvaluator(evaluator);
+        try {
+            List<State> states = buildStates(50);
+            p.evaluateAll(states);
+            assertEvaluated(states);
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("ExecutorEvaluator evalúa lotes mayores que su cola")
+    void testBoundedExecutor() throws Exception {
+        Problem p = buildProblem();
+        ExecutorEvaluator evaluator = new ExecutorEvaluator(2, 4);
+        p.setEvaluator(evaluator);
+        try {
+            List<State> states = buildStates(40);
+            p.evaluateAll(states);
+            assertEvaluated(states);
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Los errores de la función objetivo llegan al llamador")
+    void testExceptionPropagates() {
+        Problem p = buildProblem();
+        p.getFunction().set(0, new ObjetiveFunction() {
+            @Override public Double Evaluation(State state) { throw new IllegalArgumentException("boom"); }
+        });
+        ExecutorEvaluator evaluator = new ExecutorEvaluator(2, 8);
+        p.setEvaluator(evaluator);
+        try {
+            assertThrows(IllegalArgumentException.class, () -> p.evaluateAll(buildStates(4)));
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Los hilos de evaluación ven el StrategyContext del llamador")
+    void testContextPropagation() throws Exception {
+        StrategyContext context = new StrategyContext();
+        Problem p = new Problem();
+        ArrayList<ObjetiveFunction> functions = new ArrayList<>();
+        functions.add(new ObjetiveFunction() {
+            @Override public Double Evaluation(State state) {
+                return Strategy.getStrategy() == context.getStrategy() ? 1.0 : 0.0;
+            }
+        });
+        p.setFunction(functions);
+        ForkJoinEvaluator evaluator = new ForkJoinEvaluator(2);
+        p.setEvaluator(evaluator);
+        try {
+            List<State> states = buildStates(8);
+            context.call(() -> {
+                p.evaluateAll(states);
+                return null;
+            });
+            for (State s : states) {
+                assertEquals(1.0, s.getEvaluation().get(0), 1e-9);
+            }
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+}